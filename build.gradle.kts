@@ -38,6 +38,10 @@ dependencies {
   implementation("org.springframework.boot:spring-boot-starter-cache")
   implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+  // Caching
+  implementation("com.github.ben-manes.caffeine:caffeine")
+  implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+
   // Lombok
   compileOnly("org.projectlombok:lombok")
   annotationProcessor("org.projectlombok:lombok")
@@ -67,7 +71,7 @@ checkstyle {
 
 java {
   toolchain {
-    languageVersion.set(JavaLanguageVersion.of(17))
+    languageVersion.set(JavaLanguageVersion.of(21))
     vendor.set(JvmVendorSpec.ADOPTIUM)
   }
 }
@@ -0,0 +1,46 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * A representation of the adaptive listener concurrency properties.
+ *
+ * @param initialLimit     The initial number of in-flight messages allowed per queue.
+ * @param minLimit         The minimum number of in-flight messages allowed per queue.
+ * @param maxLimit         The maximum number of in-flight messages allowed per queue.
+ * @param latencyThreshold The processing latency above which the limit is reduced.
+ * @param backoffRatio     The ratio to multiply the limit by when it is reduced.
+ * @param acquireTimeout   The maximum time a queue poller waits for capacity before polling again.
+ */
+@ConfigurationProperties(prefix = "application.listener.adaptive-concurrency")
+public record AdaptiveConcurrencyProperties(
+    int initialLimit,
+    int minLimit,
+    int maxLimit,
+    Duration latencyThreshold,
+    double backoffRatio,
+    Duration acquireTimeout) {
+
+}
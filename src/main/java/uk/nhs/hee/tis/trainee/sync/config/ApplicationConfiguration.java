@@ -21,10 +21,12 @@
 
 package uk.nhs.hee.tis.trainee.sync.config;
 
+import io.awspring.cloud.autoconfigure.core.AwsClientBuilderConfigurer;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
 
 /**
  * General application configuration beans which do not warrant their own configuration class.
@@ -42,4 +44,16 @@ public class ApplicationConfiguration {
   RestTemplate restTemplate(RestTemplateBuilder builder) {
     return builder.build();
   }
+
+  /**
+   * Create an {@link SnsAsyncClient} bean, configured in the same way as the auto-configured
+   * synchronous client.
+   *
+   * @param configurer The configurer to apply the common AWS client settings.
+   * @return The built SNS async client.
+   */
+  @Bean
+  SnsAsyncClient snsAsyncClient(AwsClientBuilderConfigurer configurer) {
+    return configurer.configure(SnsAsyncClient.builder()).build();
+  }
 }
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheCodec;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+
+/**
+ * A serializer for cached values which writes using the configured codec, but reads any of the
+ * supported codecs. This allows the codec of a cache to be changed without first flushing the
+ * entries already written with the previous codec.
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+  private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+  private final CacheCodec codec;
+  private final RedisSerializer<Object> jsonSerializer;
+  private final RedisSerializer<Object> smileSerializer;
+
+  /**
+   * Create a serializer writing values with the given codec.
+   *
+   * @param codec The codec to write values with.
+   */
+  public CacheValueSerializer(CacheCodec codec) {
+    this.codec = codec;
+    jsonSerializer = new GenericJackson2JsonRedisSerializer(createObjectMapper(new JsonFactory()));
+    smileSerializer = new GenericJackson2JsonRedisSerializer(
+        createObjectMapper(new SmileFactory()));
+  }
+
+  @Override
+  public byte[] serialize(Object value) {
+    return switch (codec) {
+      case JSON -> jsonSerializer.serialize(value);
+      case SMILE -> smileSerializer.serialize(value);
+    };
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    return isSmile(bytes) ? smileSerializer.deserialize(bytes) : jsonSerializer.deserialize(bytes);
+  }
+
+  /**
+   * Check whether the value was written as Smile, which always starts with the Smile header.
+   *
+   * @param bytes The serialized value.
+   * @return Whether the value was written as Smile.
+   */
+  private boolean isSmile(byte[] bytes) {
+    if (bytes.length < SMILE_HEADER.length) {
+      return false;
+    }
+
+    for (int i = 0; i < SMILE_HEADER.length; i++) {
+      if (bytes[i] != SMILE_HEADER[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Create an object mapper which includes the type of polymorphic values, so that cached records
+   * are read back as their original type. Record metadata describes the message a record was
+   * received in, not the entity, so it is neither written nor read.
+   *
+   * @param factory The factory for the data format.
+   * @return The created object mapper.
+   */
+  private static ObjectMapper createObjectMapper(JsonFactory factory) {
+    ObjectMapper objectMapper = new ObjectMapper(factory);
+    objectMapper
+        .activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), DefaultTyping.NON_FINAL,
+            As.PROPERTY)
+        .findAndRegisterModules();
+    objectMapper.addMixIn(Record.class, CachedRecordMixIn.class);
+    return objectMapper;
+  }
+
+  /**
+   * A mix-in excluding message metadata from cached records.
+   */
+  @JsonIgnoreProperties({"metadata"})
+  private abstract static class CachedRecordMixIn {
+
+  }
+}
@@ -29,10 +29,12 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.sync.model.ClaimCheck;
 import uk.nhs.hee.tis.trainee.sync.model.CurriculumMembership;
 import uk.nhs.hee.tis.trainee.sync.model.Dbc;
 import uk.nhs.hee.tis.trainee.sync.model.HeeUser;
 import uk.nhs.hee.tis.trainee.sync.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
 import uk.nhs.hee.tis.trainee.sync.model.Placement;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSite;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSpecialty;
@@ -42,6 +44,7 @@ import uk.nhs.hee.tis.trainee.sync.model.Programme;
 import uk.nhs.hee.tis.trainee.sync.model.ProgrammeMembership;
 import uk.nhs.hee.tis.trainee.sync.model.UserDesignatedBody;
 import uk.nhs.hee.tis.trainee.sync.model.UserRole;
+import uk.nhs.hee.tis.trainee.sync.service.RecordVersionService;
 
 @Configuration
 public class MongoConfiguration {
@@ -61,6 +64,11 @@ public class MongoConfiguration {
     IndexOperations dbcIndexOps = template.indexOps(Dbc.class);
     dbcIndexOps.createIndex(new Index().on("data.dbc", Direction.ASC));
 
+    // ClaimCheck
+    IndexOperations claimCheckIndexOps = template.indexOps(ClaimCheck.class);
+    claimCheckIndexOps.createIndex(
+        new Index().on("created", Direction.ASC).expire(ClaimCheck.TIME_TO_LIVE));
+
     // CurriculumMembership
     IndexOperations cmIndexOps = template.indexOps(CurriculumMembership.class);
     cmIndexOps.createIndex(new Index().on("data.programmeId", Direction.ASC));
@@ -85,6 +93,24 @@ public class MongoConfiguration {
     IndexOperations heeUserIndexOps = template.indexOps(HeeUser.class);
     heeUserIndexOps.createIndex(new Index().on("data.name", Direction.ASC));
 
+    // OutboxMessage
+    IndexOperations outboxIndexOps = template.indexOps(OutboxMessage.class);
+    Document outboxClaimKeys = new Document();
+    outboxClaimKeys.put("nextAttempt", 1);
+    outboxClaimKeys.put("created", 1);
+    outboxClaimKeys.put("_id", 1);
+    Index outboxClaimCompoundIndex = new CompoundIndexDefinition(outboxClaimKeys)
+        .named("outboxClaimCompoundIndex");
+    outboxIndexOps.createIndex(outboxClaimCompoundIndex);
+
+    Document outboxGroupKeys = new Document();
+    outboxGroupKeys.put("messageGroupId", 1);
+    outboxGroupKeys.put("created", 1);
+    Index outboxGroupCompoundIndex = new CompoundIndexDefinition(outboxGroupKeys)
+        .named("outboxGroupCompoundIndex");
+    outboxIndexOps.createIndex(outboxGroupCompoundIndex);
+    outboxIndexOps.createIndex(new Index().on("claimToken", Direction.ASC).sparse());
+
     // Placement
     IndexOperations placementIndexOps = template.indexOps(Placement.class);
     placementIndexOps.createIndex(new Index().on("data.postId", Direction.ASC));
@@ -170,6 +196,11 @@ public class MongoConfiguration {
         .named("programmeMembershipCompoundIndex");
     programmeMembershipIndexOps.createIndex(programmeMembershipCompoundIndex);
 
+    // RecordVersion
+    IndexOperations recordVersionIndexOps = template.indexOps(RecordVersionService.COLLECTION_NAME);
+    recordVersionIndexOps.createIndex(new Index().on(RecordVersionService.APPLIED_FIELD,
+        Direction.ASC).expire(RecordVersionService.TIME_TO_LIVE));
+
     // UserDesignatedBody
     IndexOperations userDbIndexOps = template.indexOps(UserDesignatedBody.class);
     userDbIndexOps.createIndex(new Index().on("data.userName", Direction.ASC));
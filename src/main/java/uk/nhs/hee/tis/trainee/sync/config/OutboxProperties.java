@@ -0,0 +1,46 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * A representation of the outbox properties.
+ *
+ * @param enabled      Whether outbound messages are written to the outbox instead of being sent.
+ * @param pollInterval The delay between outbox drains.
+ * @param batchSize    The maximum number of messages claimed per drain.
+ * @param lease        How long a claimed message is hidden from other dispatchers.
+ * @param maxBackoff   The maximum delay before a failed message is retried.
+ * @param maxAttempts  The number of failed attempts after which a message is parked.
+ */
+@ConfigurationProperties(prefix = "application.outbox")
+public record OutboxProperties(
+    boolean enabled,
+    Duration pollInterval,
+    int batchSize,
+    Duration lease,
+    Duration maxBackoff,
+    int maxAttempts) {
+
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+
+/**
+ * A representation of the Redis entity cache properties.
+ *
+ * @param cacheCodec         The default codec used to write cached values.
+ * @param timeToLive         The default time a value is cached, in minutes if no unit is given.
+ * @param negativeTimeToLive The default time a missing entity is cached, this is expected to be
+ *                           short as missing entities are likely to arrive soon.
+ * @param caches             Settings for individual caches, keyed by cache name.
+ */
+@ConfigurationProperties(prefix = "spring.data.redis")
+public record RedisCacheProperties(
+    CacheCodec cacheCodec,
+    @DurationUnit(ChronoUnit.MINUTES) Duration timeToLive,
+    Duration negativeTimeToLive,
+    Map<String, CacheProperties> caches) {
+
+  /**
+   * Default any missing properties.
+   */
+  public RedisCacheProperties {
+    cacheCodec = cacheCodec == null ? CacheCodec.JSON : cacheCodec;
+    timeToLive = timeToLive == null ? Duration.ofMinutes(2) : timeToLive;
+    negativeTimeToLive = negativeTimeToLive == null ? timeToLive : negativeTimeToLive;
+    caches = caches == null ? Map.of() : caches;
+  }
+
+  /**
+   * Settings for an individual cache, the defaults are used for any setting which is null.
+   *
+   * @param codec              The codec used to write cached values.
+   * @param timeToLive         How long a value is cached in Redis, in minutes if no unit is
+   *                           given.
+   * @param negativeTimeToLive How long a missing entity is cached in Redis.
+   * @param cacheNullValues    Whether null values, such as missing entities, are cached.
+   * @param maximumSize        The maximum number of entries held in memory, only applicable when
+   *                           the near-cache is enabled.
+   */
+  public record CacheProperties(
+      CacheCodec codec,
+      @DurationUnit(ChronoUnit.MINUTES) Duration timeToLive,
+      Duration negativeTimeToLive,
+      Boolean cacheNullValues,
+      Long maximumSize) {
+
+  }
+
+  /**
+   * The supported codecs for cached values.
+   */
+  public enum CacheCodec {
+    JSON, SMILE
+  }
+}
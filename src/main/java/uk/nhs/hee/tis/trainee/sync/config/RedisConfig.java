@@ -21,26 +21,40 @@
 
 package uk.nhs.hee.tis.trainee.sync.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
 import java.time.Duration;
+import java.util.Map.Entry;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
+import org.springframework.cache.support.NullValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder;
+import org.springframework.data.redis.cache.RedisCacheWriter.TtlFunction;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheCodec;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheProperties;
 
 // TODO: check whether auto-config can be used, if not then doc why.
 @Configuration
 public class RedisConfig extends CachingConfigurerSupport {
 
+  private static final String NEAR_CACHE_ENABLED = "application.near-cache.enabled";
+
   @Value("${spring.data.redis.host}")
   private String host;
 
@@ -59,13 +73,6 @@ public class RedisConfig extends CachingConfigurerSupport {
   @Value("${spring.data.redis.timeout}")
   private Long timeout;
 
-  /**
-   * Note that the equivalent requests-cache configurations are imported into
-   * {@link uk.nhs.hee.tis.trainee.sync.service.RequestCacheService}.
-   */
-  @Value("${spring.data.redis.time-to-live}")
-  private Long dataTtl;
-
   /**
    * Configuration for the requests cache.
    *
@@ -102,21 +109,146 @@ public class RedisConfig extends CachingConfigurerSupport {
   }
 
   /**
-   * Configuration for the data cache.
+   * Configuration for the data cache. Note that the equivalent requests-cache configurations are
+   * imported into {@link uk.nhs.hee.tis.trainee.sync.service.RequestCacheService}.
    *
+   * @param properties The cache properties.
    * @return a RedisCacheConfiguration
    */
   @Bean
-  public RedisCacheConfiguration cacheConfiguration() {
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper
-        .activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), DefaultTyping.NON_FINAL,
-            As.PROPERTY)
-        .findAndRegisterModules();
+  public RedisCacheConfiguration cacheConfiguration(RedisCacheProperties properties) {
     return RedisCacheConfiguration.defaultCacheConfig()
-        .entryTtl(Duration.ofMinutes(dataTtl))
+        .entryTtl(createTtlFunction(properties.timeToLive(), properties.negativeTimeToLive()))
         //.disableCachingNullValues() - i.e. allow NULLs to be cached
         .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-            new GenericJackson2JsonRedisSerializer(objectMapper)));
+            new CacheValueSerializer(properties.cacheCodec())));
+  }
+
+  /**
+   * Configuration for individual data caches, overriding the defaults with any cache specific
+   * properties.
+   *
+   * @param cacheConfiguration The default cache configuration.
+   * @param properties         The cache properties.
+   * @return a RedisCacheManagerBuilderCustomizer
+   */
+  @Bean
+  public RedisCacheManagerBuilderCustomizer cacheManagerCustomizer(
+      RedisCacheConfiguration cacheConfiguration, RedisCacheProperties properties) {
+    return builder -> {
+      for (Entry<String, CacheProperties> cache : properties.caches().entrySet()) {
+        CacheProperties cacheProperties = cache.getValue();
+        RedisCacheConfiguration configuration = cacheConfiguration;
+
+        CacheCodec codec = cacheProperties.codec();
+        if (codec != null) {
+          configuration = configuration.serializeValuesWith(
+              RedisSerializationContext.SerializationPair.fromSerializer(
+                  new CacheValueSerializer(codec)));
+        }
+
+        Duration timeToLive = Objects.requireNonNullElse(cacheProperties.timeToLive(),
+            properties.timeToLive());
+        Duration negativeTimeToLive = Objects.requireNonNullElse(
+            cacheProperties.negativeTimeToLive(), properties.negativeTimeToLive());
+        configuration = configuration.entryTtl(
+            createTtlFunction(timeToLive, negativeTimeToLive));
+
+        if (Boolean.FALSE.equals(cacheProperties.cacheNullValues())) {
+          configuration = configuration.disableCachingNullValues();
+        }
+
+        builder.withCacheConfiguration(cache.getKey(), configuration);
+      }
+    };
+  }
+
+  /**
+   * Configuration for the data cache manager, used when the near-cache is disabled.
+   *
+   * @param connectionFactory  The Redis connection factory.
+   * @param cacheConfiguration The default cache configuration.
+   * @param customizers        Any customizers for the cache manager.
+   * @return a RedisCacheManager
+   */
+  @Bean
+  @ConditionalOnProperty(name = NEAR_CACHE_ENABLED, havingValue = "false", matchIfMissing = true)
+  public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+      RedisCacheConfiguration cacheConfiguration,
+      ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers) {
+    return buildRedisCacheManager(connectionFactory, cacheConfiguration, customizers);
+  }
+
+  /**
+   * Configuration for the data cache manager, used when the near-cache is enabled. Each Redis cache
+   * is fronted by an in-process cache to avoid a network hop for repeated lookups.
+   *
+   * @param connectionFactory  The Redis connection factory.
+   * @param cacheConfiguration The default cache configuration.
+   * @param customizers        Any customizers for the Redis cache manager.
+   * @param properties         The near-cache properties.
+   * @param cacheProperties    The cache properties.
+   * @param redisTemplate      The template used to publish invalidations.
+   * @return a TwoTierCacheManager
+   */
+  @Bean
+  @ConditionalOnProperty(name = NEAR_CACHE_ENABLED, havingValue = "true")
+  public TwoTierCacheManager twoTierCacheManager(RedisConnectionFactory connectionFactory,
+      RedisCacheConfiguration cacheConfiguration,
+      ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+      NearCacheProperties properties, RedisCacheProperties cacheProperties,
+      StringRedisTemplate redisTemplate) {
+    RedisCacheManager redisCacheManager = buildRedisCacheManager(connectionFactory,
+        cacheConfiguration, customizers);
+    return new TwoTierCacheManager(redisCacheManager, properties, cacheProperties,
+        redisTemplate);
+  }
+
+  /**
+   * Configuration for the listener of near-cache invalidations published by other nodes.
+   *
+   * @param connectionFactory The Redis connection factory.
+   * @param cacheManager      The cache manager to apply invalidations to.
+   * @param properties        The near-cache properties.
+   * @return a RedisMessageListenerContainer
+   */
+  @Bean
+  @ConditionalOnProperty(name = NEAR_CACHE_ENABLED, havingValue = "true")
+  public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+      RedisConnectionFactory connectionFactory, TwoTierCacheManager cacheManager,
+      NearCacheProperties properties) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(cacheManager, new ChannelTopic(properties.channel()));
+    return container;
+  }
+
+  /**
+   * Create a function which gives missing entities, cached as null, a separate time to live.
+   *
+   * @param timeToLive         The time to live for found entities.
+   * @param negativeTimeToLive The time to live for missing entities.
+   * @return The created time to live function.
+   */
+  static TtlFunction createTtlFunction(Duration timeToLive, Duration negativeTimeToLive) {
+    return (key, value) -> value == null || value instanceof NullValue
+        ? negativeTimeToLive : timeToLive;
+  }
+
+  /**
+   * Build the Redis cache manager, applying any customizers as the auto-configured manager would.
+   *
+   * @param connectionFactory  The Redis connection factory.
+   * @param cacheConfiguration The default cache configuration.
+   * @param customizers        Any customizers for the cache manager.
+   * @return The built cache manager.
+   */
+  private static RedisCacheManager buildRedisCacheManager(RedisConnectionFactory connectionFactory,
+      RedisCacheConfiguration cacheConfiguration,
+      ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers) {
+    RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+        .cacheDefaults(cacheConfiguration);
+    customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+    return builder.build();
   }
 }
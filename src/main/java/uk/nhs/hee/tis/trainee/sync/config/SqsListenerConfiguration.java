@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.BackPressureHandler;
+import io.awspring.cloud.sqs.listener.FifoSqsComponentFactory;
+import io.awspring.cloud.sqs.listener.SqsContainerOptions;
+import io.awspring.cloud.sqs.listener.StandardSqsComponentFactory;
+import io.awspring.cloud.sqs.listener.source.FifoSqsMessageSource;
+import io.awspring.cloud.sqs.listener.source.MessageSource;
+import io.awspring.cloud.sqs.listener.source.SqsMessageSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import uk.nhs.hee.tis.trainee.sync.event.ConcurrencyLimitingInterceptor;
+
+/**
+ * Configuration of the SQS listener containers.
+ */
+@Configuration
+public class SqsListenerConfiguration {
+
+  private static final String VIRTUAL_THREAD_PREFIX = "sqs-listener-vt-";
+
+  /**
+   * Run the SQS listener containers on virtual threads, allowing a much higher number of messages
+   * to be in flight while listeners are blocked on I/O.
+   *
+   * <p>Ordering within a FIFO message group is still enforced by the container, which only hands
+   * the next message of a group to a listener once the previous one has been acknowledged, so the
+   * higher concurrency is spread across message groups.
+   *
+   * @param maxConcurrentMessages The maximum number of in-flight messages per container.
+   * @return The post processor which configures the listener container factories.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "application.listener.virtual-threads.enabled",
+      havingValue = "true")
+  static BeanPostProcessor virtualThreadListenerPostProcessor(
+      @Value("${application.listener.virtual-threads.max-concurrent-messages}")
+      int maxConcurrentMessages) {
+    TaskExecutor taskExecutor = createVirtualThreadTaskExecutor();
+
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof SqsMessageListenerContainerFactory<?> factory) {
+          factory.configure(options -> options
+              .componentsTaskExecutor(taskExecutor)
+              .maxConcurrentMessages(maxConcurrentMessages));
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Adapt the number of messages each queue listener processes concurrently based on the observed
+   * processing latency. The interceptor is applied to all listener containers created by the
+   * default container factory, the limit can only be raised up to the container's own maximum.
+   *
+   * @param properties    The adaptive concurrency properties.
+   * @param meterRegistry The registry to publish the concurrency limits to.
+   * @return The concurrency limiting interceptor.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "application.listener.adaptive-concurrency.enabled",
+      havingValue = "true")
+  ConcurrencyLimitingInterceptor concurrencyLimitingInterceptor(
+      AdaptiveConcurrencyProperties properties, MeterRegistry meterRegistry) {
+    return new ConcurrencyLimitingInterceptor(properties, meterRegistry);
+  }
+
+  /**
+   * Apply the adaptive concurrency limits before messages are received, by gating each queue's
+   * poller with the limit of its queue. Without this a poller would keep receiving messages which
+   * then could not be processed.
+   *
+   * @param interceptor The concurrency limiting interceptor, which owns the limiters.
+   * @return The post processor which configures the listener container factories.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "application.listener.adaptive-concurrency.enabled",
+      havingValue = "true")
+  static BeanPostProcessor adaptiveConcurrencyListenerPostProcessor(
+      ObjectProvider<ConcurrencyLimitingInterceptor> interceptor) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof SqsMessageListenerContainerFactory<?> factory) {
+          configureAdaptiveMessageSources(factory, interceptor);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Configure the factory to create message sources whose back pressure is limited by the
+   * adaptive concurrency limit of the polled queue.
+   *
+   * @param factory     The listener container factory to configure.
+   * @param interceptor The concurrency limiting interceptor, resolved when a container starts.
+   * @param <T>         The message payload type.
+   */
+  static <T> void configureAdaptiveMessageSources(SqsMessageListenerContainerFactory<T> factory,
+      ObjectProvider<ConcurrencyLimitingInterceptor> interceptor) {
+    factory.setContainerComponentFactories(List.of(
+        new StandardSqsComponentFactory<T>() {
+          @Override
+          public MessageSource<T> createMessageSource(SqsContainerOptions options) {
+            return new SqsMessageSource<T>() {
+              @Override
+              public void setBackPressureHandler(BackPressureHandler backPressureHandler) {
+                super.setBackPressureHandler(
+                    interceptor.getObject().limit(this::getPollingEndpointName,
+                        backPressureHandler));
+              }
+            };
+          }
+        },
+        new FifoSqsComponentFactory<T>() {
+          @Override
+          public MessageSource<T> createMessageSource(SqsContainerOptions options) {
+            return new FifoSqsMessageSource<T>() {
+              @Override
+              public void setBackPressureHandler(BackPressureHandler backPressureHandler) {
+                super.setBackPressureHandler(
+                    interceptor.getObject().limit(this::getPollingEndpointName,
+                        backPressureHandler));
+              }
+            };
+          }
+        }));
+  }
+
+  /**
+   * Create a task executor which starts a new virtual thread for each task.
+   *
+   * @return The created task executor.
+   */
+  static TaskExecutor createVirtualThreadTaskExecutor() {
+    SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(VIRTUAL_THREAD_PREFIX);
+    taskExecutor.setVirtualThreads(true);
+    return taskExecutor;
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.util.ByteUtils;
+
+/**
+ * A cache which holds entries in memory in front of a remote Redis cache. Entries are held in
+ * their serialized form so every read returns a new instance, callers are free to modify the
+ * records they are given, as they were when reading directly from Redis.
+ *
+ * <p>Local changes are written through to the remote cache and an invalidation is published so
+ * that other nodes drop their in-memory copy of the entry.
+ *
+ * <p>Each invalidation advances a generation for the key, a value read from the remote cache is
+ * only held in memory if the generation of its key did not change during the read. This prevents
+ * a read racing with an invalidation from holding the stale value until it expires.
+ */
+class TwoTierCache implements Cache {
+
+  private static final byte[] NULL_VALUE = new byte[0];
+
+  // the number of stripes the key generations are spread over, must be a power of two
+  private static final int GENERATION_STRIPES = 64;
+
+  private final Cache remote;
+  private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> local;
+  private final SerializationPair<Object> valueSerializer;
+  private final BiConsumer<String, String> invalidationPublisher;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+  /**
+   * Create a two-tier cache.
+   *
+   * @param remote                The remote cache, which remains the source of truth.
+   * @param local                 The in-memory cache of serialized values.
+   * @param valueSerializer       The serializer for the cached values.
+   * @param invalidationPublisher The publisher for invalidations, given the cache name and key, a
+   *                              null key invalidates the whole cache.
+   */
+  TwoTierCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<String, byte[]> local,
+      SerializationPair<Object> valueSerializer,
+      BiConsumer<String, String> invalidationPublisher) {
+    this.remote = remote;
+    this.local = local;
+    this.valueSerializer = valueSerializer;
+    this.invalidationPublisher = invalidationPublisher;
+  }
+
+  @Override
+  public String getName() {
+    return remote.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return remote.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    String localKey = getLocalKey(key);
+    byte[] localValue = local.getIfPresent(localKey);
+
+    if (localValue != null) {
+      return new SimpleValueWrapper(deserialize(localValue));
+    }
+
+    long generation = getGeneration(localKey);
+    ValueWrapper remoteValue = remote.get(key);
+
+    if (remoteValue != null) {
+      fillLocal(localKey, remoteValue.get(), generation);
+    }
+
+    return remoteValue;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper == null ? null : wrapper.get();
+
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    ValueWrapper wrapper = get(key);
+
+    if (wrapper != null) {
+      return (T) wrapper.get();
+    }
+
+    String localKey = getLocalKey(key);
+    long generation = getGeneration(localKey);
+    T value = remote.get(key, valueLoader);
+    fillLocal(localKey, value, generation);
+    return value;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    remote.put(key, value);
+    String localKey = getLocalKey(key);
+    advanceGeneration(localKey);
+    local.put(localKey, serialize(value));
+    invalidationPublisher.accept(getName(), localKey);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    ValueWrapper existing = remote.putIfAbsent(key, value);
+    String localKey = getLocalKey(key);
+    evictLocal(localKey);
+
+    if (existing == null) {
+      invalidationPublisher.accept(getName(), localKey);
+    }
+    return existing;
+  }
+
+  @Override
+  public void evict(Object key) {
+    remote.evict(key);
+    String localKey = getLocalKey(key);
+    evictLocal(localKey);
+    invalidationPublisher.accept(getName(), localKey);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    boolean present = remote.evictIfPresent(key);
+    String localKey = getLocalKey(key);
+    evictLocal(localKey);
+    invalidationPublisher.accept(getName(), localKey);
+    return present;
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    clearLocal();
+    invalidationPublisher.accept(getName(), null);
+  }
+
+  @Override
+  public boolean invalidate() {
+    boolean present = remote.invalidate();
+    clearLocal();
+    invalidationPublisher.accept(getName(), null);
+    return present;
+  }
+
+  /**
+   * Evict an entry from the in-memory cache only, following a change made by another node.
+   *
+   * @param key The key of the entry to evict.
+   */
+  void evictLocal(String key) {
+    advanceGeneration(key);
+    local.invalidate(key);
+  }
+
+  /**
+   * Clear the in-memory cache only, following a change made by another node.
+   */
+  void clearLocal() {
+    for (int i = 0; i < GENERATION_STRIPES; i++) {
+      generations.incrementAndGet(i);
+    }
+    local.invalidateAll();
+  }
+
+  /**
+   * Hold a value read from the remote cache in memory, unless the key has been invalidated since
+   * the read began. The generation is checked while the entry is locked, so an invalidation either
+   * prevents the value being held or removes it afterwards.
+   *
+   * @param key        The key of the entry.
+   * @param value      The value read from the remote cache.
+   * @param generation The generation of the key before the read began.
+   */
+  private void fillLocal(String key, Object value, long generation) {
+    byte[] serialized = serialize(value);
+    local.asMap().compute(key,
+        (k, existing) -> getGeneration(key) == generation ? serialized : existing);
+  }
+
+  private long getGeneration(String key) {
+    return generations.get(getStripe(key));
+  }
+
+  private void advanceGeneration(String key) {
+    generations.incrementAndGet(getStripe(key));
+  }
+
+  private int getStripe(String key) {
+    return key.hashCode() & (GENERATION_STRIPES - 1);
+  }
+
+  private String getLocalKey(Object key) {
+    return String.valueOf(key);
+  }
+
+  private byte[] serialize(Object value) {
+    return value == null ? NULL_VALUE : ByteUtils.getBytes(valueSerializer.write(value));
+  }
+
+  private Object deserialize(byte[] value) {
+    return value.length == 0 ? null : valueSerializer.read(ByteBuffer.wrap(value));
+  }
+
+  /**
+   * An in-memory expiry policy which expires null values, such as missing entities, sooner than
+   * other values so they are not held for longer than the remote cache holds them.
+   */
+  static class NearCacheExpiry implements Expiry<String, byte[]> {
+
+    private final long timeToLive;
+    private final long negativeTimeToLive;
+
+    /**
+     * Create an in-memory expiry policy.
+     *
+     * @param timeToLive         How long a value is held in memory.
+     * @param negativeTimeToLive How long a null value is held in memory, bounded by the time to
+     *                           live.
+     */
+    NearCacheExpiry(Duration timeToLive, Duration negativeTimeToLive) {
+      this.timeToLive = timeToLive.toNanos();
+      this.negativeTimeToLive = Math.min(this.timeToLive, negativeTimeToLive.toNanos());
+    }
+
+    @Override
+    public long expireAfterCreate(String key, byte[] value, long currentTime) {
+      return value.length == 0 ? negativeTimeToLive : timeToLive;
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, byte[] value, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, byte[] value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheProperties;
+import uk.nhs.hee.tis.trainee.sync.config.TwoTierCache.NearCacheExpiry;
+
+/**
+ * A cache manager which layers an in-process cache in front of each Redis cache, keeping the
+ * in-process caches of each node coherent using Redis pub/sub invalidation messages.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractCacheManager implements MessageListener {
+
+  private static final String MESSAGE_DELIMITER = "|";
+  private static final int MESSAGE_PARTS = 3;
+
+  private final RedisCacheManager delegate;
+  private final NearCacheProperties properties;
+  private final RedisCacheProperties cacheProperties;
+  private final StringRedisTemplate redisTemplate;
+  private final String origin = UUID.randomUUID().toString();
+
+  /**
+   * Create a two-tier cache manager.
+   *
+   * @param delegate        The manager of the remote Redis caches.
+   * @param properties      The in-process cache properties.
+   * @param cacheProperties The cache properties, used for any cache specific maximum size and
+   *                        negative time to live.
+   * @param redisTemplate   The template to publish invalidation messages with.
+   */
+  public TwoTierCacheManager(RedisCacheManager delegate, NearCacheProperties properties,
+      RedisCacheProperties cacheProperties, StringRedisTemplate redisTemplate) {
+    this.delegate = delegate;
+    this.properties = properties;
+    this.cacheProperties = cacheProperties;
+    this.redisTemplate = redisTemplate;
+  }
+
+  @Override
+  protected Collection<? extends Cache> loadCaches() {
+    delegate.initializeCaches();
+    return delegate.getCacheNames().stream()
+        .map(delegate::getCache)
+        .map(this::decorate)
+        .toList();
+  }
+
+  @Override
+  protected Cache getMissingCache(String name) {
+    Cache cache = delegate.getCache(name);
+    return cache == null ? null : decorate(cache);
+  }
+
+  /**
+   * Evict the in-memory entries invalidated by other nodes, invalidations sent by this node are
+   * ignored as they have already been applied.
+   *
+   * @param message The invalidation message.
+   * @param pattern The channel pattern, unused.
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    String[] parts = body.split("\\" + MESSAGE_DELIMITER, MESSAGE_PARTS);
+
+    if (parts.length < MESSAGE_PARTS - 1 || parts[0].equals(origin)) {
+      return;
+    }
+
+    if (lookupCache(parts[1]) instanceof TwoTierCache cache) {
+      if (parts.length == MESSAGE_PARTS) {
+        cache.evictLocal(parts[2]);
+      } else {
+        cache.clearLocal();
+      }
+    }
+  }
+
+  /**
+   * Layer an in-process cache in front of the given Redis cache.
+   *
+   * @param cache The Redis cache to decorate.
+   * @return The decorated cache, or the original cache if it is not a Redis cache.
+   */
+  private Cache decorate(Cache cache) {
+    if (cache instanceof RedisCache redisCache) {
+      com.github.benmanes.caffeine.cache.Cache<String, byte[]> local = Caffeine.newBuilder()
+          .maximumSize(getMaximumSize(cache.getName()))
+          .expireAfter(new NearCacheExpiry(properties.timeToLive(),
+              getNegativeTimeToLive(cache.getName())))
+          .build();
+      return new TwoTierCache(redisCache, local,
+          redisCache.getCacheConfiguration().getValueSerializationPair(),
+          this::publishInvalidation);
+    }
+    return cache;
+  }
+
+  /**
+   * Get the maximum number of in-memory entries for a cache.
+   *
+   * @param cacheName The name of the cache.
+   * @return The cache specific maximum size if configured, else the default maximum size.
+   */
+  private long getMaximumSize(String cacheName) {
+    CacheProperties cacheSpecific = cacheProperties.caches().get(cacheName);
+
+    if (cacheSpecific != null && cacheSpecific.maximumSize() != null) {
+      return cacheSpecific.maximumSize();
+    }
+    return properties.maximumSize();
+  }
+
+  /**
+   * Get the time a missing entity is held in memory for a cache, matching the time it is cached in
+   * Redis.
+   *
+   * @param cacheName The name of the cache.
+   * @return The cache specific negative time to live if configured, else the default.
+   */
+  private Duration getNegativeTimeToLive(String cacheName) {
+    CacheProperties cacheSpecific = cacheProperties.caches().get(cacheName);
+
+    if (cacheSpecific != null && cacheSpecific.negativeTimeToLive() != null) {
+      return cacheSpecific.negativeTimeToLive();
+    }
+    return cacheProperties.negativeTimeToLive();
+  }
+
+  /**
+   * Publish an invalidation to other nodes, a failure to publish is logged but not thrown as the
+   * remote cache has already been updated and the in-memory entries will expire.
+   *
+   * @param cacheName The name of the cache.
+   * @param key       The invalidated key, or null if the whole cache was invalidated.
+   */
+  private void publishInvalidation(String cacheName, String key) {
+    String message = origin + MESSAGE_DELIMITER + cacheName;
+
+    if (key != null) {
+      message += MESSAGE_DELIMITER + key;
+    }
+
+    try {
+      redisTemplate.convertAndSend(properties.channel(), message);
+    } catch (RuntimeException e) {
+      log.warn("Unable to publish cache invalidation for '{}' key '{}'.", cacheName, key, e);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import io.awspring.cloud.sqs.listener.BackPressureHandler;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * A back pressure handler which only lets a queue's poller request as many messages as its
+ * {@link AdaptiveConcurrencyLimiter} currently allows, so that messages beyond the limit are left
+ * on the queue instead of being received and held. The container's own handler is still consulted
+ * so its maximum concurrency and draining on shutdown are kept.
+ */
+public class AdaptiveBackPressureHandler implements BackPressureHandler {
+
+  private final BackPressureHandler delegate;
+
+  private final Supplier<AdaptiveConcurrencyLimiter> limiterSupplier;
+
+  private final Duration acquireTimeout;
+
+  private AdaptiveConcurrencyLimiter limiter;
+
+  /**
+   * Create a back pressure handler limited by an adaptive concurrency limiter.
+   *
+   * @param delegate        The container's back pressure handler.
+   * @param limiterSupplier The supplier of the limiter, resolved on first use as the queue name
+   *                        is only known once the container is configured.
+   * @param acquireTimeout  The maximum time the poller waits for capacity before polling again.
+   */
+  public AdaptiveBackPressureHandler(BackPressureHandler delegate,
+      Supplier<AdaptiveConcurrencyLimiter> limiterSupplier, Duration acquireTimeout) {
+    this.delegate = delegate;
+    this.limiterSupplier = limiterSupplier;
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  @Override
+  public int request(int amount) throws InterruptedException {
+    AdaptiveConcurrencyLimiter currentLimiter = getLimiter();
+    int acquired = currentLimiter.tryAcquire(amount, acquireTimeout);
+
+    if (acquired == 0) {
+      return 0;
+    }
+
+    int granted = delegate.request(acquired);
+
+    if (granted < acquired) {
+      currentLimiter.release(acquired - granted);
+    }
+
+    return granted;
+  }
+
+  @Override
+  public void release(int amount) {
+    delegate.release(amount);
+    getLimiter().release(amount);
+  }
+
+  @Override
+  public boolean drain(Duration timeout) {
+    return delegate.drain(timeout);
+  }
+
+  /**
+   * Get the limiter, resolving it on first use.
+   *
+   * @return The adaptive concurrency limiter.
+   */
+  private synchronized AdaptiveConcurrencyLimiter getLimiter() {
+    if (limiter == null) {
+      limiter = limiterSupplier.get();
+    }
+    return limiter;
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrency limiter which adapts its limit using an additive-increase/multiplicative-decrease
+ * (AIMD) algorithm. The limit grows by one while work completes within the latency threshold and
+ * the limiter is being well utilised, and is cut by the backoff ratio when work is slow or fails.
+ *
+ * <p>The limit is cut at most once per round trip, work which started before the last cut was
+ * admitted under the old limit so its outcome is not taken as evidence against the new one.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final long latencyThresholdNanos;
+
+  private final double backoffRatio;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition capacityAvailable = lock.newCondition();
+
+  private int limit;
+
+  private int inFlight;
+
+  private boolean decreased;
+
+  private long lastDecreaseNanos;
+
+  /**
+   * Create an adaptive concurrency limiter.
+   *
+   * @param initialLimit     The initial limit.
+   * @param minLimit         The minimum limit.
+   * @param maxLimit         The maximum limit.
+   * @param latencyThreshold The latency above which the limit is reduced.
+   * @param backoffRatio     The ratio to multiply the limit by when it is reduced.
+   */
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+      Duration latencyThreshold, double backoffRatio) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          String.format("Invalid concurrency limits, min '%s' and max '%s'.", minLimit, maxLimit));
+    }
+
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException(
+          String.format("Invalid backoff ratio '%s', must be between 0 and 1.", backoffRatio));
+    }
+
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = latencyThreshold.toNanos();
+    this.backoffRatio = backoffRatio;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * Try to acquire capacity, waiting up to the given timeout for capacity to become available.
+   *
+   * @param timeout The maximum time to wait.
+   * @return true if capacity was acquired, false if the timeout elapsed first.
+   * @throws InterruptedException If the thread is interrupted while waiting.
+   */
+  public boolean tryAcquire(Duration timeout) throws InterruptedException {
+    return tryAcquire(1, timeout) == 1;
+  }
+
+  /**
+   * Try to acquire up to the requested capacity, waiting up to the given timeout for any capacity
+   * to become available.
+   *
+   * @param permits The maximum capacity to acquire.
+   * @param timeout The maximum time to wait.
+   * @return The capacity acquired, zero if the timeout elapsed first.
+   * @throws InterruptedException If the thread is interrupted while waiting.
+   */
+  public int tryAcquire(int permits, Duration timeout) throws InterruptedException {
+    long remainingNanos = timeout.toNanos();
+    lock.lockInterruptibly();
+
+    try {
+      while (inFlight >= limit) {
+        if (remainingNanos <= 0) {
+          return 0;
+        }
+        remainingNanos = capacityAvailable.awaitNanos(remainingNanos);
+      }
+
+      int acquired = Math.min(permits, limit - inFlight);
+      inFlight += acquired;
+      return acquired;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Release previously acquired capacity and adjust the limit based on the observed outcome.
+   *
+   * @param latencyNanos The time taken to process the work, in nanoseconds.
+   * @param failed       Whether the work failed.
+   */
+  public void release(long latencyNanos, boolean failed) {
+    lock.lock();
+
+    try {
+      onSample(latencyNanos, failed);
+      release(1);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Release previously acquired capacity without adjusting the limit.
+   *
+   * @param permits The capacity to release.
+   */
+  public void release(int permits) {
+    lock.lock();
+
+    try {
+      inFlight = Math.max(0, inFlight - permits);
+      capacityAvailable.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Adjust the limit based on the observed outcome of a unit of work.
+   *
+   * @param latencyNanos The time taken to process the work, in nanoseconds.
+   * @param failed       Whether the work failed.
+   */
+  public void onSample(long latencyNanos, boolean failed) {
+    lock.lock();
+
+    try {
+      long nowNanos = System.nanoTime();
+
+      if (failed || latencyNanos > latencyThresholdNanos) {
+        long startNanos = nowNanos - latencyNanos;
+
+        if (!decreased || startNanos - lastDecreaseNanos >= 0) {
+          limit = Math.max(minLimit, (int) (limit * backoffRatio));
+          decreased = true;
+          lastDecreaseNanos = nowNanos;
+        }
+      } else if (inFlight * 2 >= limit) {
+        // Only grow when the current limit is being used, to avoid growing without evidence.
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the current concurrency limit.
+   *
+   * @return The current limit.
+   */
+  public int getLimit() {
+    lock.lock();
+    try {
+      return limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Get the amount of currently acquired capacity.
+   *
+   * @return The number of in-flight units of work.
+   */
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
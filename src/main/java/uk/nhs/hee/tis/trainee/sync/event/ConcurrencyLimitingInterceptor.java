@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import io.awspring.cloud.sqs.listener.BackPressureHandler;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.interceptor.MessageInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.messaging.Message;
+import uk.nhs.hee.tis.trainee.sync.config.AdaptiveConcurrencyProperties;
+
+/**
+ * A message interceptor which adapts the number of messages processed concurrently for each queue
+ * using an {@link AdaptiveConcurrencyLimiter}. The processing time of each message, which is
+ * dominated by MongoDB and REST latency, drives the limit up or down.
+ *
+ * <p>The limit is applied before messages are received, by an {@link AdaptiveBackPressureHandler}
+ * gating each queue's poller, so messages beyond the limit stay on the queue rather than being
+ * received and left waiting until their visibility timeout expires.
+ */
+public class ConcurrencyLimitingInterceptor implements MessageInterceptor<Object> {
+
+  private static final String UNKNOWN_QUEUE = "unknown";
+
+  private final AdaptiveConcurrencyProperties properties;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+  private final Map<UUID, Long> startTimes = new ConcurrentHashMap<>();
+
+  /**
+   * Create an interceptor which limits message processing concurrency.
+   *
+   * @param properties    The adaptive concurrency properties.
+   * @param meterRegistry The registry to publish the concurrency limits to.
+   */
+  public ConcurrencyLimitingInterceptor(AdaptiveConcurrencyProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Message<Object> intercept(Message<Object> message) {
+    start(message);
+    return message;
+  }
+
+  @Override
+  public Collection<Message<Object>> intercept(Collection<Message<Object>> messages) {
+    // A batch is processed as a single unit of work, so only gives a single latency sample.
+    if (!messages.isEmpty()) {
+      start(messages.iterator().next());
+    }
+    return messages;
+  }
+
+  @Override
+  public void afterProcessing(Message<Object> message, Throwable t) {
+    sample(message, t);
+  }
+
+  @Override
+  public void afterProcessing(Collection<Message<Object>> messages, Throwable t) {
+    if (!messages.isEmpty()) {
+      sample(messages.iterator().next(), t);
+    }
+  }
+
+  /**
+   * Get the limiter for the given queue, creating it if it does not yet exist.
+   *
+   * @param queue The name or URL of the queue.
+   * @return The queue's limiter.
+   */
+  public AdaptiveConcurrencyLimiter getLimiter(String queue) {
+    // Queue URLs end in the queue name, which is what received messages are tagged with.
+    String queueName = queue == null ? UNKNOWN_QUEUE : queue.substring(queue.lastIndexOf('/') + 1);
+    return limiters.computeIfAbsent(queueName, this::createLimiter);
+  }
+
+  /**
+   * Wrap a listener container's back pressure handler so that the queue's poller is limited by
+   * the queue's adaptive concurrency limit.
+   *
+   * @param queueSupplier The supplier of the name or URL of the polled queue.
+   * @param delegate      The container's back pressure handler.
+   * @return The limited back pressure handler.
+   */
+  public BackPressureHandler limit(Supplier<String> queueSupplier, BackPressureHandler delegate) {
+    return new AdaptiveBackPressureHandler(delegate, () -> getLimiter(queueSupplier.get()),
+        properties.acquireTimeout());
+  }
+
+  /**
+   * Record the start of processing for the given message.
+   *
+   * @param message The message to be processed.
+   */
+  private void start(Message<Object> message) {
+    startTimes.put(message.getHeaders().getId(), System.nanoTime());
+  }
+
+  /**
+   * Adjust the limit of the message's queue based on the outcome of processing the message.
+   *
+   * @param message The processed message.
+   * @param t       The error thrown during processing, null if successful.
+   */
+  private void sample(Message<Object> message, Throwable t) {
+    Long startNanos = startTimes.remove(message.getHeaders().getId());
+
+    if (startNanos != null) {
+      AdaptiveConcurrencyLimiter limiter = getLimiter(getQueueName(message));
+      limiter.onSample(System.nanoTime() - startNanos, t != null);
+    }
+  }
+
+  /**
+   * Create a limiter for the given queue.
+   *
+   * @param queue The name of the queue.
+   * @return The created limiter.
+   */
+  private AdaptiveConcurrencyLimiter createLimiter(String queue) {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+        properties.initialLimit(), properties.minLimit(), properties.maxLimit(),
+        properties.latencyThreshold(), properties.backoffRatio());
+
+    Gauge.builder("sync.listener.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+        .description("The adaptive concurrency limit of the queue listener.")
+        .tag("queue", queue)
+        .register(meterRegistry);
+    Gauge.builder("sync.listener.concurrency.in-flight", limiter,
+            AdaptiveConcurrencyLimiter::getInFlight)
+        .description("The number of messages being processed by the queue listener.")
+        .tag("queue", queue)
+        .register(meterRegistry);
+
+    return limiter;
+  }
+
+  /**
+   * Get the name of the queue the message was received from.
+   *
+   * @param message The received message.
+   * @return The queue name.
+   */
+  private String getQueueName(Message<Object> message) {
+    Object queueName = message.getHeaders().get(SqsHeaders.SQS_QUEUE_NAME_HEADER);
+    return queueName == null ? UNKNOWN_QUEUE : queueName.toString();
+  }
+}
@@ -164,8 +164,8 @@ public class ConditionsOfJoiningEventListener
           programmeMembership.get());
       // Default the message to LOOKUP.
       programmeMembershipRecord.setOperation(LOOKUP);
-      String deduplicationId = fifoMessagingService.getUniqueDeduplicationId("ProgrammeMembership",
-          String.valueOf(programmeMembership.get().getUuid()));
+      String deduplicationId = fifoMessagingService.getLookupDeduplicationId("ProgrammeMembership",
+          String.valueOf(programmeMembership.get().getUuid()), null);
       fifoMessagingService.sendMessageToFifoQueue(programmeMembershipQueueUrl,
           programmeMembershipRecord, deduplicationId);
     } else if (requestIfMissing) {
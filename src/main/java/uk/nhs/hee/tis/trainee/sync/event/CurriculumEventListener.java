@@ -66,13 +66,18 @@ public class CurriculumEventListener extends AbstractMongoEventListener<Curricul
     Set<CurriculumMembership> curriculumMemberships =
         curriculumMembershipService.findByCurriculumId(curriculum.getTisId());
 
+    if (curriculumMemberships.isEmpty()) {
+      return;
+    }
+
     for (CurriculumMembership curriculumMembership : curriculumMemberships) {
       // Default each message to LOOKUP.
       curriculumMembership.setOperation(LOOKUP);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("CurriculumMembership", curriculumMembership.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(curriculumMembershipQueueUrl,
-          curriculumMembership, deduplicationId);
     }
+
+    fifoMessagingService.sendMessagesToFifoQueue(curriculumMembershipQueueUrl,
+        curriculumMemberships,
+        curriculumMembership -> fifoMessagingService.getLookupDeduplicationId(
+            "CurriculumMembership", curriculumMembership.getTisId(), curriculum));
   }
 }
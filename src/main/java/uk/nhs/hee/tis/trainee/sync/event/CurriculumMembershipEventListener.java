@@ -77,7 +77,7 @@ public class CurriculumMembershipEventListener
     super.onAfterSave(event);
 
     CurriculumMembership curriculumMembership = event.getSource();
-    queueRelatedProgrammeMembership(curriculumMembership, true);
+    queueRelatedProgrammeMembership(curriculumMembership, curriculumMembership, true);
   }
 
   /**
@@ -110,7 +110,7 @@ public class CurriculumMembershipEventListener
         curriculumMembershipCache.get(event.getSource().getString("_id"),
             CurriculumMembership.class);
     if (curriculumMembership != null) {
-      queueRelatedProgrammeMembership(curriculumMembership, false);
+      queueRelatedProgrammeMembership(curriculumMembership, null, false);
     }
   }
 
@@ -119,10 +119,12 @@ public class CurriculumMembershipEventListener
    *
    * @param curriculumMembership The curriculum membership to get related programme memberships
    *                             for.
+   * @param source               The record whose change triggered the lookup, null if the
+   *                             change is not versioned.
    * @param requestIfMissing     Whether missing programme memberships should be requested.
    */
   private void queueRelatedProgrammeMembership(CurriculumMembership curriculumMembership,
-      boolean requestIfMissing) {
+      Record source, boolean requestIfMissing) {
     String programmeMembershipUuid = curriculumMembership.getData().get(PROGRAMME_MEMBERSHIP_UUID);
     Optional<ProgrammeMembership> programmeMembership = programmeMembershipSyncService.findById(
         programmeMembershipUuid);
@@ -132,8 +134,8 @@ public class CurriculumMembershipEventListener
           programmeMembership.get());
       // Default the message to LOOKUP.
       programmeMembershipRecord.setOperation(LOOKUP);
-      String deduplicationId = fifoMessagingService.getUniqueDeduplicationId(
-          "ProgrammeMembership", String.valueOf(programmeMembership.get().getUuid()));
+      String deduplicationId = fifoMessagingService.getLookupDeduplicationId(
+          "ProgrammeMembership", String.valueOf(programmeMembership.get().getUuid()), source);
       fifoMessagingService.sendMessageToFifoQueue(programmeMembershipQueueUrl,
           programmeMembershipRecord, deduplicationId);
     } else if (requestIfMissing) {
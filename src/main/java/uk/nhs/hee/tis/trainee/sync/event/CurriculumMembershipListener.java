@@ -25,6 +25,7 @@ import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.CurriculumMembership;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.CurriculumMembershipSyncService;
 
 @Slf4j
@@ -33,12 +34,17 @@ public class CurriculumMembershipListener {
 
   private final CurriculumMembershipSyncService curriculumMembershipService;
 
-  CurriculumMembershipListener(CurriculumMembershipSyncService curriculumMembershipService) {
+  private final ClaimCheckService claimCheckService;
+
+  CurriculumMembershipListener(CurriculumMembershipSyncService curriculumMembershipService,
+      ClaimCheckService claimCheckService) {
     this.curriculumMembershipService = curriculumMembershipService;
+    this.claimCheckService = claimCheckService;
   }
 
   @SqsListener("${application.aws.sqs.curriculum-membership}")
   void getCurriculumMembership(CurriculumMembership curriculumMembership) {
+    curriculumMembership = claimCheckService.resolve(curriculumMembership);
     log.debug("Received curriculum membership {}.", curriculumMembership);
     curriculumMembershipService.syncCurriculumMembership(curriculumMembership);
   }
@@ -38,6 +38,7 @@ import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Dbc;
 import uk.nhs.hee.tis.trainee.sync.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.sync.model.Programme;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.service.DbcSyncService;
 import uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService;
 import uk.nhs.hee.tis.trainee.sync.service.LocalOfficeSyncService;
@@ -87,7 +88,7 @@ public class DbcEventListener extends AbstractMongoEventListener<Dbc> {
     Dbc dbc = event.getSource();
     cache.put(dbc.getTisId(), dbc);
 
-    queueRelatedProgrammes(dbc);
+    queueRelatedProgrammes(dbc, dbc);
   }
 
   /**
@@ -116,16 +117,18 @@ public class DbcEventListener extends AbstractMongoEventListener<Dbc> {
     super.onAfterDelete(event);
     Dbc dbc = cache.get(event.getSource().getString("_id"), Dbc.class);
     if (dbc != null) {
-      queueRelatedProgrammes(dbc);
+      queueRelatedProgrammes(dbc, null);
     }
   }
 
   /**
    * Queue the programmes related to the given DBC.
    *
-   * @param dbc The DBC to get related programmes for.
+   * @param dbc    The DBC to get related programmes for.
+   * @param source The record whose change triggered the lookup, null if the change is not
+   *               versioned.
    */
-  private void queueRelatedProgrammes(Dbc dbc) {
+  private void queueRelatedProgrammes(Dbc dbc, Record source) {
     String dbcType = dbc.getData().get(DBC_TYPE);
     if (dbcType.equalsIgnoreCase(DBC_TYPE_RELEVANT)) {
       String abbr = dbc.getData().get(DBC_ABBR);
@@ -147,10 +150,12 @@ public class DbcEventListener extends AbstractMongoEventListener<Dbc> {
               dbc.getData().get(DBC_ABBR), programme.getTisId());
           // Default each message to LOOKUP.
           programme.setOperation(LOOKUP);
-          String deduplicationId = fifoMessagingService
-              .getUniqueDeduplicationId(Programme.ENTITY_NAME, programme.getTisId());
-          fifoMessagingService.sendMessageToFifoQueue(programmeQueueUrl, programme,
-              deduplicationId);
+        }
+
+        if (!programmes.isEmpty()) {
+          fifoMessagingService.sendMessagesToFifoQueue(programmeQueueUrl, programmes,
+              programme -> fifoMessagingService.getLookupDeduplicationId(Programme.ENTITY_NAME,
+                  programme.getTisId(), source));
         }
       }
     } else {
@@ -57,12 +57,17 @@ public class GradeEventListener extends AbstractMongoEventListener<Grade> {
     Grade grade = event.getSource();
     Set<Placement> placements = placementService.findByGradeId(grade.getTisId());
 
+    if (placements.isEmpty()) {
+      return;
+    }
+
     for (Placement placement : placements) {
       // Default each placement to LOOKUP.
       placement.setOperation(LOOKUP);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("Placement", placement.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl, placement, deduplicationId);
     }
+
+    fifoMessagingService.sendMessagesToFifoQueue(placementQueueUrl, placements,
+        placement -> fifoMessagingService.getLookupDeduplicationId("Placement",
+            placement.getTisId(), grade));
   }
 }
@@ -37,6 +37,7 @@ import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Dbc;
 import uk.nhs.hee.tis.trainee.sync.model.LocalOffice;
 import uk.nhs.hee.tis.trainee.sync.model.Programme;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.service.DbcSyncService;
 import uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService;
 import uk.nhs.hee.tis.trainee.sync.service.LocalOfficeSyncService;
@@ -83,7 +84,7 @@ public class LocalOfficeEventListener extends AbstractMongoEventListener<LocalOf
     LocalOffice localOffice = event.getSource();
     cache.put(localOffice.getTisId(), localOffice);
 
-    queueRelatedProgrammes(localOffice);
+    queueRelatedProgrammes(localOffice, localOffice);
   }
 
   /**
@@ -112,7 +113,7 @@ public class LocalOfficeEventListener extends AbstractMongoEventListener<LocalOf
     super.onAfterDelete(event);
     LocalOffice localOffice = cache.get(event.getSource().getString("_id"), LocalOffice.class);
     if (localOffice != null) {
-      queueRelatedProgrammes(localOffice);
+      queueRelatedProgrammes(localOffice, null);
     }
   }
 
@@ -121,8 +122,10 @@ public class LocalOfficeEventListener extends AbstractMongoEventListener<LocalOf
    * otherwise request the related DBC.
    *
    * @param localOffice The LocalOffice to get related programmes for.
+   * @param source      The record whose change triggered the lookup, null if the change is not
+   *                    versioned.
    */
-  private void queueRelatedProgrammes(LocalOffice localOffice) {
+  private void queueRelatedProgrammes(LocalOffice localOffice, Record source) {
     //If the LO abbreviation changes then that could mean it links to a different DBC
     //so then the RO could change. This seems quite unlikely but needs to be handled.
     String abbr = localOffice.getData().get(LOCAL_OFFICE_ABBREVIATION);
@@ -143,9 +146,12 @@ public class LocalOfficeEventListener extends AbstractMongoEventListener<LocalOf
             localOffice.getData().get(LOCAL_OFFICE_NAME), programme.getTisId());
         // Default each message to LOOKUP.
         programme.setOperation(LOOKUP);
-        String deduplicationId = fifoMessagingService
-            .getUniqueDeduplicationId(Programme.ENTITY_NAME, programme.getTisId());
-        fifoMessagingService.sendMessageToFifoQueue(programmeQueueUrl, programme, deduplicationId);
+      }
+
+      if (!programmes.isEmpty()) {
+        fifoMessagingService.sendMessagesToFifoQueue(programmeQueueUrl, programmes,
+            programme -> fifoMessagingService.getLookupDeduplicationId(Programme.ENTITY_NAME,
+                programme.getTisId(), source));
       }
     }
   }
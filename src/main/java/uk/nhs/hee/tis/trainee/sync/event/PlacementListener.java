@@ -25,6 +25,7 @@ import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.PlacementSyncService;
 
 @Slf4j
@@ -33,12 +34,16 @@ public class PlacementListener {
 
   private final PlacementSyncService placementService;
 
-  PlacementListener(PlacementSyncService placementService) {
+  private final ClaimCheckService claimCheckService;
+
+  PlacementListener(PlacementSyncService placementService, ClaimCheckService claimCheckService) {
     this.placementService = placementService;
+    this.claimCheckService = claimCheckService;
   }
 
   @SqsListener("${application.aws.sqs.placement}")
   void getPlacement(Placement placement) {
+    placement = claimCheckService.resolve(placement);
     log.debug("Received placement {}.", placement);
     placementService.syncPlacement(placement);
   }
@@ -21,8 +21,6 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
-import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
-
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -89,12 +87,10 @@ public class PlacementSiteEventListener extends AbstractMongoEventListener<Place
     if (optionalPlacement.isPresent()) {
       log.debug("Placement {} found, queuing for re-sync.", placementId);
 
-      // Default the placement to LOOKUP.
-      Placement placement = optionalPlacement.get();
-      placement.setOperation(LOOKUP);
       String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("Placement", placement.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl, placement, deduplicationId);
+          .getLookupDeduplicationId("Placement", placementId, null);
+      fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl,
+          Placement.lookup(placementId), deduplicationId);
     } else {
       log.info("Placement {} not found, requesting data.", placementId);
       placementService.request(placementId);
@@ -136,12 +132,10 @@ public class PlacementSiteEventListener extends AbstractMongoEventListener<Place
       if (optionalPlacement.isPresent()) {
         log.debug("Placement {} found, queuing for re-sync.", placementId);
 
-        // Default the placement to LOOKUP.
-        Placement placement = optionalPlacement.get();
-        placement.setOperation(LOOKUP);
         String deduplicationId = fifoMessagingService
-            .getUniqueDeduplicationId("Placement", placement.getTisId());
-        fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl, placement, deduplicationId);
+            .getLookupDeduplicationId("Placement", placementId, null);
+        fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl,
+            Placement.lookup(placementId), deduplicationId);
       }
     }
   }
@@ -84,7 +84,7 @@ public class PlacementSpecialtyEventListener extends
         log.debug("Placement {} found, queuing for re-sync.", placement);
         placement.setOperation(LOOKUP);
         String deduplicationId = fifoMessagingService
-            .getUniqueDeduplicationId("Placement", placement.getTisId());
+            .getLookupDeduplicationId("Placement", placement.getTisId(), placementSpecialty);
         fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl, placement, deduplicationId);
       }
     }
@@ -129,7 +129,7 @@ public class PlacementSpecialtyEventListener extends
         log.debug("Placement {} found, queuing for re-sync.", placement);
         placement.setOperation(LOOKUP);
         String deduplicationId = fifoMessagingService
-            .getUniqueDeduplicationId("Placement", placement.getTisId());
+            .getLookupDeduplicationId("Placement", placement.getTisId(), null);
         fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl, placement, deduplicationId);
       }
     }
@@ -25,6 +25,7 @@ import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSpecialty;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.PlacementSpecialtySyncService;
 
 @Slf4j
@@ -33,12 +34,17 @@ public class PlacementSpecialtyListener {
 
   private final PlacementSpecialtySyncService placementSpecialtyService;
 
-  PlacementSpecialtyListener(PlacementSpecialtySyncService placementSpecialtyService) {
+  private final ClaimCheckService claimCheckService;
+
+  PlacementSpecialtyListener(PlacementSpecialtySyncService placementSpecialtyService,
+      ClaimCheckService claimCheckService) {
     this.placementSpecialtyService = placementSpecialtyService;
+    this.claimCheckService = claimCheckService;
   }
 
   @SqsListener("${application.aws.sqs.placement-specialty}")
   void getPlacementSpecialty(PlacementSpecialty placementSpecialty) {
+    placementSpecialty = claimCheckService.resolve(placementSpecialty);
     log.debug("Received placement specialty {}.", placementSpecialty);
     placementSpecialtyService.syncPlacementSpecialty(placementSpecialty);
   }
@@ -21,8 +21,6 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
-import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
-
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
@@ -55,14 +53,14 @@ public class PostEventListener extends AbstractMongoEventListener<Post> {
     super.onAfterSave(event);
 
     Post post = event.getSource();
-    Set<Placement> placements = placementService.findByPostId(post.getTisId());
+    Set<Placement> placements = placementService.findLookupsByPostId(post.getTisId());
 
-    for (Placement placement : placements) {
-      // Default each placement to LOOKUP.
-      placement.setOperation(LOOKUP);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("Placement", placement.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl, placement, deduplicationId);
+    if (placements.isEmpty()) {
+      return;
     }
+
+    fifoMessagingService.sendMessagesToFifoQueue(placementQueueUrl, placements,
+        placement -> fifoMessagingService.getLookupDeduplicationId("Placement",
+            placement.getTisId(), post));
   }
 }
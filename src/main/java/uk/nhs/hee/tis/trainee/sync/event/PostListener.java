@@ -25,6 +25,7 @@ import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Post;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.PostSyncService;
 
 @Slf4j
@@ -33,12 +34,16 @@ public class PostListener {
 
   private final PostSyncService postService;
 
-  PostListener(PostSyncService postService) {
+  private final ClaimCheckService claimCheckService;
+
+  PostListener(PostSyncService postService, ClaimCheckService claimCheckService) {
     this.postService = postService;
+    this.claimCheckService = claimCheckService;
   }
 
   @SqsListener("${application.aws.sqs.post}")
   void getPost(Post post) {
+    post = claimCheckService.resolve(post);
     log.debug("Received post {}.", post);
     postService.syncPost(post);
   }
@@ -101,7 +101,7 @@ public class PostSpecialtyEventListener extends AbstractMongoEventListener<PostS
       Post post = postOptional.get();
       post.setOperation(LOOKUP);
       String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("Post", post.getTisId());
+          .getLookupDeduplicationId("Post", post.getTisId(), postSpecialty);
       fifoMessagingService.sendMessageToFifoQueue(postQueueUrl, post, deduplicationId);
     } else {
       // Request the missing Post record.
@@ -159,7 +159,7 @@ public class PostSpecialtyEventListener extends AbstractMongoEventListener<PostS
         Post post = postOptional.get();
         post.setOperation(LOOKUP);
         String deduplicationId = fifoMessagingService
-            .getUniqueDeduplicationId("Post", post.getTisId());
+            .getLookupDeduplicationId("Post", post.getTisId(), null);
         fifoMessagingService.sendMessageToFifoQueue(postQueueUrl, post, deduplicationId);
       }
     }
@@ -25,6 +25,7 @@ import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.PostSpecialty;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.PostSpecialtySyncService;
 
 @Slf4j
@@ -33,12 +34,17 @@ public class PostSpecialtyListener {
 
   private final PostSpecialtySyncService postSpecialtyService;
 
-  PostSpecialtyListener(PostSpecialtySyncService postSpecialtyService) {
+  private final ClaimCheckService claimCheckService;
+
+  PostSpecialtyListener(PostSpecialtySyncService postSpecialtyService,
+      ClaimCheckService claimCheckService) {
     this.postSpecialtyService = postSpecialtyService;
+    this.claimCheckService = claimCheckService;
   }
 
   @SqsListener("${application.aws.sqs.post-specialty}")
   void getPostSpecialty(PostSpecialty postSpecialty) {
+    postSpecialty = claimCheckService.resolve(postSpecialty);
     log.debug("Received post specialty {}.", postSpecialty);
     postSpecialtyService.syncPostSpecialty(postSpecialty);
   }
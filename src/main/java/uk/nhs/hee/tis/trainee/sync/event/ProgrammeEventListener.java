@@ -66,13 +66,21 @@ public class ProgrammeEventListener extends AbstractMongoEventListener<Programme
     Set<ProgrammeMembership> programmeMemberships =
         programmeMembershipSyncService.findByProgrammeId(programme.getTisId());
 
-    for (Record programmeMembership : programmeMembershipMapper.toRecords(programmeMemberships)) {
+    if (programmeMemberships.isEmpty()) {
+      return;
+    }
+
+    Set<Record> programmeMembershipRecords = programmeMembershipMapper.toRecords(
+        programmeMemberships);
+
+    for (Record programmeMembership : programmeMembershipRecords) {
       // Default each message to LOOKUP.
       programmeMembership.setOperation(LOOKUP);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("ProgrammeMembership", programmeMembership.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(programmeMembershipQueueUrl, programmeMembership,
-          deduplicationId);
     }
+
+    fifoMessagingService.sendMessagesToFifoQueue(programmeMembershipQueueUrl,
+        programmeMembershipRecords,
+        programmeMembership -> fifoMessagingService.getLookupDeduplicationId(
+            "ProgrammeMembership", programmeMembership.getTisId(), programme));
   }
 }
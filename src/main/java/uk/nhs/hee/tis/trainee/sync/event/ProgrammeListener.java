@@ -25,6 +25,7 @@ import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Programme;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.ProgrammeSyncService;
 
 /**
@@ -36,12 +37,17 @@ public class ProgrammeListener {
 
   private final ProgrammeSyncService programmeSyncService;
 
-  ProgrammeListener(ProgrammeSyncService programmeSyncService) {
+  private final ClaimCheckService claimCheckService;
+
+  ProgrammeListener(ProgrammeSyncService programmeSyncService,
+      ClaimCheckService claimCheckService) {
     this.programmeSyncService = programmeSyncService;
+    this.claimCheckService = claimCheckService;
   }
 
   @SqsListener("${application.aws.sqs.programme}")
   void getProgramme(Programme programme) {
+    programme = claimCheckService.resolve(programme);
     log.debug("Received programme {}.", programme);
     programmeSyncService.syncRecord(programme);
   }
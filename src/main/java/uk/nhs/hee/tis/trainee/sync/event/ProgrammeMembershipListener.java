@@ -25,6 +25,7 @@ import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.ProgrammeMembershipSyncService;
 
 /**
@@ -36,8 +37,12 @@ public class ProgrammeMembershipListener {
 
   private final ProgrammeMembershipSyncService programmeMembershipService;
 
-  ProgrammeMembershipListener(ProgrammeMembershipSyncService programmeMembershipService) {
+  private final ClaimCheckService claimCheckService;
+
+  ProgrammeMembershipListener(ProgrammeMembershipSyncService programmeMembershipService,
+      ClaimCheckService claimCheckService) {
     this.programmeMembershipService = programmeMembershipService;
+    this.claimCheckService = claimCheckService;
   }
 
   /**
@@ -47,6 +52,7 @@ public class ProgrammeMembershipListener {
    */
   @SqsListener("${application.aws.sqs.programme-membership}")
   void getProgrammeMembership(Record programmeMembership) {
+    programmeMembership = claimCheckService.resolve(programmeMembership);
     log.debug("Received programme membership {}.", programmeMembership);
     programmeMembershipService.syncProgrammeMembership(programmeMembership);
   }
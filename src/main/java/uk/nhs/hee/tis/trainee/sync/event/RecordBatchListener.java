@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.sync.mapper.RecordReader;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.service.RecordService;
+
+/**
+ * A listener for records, all messages received in a single poll are processed as a batch.
+ *
+ * @see RecordListener
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.record-batch.enabled", havingValue = "true")
+public class RecordBatchListener {
+
+  private final RecordService recordService;
+
+  private final RecordReader recordReader;
+
+  RecordBatchListener(RecordService recordService, RecordReader recordReader) {
+    this.recordService = recordService;
+    this.recordReader = recordReader;
+  }
+
+  @SqsListener(value = "${application.aws.sqs.record}",
+      maxMessagesPerPoll = "${application.record-batch.max-messages-per-poll}")
+  void getRecords(List<String> payloads) throws JsonProcessingException {
+    log.debug("Received batch of {} records.", payloads.size());
+    List<Record> records = new ArrayList<>(payloads.size());
+
+    for (String payload : payloads) {
+      records.add(recordReader.read(payload));
+    }
+
+    recordService.processRecords(records);
+  }
+}
@@ -21,29 +21,39 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.awspring.cloud.sqs.annotation.SqsListener;
-import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.annotation.Validated;
-import uk.nhs.hee.tis.trainee.sync.dto.RecordDto;
+import uk.nhs.hee.tis.trainee.sync.mapper.RecordReader;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.service.RecordService;
 
+/**
+ * A listener for records, each message is processed individually.
+ *
+ * @see RecordBatchListener
+ */
 @Slf4j
 @Component
-@Validated
+@ConditionalOnProperty(name = "application.record-batch.enabled", havingValue = "false",
+    matchIfMissing = true)
 public class RecordListener {
 
   private final RecordService recordService;
 
-  RecordListener(RecordService recordService) {
+  private final RecordReader recordReader;
+
+  RecordListener(RecordService recordService, RecordReader recordReader) {
     this.recordService = recordService;
+    this.recordReader = recordReader;
   }
 
-  @Validated
   @SqsListener("${application.aws.sqs.record}")
-  void getRecord(@Valid RecordDto recordDto) {
-    log.debug("Received record {}.", recordDto);
-    recordService.processRecord(recordDto);
+  void getRecord(String payload) throws JsonProcessingException {
+    Record recrd = recordReader.read(payload);
+    log.debug("Received record {}.", recrd);
+    recordService.processRecord(recrd);
   }
 }
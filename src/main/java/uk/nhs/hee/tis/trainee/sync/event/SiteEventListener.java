@@ -21,8 +21,6 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
-import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
-
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -62,33 +60,51 @@ public class SiteEventListener extends AbstractMongoEventListener<Site> {
   public void onAfterSave(AfterSaveEvent<Site> event) {
     super.onAfterSave(event);
 
-    String siteId = event.getSource().getTisId();
+    Site site = event.getSource();
+    String siteId = site.getTisId();
+    Set<Placement> placements = findLookupsBySiteId(siteId);
+
+    if (placements.isEmpty()) {
+      return;
+    }
+
+    for (Placement placement : placements) {
+      log.debug("Placement {} found, queuing for re-sync.", placement.getTisId());
+    }
+
+    fifoMessagingService.sendMessagesToFifoQueue(placementQueueUrl, placements,
+        placement -> fifoMessagingService.getLookupDeduplicationId("Placement",
+            placement.getTisId(), site));
+  }
+
+  /**
+   * Find LOOKUPs for all placements using the site, as either the main site or an other site.
+   * Placements referenced by other sites which have not been synced are requested.
+   *
+   * @param siteId The ID of the site.
+   * @return The placement LOOKUPs.
+   */
+  private Set<Placement> findLookupsBySiteId(String siteId) {
     Set<PlacementSite> otherSites = placementSiteService.findOtherSitesBySiteId(
         Long.parseLong(siteId));
 
     Set<Placement> placements = new HashSet<>();
+    Set<String> missingPlacementIds = new HashSet<>();
 
     for (PlacementSite otherSite : otherSites) {
       String placementId = otherSite.getPlacementId().toString();
       Optional<Placement> placement = placementService.findById(placementId);
 
       if (placement.isPresent()) {
-        placements.add(placement.get());
+        placements.add(Placement.lookup(placementId));
       } else {
         log.info("Placement {} not found, requesting data.", placementId);
-        placementService.request(placementId);
+        missingPlacementIds.add(placementId);
       }
     }
 
-    placements.addAll(placementService.findBySiteId(siteId));
-
-    for (Placement placement : placements) {
-      log.debug("Placement {} found, queuing for re-sync.", placement.getTisId());
-      // Default each placement to LOOKUP.
-      placement.setOperation(LOOKUP);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("Placement", placement.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(placementQueueUrl, placement, deduplicationId);
-    }
+    placementService.requestAll(missingPlacementIds);
+    placements.addAll(placementService.findLookupsBySiteId(siteId));
+    return placements;
   }
 }
@@ -32,6 +32,7 @@ import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Operation;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSpecialty;
 import uk.nhs.hee.tis.trainee.sync.model.PostSpecialty;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.model.Specialty;
 import uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService;
 import uk.nhs.hee.tis.trainee.sync.service.PlacementSpecialtySyncService;
@@ -66,8 +67,8 @@ public class SpecialtyEventListener extends AbstractMongoEventListener<Specialty
     super.onAfterSave(event);
 
     Specialty specialty = event.getSource();
-    sendPlacementSpecialtyMessages(specialty.getTisId(), LOOKUP);
-    sendPostSubSpecialtyMessages(specialty.getTisId(), LOOKUP);
+    sendPlacementSpecialtyMessages(specialty.getTisId(), LOOKUP, specialty);
+    sendPostSubSpecialtyMessages(specialty.getTisId(), LOOKUP, specialty);
   }
 
   @Override
@@ -75,8 +76,8 @@ public class SpecialtyEventListener extends AbstractMongoEventListener<Specialty
     super.onAfterDelete(event);
 
     String specialtyId = event.getSource().getString("_id");
-    sendPlacementSpecialtyMessages(specialtyId, Operation.DELETE);
-    sendPostSubSpecialtyMessages(specialtyId, Operation.DELETE);
+    sendPlacementSpecialtyMessages(specialtyId, Operation.DELETE, null);
+    sendPostSubSpecialtyMessages(specialtyId, Operation.DELETE, null);
   }
 
   /**
@@ -84,19 +85,26 @@ public class SpecialtyEventListener extends AbstractMongoEventListener<Specialty
    *
    * @param specialtyId The ID of the specialty to get associated placement specialties for.
    * @param operation   The operation to set on the message, e.g. DELETE.
+   * @param source      The record whose change triggered the messages, null if the change is not
+   *                    versioned.
    */
-  private void sendPlacementSpecialtyMessages(String specialtyId, Operation operation) {
+  private void sendPlacementSpecialtyMessages(String specialtyId, Operation operation,
+      Record source) {
     Set<PlacementSpecialty> placementSpecialties = placementSpecialtyService
         .findBySpecialtyId(specialtyId);
 
+    if (placementSpecialties.isEmpty()) {
+      return;
+    }
+
     for (PlacementSpecialty placementSpecialty : placementSpecialties) {
       // Default each placement specialty's operation.
       placementSpecialty.setOperation(operation);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("PlacementSpecialty", placementSpecialty.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(placementSpecialtyQueueUrl, placementSpecialty,
-          deduplicationId);
     }
+
+    fifoMessagingService.sendMessagesToFifoQueue(placementSpecialtyQueueUrl, placementSpecialties,
+        placementSpecialty -> fifoMessagingService.getLookupDeduplicationId("PlacementSpecialty",
+            placementSpecialty.getTisId(), source));
   }
 
   /**
@@ -104,18 +112,25 @@ public class SpecialtyEventListener extends AbstractMongoEventListener<Specialty
    *
    * @param specialtyId The ID of the specialty to get associated post sub-specialties for.
    * @param operation   The operation to set on the message, e.g. DELETE.
+   * @param source      The record whose change triggered the messages, null if the change is not
+   *                    versioned.
    */
-  private void sendPostSubSpecialtyMessages(String specialtyId, Operation operation) {
+  private void sendPostSubSpecialtyMessages(String specialtyId, Operation operation,
+      Record source) {
     Set<PostSpecialty> postSpecialties = postSpecialtyService
         .findBySpecialtyId(specialtyId);
 
+    if (postSpecialties.isEmpty()) {
+      return;
+    }
+
     for (PostSpecialty postSpecialty : postSpecialties) {
       // Default each post specialty's operation.
       postSpecialty.setOperation(operation);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("PostSpecialty", postSpecialty.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(postSpecialtyQueueUrl, postSpecialty,
-          deduplicationId);
     }
+
+    fifoMessagingService.sendMessagesToFifoQueue(postSpecialtyQueueUrl, postSpecialties,
+        postSpecialty -> fifoMessagingService.getLookupDeduplicationId("PostSpecialty",
+            postSpecialty.getTisId(), source));
   }
 }
@@ -32,6 +32,7 @@ import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.sync.model.Operation;
 import uk.nhs.hee.tis.trainee.sync.model.Post;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.model.Trust;
 import uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService;
 import uk.nhs.hee.tis.trainee.sync.service.PostSyncService;
@@ -58,7 +59,7 @@ public class TrustEventListener extends AbstractMongoEventListener<Trust> {
     super.onAfterSave(event);
 
     Trust trust = event.getSource();
-    sendPostMessages(trust.getTisId(), LOOKUP);
+    sendPostMessages(trust.getTisId(), LOOKUP, trust);
   }
 
   @Override
@@ -66,7 +67,7 @@ public class TrustEventListener extends AbstractMongoEventListener<Trust> {
     super.onAfterDelete(event);
 
     String trustId = event.getSource().getString("_id");
-    sendPostMessages(trustId, Operation.DELETE);
+    sendPostMessages(trustId, Operation.DELETE, null);
   }
 
   /**
@@ -74,18 +75,25 @@ public class TrustEventListener extends AbstractMongoEventListener<Trust> {
    *
    * @param trustId   The ID of the trust to get associated posts for.
    * @param operation The operation to set on the message, e.g. DELETE.
+   * @param source    The record whose change triggered the messages, null if the change is not
+   *                  versioned.
    */
-  private void sendPostMessages(String trustId, Operation operation) {
+  private void sendPostMessages(String trustId, Operation operation, Record source) {
     Set<Post> posts = new HashSet<>();
     posts.addAll(postService.findByEmployingBodyId(trustId));
     posts.addAll(postService.findByTrainingBodyId(trustId));
 
+    if (posts.isEmpty()) {
+      return;
+    }
+
     for (Post post : posts) {
       // Default each post's operation.
       post.setOperation(operation);
-      String deduplicationId = fifoMessagingService
-          .getUniqueDeduplicationId("Post", post.getTisId());
-      fifoMessagingService.sendMessageToFifoQueue(postQueueUrl, post, deduplicationId);
     }
+
+    fifoMessagingService.sendMessagesToFifoQueue(postQueueUrl, posts,
+        post -> fifoMessagingService.getLookupDeduplicationId("Post", post.getTisId(),
+            source));
   }
 }
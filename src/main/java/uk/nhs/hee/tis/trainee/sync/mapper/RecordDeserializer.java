@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.mapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import uk.nhs.hee.tis.trainee.sync.mapper.util.RecordUtil;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+import uk.nhs.hee.tis.trainee.sync.service.RecordDispatchRegistry;
+import uk.nhs.hee.tis.trainee.sync.service.RecordDispatchRegistry.Dispatch;
+
+/**
+ * A deserializer which reads a record message straight in to the Record subtype for its table.
+ *
+ * <p>When the metadata precedes the data, the data is streamed directly in to the created record,
+ * otherwise the data map is read first and handed to the record once the metadata is available.
+ * The data of records for unsupported tables is skipped, as those records are dropped unprocessed.
+ */
+public class RecordDeserializer extends StdDeserializer<Record> {
+
+  private static final String DATA_FIELD = "data";
+  private static final String METADATA_FIELD = "metadata";
+
+  private static final String ID_FIELD = "id";
+  private static final String UUID_FIELD = "uuid";
+
+  private static final String SCHEMA_FIELD = "schema-name";
+  private static final String TABLE_FIELD = "table-name";
+  private static final String TIS_TRIGGER_FIELD = "tis-trigger";
+  private static final String TIS_TRIGGER_DETAIL_FIELD = "tis-trigger-detail";
+
+  private final transient RecordDispatchRegistry dispatchRegistry;
+
+  private final transient RecordUtil recordUtil;
+
+  /**
+   * Create a record deserializer.
+   *
+   * @param dispatchRegistry The registry to get Record subtypes from.
+   * @param recordUtil       The utility for extracting metadata values.
+   */
+  public RecordDeserializer(RecordDispatchRegistry dispatchRegistry, RecordUtil recordUtil) {
+    super(Record.class);
+    this.dispatchRegistry = dispatchRegistry;
+    this.recordUtil = recordUtil;
+  }
+
+  @Override
+  public Record deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.isExpectedStartObjectToken()) {
+      return (Record) ctxt.handleUnexpectedToken(Record.class, p);
+    }
+
+    Record recrd = null;
+    Map<String, String> data = null;
+    boolean unsupported = false;
+
+    for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+      p.nextToken();
+
+      switch (field) {
+        case DATA_FIELD -> {
+          if (unsupported) {
+            p.skipChildren();
+          } else {
+            data = readStringMap(p, ctxt, recrd == null ? new HashMap<>() : recrd.getData());
+          }
+        }
+        case METADATA_FIELD -> {
+          Map<String, String> metadata = readStringMap(p, ctxt, new HashMap<>());
+
+          if (metadata != null) {
+            Dispatch dispatch = dispatchRegistry.getDispatch(metadata.get(SCHEMA_FIELD),
+                metadata.get(TABLE_FIELD));
+            recrd = createRecord(metadata, dispatch);
+            unsupported = recrd.getType() == RecordType.DATA && !dispatch.supported();
+
+            if (data != null && !unsupported) {
+              recrd.setData(data);
+            }
+          }
+        }
+        default -> p.skipChildren();
+      }
+    }
+
+    if (recrd == null) {
+      return ctxt.reportInputMismatch(this, "Record metadata must not be null.");
+    }
+
+    Map<String, String> recordData = recrd.getData();
+    String tisId = recordData.get(ID_FIELD);
+    recrd.setTisId(tisId != null ? tisId : recordData.get(UUID_FIELD));
+
+    return recrd;
+  }
+
+  /**
+   * Create a Record of the appropriate subtype for the given metadata.
+   *
+   * @param metadata The metadata of the record.
+   * @param dispatch The dispatch details for the record's schema and table.
+   * @return The created Record, will be created as a Record subtype if available.
+   */
+  private Record createRecord(Map<String, String> metadata, Dispatch dispatch) {
+    Supplier<Record> recordFactory = dispatch.recordFactory();
+    Record recrd = recordFactory == null ? new Record() : recordFactory.get();
+
+    recrd.setMetadata(metadata);
+    recrd.setOperation(recordUtil.operation(metadata));
+    recrd.setType(recordUtil.recordType(metadata));
+    recrd.setSchema(dispatch.schema());
+    recrd.setTable(dispatch.table());
+    recrd.setTisTrigger(metadata.get(TIS_TRIGGER_FIELD));
+    recrd.setTisTriggerDetail(metadata.get(TIS_TRIGGER_DETAIL_FIELD));
+    return recrd;
+  }
+
+  /**
+   * Read a JSON object of scalar values in to the given map, values are kept as their text form.
+   *
+   * @param p      The parser, positioned at the start of the object.
+   * @param ctxt   The deserialization context.
+   * @param target The map to populate.
+   * @return The populated map, or null if the JSON value was null.
+   * @throws IOException If the object could not be read.
+   */
+  private Map<String, String> readStringMap(JsonParser p, DeserializationContext ctxt,
+      Map<String, String> target) throws IOException {
+    if (p.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (p.currentToken() != JsonToken.START_OBJECT) {
+      ctxt.reportWrongTokenException(this, JsonToken.START_OBJECT, "Expected a JSON object.");
+    }
+
+    for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+      JsonToken token = p.nextToken();
+
+      if (token == JsonToken.VALUE_NULL) {
+        target.put(key, null);
+      } else if (token.isScalarValue()) {
+        target.put(key, p.getText());
+      } else {
+        ctxt.reportWrongTokenException(this, JsonToken.VALUE_STRING,
+            "Expected a scalar value for '%s'.", key);
+      }
+    }
+
+    return target;
+  }
+}
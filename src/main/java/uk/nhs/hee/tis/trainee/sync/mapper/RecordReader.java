@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.sync.mapper.util.RecordUtil;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.service.RecordDispatchRegistry;
+
+/**
+ * A reader for converting record message payloads to Records.
+ *
+ * <p>The {@link RecordDeserializer} is only registered with this reader, Records sent between the
+ * application's own queues continue to use the default serialization.
+ */
+@Component
+public class RecordReader {
+
+  private final ObjectReader reader;
+
+  RecordReader(ObjectMapper objectMapper, RecordDispatchRegistry dispatchRegistry,
+      RecordUtil recordUtil) {
+    SimpleModule module = new SimpleModule();
+    module.addDeserializer(Record.class, new RecordDeserializer(dispatchRegistry, recordUtil));
+    reader = objectMapper.copy().registerModule(module).readerFor(Record.class);
+  }
+
+  /**
+   * Read a record message payload.
+   *
+   * @param payload The JSON payload to read.
+   * @return The read Record, will be created as a Record subtype if available.
+   * @throws JsonProcessingException If the payload could not be read.
+   */
+  public Record read(String payload) throws JsonProcessingException {
+    return reader.readValue(payload);
+  }
+}
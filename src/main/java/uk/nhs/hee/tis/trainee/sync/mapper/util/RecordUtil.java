@@ -21,39 +21,19 @@
 
 package uk.nhs.hee.tis.trainee.sync.mapper.util;
 
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
 import java.util.Arrays;
 import java.util.Map;
-import org.mapstruct.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RecordUtil {
 
-  @Qualifier
-  @Target(ElementType.METHOD)
-  @Retention(RetentionPolicy.SOURCE)
-  public @interface Operation {
-
-  }
-
-  @Qualifier
-  @Target(ElementType.METHOD)
-  @Retention(RetentionPolicy.SOURCE)
-  public @interface RecordType {
-
-  }
-
   /**
    * Finds the model Operator enum value from the metadata.
    *
    * @param metadata the metadata map
    * @return the model Operator value
    */
-  @Operation
   public uk.nhs.hee.tis.trainee.sync.model.Operation operation(Map<String, String> metadata) {
     String operationString = metadata.get("operation");
     var operation = uk.nhs.hee.tis.trainee.sync.model.Operation.fromString(operationString);
@@ -72,7 +52,6 @@ public class RecordUtil {
    * @param metadata the metadata map
    * @return the RecordType value
    */
-  @RecordType
   public uk.nhs.hee.tis.trainee.sync.model.RecordType recordType(Map<String, String> metadata) {
     String recordType = metadata.get("record-type");
     return Arrays.stream(uk.nhs.hee.tis.trainee.sync.model.RecordType.values())
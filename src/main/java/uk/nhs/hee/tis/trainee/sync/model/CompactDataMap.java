@@ -0,0 +1,429 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compact map for record data, the keys are interned in a dictionary shared by all maps for the
+ * same record type, or the same table for generic records, and the values are held in a flat
+ * array indexed by the key's dictionary position.
+ *
+ * <p>The map follows the general {@link Map} contract, null values are supported but null keys
+ * are not. Instances are not thread-safe.
+ */
+public class CompactDataMap extends AbstractMap<String, String> {
+
+  private static final Object NULL_VALUE = new Object();
+
+  private static final Object[] EMPTY_VALUES = new Object[0];
+
+  private static final ClassValue<KeyDictionary> DICTIONARIES = new ClassValue<>() {
+    @Override
+    protected KeyDictionary computeValue(Class<?> type) {
+      return new KeyDictionary();
+    }
+  };
+
+  private static final Map<String, KeyDictionary> TABLE_DICTIONARIES = new ConcurrentHashMap<>();
+
+  private final KeyDictionary dictionary;
+
+  private Object[] values = EMPTY_VALUES;
+
+  private int size;
+
+  private int modCount;
+
+  private transient Set<Entry<String, String>> entrySet;
+
+  /**
+   * Create an empty map using the dictionary for generic records.
+   */
+  public CompactDataMap() {
+    this(Record.class);
+  }
+
+  /**
+   * Create an empty map using the dictionary for the given record type.
+   *
+   * @param recordType The record type to share a key dictionary with.
+   */
+  public CompactDataMap(Class<?> recordType) {
+    dictionary = DICTIONARIES.get(recordType);
+  }
+
+  /**
+   * Create an empty map using the dictionary for the given table, generic records cover many
+   * tables so their keys are best shared per table rather than per record type.
+   *
+   * @param table The table to share a key dictionary with.
+   */
+  public CompactDataMap(String table) {
+    dictionary = TABLE_DICTIONARIES.computeIfAbsent(table, t -> new KeyDictionary());
+  }
+
+  /**
+   * Create a map for the given record type containing the given entries.
+   *
+   * @param recordType The record type to share a key dictionary with.
+   * @param source     The entries to copy in to the new map.
+   */
+  public CompactDataMap(Class<?> recordType, Map<String, String> source) {
+    this(recordType);
+    putAll(source);
+  }
+
+  /**
+   * Create a map for the given table containing the given entries.
+   *
+   * @param table  The table to share a key dictionary with.
+   * @param source The entries to copy in to the new map.
+   */
+  public CompactDataMap(String table, Map<String, String> source) {
+    this(table);
+    putAll(source);
+  }
+
+  /**
+   * Whether this map shares the key dictionary of the given record type.
+   *
+   * @param recordType The record type to check.
+   * @return true if the dictionary is shared, else false.
+   */
+  boolean usesDictionaryOf(Class<?> recordType) {
+    return dictionary == DICTIONARIES.get(recordType);
+  }
+
+  /**
+   * Whether this map shares the key dictionary of the given table.
+   *
+   * @param table The table to check.
+   * @return true if the dictionary is shared, else false.
+   */
+  boolean usesDictionaryOf(String table) {
+    return dictionary == TABLE_DICTIONARIES.get(table);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return slot(key) != null;
+  }
+
+  @Override
+  public String get(Object key) {
+    return unmask(slot(key));
+  }
+
+  @Override
+  public String put(String key, String value) {
+    Objects.requireNonNull(key, "Record data keys must not be null.");
+    int index = dictionary.intern(key);
+
+    if (index >= values.length) {
+      values = Arrays.copyOf(values, index + 1);
+    }
+
+    Object previous = values[index];
+    values[index] = value == null ? NULL_VALUE : value;
+
+    if (previous == null) {
+      size++;
+      modCount++;
+    }
+
+    return unmask(previous);
+  }
+
+  @Override
+  public String remove(Object key) {
+    int index = key instanceof String stringKey ? dictionary.indexOf(stringKey) : -1;
+
+    if (index < 0 || index >= values.length || values[index] == null) {
+      return null;
+    }
+
+    return removeAt(index);
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(values, null);
+      size = 0;
+      modCount++;
+    }
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  /**
+   * Get the masked value slot for the given key.
+   *
+   * @param key The key to get the slot for.
+   * @return The masked value, or null if the key is not present.
+   */
+  private Object slot(Object key) {
+    if (!(key instanceof String stringKey)) {
+      return null;
+    }
+
+    int index = dictionary.indexOf(stringKey);
+    return index >= 0 && index < values.length ? values[index] : null;
+  }
+
+  /**
+   * Remove the value at the given index.
+   *
+   * @param index The index of the value to remove.
+   * @return The removed value.
+   */
+  private String removeAt(int index) {
+    Object previous = values[index];
+    values[index] = null;
+    size--;
+    modCount++;
+    return unmask(previous);
+  }
+
+  /**
+   * Convert a masked value slot back to the value it represents.
+   *
+   * @param masked The masked value.
+   * @return The unmasked value.
+   */
+  private static String unmask(Object masked) {
+    return masked == null || masked == NULL_VALUE ? null : (String) masked;
+  }
+
+  /**
+   * A set view of the map's entries.
+   */
+  private class EntrySet extends AbstractSet<Entry<String, String>> {
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public void clear() {
+      CompactDataMap.this.clear();
+    }
+
+    @Override
+    public Iterator<Entry<String, String>> iterator() {
+      return new EntryIterator();
+    }
+  }
+
+  /**
+   * An iterator over the map's entries, in key dictionary order.
+   */
+  private class EntryIterator implements Iterator<Entry<String, String>> {
+
+    private int next = advance(0);
+
+    private int current = -1;
+
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return next < values.length;
+    }
+
+    @Override
+    public Entry<String, String> next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      current = next;
+      next = advance(next + 1);
+      return new DataEntry(current);
+    }
+
+    @Override
+    public void remove() {
+      if (current < 0 || values[current] == null) {
+        throw new IllegalStateException();
+      }
+
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+
+      removeAt(current);
+      expectedModCount = modCount;
+    }
+
+    /**
+     * Find the index of the next present value, starting from the given index.
+     *
+     * @param from The index to start from.
+     * @return The index of the next present value, or the value array length if none remain.
+     */
+    private int advance(int from) {
+      int index = from;
+      while (index < values.length && values[index] == null) {
+        index++;
+      }
+      return index;
+    }
+  }
+
+  /**
+   * A map entry which writes through to the map's values.
+   */
+  private class DataEntry implements Entry<String, String> {
+
+    private final int index;
+
+    DataEntry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return dictionary.keyAt(index);
+    }
+
+    @Override
+    public String getValue() {
+      return unmask(values[index]);
+    }
+
+    @Override
+    public String setValue(String value) {
+      Object previous = values[index];
+      values[index] = value == null ? NULL_VALUE : value;
+      return unmask(previous);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Entry<?, ?> entry
+          && Objects.equals(getKey(), entry.getKey())
+          && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  /**
+   * A dictionary of data keys, each key is assigned a fixed index on first use. The dictionary is
+   * safe for concurrent use.
+   */
+  private static class KeyDictionary {
+
+    private final Map<String, Integer> indices = new ConcurrentHashMap<>();
+
+    private volatile String[] keys = new String[0];
+
+    /**
+     * Get the index of the given key.
+     *
+     * @param key The key to get the index of.
+     * @return The index of the key, or -1 if it has not been interned.
+     */
+    int indexOf(String key) {
+      Integer index = indices.get(key);
+      return index == null ? -1 : index;
+    }
+
+    /**
+     * Get the index of the given key, assigning a new index if it has not been seen before.
+     *
+     * @param key The key to intern.
+     * @return The index of the key.
+     */
+    int intern(String key) {
+      Integer index = indices.get(key);
+      return index != null ? index : add(key);
+    }
+
+    /**
+     * Get the key at the given index.
+     *
+     * @param index The index of the key.
+     * @return The key.
+     */
+    String keyAt(int index) {
+      return keys[index];
+    }
+
+    /**
+     * Add a new key to the dictionary, the key array is published before the index so that any
+     * thread which can see the index can also see the key.
+     *
+     * @param key The key to add.
+     * @return The index of the key.
+     */
+    private synchronized int add(String key) {
+      Integer existing = indices.get(key);
+
+      if (existing != null) {
+        return existing;
+      }
+
+      String[] current = keys;
+      String[] updated = Arrays.copyOf(current, current.length + 1);
+      updated[current.length] = key;
+      keys = updated;
+      indices.put(key, current.length);
+      return current.length;
+    }
+  }
+}
@@ -29,7 +29,7 @@ import org.springframework.data.annotation.Id;
  * An entity representation of a ConditionsOfJoining.
  */
 @Data
-public class ConditionsOfJoining {
+public class ConditionsOfJoining implements MessageGroupMember {
 
   public static final String ENTITY_NAME = "ConditionsOfJoining";
 
@@ -38,4 +38,10 @@ public class ConditionsOfJoining {
   private Instant signedAt;
   private String version;
   private Instant syncedAt;
+
+  @Override
+  public MessageGroup messageGroup() {
+    return new MessageGroup(ProgrammeMembership.SCHEMA_NAME, ProgrammeMembership.ENTITY_NAME,
+        programmeMembershipUuid);
+  }
 }
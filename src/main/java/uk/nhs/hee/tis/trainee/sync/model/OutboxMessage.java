@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.model;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+
+/**
+ * An outbound message held in the outbox until it has been dispatched to its SNS topic or SQS
+ * queue.
+ */
+@Data
+public class OutboxMessage {
+
+  @Id
+  private String id;
+
+  private Channel channel;
+  private String destination;
+  private String payload;
+  private String payloadType;
+  private String messageGroupId;
+  private String deduplicationId;
+  private Map<String, String> attributes;
+
+  private Instant created;
+  private int attempts;
+  private Instant nextAttempt;
+  private String claimToken;
+  private Instant parked;
+
+  /**
+   * The channels an outbox message can be dispatched through.
+   */
+  public enum Channel {
+    SNS, SQS
+  }
+}
@@ -22,6 +22,7 @@
 package uk.nhs.hee.tis.trainee.sync.model;
 
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
+import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
 
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -44,4 +45,18 @@ public class Placement extends Record {
     this.setSchema(SCHEMA_NAME);
     this.setTable(ENTITY_NAME);
   }
+
+  /**
+   * Create a placement LOOKUP carrying only the placement's identity, the placement is reloaded by
+   * ID when the LOOKUP is received so no data is needed.
+   *
+   * @param tisId The ID of the placement to look up.
+   * @return The placement LOOKUP.
+   */
+  public static Placement lookup(String tisId) {
+    Placement placement = new Placement();
+    placement.setTisId(tisId);
+    placement.setOperation(LOOKUP);
+    return placement;
+  }
 }
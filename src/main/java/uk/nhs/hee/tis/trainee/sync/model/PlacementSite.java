@@ -21,6 +21,7 @@
 
 package uk.nhs.hee.tis.trainee.sync.model;
 
+import java.util.Objects;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
 
@@ -28,7 +29,7 @@ import org.springframework.data.annotation.Id;
  * An entity representation of a TIS PlacementSite.
  */
 @Data
-public class PlacementSite {
+public class PlacementSite implements MessageGroupMember {
 
   public static final String ENTITY_NAME = "PlacementSite";
 
@@ -37,4 +38,10 @@ public class PlacementSite {
   private Long placementId;
   private Long siteId;
   private String placementSiteType;
+
+  @Override
+  public MessageGroup messageGroup() {
+    return new MessageGroup(Placement.SCHEMA_NAME, Placement.ENTITY_NAME,
+        Objects.toString(placementId, ""));
+  }
 }
@@ -23,6 +23,7 @@ package uk.nhs.hee.tis.trainee.sync.model;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
@@ -31,7 +32,7 @@ import org.springframework.data.annotation.Id;
  * A class for TIS Programme membership entities.
  */
 @Data
-public class ProgrammeMembership {
+public class ProgrammeMembership implements MessageGroupMember {
 
   public static final String ENTITY_NAME = "ProgrammeMembership";
   public static final String SCHEMA_NAME = "tcs";
@@ -50,4 +51,9 @@ public class ProgrammeMembership {
   private String leavingReason;
   /* legacy */ private String leavingDestination;
   private Instant amendedDate;
+
+  @Override
+  public MessageGroup messageGroup() {
+    return new MessageGroup(SCHEMA_NAME, ENTITY_NAME, Objects.toString(uuid, ""));
+  }
 }
@@ -24,6 +24,8 @@ package uk.nhs.hee.tis.trainee.sync.model;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Data;
+import org.springframework.data.annotation.AccessType;
+import org.springframework.data.annotation.AccessType.Type;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 
@@ -31,11 +33,15 @@ import org.springframework.data.annotation.Transient;
  * A generic TIS record class containing data and metadata to represent a database record event.
  */
 @Data
-public class Record {
+public class Record implements MessageGroupMember {
+
+  private static final String PROGRAMME_MEMBERSHIP_TABLE = "ProgrammeMembership";
 
   @Id
   private String tisId;
-  private Map<String, String> data = new HashMap<>();
+
+  @AccessType(Type.PROPERTY)
+  private Map<String, String> data = new CompactDataMap(getClass());
 
   @Transient
   private Map<String, String> metadata = new HashMap<>();
@@ -57,4 +63,77 @@ public class Record {
 
   @Transient
   private String tisTriggerDetail;
+
+  /**
+   * Set the record data, the data is stored in a {@link CompactDataMap} sharing its keys with
+   * other records of the same type, or of the same table for generic records.
+   *
+   * @param data The data to set.
+   */
+  public void setData(Map<String, String> data) {
+    if (data == null) {
+      this.data = null;
+    } else if (data instanceof CompactDataMap compactData && usesOwnDictionary(compactData)) {
+      this.data = compactData;
+    } else if (isTableKeyed()) {
+      this.data = new CompactDataMap(table, data);
+    } else {
+      this.data = new CompactDataMap(getClass(), data);
+    }
+  }
+
+  /**
+   * Set the record table, the data of a generic record is moved to the key dictionary of the
+   * table so that unrelated tables do not share one union of keys.
+   *
+   * @param table The table to set.
+   */
+  public void setTable(String table) {
+    this.table = table;
+
+    if (data != null) {
+      setData(data);
+    }
+  }
+
+  /**
+   * Whether the record data is keyed by the table, rather than by the record type.
+   *
+   * @return true if this is a generic record with a known table, else false.
+   */
+  private boolean isTableKeyed() {
+    return getClass() == Record.class && table != null;
+  }
+
+  /**
+   * Whether the given data uses the key dictionary appropriate for this record.
+   *
+   * @param compactData The data to check.
+   * @return true if the data's dictionary is the one this record would use, else false.
+   */
+  private boolean usesOwnDictionary(CompactDataMap compactData) {
+    return isTableKeyed() ? compactData.usesDictionaryOf(table)
+        : compactData.usesDictionaryOf(getClass());
+  }
+
+  /**
+   * Get the message group of the record, following the conventions on using the 'primary' object
+   * ID where possible. This assumes the record and its group will always have the same schema.
+   *
+   * @return The message group.
+   */
+  @Override
+  public MessageGroup messageGroup() {
+    return switch (table == null ? "" : table) {
+      case "ConditionsOfJoining", "CurriculumMembership" -> new MessageGroup(schema,
+          PROGRAMME_MEMBERSHIP_TABLE, data.get("programmeMembershipUuid"));
+      case "PlacementSite", "PlacementSpecialty" -> new MessageGroup(schema, "Placement",
+          data.get("placementId"));
+      case "PostSpecialty" -> new MessageGroup(schema, "Post", data.get("postId"));
+      case PROGRAMME_MEMBERSHIP_TABLE -> new MessageGroup(schema, PROGRAMME_MEMBERSHIP_TABLE,
+          data.get("uuid"));
+      case "Qualification" -> new MessageGroup(schema, "Person", data.get("personId"));
+      default -> new MessageGroup(schema, table, tisId);
+    };
+  }
 }
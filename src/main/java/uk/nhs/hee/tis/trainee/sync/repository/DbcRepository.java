@@ -26,6 +26,7 @@ import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -38,6 +39,8 @@ import uk.nhs.hee.tis.trainee.sync.model.Dbc;
 @Repository
 public interface DbcRepository extends MongoRepository<Dbc, String> {
 
+  String MISSING_BY_ABBR_CACHE = Dbc.ENTITY_NAME + "-missing-by-abbr";
+
   @Cacheable
   @Override
   Optional<Dbc> findById(String id);
@@ -52,15 +55,20 @@ public interface DbcRepository extends MongoRepository<Dbc, String> {
   Optional<Dbc> findByDbc(String dbc);
 
   /**
-   * Find a DBC with the given abbreviation.
+   * Find a DBC with the given abbreviation. Only a missing DBC is cached, until a DBC with the
+   * abbreviation is saved.
    *
    * @param abbr The designated body abbreviation to filter by.
    * @return The found DBC, or nothing if not found.
    */
+  @Cacheable(cacheNames = MISSING_BY_ABBR_CACHE, unless = "#result != null")
   @Query("{'data.abbr' : ?0}")
   Optional<Dbc> findByAbbr(String abbr);
 
-  @CachePut(key = "#entity.tisId")
+  @Caching(
+      put = @CachePut(key = "#entity.tisId"),
+      evict = @CacheEvict(cacheNames = MISSING_BY_ABBR_CACHE, key = "#entity.data['abbr']",
+          condition = "#entity.data['abbr'] != null"))
   @Override
   <T extends Dbc> T save(T entity);
 
@@ -26,6 +26,7 @@ import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -38,6 +39,8 @@ import uk.nhs.hee.tis.trainee.sync.model.LocalOffice;
 @Repository
 public interface LocalOfficeRepository extends MongoRepository<LocalOffice, String> {
 
+  String MISSING_BY_NAME_CACHE = LocalOffice.ENTITY_NAME + "-missing-by-name";
+
   @Cacheable
   @Override
   Optional<LocalOffice> findById(String id);
@@ -45,10 +48,21 @@ public interface LocalOfficeRepository extends MongoRepository<LocalOffice, Stri
   @Query("{ 'data.abbreviation' : ?0}")
   Optional<LocalOffice> findByAbbreviation(String abbreviation);
 
+  /**
+   * Find a local office with the given name. Only a missing local office is cached, until a local
+   * office with the name is saved.
+   *
+   * @param name The local office name to filter by.
+   * @return The found local office, or nothing if not found.
+   */
+  @Cacheable(cacheNames = MISSING_BY_NAME_CACHE, unless = "#result != null")
   @Query("{ 'data.name' : ?0}")
   Optional<LocalOffice> findByName(String name);
 
-  @CachePut(key = "#entity.tisId")
+  @Caching(
+      put = @CachePut(key = "#entity.tisId"),
+      evict = @CacheEvict(cacheNames = MISSING_BY_NAME_CACHE, key = "#entity.data['name']",
+          condition = "#entity.data['name'] != null"))
   @Override
   <T extends LocalOffice> T save(T entity);
 
@@ -56,4 +56,10 @@ public interface PlacementRepository extends MongoRepository<Placement, String>
 
   @Query("{ 'data.gradeId' : ?0}")
   Set<Placement> findByGradeId(String gradeId);
+
+  @Query(value = "{ 'data.postId' : ?0}", fields = "{ '_id' : 1 }")
+  Set<Placement> findIdentitiesByPostId(String postId);
+
+  @Query(value = "{ 'data.siteId' : ?0}", fields = "{ '_id' : 1 }")
+  Set<Placement> findIdentitiesBySiteId(String siteId);
 }
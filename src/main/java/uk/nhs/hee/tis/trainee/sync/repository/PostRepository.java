@@ -23,20 +23,28 @@ package uk.nhs.hee.tis.trainee.sync.repository;
 
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import uk.nhs.hee.tis.trainee.sync.model.Post;
 
+@CacheConfig(cacheNames = Post.ENTITY_NAME)
 @Repository
 public interface PostRepository extends MongoRepository<Post, String> {
 
+  @Cacheable
   @Override
   Optional<Post> findById(String id);
 
+  @CachePut(key = "#entity.tisId")
   @Override
   <T extends Post> T save(T entity);
 
+  @CacheEvict
   @Override
   void deleteById(String id);
 
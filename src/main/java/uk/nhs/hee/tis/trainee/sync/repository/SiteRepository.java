@@ -22,19 +22,27 @@
 package uk.nhs.hee.tis.trainee.sync.repository;
 
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 import uk.nhs.hee.tis.trainee.sync.model.Site;
 
+@CacheConfig(cacheNames = Site.ENTITY_NAME)
 @Repository
 public interface SiteRepository extends MongoRepository<Site, String> {
 
+  @Cacheable
   @Override
   Optional<Site> findById(String id);
 
+  @CachePut(key = "#entity.tisId")
   @Override
   <T extends Site> T save(T entity);
 
+  @CacheEvict
   @Override
   void deleteById(String id);
 }
@@ -0,0 +1,464 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOAD;
+import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.sync.mapper.ProgrammeMembershipMapper;
+import uk.nhs.hee.tis.trainee.sync.model.Grade;
+import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.model.Post;
+import uk.nhs.hee.tis.trainee.sync.model.Programme;
+import uk.nhs.hee.tis.trainee.sync.model.ProgrammeMembership;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+import uk.nhs.hee.tis.trainee.sync.model.Trust;
+
+/**
+ * A service for bulk loading full load records. Records are written directly to MongoDB, bypassing
+ * the per-entity event listeners, and the affected placements and programme memberships are
+ * re-enriched once when the load's control record is received.
+ *
+ * <p>The IDs claimed for enrichment are only released once every LOOKUP has been sent, so a
+ * redelivered control record resumes a completion which failed part way through. Load records
+ * handled after the control record, e.g. by another consumer, are tracked for the next completion,
+ * which is repeated once after the late record delay to pick them up.
+ */
+@Slf4j
+@Service
+public class BulkLoadService {
+
+  private static final String KEY_DELIMITER = "::";
+  private static final String KEY_PREFIX = "BulkLoad";
+  private static final String PROCESSING_SUFFIX = "processing";
+  private static final Duration PENDING_TTL = Duration.ofDays(1);
+  private static final int QUERY_CHUNK_SIZE = 1000;
+
+  /**
+   * The tables which can be bulk loaded, each is a plain record with no conditional sync logic.
+   */
+  private static final Map<String, BulkTable> SUPPORTED_TABLES = Map.of(
+      Grade.ENTITY_NAME, new BulkTable(Grade.SCHEMA_NAME, Grade.class),
+      Placement.ENTITY_NAME, new BulkTable(Placement.SCHEMA_NAME, Placement.class),
+      Post.ENTITY_NAME, new BulkTable(Post.SCHEMA_NAME, Post.class),
+      Programme.ENTITY_NAME, new BulkTable(Programme.SCHEMA_NAME, Programme.class),
+      Trust.ENTITY_NAME, new BulkTable(Trust.SCHEMA_NAME, Trust.class)
+  );
+
+  private final MongoTemplate mongoTemplate;
+
+  private final CacheManager cacheManager;
+
+  private final RequestCacheService requestCacheService;
+
+  private final FifoMessagingService fifoMessagingService;
+
+  private final ProgrammeMembershipMapper programmeMembershipMapper;
+
+  private final String placementQueueUrl;
+
+  private final String programmeMembershipQueueUrl;
+
+  private final boolean enabled;
+
+  private final Duration lateRecordDelay;
+
+  private final ScheduledExecutorService lateRecordExecutor;
+
+  private final RedisCommands<String, String> syncCommands;
+
+  @Value("${spring.data.redis.requests-cache.database}")
+  private Integer redisDb;
+
+  BulkLoadService(MongoTemplate mongoTemplate, CacheManager cacheManager,
+      RequestCacheService requestCacheService, FifoMessagingService fifoMessagingService,
+      ProgrammeMembershipMapper programmeMembershipMapper, RedisClient redisClient,
+      @Value("${application.aws.sqs.placement}") String placementQueueUrl,
+      @Value("${application.aws.sqs.programme-membership}") String programmeMembershipQueueUrl,
+      @Value("${application.bulk-load.enabled}") boolean enabled,
+      @Value("${application.bulk-load.late-record-delay}") Duration lateRecordDelay) {
+    this.mongoTemplate = mongoTemplate;
+    this.cacheManager = cacheManager;
+    this.requestCacheService = requestCacheService;
+    this.fifoMessagingService = fifoMessagingService;
+    this.programmeMembershipMapper = programmeMembershipMapper;
+    this.placementQueueUrl = placementQueueUrl;
+    this.programmeMembershipQueueUrl = programmeMembershipQueueUrl;
+    this.enabled = enabled;
+    this.lateRecordDelay = lateRecordDelay;
+
+    if (enabled && lateRecordDelay != null && lateRecordDelay.isPositive()) {
+      lateRecordExecutor = Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().daemon().name("bulk-load-late-records").factory());
+    } else {
+      lateRecordExecutor = null;
+    }
+
+    StatefulRedisConnection<String, String> connection = redisClient.connect();
+    syncCommands = connection.sync();
+  }
+
+  @PostConstruct
+  void setDb() {
+    syncCommands.select(redisDb);
+  }
+
+  /**
+   * Stop any scheduled completions, late records remain pending until the next completion.
+   */
+  @PreDestroy
+  void shutdown() {
+    if (lateRecordExecutor != null) {
+      lateRecordExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Whether the given record should be bulk loaded instead of being synced individually.
+   *
+   * @param recrd The record to check.
+   * @return true if bulk loading is enabled and the record is a supported load record.
+   */
+  public boolean isBulkLoad(Record recrd) {
+    return enabled
+        && recrd.getType() == RecordType.DATA
+        && recrd.getOperation() == LOAD
+        && isSupported(recrd.getSchema(), recrd.getTable())
+        && SUPPORTED_TABLES.get(recrd.getTable()).type() == recrd.getClass();
+  }
+
+  /**
+   * Bulk write the given load records, the IDs are retained until the load is completed.
+   *
+   * @param records The records to load, all records must be the same type.
+   */
+  public void load(List<Record> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+
+    Record first = records.get(0);
+    Class<? extends Record> type = first.getClass();
+    String table = first.getTable();
+
+    // Only the latest record for each ID is needed, which allows an unordered bulk write.
+    Map<String, Record> latestRecords = new LinkedHashMap<>();
+    for (Record recrd : records) {
+      if (recrd.getClass() != type) {
+        String message = String.format("Invalid record type '%s'.", recrd.getClass());
+        throw new IllegalArgumentException(message);
+      }
+      latestRecords.put(recrd.getTisId(), recrd);
+    }
+
+    List<ReplaceOneModel<Document>> writes = new ArrayList<>();
+    for (Record recrd : latestRecords.values()) {
+      Document document = new Document();
+      mongoTemplate.getConverter().write(recrd, document);
+      writes.add(new ReplaceOneModel<>(Filters.eq("_id", document.get("_id")), document,
+          new ReplaceOptions().upsert(true)));
+    }
+
+    log.debug("Bulk writing {} '{}' records.", writes.size(), table);
+    mongoTemplate.getCollection(mongoTemplate.getCollectionName(type))
+        .bulkWrite(writes, new BulkWriteOptions().ordered(false));
+
+    Cache cache = cacheManager.getCache(table);
+    String[] ids = latestRecords.keySet().toArray(String[]::new);
+
+    for (String id : ids) {
+      if (cache != null) {
+        cache.evict(id);
+      }
+      requestCacheService.deleteItemFromCache(table, id);
+    }
+
+    String pendingKey = getPendingKey(table);
+    syncCommands.sadd(pendingKey, ids);
+    syncCommands.expire(pendingKey, PENDING_TTL);
+  }
+
+  /**
+   * Complete the bulk load of the given table, the placements and programme memberships affected by
+   * the loaded records are queued for enrichment once each. The completion is repeated once after
+   * the late record delay, for any records of the load handled after its control record.
+   *
+   * @param schema The schema of the completed load.
+   * @param table  The table of the completed load.
+   */
+  public void complete(String schema, String table) {
+    if (!enabled || !isSupported(schema, table)) {
+      return;
+    }
+
+    enrichLoaded(schema, table);
+
+    if (lateRecordExecutor != null) {
+      lateRecordExecutor.schedule(() -> completeLateRecords(schema, table),
+          lateRecordDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Complete the records of a bulk load which were handled after its control record, a failure is
+   * logged as the IDs remain claimed for the next completion.
+   *
+   * @param schema The schema of the completed load.
+   * @param table  The table of the completed load.
+   */
+  void completeLateRecords(String schema, String table) {
+    try {
+      enrichLoaded(schema, table);
+    } catch (RuntimeException e) {
+      log.error("Unable to complete late '{}.{}' load records.", schema, table, e);
+    }
+  }
+
+  /**
+   * Queue the placements and programme memberships affected by the loaded records of a table for
+   * enrichment, the claimed IDs are only released once every LOOKUP has been sent.
+   *
+   * @param schema The schema of the load.
+   * @param table  The table of the load.
+   */
+  private void enrichLoaded(String schema, String table) {
+    String processingKey = getProcessingKey(table);
+    Set<String> ids = claimPendingIds(table, processingKey);
+
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    log.info("Completing bulk load of {} '{}.{}' records.", ids.size(), schema, table);
+
+    Set<String> placementIds = new LinkedHashSet<>();
+    Set<ProgrammeMembership> programmeMemberships = new HashSet<>();
+
+    switch (table) {
+      case Placement.ENTITY_NAME -> placementIds.addAll(ids);
+      case Post.ENTITY_NAME -> placementIds.addAll(findIds(Placement.class, ids, "data.postId"));
+      case Grade.ENTITY_NAME -> placementIds.addAll(findIds(Placement.class, ids, "data.gradeId"));
+      case Trust.ENTITY_NAME -> {
+        Set<String> postIds = findIds(Post.class, ids, "data.employingBodyId",
+            "data.trainingBodyId");
+        placementIds.addAll(findIds(Placement.class, postIds, "data.postId"));
+      }
+      case Programme.ENTITY_NAME -> programmeMemberships.addAll(findProgrammeMemberships(ids));
+      default -> log.warn("No enrichment defined for bulk loaded table '{}'.", table);
+    }
+
+    if (!placementIds.isEmpty()) {
+      List<Placement> placements = new ArrayList<>(placementIds.size());
+
+      for (String placementId : placementIds) {
+        Placement placement = new Placement();
+        placement.setTisId(placementId);
+        placement.setOperation(LOOKUP);
+        placements.add(placement);
+      }
+
+      fifoMessagingService.sendMessagesToFifoQueue(placementQueueUrl, placements,
+          placement -> fifoMessagingService.getLookupDeduplicationId(Placement.ENTITY_NAME,
+              placement.getTisId(), null));
+    }
+
+    if (!programmeMemberships.isEmpty()) {
+      Set<Record> programmeMembershipRecords = programmeMembershipMapper.toRecords(
+          programmeMemberships);
+
+      for (Record programmeMembership : programmeMembershipRecords) {
+        programmeMembership.setOperation(LOOKUP);
+      }
+
+      fifoMessagingService.sendMessagesToFifoQueue(programmeMembershipQueueUrl,
+          programmeMembershipRecords,
+          programmeMembership -> fifoMessagingService.getLookupDeduplicationId(
+              ProgrammeMembership.ENTITY_NAME, programmeMembership.getTisId(), null));
+    }
+
+    syncCommands.del(processingKey);
+    log.info("Queued {} placements and {} programme memberships for enrichment after '{}' load.",
+        placementIds.size(), programmeMemberships.size(), table);
+  }
+
+  /**
+   * Claim the pending IDs of a table so that records loaded from now on are tracked separately.
+   * IDs left claimed by an earlier completion which failed are claimed again, along with any IDs
+   * loaded since.
+   *
+   * @param table         The table to claim the pending IDs of.
+   * @param processingKey The key to hold the claimed IDs in.
+   * @return The claimed IDs, empty if there are none.
+   */
+  private Set<String> claimPendingIds(String table, String processingKey) {
+    String pendingKey = getPendingKey(table);
+
+    if (syncCommands.exists(pendingKey) > 0) {
+      if (syncCommands.exists(processingKey) == 0) {
+        syncCommands.rename(pendingKey, processingKey);
+      } else {
+        syncCommands.sunionstore(processingKey, processingKey, pendingKey);
+        syncCommands.del(pendingKey);
+        syncCommands.expire(processingKey, PENDING_TTL);
+      }
+    }
+
+    return syncCommands.smembers(processingKey);
+  }
+
+  /**
+   * Whether the given schema and table can be bulk loaded.
+   *
+   * @param schema The schema to check.
+   * @param table  The table to check.
+   * @return true if the table is supported, else false.
+   */
+  private boolean isSupported(String schema, String table) {
+    BulkTable bulkTable = table == null ? null : SUPPORTED_TABLES.get(table);
+    return bulkTable != null && Objects.equals(bulkTable.schema(), schema);
+  }
+
+  /**
+   * Find the IDs of the entities referencing any of the given IDs.
+   *
+   * @param type   The type of entity to find.
+   * @param ids    The IDs to match.
+   * @param fields The fields to match the IDs against, any field may match.
+   * @return The found entity IDs.
+   */
+  private Set<String> findIds(Class<? extends Record> type, Collection<String> ids,
+      String... fields) {
+    Set<String> foundIds = new LinkedHashSet<>();
+    String collectionName = mongoTemplate.getCollectionName(type);
+
+    for (List<String> chunk : chunk(ids)) {
+      Criteria[] criteria = Arrays.stream(fields)
+          .map(field -> Criteria.where(field).in(chunk))
+          .toArray(Criteria[]::new);
+      Query query = new Query(new Criteria().orOperator(criteria));
+      query.fields().include("_id");
+
+      mongoTemplate.find(query, Document.class, collectionName)
+          .forEach(document -> foundIds.add(document.get("_id").toString()));
+    }
+
+    return foundIds;
+  }
+
+  /**
+   * Find the programme memberships for any of the given programme IDs.
+   *
+   * @param programmeIds The programme IDs to match.
+   * @return The found programme memberships.
+   */
+  private Set<ProgrammeMembership> findProgrammeMemberships(Collection<String> programmeIds) {
+    Set<ProgrammeMembership> programmeMemberships = new HashSet<>();
+
+    for (List<String> chunk : chunk(programmeIds)) {
+      List<Long> longIds = chunk.stream().map(Long::parseLong).toList();
+      Query query = new Query(Criteria.where("programmeId").in(longIds));
+      programmeMemberships.addAll(mongoTemplate.find(query, ProgrammeMembership.class));
+    }
+
+    return programmeMemberships;
+  }
+
+  /**
+   * Split the given IDs in to chunks suitable for an {@code $in} query.
+   *
+   * @param ids The IDs to split.
+   * @return The chunked IDs.
+   */
+  private List<List<String>> chunk(Collection<String> ids) {
+    List<String> idList = new ArrayList<>(ids);
+    List<List<String>> chunks = new ArrayList<>();
+
+    for (int i = 0; i < idList.size(); i += QUERY_CHUNK_SIZE) {
+      chunks.add(idList.subList(i, Math.min(i + QUERY_CHUNK_SIZE, idList.size())));
+    }
+
+    return chunks;
+  }
+
+  /**
+   * Get the key for the set of record IDs pending load completion.
+   *
+   * @param table The table being loaded.
+   * @return The Redis key.
+   */
+  String getPendingKey(String table) {
+    return KEY_PREFIX + KEY_DELIMITER + table;
+  }
+
+  /**
+   * Get the key for the set of record IDs claimed for load completion.
+   *
+   * @param table The table being loaded.
+   * @return The Redis key.
+   */
+  String getProcessingKey(String table) {
+    return getPendingKey(table) + KEY_DELIMITER + PROCESSING_SUFFIX;
+  }
+
+  /**
+   * A table which supports bulk loading.
+   *
+   * @param schema The schema of the table.
+   * @param type   The record type of the table.
+   */
+  private record BulkTable(String schema, Class<? extends Record> type) {
+
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.sync.config.ClaimCheckProperties;
+import uk.nhs.hee.tis.trainee.sync.model.ClaimCheck;
+import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.model.Post;
+import uk.nhs.hee.tis.trainee.sync.model.PostSpecialty;
+import uk.nhs.hee.tis.trainee.sync.model.Programme;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+
+/**
+ * A service for replacing large FIFO payloads with a claim-check reference, and for resolving
+ * those references when the message is received.
+ *
+ * <p>Lookups of types which are always reloaded by ID on receipt carry only the record's ID, as
+ * the full record is already stored. Other large payloads are stored as a {@link ClaimCheck} and
+ * the message carries the claim-check ID.
+ */
+@Slf4j
+@Service
+public class ClaimCheckService {
+
+  public static final String CLAIM_CHECK_ID = "claimCheckId";
+
+  // types whose LOOKUP operations reload the record by ID and ignore the data sent
+  private static final Set<Class<? extends Record>> LOOKUP_BY_ID_TYPES = Set.of(Placement.class,
+      Post.class, PostSpecialty.class, Programme.class);
+
+  // an allowance for the JSON punctuation surrounding each data entry
+  private static final int ENTRY_OVERHEAD = 6;
+
+  private final MongoTemplate mongoTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final boolean enabled;
+
+  private final long threshold;
+
+  ClaimCheckService(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+      ClaimCheckProperties properties) {
+    this.mongoTemplate = mongoTemplate;
+    this.objectMapper = objectMapper;
+    this.enabled = properties.enabled();
+    this.threshold = properties.threshold().toBytes();
+  }
+
+  /**
+   * Check in a payload before it is sent, large records are replaced with a claim-check reference
+   * and all other payloads are returned unchanged.
+   *
+   * @param payload The payload to check in.
+   * @return The payload to send, either the original payload or a reference to it.
+   * @throws MessageConversionException If the payload could not be stored.
+   */
+  public Object checkIn(Object payload) {
+    if (!enabled || !(payload instanceof Record recrd) || estimateSize(recrd) <= threshold) {
+      return payload;
+    }
+
+    if (recrd.getOperation() == LOOKUP && LOOKUP_BY_ID_TYPES.contains(recrd.getClass())) {
+      log.debug("Sending {} {} lookup by ID.", recrd.getTable(), recrd.getTisId());
+      return createReference(recrd);
+    }
+
+    ClaimCheck claimCheck = new ClaimCheck();
+    claimCheck.setId(UUID.randomUUID().toString());
+    claimCheck.setPayloadType(recrd.getClass().getName());
+    claimCheck.setCreated(Instant.now());
+
+    try {
+      claimCheck.setPayload(objectMapper.writeValueAsString(recrd));
+    } catch (JsonProcessingException e) {
+      throw new MessageConversionException("Unable to serialize claim-check payload.", e);
+    }
+
+    mongoTemplate.insert(claimCheck);
+    log.debug("Stored {} {} as claim check {}.", recrd.getTable(), recrd.getTisId(),
+        claimCheck.getId());
+
+    Record reference = createReference(recrd);
+    reference.getMetadata().put(CLAIM_CHECK_ID, claimCheck.getId());
+    return reference;
+  }
+
+  /**
+   * Resolve a received record, claim-check references are replaced with the stored record and all
+   * other records are returned unchanged.
+   *
+   * @param recrd The received record.
+   * @param <T>   The type of the record.
+   * @return The resolved record.
+   * @throws MessageConversionException If the claim check is missing or could not be read.
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Record> T resolve(T recrd) {
+    Map<String, String> metadata = recrd.getMetadata();
+    String claimCheckId = metadata == null ? null : metadata.get(CLAIM_CHECK_ID);
+
+    if (claimCheckId == null) {
+      return recrd;
+    }
+
+    ClaimCheck claimCheck = mongoTemplate.findById(claimCheckId, ClaimCheck.class);
+
+    if (claimCheck == null) {
+      String message = String.format("Claim check %s not found for %s %s.", claimCheckId,
+          recrd.getTable(), recrd.getTisId());
+      throw new MessageConversionException(message);
+    }
+
+    log.debug("Resolved claim check {} for {} {}.", claimCheckId, recrd.getTable(),
+        recrd.getTisId());
+
+    try {
+      return (T) objectMapper.readValue(claimCheck.getPayload(), recrd.getClass());
+    } catch (JsonProcessingException e) {
+      throw new MessageConversionException("Unable to deserialize claim-check payload.", e);
+    }
+  }
+
+  /**
+   * Create a reference to a record, the reference is the same type as the record so that it can
+   * be received by the same listener. It identifies the record and operation and carries the
+   * record's metadata, including its version, but none of its data.
+   *
+   * @param recrd The record to reference.
+   * @return The reference.
+   */
+  private Record createReference(Record recrd) {
+    Record reference = BeanUtils.instantiateClass(recrd.getClass());
+    reference.setTisId(recrd.getTisId());
+    reference.setSchema(recrd.getSchema());
+    reference.setTable(recrd.getTable());
+    reference.setType(recrd.getType());
+    reference.setOperation(recrd.getOperation());
+    reference.setTisTrigger(recrd.getTisTrigger());
+    reference.setTisTriggerDetail(recrd.getTisTriggerDetail());
+
+    if (recrd.getMetadata() != null) {
+      reference.setMetadata(new HashMap<>(recrd.getMetadata()));
+    }
+    return reference;
+  }
+
+  /**
+   * Estimate the serialized size of a record from its data, avoiding a full serialization of
+   * records which will be sent inline.
+   *
+   * @param recrd The record to estimate the size of.
+   * @return The estimated size in bytes.
+   */
+  private long estimateSize(Record recrd) {
+    Map<String, String> data = recrd.getData();
+
+    if (data == null) {
+      return 0;
+    }
+
+    long size = 0;
+    for (Entry<String, String> entry : data.entrySet()) {
+      size += entry.getKey().length() + ENTRY_OVERHEAD;
+      size += entry.getValue() == null ? 0 : entry.getValue().length();
+    }
+    return size;
+  }
+}
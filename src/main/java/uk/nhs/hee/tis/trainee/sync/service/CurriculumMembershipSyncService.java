@@ -154,17 +154,22 @@ public class CurriculumMembershipSyncService implements SyncService {
    *                              Memberships for.
    */
   public void requestForProgrammeMembership(String programmeMembershipId) {
-    if (!requestCacheService.isItemInCache(CurriculumMembership.ENTITY_NAME,
+    if (requestCacheService.claimRequest(CurriculumMembership.ENTITY_NAME,
         programmeMembershipId)) {
       log.info("Sending request for CurriculumMemberships for Programme Membership [{}]",
           programmeMembershipId);
 
       try {
-        requestCacheService.addItemToCache(CurriculumMembership.ENTITY_NAME, programmeMembershipId,
-            dataRequestService.sendRequest(CurriculumMembership.ENTITY_NAME,
-                Map.of(PROGRAMME_MEMBERSHIP_UUID, programmeMembershipId)));
+        dataRequestService.sendRequest(CurriculumMembership.ENTITY_NAME,
+            Map.of(PROGRAMME_MEMBERSHIP_UUID, programmeMembershipId));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request CurriculumMemberships", e);
+        requestCacheService.deleteItemFromCache(CurriculumMembership.ENTITY_NAME,
+            programmeMembershipId);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(CurriculumMembership.ENTITY_NAME,
+            programmeMembershipId);
+        throw e;
       }
     } else {
       log.debug("Already requested CurriculumMemberships for Programme Membership [{}].",
@@ -82,14 +82,17 @@ public class CurriculumSyncService implements SyncService {
    * @param id The id of the curriculum to be retrieved.
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Curriculum.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(Curriculum.ENTITY_NAME, id)) {
       log.info("Sending request for Curriculum [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(Curriculum.ENTITY_NAME, id,
-            dataRequestService.sendRequest(Curriculum.ENTITY_NAME, Map.of("id", id)));
+        dataRequestService.sendRequest(Curriculum.ENTITY_NAME, Map.of("id", id));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a Curriculum", e);
+        requestCacheService.deleteItemFromCache(Curriculum.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(Curriculum.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested Curriculum [{}].", id);
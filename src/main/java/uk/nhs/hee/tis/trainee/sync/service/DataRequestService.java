@@ -25,14 +25,27 @@ import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_G
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.sync.service.MessagingMetrics.Outcome;
 
 @Slf4j
 @Service
@@ -40,40 +53,82 @@ public class DataRequestService {
 
   protected static final String DEFAULT_SCHEMA = "tcs";
 
+  // the maximum number of IDs to list in a single coalesced request
+  static final int MAX_COALESCED_IDS = 100;
+
   private SqsTemplate messagingTemplate;
 
   private ObjectMapper objectMapper;
 
   private String queueUrl;
 
+  private final RequestCacheService requestCacheService;
+
+  private final OutboxService outboxService;
+
+  private final MessagingMetrics messagingMetrics;
+
+  private final Duration coalesceWindow;
+
+  private final Map<RequestGroup, Set<String>> pendingRequests = new HashMap<>();
+
+  private final ScheduledExecutorService flushExecutor;
+
   /**
-   * A service that sends messages into a queue.
+   * A service that sends messages into a queue. When a coalesce window is given, single ID
+   * requests are buffered per schema and table for the duration of the window and sent as a single
+   * request listing all IDs.
    *
-   * @param messagingTemplate The messaging template to use.
-   * @param objectMapper      A tool to construct a Json string.
-   * @param queueUrl          The url of the queue.
+   * @param messagingTemplate   The messaging template to use.
+   * @param objectMapper        A tool to construct a Json string.
+   * @param queueUrl            The url of the queue.
+   * @param requestCacheService The cache of requested IDs, cleared for any failed requests.
+   * @param coalesceWindow      How long to buffer requests for, zero to send immediately.
+   * @param outboxService       The outbox to append requests to, when enabled.
+   * @param messagingMetrics    The metrics to record sent requests with.
    */
   public DataRequestService(SqsTemplate messagingTemplate, ObjectMapper objectMapper,
-      @Value("${application.aws.sqs.request}") String queueUrl) {
+      @Value("${application.aws.sqs.request}") String queueUrl,
+      RequestCacheService requestCacheService,
+      @Value("${application.data-request.coalesce-window}") Duration coalesceWindow,
+      OutboxService outboxService, MessagingMetrics messagingMetrics) {
     this.messagingTemplate = messagingTemplate;
     this.objectMapper = objectMapper;
     this.queueUrl = queueUrl;
+    this.requestCacheService = requestCacheService;
+    this.outboxService = outboxService;
+    this.messagingMetrics = messagingMetrics;
+    this.coalesceWindow = coalesceWindow;
+
+    if (isCoalescing()) {
+      flushExecutor = Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().daemon().name("data-request-flush").factory());
+    } else {
+      flushExecutor = null;
+    }
   }
 
   /**
    * Send a request about a specific entry using key-value pairs and the appropriate message group
-   * id to ensure the correct ordering of related requests.
+   * id to ensure the correct ordering of related requests. Single-entry requests are buffered and
+   * coalesced with other requests for the same table when a coalesce window is configured.
    *
    * @param schema    The schema to which the table belongs.
    * @param tableName The name of the table whose requested data belong to.
    * @param whereMap  The key-value map defining the requested table entry.
-   * @return the message that was sent
+   * @return the message that was sent, or the request that was buffered
    * @throws JsonProcessingException Exception thrown when error occurs.
    */
   public String sendRequest(String schema, String tableName, Map<String, String> whereMap)
       throws JsonProcessingException {
     String messageBody = makeJson(tableName, whereMap);
 
+    if (isCoalescing() && whereMap.size() == 1) {
+      Entry<String, String> where = whereMap.entrySet().iterator().next();
+      bufferRequest(new RequestGroup(schema, tableName, where.getKey()), where.getValue());
+      return messageBody;
+    }
+
     String tisId = whereMap.values().toArray()[0].toString();
     //note: ordering cannot be guaranteed, but only a single value map is ever provided except for
     //the exception PlacementSpecialty handled below.
@@ -83,16 +138,7 @@ public class DataRequestService {
       tableName = "Placement";
       tisId = whereMap.get("placementId");
     }
-    String messageGroupId = String.format("%s_%s_%s", schema, tableName, tisId);
-
-    log.info("Sending SQS message with body: [{}] and message group id '{}'", messageBody,
-        messageGroupId);
-
-    Message<String> message = MessageBuilder.withPayload(messageBody)
-        .setHeader(MESSAGE_GROUP_ID_HEADER, messageGroupId)
-        .build();
-
-    messagingTemplate.send(queueUrl, message);
+    send(messageBody, schema, tableName, tisId, false);
 
     return messageBody;
   }
@@ -111,6 +157,143 @@ public class DataRequestService {
     return sendRequest(DEFAULT_SCHEMA, tableName, whereMap);
   }
 
+  /**
+   * Send all buffered requests immediately.
+   */
+  void flush() {
+    List<RequestGroup> groups;
+
+    synchronized (pendingRequests) {
+      groups = new ArrayList<>(pendingRequests.keySet());
+    }
+
+    groups.forEach(this::flush);
+  }
+
+  /**
+   * Send any buffered requests and stop the scheduled flushes.
+   */
+  @PreDestroy
+  void shutdown() {
+    if (flushExecutor != null) {
+      flushExecutor.shutdownNow();
+    }
+
+    flush();
+  }
+
+  /**
+   * Add a requested ID to the buffer for its request group, the group is flushed once the
+   * coalesce window expires or the maximum number of IDs is reached. Each newly buffered ID is
+   * counted towards the fan-out of the current thread's incoming record, as the coalesced request
+   * is sent later and possibly on another thread.
+   *
+   * @param group The request group to buffer the ID in.
+   * @param id    The requested ID.
+   */
+  private void bufferRequest(RequestGroup group, String id) {
+    boolean added;
+    boolean full;
+
+    synchronized (pendingRequests) {
+      Set<String> ids = pendingRequests.get(group);
+
+      if (ids == null) {
+        ids = new LinkedHashSet<>();
+        pendingRequests.put(group, ids);
+        flushExecutor.schedule(() -> flush(group), coalesceWindow.toMillis(),
+            TimeUnit.MILLISECONDS);
+      }
+
+      added = ids.add(id);
+      full = ids.size() >= MAX_COALESCED_IDS;
+    }
+
+    if (added) {
+      messagingMetrics.recordQueued();
+    }
+
+    log.debug("Buffered request for {} [{}].", group.table(), id);
+
+    if (full) {
+      flush(group);
+    }
+  }
+
+  /**
+   * Send a single request for all buffered IDs in a request group. If the request fails the IDs
+   * are removed from the request cache, so they may be requested again.
+   *
+   * @param group The request group to flush.
+   */
+  private void flush(RequestGroup group) {
+    Set<String> ids;
+
+    synchronized (pendingRequests) {
+      ids = pendingRequests.remove(group);
+    }
+
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+
+    try {
+      String messageBody = makeJson(group.table(), group.key(), ids);
+      send(messageBody, group.schema(), group.table(), ids.iterator().next(), true);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.error("Failed to send coalesced request for {} IDs {}.", group.table(), ids, e);
+      ids.forEach(id -> requestCacheService.deleteItemFromCache(group.table(), id));
+    }
+  }
+
+  /**
+   * Send a request message with a message group id based on the given entity, when the outbox is
+   * enabled the message is appended to the outbox instead.
+   *
+   * @param messageBody The request message body.
+   * @param schema      The schema of the message group entity.
+   * @param tableName   The table of the message group entity.
+   * @param tisId       The ID of the message group entity.
+   * @param queued      Whether the request was queued, so already counted towards the fan-out.
+   */
+  private void send(String messageBody, String schema, String tableName, String tisId,
+      boolean queued) {
+    String messageGroupId = String.format("%s_%s_%s", schema, tableName, tisId);
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.FAILED;
+
+    try {
+      if (outboxService.isEnabled()) {
+        log.info("Appending SQS message to outbox with body: [{}] and message group id '{}'",
+            messageBody, messageGroupId);
+        outboxService.append(
+            outboxService.createQueueMessage(queueUrl, messageBody, messageGroupId, null));
+        outcome = Outcome.OUTBOXED;
+        return;
+      }
+
+      log.info("Sending SQS message with body: [{}] and message group id '{}'", messageBody,
+          messageGroupId);
+
+      Message<String> message = MessageBuilder.withPayload(messageBody)
+          .setHeader(MESSAGE_GROUP_ID_HEADER, messageGroupId)
+          .build();
+
+      messagingTemplate.send(queueUrl, message);
+      outcome = Outcome.SENT;
+    } finally {
+      long duration = System.nanoTime() - start;
+
+      if (queued) {
+        messagingMetrics.recordDeferredSent(MessagingMetrics.CHANNEL_SQS, queueUrl, tableName,
+            null, outcome, duration);
+      } else {
+        messagingMetrics.recordSent(MessagingMetrics.CHANNEL_SQS, queueUrl, tableName, null,
+            outcome, duration);
+      }
+    }
+  }
+
   /**
    * Return a string in Json format representing the request.
    *
@@ -126,4 +309,42 @@ public class DataRequestService {
     whereMap.forEach(rootNode::put);
     return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(rootNode);
   }
+
+  /**
+   * Return a string in Json format representing a request for one or more IDs. A single ID keeps
+   * the single entry request format, multiple IDs are given as an array.
+   *
+   * @param tableName The name of the table whose requested data belong to.
+   * @param key       The key the IDs are values of.
+   * @param ids       The requested IDs.
+   * @return A string in json format.
+   * @throws JsonProcessingException Exception thrown when error occurs.
+   */
+  private String makeJson(String tableName, String key, Set<String> ids)
+      throws JsonProcessingException {
+    if (ids.size() == 1) {
+      return makeJson(tableName, Map.of(key, ids.iterator().next()));
+    }
+
+    ObjectNode rootNode = objectMapper.createObjectNode();
+    rootNode.put("table", tableName);
+    ArrayNode idsNode = rootNode.putArray(key);
+    ids.forEach(idsNode::add);
+    return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(rootNode);
+  }
+
+  private boolean isCoalescing() {
+    return coalesceWindow != null && coalesceWindow.isPositive();
+  }
+
+  /**
+   * A group of requests which can be coalesced in to a single request.
+   *
+   * @param schema The schema to which the table belongs.
+   * @param table  The name of the requested table.
+   * @param key    The key used to identify the requested entries.
+   */
+  private record RequestGroup(String schema, String table, String key) {
+
+  }
 }
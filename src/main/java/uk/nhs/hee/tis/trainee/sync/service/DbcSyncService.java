@@ -145,14 +145,17 @@ public class DbcSyncService implements SyncService {
    * @param value The field value of the Dbc to be retrieved.
    */
   private void request(String key, String value) {
-    if (!requestCacheService.isItemInCache(ENTITY_NAME, value)) {
+    if (requestCacheService.claimRequest(ENTITY_NAME, value)) {
       log.info("Sending request for DBC [{}]", value);
 
       try {
-        requestCacheService.addItemToCache(ENTITY_NAME, value,
-            dataRequestService.sendRequest("reference", ENTITY_NAME, Map.of(key, value)));
+        dataRequestService.sendRequest("reference", ENTITY_NAME, Map.of(key, value));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to retrieve a DBC", e);
+        requestCacheService.deleteItemFromCache(ENTITY_NAME, value);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(ENTITY_NAME, value);
+        throw e;
       }
     } else {
       log.debug("Already requested DBC [{}].", value);
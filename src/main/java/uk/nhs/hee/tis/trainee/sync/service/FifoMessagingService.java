@@ -21,17 +21,30 @@
 
 package uk.nhs.hee.tis.trainee.sync.service;
 
+import io.awspring.cloud.sqs.operations.SendBatchOperationFailedException;
+import io.awspring.cloud.sqs.operations.SendResult;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
-import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.util.Pair;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.sync.model.MessageGroup;
+import uk.nhs.hee.tis.trainee.sync.model.MessageGroupMember;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+import uk.nhs.hee.tis.trainee.sync.service.MessagingMetrics.Outcome;
 
 /**
  * A service for sending messages to a FIFO queue with appropriate message group ids.
@@ -46,12 +59,35 @@ public class FifoMessagingService {
 
   private final SqsTemplate messagingTemplate;
 
-  private static final String PROGRAMME_MEMBERSHIP_TABLE = "ProgrammeMembership";
+  private final OutboxService outboxService;
+
+  private final ClaimCheckService claimCheckService;
+
+  private final MessagingMetrics messagingMetrics;
+
+  // the maximum number of entries allowed in a single SQS batch request
+  static final int MAX_BATCH_SIZE = 10;
+
   private static final String MESSAGE_GROUP_ID_FORMAT = "%s_%s_%s";
-  protected static final String DEFAULT_SCHEMA = "tcs";
 
-  public FifoMessagingService(SqsTemplate messagingTemplate) {
+  private static final String TIMESTAMP_METADATA = "timestamp";
+
+  /**
+   * A service for sending messages to FIFO queues, when the outbox is enabled the messages are
+   * appended to the outbox instead of being sent directly. Large payloads are checked in and sent
+   * as a claim-check reference.
+   *
+   * @param messagingTemplate The messaging template to use.
+   * @param outboxService     The outbox to append messages to.
+   * @param claimCheckService The claim-check service to check payloads in with.
+   * @param messagingMetrics  The metrics to record sent messages with.
+   */
+  public FifoMessagingService(SqsTemplate messagingTemplate, OutboxService outboxService,
+      ClaimCheckService claimCheckService, MessagingMetrics messagingMetrics) {
     this.messagingTemplate = messagingTemplate;
+    this.outboxService = outboxService;
+    this.claimCheckService = claimCheckService;
+    this.messagingMetrics = messagingMetrics;
   }
 
   /**
@@ -62,14 +98,7 @@ public class FifoMessagingService {
    * @param toSend   The object to send.
    */
   public void sendMessageToFifoQueue(String queueUrl, Object toSend) {
-    String messageGroupId = getMessageGroupId(toSend);
-    Map<String, Object> headers = Map.of(MESSAGE_GROUP_ID_HEADER, messageGroupId);
-
-    log.debug("Sending to FIFO queue {} with headers {}: {}", queueUrl, headers, toSend);
-    Message<Object> message = MessageBuilder.withPayload(toSend)
-        .copyHeaders(headers)
-        .build();
-    messagingTemplate.send(queueUrl, message);
+    sendMessageToFifoQueue(queueUrl, toSend, getMessageGroupId(toSend), null);
   }
 
   /**
@@ -81,16 +110,158 @@ public class FifoMessagingService {
    * @param deduplicationId The deduplication ID to override default content-based deduplication.
    */
   public void sendMessageToFifoQueue(String queueUrl, Object toSend, String deduplicationId) {
-    Map<String, Object> headers = new HashMap<>();
-    String messageGroupId = getMessageGroupId(toSend);
-    headers.put(MESSAGE_GROUP_ID_HEADER, messageGroupId);
-    headers.put(MESSAGE_DEDUPLICATION_ID_HEADER, deduplicationId);
-
-    log.debug("Sending to FIFO queue {} with headers {}: {}", queueUrl, headers, toSend);
-    Message<Object> message = MessageBuilder.withPayload(toSend)
-        .copyHeaders(headers)
-        .build();
-    messagingTemplate.send(queueUrl, message);
+    sendMessageToFifoQueue(queueUrl, toSend, getMessageGroupId(toSend), deduplicationId);
+  }
+
+  /**
+   * Send a message to a FIFO queue, or append it to the outbox when enabled.
+   *
+   * @param queueUrl        The message queue URL.
+   * @param toSend          The object to send.
+   * @param messageGroupId  The message group ID.
+   * @param deduplicationId The deduplication ID, or null to use content-based deduplication.
+   */
+  private void sendMessageToFifoQueue(String queueUrl, Object toSend, String messageGroupId,
+      String deduplicationId) {
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.FAILED;
+
+    try {
+      Object payload = claimCheckService.checkIn(toSend);
+
+      if (outboxService.isEnabled()) {
+        outboxService.append(
+            outboxService.createQueueMessage(queueUrl, payload, messageGroupId, deduplicationId));
+        outcome = Outcome.OUTBOXED;
+        return;
+      }
+
+      Map<String, Object> headers = new HashMap<>();
+      headers.put(MESSAGE_GROUP_ID_HEADER, messageGroupId);
+
+      if (deduplicationId != null) {
+        headers.put(MESSAGE_DEDUPLICATION_ID_HEADER, deduplicationId);
+      }
+
+      log.debug("Sending to FIFO queue {} with headers {}: {}", queueUrl, headers, payload);
+      Message<Object> message = MessageBuilder.withPayload(payload)
+          .copyHeaders(headers)
+          .build();
+      messagingTemplate.send(queueUrl, message);
+      outcome = Outcome.SENT;
+    } finally {
+      messagingMetrics.recordSent(MessagingMetrics.CHANNEL_SQS, queueUrl, toSend, outcome,
+          System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Send messages to a FIFO queue in batches, each message has its own Message Group Id header. No
+   * message deduplication values are included. All batches are attempted before any failures are
+   * reported.
+   *
+   * @param queueUrl The message queue URL.
+   * @param toSend   The objects to send, in the order they should be sent.
+   * @param <T>      The type of the objects to send.
+   * @throws MessageDeliveryException If any of the messages could not be sent.
+   */
+  public <T> void sendMessagesToFifoQueue(String queueUrl, Collection<T> toSend) {
+    sendMessagesToFifoQueue(queueUrl, toSend, item -> null);
+  }
+
+  /**
+   * Send messages to a FIFO queue in batches, each message has its own Message Group Id header and
+   * a deduplication value to override content-based deduplication. All batches are attempted
+   * before any failures are reported.
+   *
+   * @param queueUrl                The message queue URL.
+   * @param toSend                  The objects to send, in the order they should be sent.
+   * @param deduplicationIdFunction A function to get the deduplication ID for each object, a null
+   *                                ID uses content-based deduplication.
+   * @param <T>                     The type of the objects to send.
+   * @throws MessageDeliveryException If any of the messages could not be sent.
+   */
+  public <T> void sendMessagesToFifoQueue(String queueUrl, Collection<T> toSend,
+      Function<? super T, String> deduplicationIdFunction) {
+    if (outboxService.isEnabled()) {
+      long start = System.nanoTime();
+      List<OutboxMessage> outboxMessages = toSend.stream()
+          .map(item -> outboxService.createQueueMessage(queueUrl, claimCheckService.checkIn(item),
+              getMessageGroupId(item), deduplicationIdFunction.apply(item)))
+          .toList();
+      outboxService.append(outboxMessages);
+
+      long duration = toSend.isEmpty() ? 0 : (System.nanoTime() - start) / toSend.size();
+      toSend.forEach(item -> messagingMetrics.recordSent(MessagingMetrics.CHANNEL_SQS, queueUrl,
+          item, Outcome.OUTBOXED, duration));
+      return;
+    }
+
+    List<Message<Object>> messages = new ArrayList<>(toSend.size());
+
+    for (T item : toSend) {
+      Map<String, Object> headers = new HashMap<>();
+      headers.put(MESSAGE_GROUP_ID_HEADER, getMessageGroupId(item));
+      String deduplicationId = deduplicationIdFunction.apply(item);
+
+      if (deduplicationId != null) {
+        headers.put(MESSAGE_DEDUPLICATION_ID_HEADER, deduplicationId);
+      }
+
+      messages.add(MessageBuilder.withPayload(claimCheckService.checkIn(item))
+          .copyHeaders(headers)
+          .build());
+    }
+
+    int failed = 0;
+
+    for (int i = 0; i < messages.size(); i += MAX_BATCH_SIZE) {
+      List<Message<Object>> batch = messages.subList(i,
+          Math.min(i + MAX_BATCH_SIZE, messages.size()));
+      log.debug("Sending batch of {} messages to FIFO queue {}.", batch.size(), queueUrl);
+      failed += sendBatch(queueUrl, batch);
+    }
+
+    if (failed > 0) {
+      String message = String.format("Failed to send %d of %d messages to FIFO queue %s.", failed,
+          messages.size(), queueUrl);
+      throw new MessageDeliveryException(message);
+    }
+  }
+
+  /**
+   * Send a single batch of messages, failed entries are logged. The duration of the batch is
+   * apportioned evenly across its messages.
+   *
+   * @param queueUrl The message queue URL.
+   * @param batch    The messages to send, no more than {@link #MAX_BATCH_SIZE}.
+   * @return The number of messages which failed to send.
+   */
+  private int sendBatch(String queueUrl, List<Message<Object>> batch) {
+    long start = System.nanoTime();
+    SendResult.Batch<Object> result;
+
+    try {
+      result = messagingTemplate.sendMany(queueUrl, batch);
+    } catch (SendBatchOperationFailedException e) {
+      result = e.getSendBatchResult(Object.class);
+    }
+
+    long duration = (System.nanoTime() - start) / batch.size();
+
+    for (SendResult<Object> success : result.successful()) {
+      messagingMetrics.recordSent(MessagingMetrics.CHANNEL_SQS, queueUrl,
+          success.message().getPayload(), Outcome.SENT, duration);
+    }
+
+    for (SendResult.Failed<Object> failure : result.failed()) {
+      log.error("Failed to send message to FIFO queue {} with headers {}: {}", queueUrl,
+          failure.message().getHeaders(), failure.errorMessage());
+      messagingMetrics.recordSent(MessagingMetrics.CHANNEL_SQS, queueUrl,
+          failure.message().getPayload(), Outcome.FAILED, duration);
+    }
+
+    return result.failed().size();
   }
 
   /**
@@ -104,56 +275,52 @@ public class FifoMessagingService {
     return String.format(MESSAGE_GROUP_ID_FORMAT, objectType, id, Instant.now());
   }
 
+  /**
+   * Create a deduplication id for a lookup of a particular object, triggered by a change to a
+   * source record. Lookups caused by the same version of the same source record share a
+   * deduplication id, so redelivered or repeated processing of one change is merged by SQS while
+   * lookups caused by any other change are always sent.
+   *
+   * <p>Only records received as a change carry a version, entities loaded from the database or the
+   * entity cache have no metadata. If the source record is not versioned, or is itself a LOOKUP,
+   * then a unique deduplication id is created.
+   *
+   * @param objectType The object type.
+   * @param id         The object Id.
+   * @param source     The record whose change triggered the lookup, may be null.
+   * @return The deduplication string.
+   */
+  public String getLookupDeduplicationId(String objectType, String id, Record source) {
+    String timestamp = source == null || source.getType() != RecordType.DATA
+        || source.getOperation() == Operation.LOOKUP || source.getMetadata() == null
+        ? null : source.getMetadata().get(TIMESTAMP_METADATA);
+
+    if (timestamp == null) {
+      return getUniqueDeduplicationId(objectType, id);
+    }
+
+    String version = String.join("|", source.getSchema(), source.getTable(), source.getTisId(),
+        String.valueOf(source.getOperation()), timestamp);
+    UUID versionId = UUID.nameUUIDFromBytes(version.getBytes(StandardCharsets.UTF_8));
+    return String.format(MESSAGE_GROUP_ID_FORMAT, objectType, id, versionId);
+  }
+
   /**
    * Get a properly formatted Message Group Id for an object, following the conventions on using the
    * 'primary' object Id where possible.
    *
    * @param toSend The object that will be sent in the message.
    * @return The Message Group Id, formatted as schema_table_id
+   * @throws IllegalArgumentException If the object is not a {@link MessageGroupMember}.
    */
   protected String getMessageGroupId(Object toSend) {
-    Class<?> toSendClass = toSend.getClass();
-    if (toSendClass.getSimpleName().equalsIgnoreCase("Record")
-        || Record.class.isAssignableFrom(toSendClass)) {
-      Record theRecord = (Record) toSend;
-      Pair<String, String> groupTableAndId = switch (theRecord.getTable()) {
-        case "ConditionsOfJoining",
-             "CurriculumMembership" -> Pair.of(PROGRAMME_MEMBERSHIP_TABLE,
-            theRecord.getData().get("programmeMembershipUuid"));
-        case "PlacementSite",
-             "PlacementSpecialty" -> Pair.of("Placement", theRecord.getData().get("placementId"));
-        case "PostSpecialty" -> Pair.of("Post", theRecord.getData().get("postId"));
-        case PROGRAMME_MEMBERSHIP_TABLE ->
-            Pair.of(PROGRAMME_MEMBERSHIP_TABLE, theRecord.getData().get("uuid"));
-        case "Qualification" -> Pair.of("Person", theRecord.getData().get("personId"));
-        default -> Pair.of(theRecord.getTable(), theRecord.getTisId());
-      };
-      return String.format(MESSAGE_GROUP_ID_FORMAT,
-          theRecord.getSchema(), groupTableAndId.getFirst(), groupTableAndId.getSecond());
-      //note this assumes the record and its group will always have the same schema
-    } else {
-      String table = toSendClass.getSimpleName();
-      String id = "";
-      try {
-        Pair<String, Method> groupTableAndIdMethod = switch (table) {
-          case "ConditionsOfJoining" -> Pair.of(PROGRAMME_MEMBERSHIP_TABLE,
-              toSendClass.getDeclaredMethod("getProgrammeMembershipUuid"));
-          case PROGRAMME_MEMBERSHIP_TABLE -> Pair.of(PROGRAMME_MEMBERSHIP_TABLE,
-              toSendClass.getDeclaredMethod("getUuid"));
-          case "PlacementSite" -> Pair.of("Placement",
-              toSendClass.getDeclaredMethod("getPlacementId"));
-          default -> Pair.of(table,
-              toSendClass.getDeclaredMethod("getId")); //should not happen
-        };
-
-        id = groupTableAndIdMethod.getSecond().invoke(toSend).toString();
-        return String.format(MESSAGE_GROUP_ID_FORMAT,
-            DEFAULT_SCHEMA, groupTableAndIdMethod.getFirst(), id);
-      } catch (Exception e) {
-        //should not happen
-        log.error("Expected id field missing: {}", toSend);
-      }
-      return String.format(MESSAGE_GROUP_ID_FORMAT, DEFAULT_SCHEMA, table, id);
+    if (!(toSend instanceof MessageGroupMember member)) {
+      throw new IllegalArgumentException(String.format(
+          "Type '%s' does not define a message group.", toSend.getClass().getName()));
     }
+
+    MessageGroup messageGroup = member.messageGroup();
+    return String.format(MESSAGE_GROUP_ID_FORMAT, messageGroup.schema(), messageGroup.table(),
+        messageGroup.id());
   }
-}
\ No newline at end of file
+}
@@ -75,14 +75,17 @@ public class GradeSyncService implements SyncService {
    * @param id the Grade it
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Grade.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(Grade.ENTITY_NAME, id)) {
       log.info("Sending request for Grade [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(Grade.ENTITY_NAME, id,
-            dataRequestService.sendRequest("reference", Grade.ENTITY_NAME, Map.of("id", id)));
+        dataRequestService.sendRequest("reference", Grade.ENTITY_NAME, Map.of("id", id));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a Grade", e);
+        requestCacheService.deleteItemFromCache(Grade.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(Grade.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested Grade [{}].", id);
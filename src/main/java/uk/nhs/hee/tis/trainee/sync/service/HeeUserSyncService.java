@@ -89,14 +89,17 @@ public class HeeUserSyncService implements SyncService {
    * @param name The name of the HEE user to be retrieved.
    */
   public void request(String name) {
-    if (!requestCacheService.isItemInCache(HeeUser.ENTITY_NAME, name)) {
+    if (requestCacheService.claimRequest(HeeUser.ENTITY_NAME, name)) {
       log.info("Sending request for HEE user [{}]", name);
 
       try {
-        requestCacheService.addItemToCache(HeeUser.ENTITY_NAME, name,
-            dataRequestService.sendRequest(HeeUser.ENTITY_NAME, Map.of(HEE_USER_NAME, name)));
+        dataRequestService.sendRequest(HeeUser.ENTITY_NAME, Map.of(HEE_USER_NAME, name));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a HEE user", e);
+        requestCacheService.deleteItemFromCache(HeeUser.ENTITY_NAME, name);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(HeeUser.ENTITY_NAME, name);
+        throw e;
       }
     } else {
       log.debug("Already requested HEE user [{}].", name);
@@ -112,15 +112,18 @@ public class LocalOfficeSyncService implements SyncService {
    * @param value The field value of the Local office to be retrieved.
    */
   private void request(String key, String value) {
-    if (!requestCacheService.isItemInCache(LocalOffice.ENTITY_NAME, value)) {
+    if (requestCacheService.claimRequest(LocalOffice.ENTITY_NAME, value)) {
       log.info("Sending request for LocalOffice [{}]", value);
 
       try {
-        requestCacheService.addItemToCache(LocalOffice.ENTITY_NAME, value,
-            dataRequestService.sendRequest("reference", LocalOffice.ENTITY_NAME,
-                Map.of(key, value)));
+        dataRequestService.sendRequest("reference", LocalOffice.ENTITY_NAME,
+            Map.of(key, value));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to retrieve a LocalOffice", e);
+        requestCacheService.deleteItemFromCache(LocalOffice.ENTITY_NAME, value);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(LocalOffice.ENTITY_NAME, value);
+        throw e;
       }
     } else {
       log.debug("Already requested LocalOffice [{}].", value);
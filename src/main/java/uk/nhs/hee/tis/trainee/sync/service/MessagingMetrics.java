@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+
+/**
+ * Metrics for outbound SQS and SNS messages, recording the volume and latency of sends to each
+ * destination and the number of messages emitted for each incoming record.
+ */
+@Component
+public class MessagingMetrics {
+
+  static final String SENT_TIMER_NAME = "sync.messages.sent";
+  static final String FAN_OUT_SUMMARY_NAME = "sync.messages.fan-out";
+
+  static final String CHANNEL_SNS = "sns";
+  static final String CHANNEL_SQS = "sqs";
+
+  private static final String UNKNOWN = "unknown";
+  private static final String NO_OPERATION = "none";
+
+  // the number of messages emitted on this thread while processing an incoming record
+  private static final ThreadLocal<int[]> FAN_OUT = new ThreadLocal<>();
+
+  private final MeterRegistry meterRegistry;
+
+  MessagingMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Record the sending of a message payload, the table and operation tags are taken from the
+   * payload when it is a {@link Record}.
+   *
+   * @param channel     The channel the message was sent through.
+   * @param destination The queue URL or topic ARN.
+   * @param payload     The message payload.
+   * @param outcome     The outcome of the send.
+   * @param duration    The duration of the send, in nanoseconds.
+   */
+  public void recordSent(String channel, String destination, Object payload, Outcome outcome,
+      long duration) {
+    if (payload instanceof Record recrd) {
+      recordSent(channel, destination, recrd.getTable(), recrd.getOperation(), outcome, duration);
+    } else {
+      recordSent(channel, destination, payload.getClass().getSimpleName(), null, outcome,
+          duration);
+    }
+  }
+
+  /**
+   * Record the sending of a message, the timer's count also acts as a counter of messages by
+   * channel, destination, table, operation and outcome. The message is counted towards the fan-out
+   * of the incoming record being processed on the current thread.
+   *
+   * @param channel     The channel the message was sent through.
+   * @param destination The queue URL or topic ARN.
+   * @param table       The table the message relates to.
+   * @param operation   The operation the message relates to, may be null.
+   * @param outcome     The outcome of the send.
+   * @param duration    The duration of the send, in nanoseconds.
+   */
+  public void recordSent(String channel, String destination, String table, Operation operation,
+      Outcome outcome, long duration) {
+    recordDeferredSent(channel, destination, table, operation, outcome, duration);
+    recordQueued();
+  }
+
+  /**
+   * Record the sending of a message which was queued to be sent later, possibly on another thread.
+   * The message is not counted towards the fan-out, as it was counted by {@link #recordQueued()}
+   * when it was queued.
+   *
+   * @param channel     The channel the message was sent through.
+   * @param destination The queue URL or topic ARN.
+   * @param table       The table the message relates to.
+   * @param operation   The operation the message relates to, may be null.
+   * @param outcome     The outcome of the send.
+   * @param duration    The duration of the send, in nanoseconds.
+   */
+  public void recordDeferredSent(String channel, String destination, String table,
+      Operation operation, Outcome outcome, long duration) {
+    Timer.builder(SENT_TIMER_NAME)
+        .description("The time taken to send outbound messages.")
+        .tag("channel", channel)
+        .tag("destination", getDestinationName(destination))
+        .tag("table", table == null ? UNKNOWN : table)
+        .tag("operation", getOperationTag(operation))
+        .tag("outcome", outcome.getTagValue())
+        .register(meterRegistry)
+        .record(duration, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Count a message queued to be sent later towards the fan-out of the incoming record being
+   * processed on the current thread, such as a batched event or a coalesced request. The sending of
+   * the message should be recorded with {@link #recordDeferredSent}.
+   */
+  public void recordQueued() {
+    int[] fanOut = FAN_OUT.get();
+    if (fanOut != null) {
+      fanOut[0]++;
+    }
+  }
+
+  /**
+   * Start counting the messages emitted on the current thread for an incoming record, scopes are
+   * not nested.
+   */
+  public void startFanOut() {
+    FAN_OUT.set(new int[1]);
+  }
+
+  /**
+   * Stop counting the messages emitted on the current thread.
+   *
+   * @return The number of messages emitted since {@link #startFanOut()} was called.
+   */
+  public int stopFanOut() {
+    int[] fanOut = FAN_OUT.get();
+    FAN_OUT.remove();
+    return fanOut == null ? 0 : fanOut[0];
+  }
+
+  /**
+   * Record the number of messages emitted while processing an incoming record.
+   *
+   * @param recrd    The incoming record.
+   * @param messages The number of messages emitted.
+   */
+  public void recordFanOut(Record recrd, double messages) {
+    DistributionSummary.builder(FAN_OUT_SUMMARY_NAME)
+        .description("The number of outbound messages emitted per incoming record.")
+        .tag("schema", String.valueOf(recrd.getSchema()))
+        .tag("table", String.valueOf(recrd.getTable()))
+        .tag("operation", getOperationTag(recrd.getOperation()))
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(messages);
+  }
+
+  /**
+   * Get the name of a destination from its queue URL or topic ARN, to keep the tag readable.
+   *
+   * @param destination The queue URL or topic ARN.
+   * @return The queue or topic name.
+   */
+  private static String getDestinationName(String destination) {
+    if (destination == null) {
+      return UNKNOWN;
+    }
+
+    int separator = Math.max(destination.lastIndexOf('/'), destination.lastIndexOf(':'));
+    return destination.substring(separator + 1);
+  }
+
+  /**
+   * Get the tag value for an operation, messages without an operation such as data requests are
+   * tagged as having none.
+   *
+   * @param operation The operation, may be null.
+   * @return The operation tag value.
+   */
+  private static String getOperationTag(Operation operation) {
+    return operation == null ? NO_OPERATION : operation.name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * The possible outcomes of sending a message.
+   */
+  public enum Outcome {
+    SENT("sent"),
+    FAILED("failed"),
+    OUTBOXED("outboxed");
+
+    private final String tagValue;
+
+    Outcome(String tagValue) {
+      this.tagValue = tagValue;
+    }
+
+    String getTagValue() {
+      return tagValue;
+    }
+  }
+}
@@ -0,0 +1,579 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_DEDUPLICATION_ID_HEADER;
+import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_GROUP_ID_HEADER;
+import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MAX_BATCH_SIZE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.operations.SendBatchOperationFailedException;
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import uk.nhs.hee.tis.trainee.sync.config.OutboxProperties;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
+
+/**
+ * A background dispatcher which drains the outbox, sending queue messages in batches and retrying
+ * failed messages with an exponential backoff.
+ *
+ * <p>Messages stay in the outbox until they have been dispatched, so a claimed message is held
+ * back while any earlier message in its message group remains, whether that message is backing
+ * off or has been claimed by another dispatcher. This keeps the message group ordering across
+ * drains and dispatcher instances, not only within a single claimed batch.
+ *
+ * <p>A message which fails the maximum number of attempts is parked, it stays in the outbox for
+ * investigation but is no longer claimed and, like a message moved to a dead-letter queue, no
+ * longer holds back the later messages in its group.
+ */
+@Slf4j
+@Service
+public class OutboxDispatcher {
+
+  private static final String METRIC_DISPATCHED = "sync.outbox.dispatched";
+  private static final String METRIC_LAG = "sync.outbox.lag";
+  private static final String METRIC_PARKED = "sync.outbox.parked";
+  private static final String OUTCOME_SENT = "sent";
+  private static final String OUTCOME_FAILED = "failed";
+
+  private static final String ID_FIELD = "_id";
+  private static final String CREATED_FIELD = "created";
+  private static final String NEXT_ATTEMPT_FIELD = "nextAttempt";
+  private static final String CLAIM_TOKEN_FIELD = "claimToken";
+  private static final String PARKED_FIELD = "parked";
+  private static final String CHANNEL_FIELD = "channel";
+  private static final String DESTINATION_FIELD = "destination";
+  private static final String MESSAGE_GROUP_ID_FIELD = "messageGroupId";
+
+  private static final Comparator<OutboxMessage> APPEND_ORDER = Comparator
+      .comparing(OutboxMessage::getCreated)
+      .thenComparing(OutboxMessage::getId);
+
+  private final MongoTemplate mongoTemplate;
+  private final SqsTemplate sqsTemplate;
+  private final SnsClient snsClient;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final OutboxProperties properties;
+
+  private ScheduledExecutorService drainExecutor;
+
+  OutboxDispatcher(MongoTemplate mongoTemplate, SqsTemplate sqsTemplate, SnsClient snsClient,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry, OutboxProperties properties) {
+    this.mongoTemplate = mongoTemplate;
+    this.sqsTemplate = sqsTemplate;
+    this.snsClient = snsClient;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+  }
+
+  /**
+   * Start draining the outbox, if enabled.
+   */
+  @PostConstruct
+  void start() {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    long interval = properties.pollInterval().toMillis();
+    drainExecutor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("outbox-dispatcher").factory());
+    drainExecutor.scheduleWithFixedDelay(this::drainAll, interval, interval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stop draining the outbox, any undispatched messages are left for the next dispatcher.
+   */
+  @PreDestroy
+  void stop() {
+    if (drainExecutor != null) {
+      drainExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Drain the outbox until fewer than a full batch of messages is available.
+   */
+  void drainAll() {
+    try {
+      int claimed;
+
+      do {
+        claimed = drain();
+      } while (claimed >= properties.batchSize());
+    } catch (RuntimeException e) {
+      log.error("Failed to drain the outbox.", e);
+    }
+  }
+
+  /**
+   * Claim and dispatch a single batch of messages from the outbox. Sent messages are removed from
+   * the outbox, failed messages are rescheduled along with any later claimed messages in the same
+   * message group, to preserve the group ordering. Claimed messages whose group has an earlier
+   * message still in the outbox are released without being dispatched.
+   *
+   * @return The number of messages claimed.
+   */
+  int drain() {
+    List<OutboxMessage> claimed = claim();
+
+    if (claimed.isEmpty()) {
+      return 0;
+    }
+
+    List<OutboxMessage> messages = deferBlockedGroups(claimed);
+
+    List<OutboxMessage> sent = new ArrayList<>();
+    List<OutboxMessage> failed = new ArrayList<>();
+
+    Map<String, List<OutboxMessage>> messagesByDestination = new LinkedHashMap<>();
+    for (OutboxMessage message : messages) {
+      messagesByDestination.computeIfAbsent(message.getChannel() + message.getDestination(),
+          key -> new ArrayList<>()).add(message);
+    }
+
+    for (List<OutboxMessage> destinationMessages : messagesByDestination.values()) {
+      Set<OutboxMessage> destinationFailures = switch (destinationMessages.get(0).getChannel()) {
+        case SNS -> publish(destinationMessages);
+        case SQS -> sendToQueue(destinationMessages);
+      };
+
+      for (OutboxMessage message : destinationMessages) {
+        if (destinationFailures.contains(message)) {
+          failed.add(message);
+        } else {
+          sent.add(message);
+        }
+      }
+    }
+
+    complete(sent);
+    reschedule(failed);
+    return claimed.size();
+  }
+
+  /**
+   * Release claimed messages which must wait for an earlier message in the same message group
+   * which is not part of the claim, such as a message being retried or one claimed by another
+   * dispatcher. The released messages do not count as a failed attempt.
+   *
+   * @param claimed The claimed messages, in the order they were appended.
+   * @return The claimed messages which may be dispatched now.
+   */
+  private List<OutboxMessage> deferBlockedGroups(List<OutboxMessage> claimed) {
+    Map<String, OutboxMessage> firstByGroup = new LinkedHashMap<>();
+    for (OutboxMessage message : claimed) {
+      if (message.getMessageGroupId() != null) {
+        firstByGroup.putIfAbsent(getGroupKey(message), message);
+      }
+    }
+
+    if (firstByGroup.isEmpty()) {
+      return claimed;
+    }
+
+    Set<String> groupIds = new HashSet<>();
+    Instant latestCreated = Instant.MIN;
+    for (OutboxMessage message : firstByGroup.values()) {
+      groupIds.add(message.getMessageGroupId());
+      latestCreated = message.getCreated().isAfter(latestCreated) ? message.getCreated()
+          : latestCreated;
+    }
+
+    Set<String> claimedIds = new HashSet<>();
+    claimed.forEach(message -> claimedIds.add(message.getId()));
+
+    Query earlierQuery = Query.query(Criteria.where(MESSAGE_GROUP_ID_FIELD).in(groupIds)
+        .and(CREATED_FIELD).lte(latestCreated)
+        .and(ID_FIELD).nin(claimedIds)
+        .and(PARKED_FIELD).exists(false));
+    earlierQuery.fields().include(ID_FIELD, CHANNEL_FIELD, DESTINATION_FIELD,
+        MESSAGE_GROUP_ID_FIELD, CREATED_FIELD, NEXT_ATTEMPT_FIELD, CLAIM_TOKEN_FIELD);
+
+    Map<String, OutboxMessage> blockerByGroup = new HashMap<>();
+    for (OutboxMessage other : mongoTemplate.find(earlierQuery, OutboxMessage.class)) {
+      String groupKey = getGroupKey(other);
+      OutboxMessage first = firstByGroup.get(groupKey);
+
+      if (first != null && !claimedIds.contains(other.getId())
+          && APPEND_ORDER.compare(other, first) < 0) {
+        blockerByGroup.merge(groupKey, other,
+            (existing, candidate) -> APPEND_ORDER.compare(existing, candidate) <= 0 ? existing
+                : candidate);
+      }
+    }
+
+    if (blockerByGroup.isEmpty()) {
+      return claimed;
+    }
+
+    List<OutboxMessage> dispatchable = new ArrayList<>();
+    for (OutboxMessage message : claimed) {
+      OutboxMessage blocker = message.getMessageGroupId() == null ? null
+          : blockerByGroup.get(getGroupKey(message));
+
+      if (blocker == null) {
+        dispatchable.add(message);
+      } else {
+        release(message, blocker);
+      }
+    }
+
+    return dispatchable;
+  }
+
+  /**
+   * Release a claimed message so it is retried once the earlier message blocking its group may
+   * have been dispatched. A blocker which is backing off cannot be dispatched before its next
+   * attempt, while a blocker claimed by another dispatcher may be dispatched at any moment.
+   *
+   * @param message The claimed message to release.
+   * @param blocker The earliest message blocking the message's group.
+   */
+  private void release(OutboxMessage message, OutboxMessage blocker) {
+    Instant retry = Instant.now().plus(properties.pollInterval());
+    Instant blockerNextAttempt = blocker.getNextAttempt();
+    Instant nextAttempt = blocker.getClaimToken() == null && blockerNextAttempt != null
+        && blockerNextAttempt.isAfter(retry) ? blockerNextAttempt : retry;
+
+    log.debug("Outbox message '{}' is waiting for earlier message '{}' in group '{}'.",
+        message.getId(), blocker.getId(), message.getMessageGroupId());
+    Update update = Update.update(NEXT_ATTEMPT_FIELD, nextAttempt).unset(CLAIM_TOKEN_FIELD);
+    mongoTemplate.updateFirst(Query.query(Criteria.where(ID_FIELD).is(message.getId())), update,
+        OutboxMessage.class);
+  }
+
+  /**
+   * Get the key of a message's group, message groups are only ordered within a destination.
+   *
+   * @param message The message to get the group key for.
+   * @return The group key.
+   */
+  private String getGroupKey(OutboxMessage message) {
+    return message.getChannel() + message.getDestination() + "|" + message.getMessageGroupId();
+  }
+
+  /**
+   * Claim the oldest available messages, hiding them from other dispatchers for the lease period.
+   *
+   * @return The claimed messages, in the order they were appended.
+   */
+  private List<OutboxMessage> claim() {
+    Instant now = Instant.now();
+    Sort order = Sort.by(Direction.ASC, CREATED_FIELD, ID_FIELD);
+
+    Query availableQuery = Query.query(Criteria.where(NEXT_ATTEMPT_FIELD).lte(now))
+        .with(order)
+        .limit(properties.batchSize());
+    availableQuery.fields().include(ID_FIELD);
+    List<String> ids = mongoTemplate.find(availableQuery, OutboxMessage.class).stream()
+        .map(OutboxMessage::getId)
+        .toList();
+
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    // Only messages still available are claimed, in case another dispatcher claimed them first.
+    String claimToken = UUID.randomUUID().toString();
+    Query claimQuery = Query.query(Criteria.where(ID_FIELD).in(ids)
+        .and(NEXT_ATTEMPT_FIELD).lte(now));
+    Update claimUpdate = Update.update(NEXT_ATTEMPT_FIELD, now.plus(properties.lease()))
+        .set(CLAIM_TOKEN_FIELD, claimToken);
+    mongoTemplate.updateMulti(claimQuery, claimUpdate, OutboxMessage.class);
+
+    Query claimedQuery = Query.query(Criteria.where(CLAIM_TOKEN_FIELD).is(claimToken))
+        .with(order);
+    return mongoTemplate.find(claimedQuery, OutboxMessage.class);
+  }
+
+  /**
+   * Send messages to their queue in batches.
+   *
+   * @param messages The messages to send, all for the same queue.
+   * @return The messages which failed to send.
+   */
+  private Set<OutboxMessage> sendToQueue(List<OutboxMessage> messages) {
+    String queueUrl = messages.get(0).getDestination();
+    Set<OutboxMessage> failed = new HashSet<>();
+    Set<String> blockedGroups = new HashSet<>();
+
+    for (int i = 0; i < messages.size(); i += MAX_BATCH_SIZE) {
+      List<OutboxMessage> batch = messages.subList(i, Math.min(i + MAX_BATCH_SIZE,
+          messages.size()));
+      Map<Object, OutboxMessage> outboxMessagesById = new HashMap<>();
+      List<Message<Object>> queueMessages = new ArrayList<>();
+
+      for (OutboxMessage message : batch) {
+        if (isBlocked(message, blockedGroups)) {
+          failed.add(message);
+          continue;
+        }
+
+        try {
+          Message<Object> queueMessage = toQueueMessage(message);
+          outboxMessagesById.put(queueMessage.getHeaders().getId(), message);
+          queueMessages.add(queueMessage);
+        } catch (Exception e) {
+          log.error("Unable to read outbox message '{}'.", message.getId(), e);
+          fail(message, failed, blockedGroups);
+        }
+      }
+
+      if (queueMessages.isEmpty()) {
+        continue;
+      }
+
+      SendResult.Batch<Object> result;
+
+      try {
+        result = sqsTemplate.sendMany(queueUrl, queueMessages);
+      } catch (SendBatchOperationFailedException e) {
+        result = e.getSendBatchResult(Object.class);
+      } catch (RuntimeException e) {
+        log.error("Failed to send outbox batch to queue {}.", queueUrl, e);
+        outboxMessagesById.values().forEach(message -> fail(message, failed, blockedGroups));
+        continue;
+      }
+
+      for (SendResult.Failed<Object> failure : result.failed()) {
+        log.error("Failed to send outbox message to queue {}: {}", queueUrl,
+            failure.errorMessage());
+        OutboxMessage message = outboxMessagesById.get(failure.message().getHeaders().getId());
+
+        if (message != null) {
+          fail(message, failed, blockedGroups);
+        }
+      }
+    }
+
+    return failed;
+  }
+
+  /**
+   * Publish messages to their topic.
+   *
+   * @param messages The messages to publish, all for the same topic.
+   * @return The messages which failed to publish.
+   */
+  private Set<OutboxMessage> publish(List<OutboxMessage> messages) {
+    Set<OutboxMessage> failed = new HashSet<>();
+    Set<String> blockedGroups = new HashSet<>();
+
+    for (OutboxMessage message : messages) {
+      if (isBlocked(message, blockedGroups)) {
+        failed.add(message);
+        continue;
+      }
+
+      try {
+        snsClient.publish(toPublishRequest(message));
+      } catch (RuntimeException e) {
+        log.error("Failed to publish outbox message to topic {}.", message.getDestination(), e);
+        fail(message, failed, blockedGroups);
+      }
+    }
+
+    return failed;
+  }
+
+  /**
+   * Convert an outbox message to a queue message, with the payload restored to its original type.
+   *
+   * @param message The outbox message to convert.
+   * @return The queue message.
+   * @throws Exception If the payload could not be restored.
+   */
+  private Message<Object> toQueueMessage(OutboxMessage message) throws Exception {
+    Object payload = message.getPayload();
+
+    if (message.getPayloadType() != null) {
+      payload = objectMapper.readValue(message.getPayload(),
+          Class.forName(message.getPayloadType()));
+    }
+
+    MessageBuilder<Object> builder = MessageBuilder.withPayload(payload);
+
+    if (message.getMessageGroupId() != null) {
+      builder.setHeader(MESSAGE_GROUP_ID_HEADER, message.getMessageGroupId());
+    }
+
+    if (message.getDeduplicationId() != null) {
+      builder.setHeader(MESSAGE_DEDUPLICATION_ID_HEADER, message.getDeduplicationId());
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Convert an outbox message to an SNS publish request.
+   *
+   * @param message The outbox message to convert.
+   * @return The publish request.
+   */
+  private PublishRequest toPublishRequest(OutboxMessage message) {
+    Map<String, MessageAttributeValue> attributes = new HashMap<>();
+
+    if (message.getAttributes() != null) {
+      message.getAttributes().forEach((key, value) -> attributes.put(key,
+          MessageAttributeValue.builder().dataType("String").stringValue(value).build()));
+    }
+
+    return PublishRequest.builder()
+        .topicArn(message.getDestination())
+        .message(message.getPayload())
+        .messageGroupId(message.getMessageGroupId())
+        .messageDeduplicationId(message.getDeduplicationId())
+        .messageAttributes(attributes)
+        .build();
+  }
+
+  /**
+   * Remove sent messages from the outbox and record their dispatch lag.
+   *
+   * @param sent The sent messages.
+   */
+  private void complete(List<OutboxMessage> sent) {
+    if (sent.isEmpty()) {
+      return;
+    }
+
+    List<String> ids = sent.stream().map(OutboxMessage::getId).toList();
+    mongoTemplate.remove(Query.query(Criteria.where(ID_FIELD).in(ids)), OutboxMessage.class);
+
+    Instant now = Instant.now();
+    for (OutboxMessage message : sent) {
+      String channel = message.getChannel().name().toLowerCase();
+      meterRegistry.counter(METRIC_DISPATCHED, "channel", channel, "outcome", OUTCOME_SENT)
+          .increment();
+      meterRegistry.timer(METRIC_LAG, "channel", channel)
+          .record(Duration.between(message.getCreated(), now));
+    }
+  }
+
+  /**
+   * Reschedule failed messages with an exponential backoff, parking any which have reached the
+   * maximum number of attempts.
+   *
+   * @param failed The failed messages.
+   */
+  private void reschedule(List<OutboxMessage> failed) {
+    Instant now = Instant.now();
+
+    for (OutboxMessage message : failed) {
+      int attempts = message.getAttempts() + 1;
+      String channel = message.getChannel().name().toLowerCase();
+      Update update;
+
+      if (attempts >= properties.maxAttempts()) {
+        log.error("Outbox message '{}' failed {} time(s), parking it.", message.getId(),
+            attempts);
+        update = Update.update(PARKED_FIELD, now).unset(NEXT_ATTEMPT_FIELD);
+        meterRegistry.counter(METRIC_PARKED, "channel", channel).increment();
+      } else {
+        Duration backoff = getBackoff(attempts);
+        log.warn("Outbox message '{}' failed {} time(s), retrying in {}.", message.getId(),
+            attempts, backoff);
+        update = Update.update(NEXT_ATTEMPT_FIELD, now.plus(backoff));
+      }
+
+      update.set("attempts", attempts).unset(CLAIM_TOKEN_FIELD);
+      mongoTemplate.updateFirst(Query.query(Criteria.where(ID_FIELD).is(message.getId())), update,
+          OutboxMessage.class);
+
+      meterRegistry.counter(METRIC_DISPATCHED, "channel", channel, "outcome", OUTCOME_FAILED)
+          .increment();
+    }
+  }
+
+  /**
+   * Get the backoff for a message, doubling the poll interval with each attempt.
+   *
+   * @param attempts The number of failed attempts.
+   * @return The delay before the next attempt.
+   */
+  Duration getBackoff(int attempts) {
+    Duration maxBackoff = properties.maxBackoff();
+    Duration backoff = properties.pollInterval().multipliedBy(1L << Math.min(attempts, 20));
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+
+  /**
+   * Whether a message must wait for an earlier failed message in the same message group.
+   *
+   * @param message       The message to check.
+   * @param blockedGroups The message groups with a failed message.
+   * @return true if the message group is blocked, else false.
+   */
+  private boolean isBlocked(OutboxMessage message, Set<String> blockedGroups) {
+    return message.getMessageGroupId() != null
+        && blockedGroups.contains(message.getMessageGroupId());
+  }
+
+  /**
+   * Mark a message as failed, blocking any later messages in the same message group.
+   *
+   * @param message       The failed message.
+   * @param failed        The failed messages.
+   * @param blockedGroups The message groups with a failed message.
+   */
+  private void fail(OutboxMessage message, Set<OutboxMessage> failed, Set<String> blockedGroups) {
+    failed.add(message);
+
+    if (message.getMessageGroupId() != null) {
+      blockedGroups.add(message.getMessageGroupId());
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import uk.nhs.hee.tis.trainee.sync.config.OutboxProperties;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage.Channel;
+
+/**
+ * A service for appending outbound messages to the outbox, to be sent by the
+ * {@link OutboxDispatcher} independently of the listener thread.
+ *
+ * <p>Appending is not atomic with the entity write which caused the message, the deployment does
+ * not use MongoDB transactions. If the service stops between the two the messages are lost from
+ * the outbox, but the source message has not been acknowledged so it is redelivered and the write
+ * and append are repeated. Consumers must therefore tolerate duplicate messages.
+ */
+@Slf4j
+@Service
+public class OutboxService {
+
+  private final MongoTemplate mongoTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final boolean enabled;
+
+  OutboxService(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+      OutboxProperties properties) {
+    this.mongoTemplate = mongoTemplate;
+    this.objectMapper = objectMapper;
+    this.enabled = properties.enabled();
+  }
+
+  /**
+   * Whether outbound messages should be appended to the outbox instead of being sent directly.
+   *
+   * @return true if the outbox is enabled, else false.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Create an outbox message for an SQS queue, the payload is serialized so that it can be sent
+   * in the same form it would have been sent directly.
+   *
+   * @param queueUrl        The message queue URL.
+   * @param payload         The object to send.
+   * @param messageGroupId  The message group ID, or null if not a FIFO queue.
+   * @param deduplicationId The deduplication ID, or null to use content-based deduplication.
+   * @return The created outbox message.
+   * @throws MessageConversionException If the payload could not be serialized.
+   */
+  public OutboxMessage createQueueMessage(String queueUrl, Object payload, String messageGroupId,
+      String deduplicationId) {
+    OutboxMessage message = createMessage(Channel.SQS, queueUrl, messageGroupId);
+    message.setDeduplicationId(deduplicationId);
+
+    if (payload instanceof String stringPayload) {
+      message.setPayload(stringPayload);
+    } else {
+      try {
+        message.setPayload(objectMapper.writeValueAsString(payload));
+      } catch (JsonProcessingException e) {
+        throw new MessageConversionException("Unable to serialize outbox payload.", e);
+      }
+      message.setPayloadType(payload.getClass().getName());
+    }
+
+    return message;
+  }
+
+  /**
+   * Create an outbox message for an SNS topic from a publish request.
+   *
+   * @param request The publish request to create the message from.
+   * @return The created outbox message.
+   */
+  public OutboxMessage createTopicMessage(PublishRequest request) {
+    OutboxMessage message = createMessage(Channel.SNS, request.topicArn(),
+        request.messageGroupId());
+    message.setPayload(request.message());
+    message.setDeduplicationId(request.messageDeduplicationId());
+
+    Map<String, String> attributes = new HashMap<>();
+    request.messageAttributes().forEach((key, value) -> attributes.put(key, value.stringValue()));
+    message.setAttributes(attributes);
+
+    return message;
+  }
+
+  /**
+   * Append a message to the outbox.
+   *
+   * @param message The message to append.
+   */
+  public void append(OutboxMessage message) {
+    append(List.of(message));
+  }
+
+  /**
+   * Append messages to the outbox, the messages will be dispatched in the given order. The append
+   * is a separate write to any entity changes made by the caller, see {@link OutboxService}.
+   *
+   * @param messages The messages to append.
+   */
+  public void append(Collection<OutboxMessage> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    log.debug("Appending {} messages to the outbox.", messages.size());
+    mongoTemplate.insertAll(messages);
+  }
+
+  /**
+   * Create an outbox message which is immediately available for dispatch.
+   *
+   * @param channel        The channel to dispatch the message through.
+   * @param destination    The topic ARN or queue URL.
+   * @param messageGroupId The message group ID, may be null.
+   * @return The created outbox message.
+   */
+  private OutboxMessage createMessage(Channel channel, String destination,
+      String messageGroupId) {
+    Instant now = Instant.now();
+
+    OutboxMessage message = new OutboxMessage();
+    message.setChannel(channel);
+    message.setDestination(destination);
+    message.setMessageGroupId(messageGroupId);
+    message.setCreated(now);
+    message.setNextAttempt(now);
+    return message;
+  }
+}
@@ -169,15 +169,18 @@ public class PlacementSpecialtySyncService implements SyncService {
    * @param id The id of the placementPlacementSpecialty to be retrieved.
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(PlacementSpecialty.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(PlacementSpecialty.ENTITY_NAME, id)) {
       log.info("Sending request for PlacementSpecialty [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(PlacementSpecialty.ENTITY_NAME, id,
-            dataRequestService.sendRequest(PlacementSpecialty.ENTITY_NAME,
-                Map.of(PLACEMENT_ID, id, PLACEMENT_SPECIALTY_TYPE, "PRIMARY")));
+        dataRequestService.sendRequest(PlacementSpecialty.ENTITY_NAME,
+            Map.of(PLACEMENT_ID, id, PLACEMENT_SPECIALTY_TYPE, "PRIMARY"));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a PlacementSpecialty", e);
+        requestCacheService.deleteItemFromCache(PlacementSpecialty.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(PlacementSpecialty.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested PlacementSpecialty [{}].", id);
@@ -25,6 +25,8 @@ import static uk.nhs.hee.tis.trainee.sync.model.Operation.DELETE;
 import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -76,6 +78,24 @@ public class PlacementSyncService implements SyncService {
     fifoMessagingService.sendMessageToFifoQueue(queueUrl, placement);
   }
 
+  /**
+   * Send a batch of incoming placement records to the placement queue to be processed, the
+   * records are sent in batches rather than individually.
+   *
+   * @param records The records to synchronize, in the order they were received.
+   */
+  @Override
+  public void syncRecords(List<Record> records) {
+    for (Record recrd : records) {
+      if (!(recrd instanceof Placement)) {
+        String message = String.format("Invalid record type '%s'.", recrd.getClass());
+        throw new IllegalArgumentException(message);
+      }
+    }
+
+    fifoMessagingService.sendMessagesToFifoQueue(queueUrl, records);
+  }
+
   /**
    * Synchronize the given placement.
    *
@@ -125,23 +145,80 @@ public class PlacementSyncService implements SyncService {
     return repository.findByGradeId(gradeId);
   }
 
+  /**
+   * Find LOOKUPs for the placements with the given post, only the placement IDs are loaded.
+   *
+   * @param postId The post ID to find the placements for.
+   * @return The placement LOOKUPs.
+   */
+  public Set<Placement> findLookupsByPostId(String postId) {
+    Set<Placement> placements = repository.findIdentitiesByPostId(postId);
+    placements.forEach(placement -> placement.setOperation(LOOKUP));
+    return placements;
+  }
+
+  /**
+   * Find LOOKUPs for the placements with the given site, only the placement IDs are loaded.
+   *
+   * @param siteId The site ID to find the placements for.
+   * @return The placement LOOKUPs.
+   */
+  public Set<Placement> findLookupsBySiteId(String siteId) {
+    Set<Placement> placements = repository.findIdentitiesBySiteId(siteId);
+    placements.forEach(placement -> placement.setOperation(LOOKUP));
+    return placements;
+  }
+
   /**
    * Make a request to retrieve a specific placement.
    *
    * @param id The id of the placement to be retrieved.
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Placement.ENTITY_NAME, id)) {
-      log.info("Sending request for Placement [{}]", id);
-
-      try {
-        requestCacheService.addItemToCache(Placement.ENTITY_NAME, id,
-            dataRequestService.sendRequest(Placement.ENTITY_NAME, Map.of("id", id)));
-      } catch (JsonProcessingException e) {
-        log.error("Error while trying to retrieve a Placement", e);
-      }
+    if (requestCacheService.claimRequest(Placement.ENTITY_NAME, id)) {
+      sendRequest(id);
     } else {
       log.debug("Already requested Placement [{}].", id);
     }
   }
+
+  /**
+   * Make requests to retrieve a batch of placements, the requests are claimed together.
+   *
+   * @param ids The ids of the placements to be retrieved.
+   */
+  public void requestAll(Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    Set<String> claimedIds = requestCacheService.claimRequests(Placement.ENTITY_NAME, ids);
+
+    for (String id : ids) {
+      if (claimedIds.contains(id)) {
+        sendRequest(id);
+      } else {
+        log.debug("Already requested Placement [{}].", id);
+      }
+    }
+  }
+
+  /**
+   * Send a claimed request for a placement, the claim is released if the request fails.
+   *
+   * @param id The id of the placement to be retrieved.
+   */
+  private void sendRequest(String id) {
+    log.info("Sending request for Placement [{}]", id);
+
+    try {
+      dataRequestService.sendRequest(Placement.ENTITY_NAME, Map.of("id", id));
+    } catch (JsonProcessingException e) {
+      log.error("Error while trying to retrieve a Placement", e);
+      requestCacheService.deleteItemFromCache(Placement.ENTITY_NAME, id);
+    } catch (RuntimeException e) {
+      requestCacheService.deleteItemFromCache(Placement.ENTITY_NAME, id);
+      throw e;
+    }
+  }
 }
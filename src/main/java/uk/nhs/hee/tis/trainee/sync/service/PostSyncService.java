@@ -25,6 +25,7 @@ import static uk.nhs.hee.tis.trainee.sync.model.Operation.DELETE;
 import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -77,6 +78,24 @@ public class PostSyncService implements SyncService {
     fifoMessagingService.sendMessageToFifoQueue(queueUrl, post);
   }
 
+  /**
+   * Send a batch of incoming post records to the post queue to be processed, the records are
+   * sent in batches rather than individually.
+   *
+   * @param records The records to synchronize, in the order they were received.
+   */
+  @Override
+  public void syncRecords(List<Record> records) {
+    for (Record recrd : records) {
+      if (!(recrd instanceof Post)) {
+        String message = String.format("Invalid record type '%s'.", recrd.getClass());
+        throw new IllegalArgumentException(message);
+      }
+    }
+
+    fifoMessagingService.sendMessagesToFifoQueue(queueUrl, records);
+  }
+
   /**
    * Synchronize the given post.
    *
@@ -128,14 +147,17 @@ public class PostSyncService implements SyncService {
    * @param id The id of the post to be retrieved.
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Post.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(Post.ENTITY_NAME, id)) {
       log.info("Sending request for Post [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(Post.ENTITY_NAME, id,
-            dataRequestService.sendRequest(Post.ENTITY_NAME, Map.of("id", id)));
+        dataRequestService.sendRequest(Post.ENTITY_NAME, Map.of("id", id));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a Post", e);
+        requestCacheService.deleteItemFromCache(Post.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(Post.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested Post [{}].", id);
@@ -27,6 +27,7 @@ import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -88,6 +89,24 @@ public class ProgrammeMembershipSyncService implements SyncService {
     fifoMessagingService.sendMessageToFifoQueue(queueUrl, programmeMembershipRecord);
   }
 
+  /**
+   * Send a batch of incoming programme membership records to the programme membership queue to be
+   * processed, the records are sent in batches rather than individually.
+   *
+   * @param records The records to synchronize, in the order they were received.
+   */
+  @Override
+  public void syncRecords(List<Record> records) {
+    for (Record recrd : records) {
+      if (!Objects.equals(recrd.getTable(), ProgrammeMembership.ENTITY_NAME)) {
+        String message = String.format("Invalid record type '%s'.", recrd.getClass());
+        throw new IllegalArgumentException(message);
+      }
+    }
+
+    fifoMessagingService.sendMessagesToFifoQueue(queueUrl, records);
+  }
+
   /**
    * Synchronize the given programme membership.
    *
@@ -154,15 +173,18 @@ public class ProgrammeMembershipSyncService implements SyncService {
   public void request(UUID uuid) {
     String uuidString = uuid.toString();
 
-    if (!requestCacheService.isItemInCache(ProgrammeMembership.ENTITY_NAME, uuidString)) {
+    if (requestCacheService.claimRequest(ProgrammeMembership.ENTITY_NAME, uuidString)) {
       log.info("Sending request for ProgrammeMembership [{}]", uuidString);
 
       try {
-        requestCacheService.addItemToCache(ProgrammeMembership.ENTITY_NAME, uuidString,
-            dataRequestService.sendRequest(ProgrammeMembership.ENTITY_NAME,
-                Map.of("uuid", uuidString)));
+        dataRequestService.sendRequest(ProgrammeMembership.ENTITY_NAME,
+            Map.of("uuid", uuidString));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a ProgrammeMembership", e);
+        requestCacheService.deleteItemFromCache(ProgrammeMembership.ENTITY_NAME, uuidString);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(ProgrammeMembership.ENTITY_NAME, uuidString);
+        throw e;
       }
     } else {
       log.debug("Already requested ProgrammeMembership [{}].", uuidString);
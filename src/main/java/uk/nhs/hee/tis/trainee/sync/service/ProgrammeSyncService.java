@@ -105,14 +105,17 @@ public class ProgrammeSyncService implements SyncService {
    * @param id The id of the programme to be retrieved.
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Programme.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(Programme.ENTITY_NAME, id)) {
       log.info("Sending request for Programme [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(Programme.ENTITY_NAME, id,
-            dataRequestService.sendRequest(Programme.ENTITY_NAME, Map.of("id", id)));
+        dataRequestService.sendRequest(Programme.ENTITY_NAME, Map.of("id", id));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a Programme", e);
+        requestCacheService.deleteItemFromCache(Programme.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(Programme.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested Programme [{}].", id);
@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+
+/**
+ * A registry of the record subtypes and sync services used to process records, keyed by schema and
+ * table. The available subtypes and services are collected once at startup, after which each
+ * schema/table combination is resolved on first use and then served from memory.
+ */
+@Slf4j
+@Component
+public class RecordDispatchRegistry {
+
+  private static final String SCHEMA_TABLE_DELIMITER = "-";
+
+  private final Map<String, SyncService> syncServices;
+
+  private final Map<String, Supplier<Record>> recordFactories;
+
+  private final Map<DispatchKey, Dispatch> dispatches = new ConcurrentHashMap<>();
+
+  /**
+   * Create a registry from the available sync services and record subtypes.
+   *
+   * @param syncServices The sync services, keyed by bean name.
+   * @param beanFactory  The bean factory to find record subtypes in.
+   */
+  RecordDispatchRegistry(Map<String, SyncService> syncServices, ListableBeanFactory beanFactory) {
+    this.syncServices = Map.copyOf(syncServices);
+
+    Map<String, Supplier<Record>> factories = new HashMap<>();
+
+    for (String beanName : beanFactory.getBeanNamesForType(Record.class, true, false)) {
+      Class<?> beanType = beanFactory.getType(beanName);
+
+      if (beanType != null && Record.class.isAssignableFrom(beanType)) {
+        Constructor<? extends Record> constructor = ClassUtils.getConstructorIfAvailable(
+            beanType.asSubclass(Record.class));
+
+        if (constructor != null) {
+          factories.put(beanName, () -> BeanUtils.instantiateClass(constructor));
+        }
+      }
+    }
+
+    recordFactories = Map.copyOf(factories);
+    log.info("Registered {} sync services and {} record types.", this.syncServices.size(),
+        recordFactories.size());
+  }
+
+  /**
+   * Get the dispatch details for the given schema and table.
+   *
+   * @param schema The schema of the record.
+   * @param table  The table of the record.
+   * @return The dispatch details, never null.
+   */
+  public Dispatch getDispatch(@Nullable String schema, @Nullable String table) {
+    return dispatches.computeIfAbsent(new DispatchKey(schema, table), this::resolve);
+  }
+
+  /**
+   * Resolve the dispatch details for a schema and table, the closest appropriate service is
+   * selected based on the schema and table.
+   *
+   * @param key The schema and table to resolve.
+   * @return The resolved dispatch details.
+   */
+  private Dispatch resolve(DispatchKey key) {
+    String schema = key.schema();
+    String table = key.table();
+
+    Supplier<Record> recordFactory = table == null ? null : recordFactories.get(table);
+
+    if (recordFactory == null) {
+      log.debug("No Record child type found for '{}'.", table);
+    }
+
+    SyncService service = syncServices.get(schema + SCHEMA_TABLE_DELIMITER + table);
+
+    if (service != null) {
+      log.info("Sync service found for table '{}' in '{}'", table, schema);
+    } else {
+      log.debug("Sync service not found for table '{}', falling back to schema '{}'.", table,
+          schema);
+      service = schema == null ? null : syncServices.get(schema);
+
+      if (service != null) {
+        log.info("Sync service found for schema '{}'", schema);
+      } else {
+        log.info("No sync service found for table '{}' in '{}'", table, schema);
+      }
+    }
+
+    boolean supported = service != null && service.supports(table);
+
+    if (service != null && !supported) {
+      log.info("Table '{}' in '{}' is not supported by sync service '{}'", table, schema,
+          service.getClass());
+    }
+
+    return new Dispatch(schema, table, recordFactory, service, supported);
+  }
+
+  /**
+   * A schema and table key for dispatch lookups.
+   *
+   * @param schema The record schema.
+   * @param table  The record table.
+   */
+  private record DispatchKey(String schema, String table) {
+
+  }
+
+  /**
+   * The resolved dispatch details for a schema and table.
+   *
+   * @param schema        The record schema.
+   * @param table         The record table.
+   * @param recordFactory A factory for the record subtype, null if no subtype is available.
+   * @param syncService   The sync service to use, null if the record is unhandled.
+   * @param supported     Whether the sync service supports the table.
+   */
+  public record Dispatch(String schema, String table, @Nullable Supplier<Record> recordFactory,
+                         @Nullable SyncService syncService, boolean supported) {
+
+  }
+}
@@ -21,98 +21,316 @@
 
 package uk.nhs.hee.tis.trainee.sync.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeansException;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
-import uk.nhs.hee.tis.trainee.sync.dto.RecordDto;
-import uk.nhs.hee.tis.trainee.sync.mapper.RecordMapper;
-import uk.nhs.hee.tis.trainee.sync.model.ProgrammeMembership;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+import uk.nhs.hee.tis.trainee.sync.service.RecordDispatchRegistry.Dispatch;
 
 @Slf4j
 @Service
 public class RecordService {
 
-  private final ApplicationContext context;
+  static final String RECORD_TIMER_NAME = "sync.record";
 
-  private final RecordMapper mapper;
+  private final RecordDispatchRegistry dispatchRegistry;
 
-  RecordService(ApplicationContext context, RecordMapper mapper) {
-    this.context = context;
-    this.mapper = mapper;
+  private final BulkLoadService bulkLoadService;
+
+  private final RecordVersionService recordVersionService;
+
+  private final MeterRegistry meterRegistry;
+
+  private final MessagingMetrics messagingMetrics;
+
+  RecordService(RecordDispatchRegistry dispatchRegistry, BulkLoadService bulkLoadService,
+      RecordVersionService recordVersionService, MeterRegistry meterRegistry,
+      MessagingMetrics messagingMetrics) {
+    this.dispatchRegistry = dispatchRegistry;
+    this.bulkLoadService = bulkLoadService;
+    this.recordVersionService = recordVersionService;
+    this.meterRegistry = meterRegistry;
+    this.messagingMetrics = messagingMetrics;
   }
 
   /**
-   * Process the given record.
+   * Process the given record, the number of outbound messages emitted while processing is
+   * recorded as the record's fan-out.
    *
-   * @param recordDto The record to process.
+   * @param recrd The record to process.
    */
-  public void processRecord(RecordDto recordDto) {
-    Record recrd = convertToRecord(recordDto);
+  public void processRecord(Record recrd) {
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.ERROR;
+    messagingMetrics.startFanOut();
 
+    try {
+      outcome = doProcessRecord(recrd);
+    } finally {
+      recordDuration(recrd, outcome, System.nanoTime() - start);
+      messagingMetrics.recordFanOut(recrd, messagingMetrics.stopFanOut());
+    }
+  }
+
+  /**
+   * Process the given record.
+   *
+   * @param recrd The record to process.
+   * @return The outcome of processing the record.
+   */
+  private Outcome doProcessRecord(Record recrd) {
     if (recrd.getType().equals(RecordType.CONTROL)) {
       log.info("Skipping non-data record with operation '{}' on '{}.{}'.", recrd.getOperation(),
           recrd.getSchema(), recrd.getTable());
+      bulkLoadService.complete(recrd.getSchema(), recrd.getTable());
+      return Outcome.SKIPPED_CONTROL;
+    }
+
+    if (bulkLoadService.isBulkLoad(recrd)) {
+      bulkLoadService.load(List.of(recrd));
+      return Outcome.BULK_LOADED;
+    }
+
+    Dispatch dispatch = dispatchRegistry.getDispatch(recrd.getSchema(), recrd.getTable());
+    SyncService service = dispatch.syncService();
+
+    if (service == null) {
+      log.debug("Unhandled record schema '{}'.", recrd.getSchema());
+      return Outcome.UNHANDLED_SCHEMA;
+    }
+
+    if (!dispatch.supported()) {
+      log.debug("Unsupported record table '{}' in '{}'.", recrd.getTable(), recrd.getSchema());
+      return Outcome.UNSUPPORTED;
+    }
+
+    if (recordVersionService.isStale(recrd)) {
+      log.info("Skipping stale record with operation '{}' on '{}.{}' for id '{}'.",
+          recrd.getOperation(), recrd.getSchema(), recrd.getTable(), recrd.getTisId());
+      return Outcome.STALE;
+    }
+
+    log.debug("Using sync service of type '{}'.", service.getClass());
+    service.syncRecord(recrd);
+    recordVersionService.recordApplied(recrd);
+    return Outcome.SYNCED;
+  }
+
+  /**
+   * Process a batch of records, the records are grouped by schema and table so that each sync
+   * service can handle its slice of the batch in one go. The order of records is retained within
+   * each group.
+   *
+   * <p>Control records act as a barrier, the records preceding a control record are synced before
+   * the control record is handled so that a bulk load is only completed once all of its records
+   * have been loaded.
+   *
+   * @param records The records to process.
+   */
+  public void processRecords(List<Record> records) {
+    Map<Dispatch, List<Record>> groupedRecords = new LinkedHashMap<>();
+
+    for (Record recrd : records) {
+      Dispatch dispatch = dispatchRegistry.getDispatch(recrd.getSchema(), recrd.getTable());
+
+      if (recrd.getType().equals(RecordType.CONTROL)) {
+        groupedRecords.forEach(this::syncRecords);
+        groupedRecords.clear();
+
+        long start = System.nanoTime();
+        log.info("Skipping non-data record with operation '{}' on '{}.{}'.", recrd.getOperation(),
+            recrd.getSchema(), recrd.getTable());
+        bulkLoadService.complete(recrd.getSchema(), recrd.getTable());
+        recordDuration(recrd, Outcome.SKIPPED_CONTROL, System.nanoTime() - start);
+        continue;
+      }
+
+      groupedRecords.computeIfAbsent(dispatch, key -> new ArrayList<>()).add(recrd);
+    }
+
+    groupedRecords.forEach(this::syncRecords);
+  }
+
+  /**
+   * Sync a group of records with the same schema and table. Consecutive load records are bulk
+   * loaded when supported, retaining the overall order of the group.
+   *
+   * @param dispatch The dispatch details for the records' schema and table.
+   * @param records  The records to sync.
+   */
+  private void syncRecords(Dispatch dispatch, List<Record> records) {
+    List<Record> run = new ArrayList<>();
+    boolean bulkRun = false;
+
+    for (Record recrd : records) {
+      boolean bulkLoad = bulkLoadService.isBulkLoad(recrd);
+
+      if (bulkLoad != bulkRun && !run.isEmpty()) {
+        syncRun(dispatch, run, bulkRun);
+        run = new ArrayList<>();
+      }
+
+      run.add(recrd);
+      bulkRun = bulkLoad;
+    }
+
+    if (!run.isEmpty()) {
+      syncRun(dispatch, run, bulkRun);
+    }
+  }
+
+  /**
+   * Sync a run of records, either by bulk loading or using the sync service. The duration and
+   * fan-out of the run are apportioned evenly across its records. Stale records are skipped unless
+   * bulk loading.
+   *
+   * @param dispatch The dispatch details for the records' schema and table.
+   * @param records  The records to sync.
+   * @param bulkLoad Whether the records should be bulk loaded.
+   */
+  private void syncRun(Dispatch dispatch, List<Record> records, boolean bulkLoad) {
+    List<Record> toSync = bulkLoad || !dispatch.supported()
+        ? records : removeStale(dispatch, records);
+
+    if (toSync.isEmpty()) {
       return;
     }
 
-    String schema = recrd.getSchema();
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.ERROR;
+    messagingMetrics.startFanOut();
 
     try {
-      SyncService service = getSyncService(recrd);
-      service.syncRecord(recrd);
-    } catch (BeansException e) {
-      log.warn("Unhandled record schema '{}'.", schema);
+      outcome = doSyncRun(dispatch, toSync, bulkLoad);
+    } finally {
+      long duration = (System.nanoTime() - start) / toSync.size();
+      double fanOut = (double) messagingMetrics.stopFanOut() / toSync.size();
+
+      for (Record recrd : toSync) {
+        recordDuration(recrd, outcome, duration);
+        messagingMetrics.recordFanOut(recrd, fanOut);
+      }
     }
   }
 
   /**
-   * Convert the DTO into an entity.
+   * Remove the records which are older than the last record applied for the same entity.
    *
-   * @param recordDto The DTO to convert.
-   * @return The Record entity, will be created as a Record subtype if available.
+   * @param dispatch The dispatch details for the records' schema and table.
+   * @param records  The records to check.
+   * @return The records which are not stale, in their original order.
    */
-  private Record convertToRecord(RecordDto recordDto) {
-    Record source = mapper.toEntity(recordDto);
-    String table = source.getTable();
+  private List<Record> removeStale(Dispatch dispatch, List<Record> records) {
+    long start = System.nanoTime();
+    Set<Record> staleRecords = recordVersionService.findStale(records);
 
-    try {
-      Record target = context.getBean(table, Record.class);
-      mapper.copy(source, target);
-      return target;
-    } catch (BeansException e) {
-      log.debug("No Record child type found for '{}'.", table);
-      return source;
+    if (staleRecords.isEmpty()) {
+      return records;
+    }
+
+    log.info("Skipping {} stale batched records for '{}.{}'.", staleRecords.size(),
+        dispatch.schema(), dispatch.table());
+    long duration = (System.nanoTime() - start) / records.size();
+    List<Record> freshRecords = new ArrayList<>();
+
+    for (Record recrd : records) {
+      if (staleRecords.contains(recrd)) {
+        recordDuration(recrd, Outcome.STALE, duration);
+      } else {
+        freshRecords.add(recrd);
+      }
+    }
+
+    return freshRecords;
+  }
+
+  /**
+   * Sync a run of records, either by bulk loading or using the sync service.
+   *
+   * @param dispatch The dispatch details for the records' schema and table.
+   * @param records  The records to sync.
+   * @param bulkLoad Whether the records should be bulk loaded.
+   * @return The outcome of syncing the records.
+   */
+  private Outcome doSyncRun(Dispatch dispatch, List<Record> records, boolean bulkLoad) {
+    if (bulkLoad) {
+      log.debug("Bulk loading {} batched records for '{}.{}'.", records.size(), dispatch.schema(),
+          dispatch.table());
+      bulkLoadService.load(records);
+      return Outcome.BULK_LOADED;
+    }
+
+    SyncService service = dispatch.syncService();
+
+    if (service == null) {
+      log.debug("Unhandled record schema '{}'.", dispatch.schema());
+      return Outcome.UNHANDLED_SCHEMA;
+    }
+
+    if (!dispatch.supported()) {
+      log.debug("Unsupported record table '{}' in '{}'.", dispatch.table(), dispatch.schema());
+      return Outcome.UNSUPPORTED;
     }
+
+    log.debug("Processing {} batched records for '{}.{}' using sync service of type '{}'.",
+        records.size(), dispatch.schema(), dispatch.table(), service.getClass());
+    service.syncRecords(records);
+    recordVersionService.recordApplied(records);
+    return Outcome.SYNCED;
   }
 
   /**
-   * Get the sync service for the given record, the closest appropriate service is selected based on
-   * the schema and table of the record.
+   * Record the processing duration of a record, the timer's count also acts as a counter of
+   * records by schema, table, operation and outcome.
    *
-   * @param recrd The record to get the service for.
-   * @return The discovered sync service.
-   * @throws BeansException When no appropriate service was found.
+   * @param recrd    The processed record.
+   * @param outcome  The outcome of processing the record.
+   * @param duration The duration of processing, in nanoseconds.
    */
-  private SyncService getSyncService(Record recrd) throws BeansException {
-    SyncService service;
-    String schema = recrd.getSchema();
-    String table = recrd.getTable();
+  private void recordDuration(Record recrd, Outcome outcome, long duration) {
+    Operation operation = recrd.getOperation();
+    String operationTag = operation == null ? "unknown" : operation.name().toLowerCase(Locale.ROOT);
 
-    try {
-      String schemaTable = String.format("%s-%s", schema, table);
-      service = context.getBean(schemaTable, SyncService.class);
-      log.info("Sync service found for table '{}' in '{}'", table, schema);
-    } catch (BeansException e) {
-      log.debug("Sync service not found for table '{}', falling back to schema '{}'.", table,
-          schema);
-      service = context.getBean(schema, SyncService.class);
-      log.info("Sync service found for schema '{}'", schema);
+    Timer.builder(RECORD_TIMER_NAME)
+        .description("The time taken to process incoming records.")
+        .tag("schema", String.valueOf(recrd.getSchema()))
+        .tag("table", String.valueOf(recrd.getTable()))
+        .tag("operation", operationTag)
+        .tag("outcome", outcome.getTagValue())
+        .register(meterRegistry)
+        .record(duration, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * The possible outcomes of processing a record.
+   */
+  enum Outcome {
+    SYNCED("synced"),
+    BULK_LOADED("bulk-loaded"),
+    SKIPPED_CONTROL("skipped-control"),
+    STALE("stale"),
+    UNHANDLED_SCHEMA("unhandled-schema"),
+    UNSUPPORTED("unsupported"),
+    ERROR("error");
+
+    private final String tagValue;
+
+    Outcome(String tagValue) {
+      this.tagValue = tagValue;
     }
 
-    log.debug("Using sync service of type '{}'.", service.getClass());
-    return service;
+    String getTagValue() {
+      return tagValue;
+    }
   }
 }
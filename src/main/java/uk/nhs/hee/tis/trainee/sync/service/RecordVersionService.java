@@ -0,0 +1,257 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+
+/**
+ * A service for tracking the source change timestamp of the last record applied for each entity,
+ * allowing late or redelivered records to be rejected before they overwrite newer data.
+ *
+ * <p>Versions expire once no newer record has been applied for the {@link #TIME_TO_LIVE}, after
+ * which a late record for the entity is no longer rejected.
+ */
+@Slf4j
+@Service
+public class RecordVersionService {
+
+  /**
+   * How long a version is kept after it was applied, this covers the maximum SQS message
+   * retention period so redelivered records are still compared against it.
+   */
+  public static final Duration TIME_TO_LIVE = Duration.ofDays(14);
+
+  public static final String COLLECTION_NAME = "RecordVersion";
+  public static final String APPLIED_FIELD = "applied";
+  static final String TIMESTAMP_FIELD = "timestamp";
+
+  private static final String ID_FIELD = "_id";
+  private static final String TIMESTAMP_METADATA = "timestamp";
+  private static final String KEY_DELIMITER = "::";
+
+  private final MongoTemplate mongoTemplate;
+
+  RecordVersionService(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Whether the given record is older than the last record applied for the same entity.
+   *
+   * @param recrd The record to check.
+   * @return true if a newer record has already been applied, else false.
+   */
+  public boolean isStale(Record recrd) {
+    Long version = getVersion(recrd);
+
+    if (version == null) {
+      return false;
+    }
+
+    Query query = new Query(Criteria.where(ID_FIELD).is(getKey(recrd))
+        .and(TIMESTAMP_FIELD).gt(version));
+    return mongoTemplate.exists(query, COLLECTION_NAME);
+  }
+
+  /**
+   * Find the records which are older than the last record applied for the same entity, this
+   * includes records superseded by a newer record earlier in the given list.
+   *
+   * @param records The records to check.
+   * @return The stale records, compared by identity.
+   */
+  public Set<Record> findStale(List<Record> records) {
+    Set<Record> staleRecords = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<String> keys = new LinkedHashSet<>();
+
+    for (Record recrd : records) {
+      if (getVersion(recrd) != null) {
+        keys.add(getKey(recrd));
+      }
+    }
+
+    if (keys.isEmpty()) {
+      return staleRecords;
+    }
+
+    Map<String, Long> appliedVersions = new HashMap<>();
+    Query query = new Query(Criteria.where(ID_FIELD).in(keys));
+    mongoTemplate.find(query, Document.class, COLLECTION_NAME).forEach(
+        document -> appliedVersions.put(document.getString(ID_FIELD),
+            document.getLong(TIMESTAMP_FIELD)));
+
+    for (Record recrd : records) {
+      Long version = getVersion(recrd);
+
+      if (version == null) {
+        continue;
+      }
+
+      String key = getKey(recrd);
+      Long appliedVersion = appliedVersions.get(key);
+
+      if (appliedVersion != null && appliedVersion > version) {
+        staleRecords.add(recrd);
+      } else {
+        appliedVersions.put(key, version);
+      }
+    }
+
+    return staleRecords;
+  }
+
+  /**
+   * Store the given record as the last applied for its entity, unless a newer record has already
+   * been applied.
+   *
+   * @param recrd The applied record.
+   */
+  public void recordApplied(Record recrd) {
+    Long version = getVersion(recrd);
+
+    if (version == null) {
+      return;
+    }
+
+    // The upsert only matches an older version, a newer version causes a duplicate key instead.
+    Query query = new Query(Criteria.where(ID_FIELD).is(getKey(recrd))
+        .and(TIMESTAMP_FIELD).lt(version));
+    Update update = new Update().set(TIMESTAMP_FIELD, version)
+        .set(APPLIED_FIELD, Instant.now());
+
+    try {
+      mongoTemplate.upsert(query, update, COLLECTION_NAME);
+    } catch (DuplicateKeyException e) {
+      log.debug("A newer version of '{}' has already been applied.", getKey(recrd));
+    }
+  }
+
+  /**
+   * Store the given records as the last applied for their entities, unless newer records have
+   * already been applied.
+   *
+   * @param records The applied records.
+   */
+  public void recordApplied(List<Record> records) {
+    Map<String, Long> versions = new LinkedHashMap<>();
+
+    for (Record recrd : records) {
+      Long version = getVersion(recrd);
+
+      if (version != null) {
+        versions.merge(getKey(recrd), version, Math::max);
+      }
+    }
+
+    if (versions.isEmpty()) {
+      return;
+    }
+
+    Instant applied = Instant.now();
+    List<UpdateOneModel<Document>> writes = new ArrayList<>();
+    versions.forEach((key, version) -> writes.add(new UpdateOneModel<>(
+        Filters.and(Filters.eq(ID_FIELD, key), Filters.lt(TIMESTAMP_FIELD, version)),
+        Updates.combine(Updates.set(TIMESTAMP_FIELD, version), Updates.set(APPLIED_FIELD, applied)),
+        new UpdateOptions().upsert(true))));
+
+    try {
+      mongoTemplate.getCollection(COLLECTION_NAME)
+          .bulkWrite(writes, new BulkWriteOptions().ordered(false));
+    } catch (MongoBulkWriteException e) {
+      boolean onlyDuplicates = e.getWriteErrors().stream()
+          .allMatch(error -> ErrorCategory.fromErrorCode(error.getCode())
+              == ErrorCategory.DUPLICATE_KEY);
+
+      if (!onlyDuplicates) {
+        throw e;
+      }
+      log.debug("Newer versions of {} records have already been applied.",
+          e.getWriteErrors().size());
+    }
+  }
+
+  /**
+   * Get the version of a record, based on the source change timestamp in its metadata.
+   *
+   * @param recrd The record to get the version of.
+   * @return The version in microseconds since the epoch, or null if the record is not versioned.
+   */
+  private Long getVersion(Record recrd) {
+    if (recrd.getType() != RecordType.DATA || recrd.getTisId() == null
+        || recrd.getMetadata() == null) {
+      return null;
+    }
+
+    String timestamp = recrd.getMetadata().get(TIMESTAMP_METADATA);
+
+    if (timestamp == null) {
+      return null;
+    }
+
+    try {
+      return ChronoUnit.MICROS.between(Instant.EPOCH, Instant.parse(timestamp));
+    } catch (DateTimeParseException e) {
+      log.warn("Unable to parse record timestamp '{}', skipping version check.", timestamp);
+      return null;
+    }
+  }
+
+  /**
+   * Get the version key of the entity represented by a record.
+   *
+   * @param recrd The record to get the key for.
+   * @return The version key.
+   */
+  String getKey(Record recrd) {
+    return recrd.getSchema() + KEY_DELIMITER + recrd.getTable() + KEY_DELIMITER
+        + recrd.getTisId();
+  }
+}
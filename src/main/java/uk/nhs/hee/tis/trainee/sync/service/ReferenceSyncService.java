@@ -106,6 +106,11 @@ public class ReferenceSyncService implements SyncService {
     }
   }
 
+  @Override
+  public boolean supports(String table) {
+    return TABLE_NAME_TO_REFERENCE_TYPE.containsKey(table);
+  }
+
   /**
    * Get the reference type based on the {@link Record}.
    *
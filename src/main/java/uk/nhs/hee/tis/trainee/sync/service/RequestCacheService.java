@@ -21,12 +21,22 @@
 
 package uk.nhs.hee.tis.trainee.sync.service;
 
+import io.lettuce.core.LettuceFutures;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.SetArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
@@ -35,6 +45,7 @@ public class RequestCacheService {
 
   private static final String KEY_DELIMITER = "::";
   private static final String KEY_SUFFIX = "request";
+  private static final String CLAIMED = "OK";
 
   @Value("${spring.data.redis.requests-cache.database}")
   private Integer redisDb;
@@ -42,10 +53,14 @@ public class RequestCacheService {
   private Long redisTtl;
 
   private final RedisCommands<String, String> syncCommands;
+  private final RedisAsyncCommands<String, String> asyncCommands;
+  private final Duration commandTimeout;
 
   RequestCacheService(RedisClient redisClient) {
     StatefulRedisConnection<String, String> connection = redisClient.connect();
     syncCommands = connection.sync();
+    asyncCommands = connection.async();
+    commandTimeout = connection.getTimeout();
   }
 
   @PostConstruct
@@ -66,6 +81,65 @@ public class RequestCacheService {
         new SetArgs().ex(Duration.ofMinutes(redisTtl)));
   }
 
+  /**
+   * Claim the request for an entity, the claim is made atomically so only one caller will be able
+   * to claim a request until the claim is deleted or expires.
+   *
+   * @param entityType The type of the entity to request.
+   * @param id         The ID of the entity to request.
+   * @return Whether the request was claimed, false if it has already been claimed.
+   */
+  public boolean claimRequest(String entityType, String id) {
+    return CLAIMED.equals(
+        syncCommands.set(getCacheKey(entityType, id), getClaimValue(), getClaimArgs()));
+  }
+
+  /**
+   * Claim the request for an entity without waiting for the reply.
+   *
+   * @param entityType The type of the entity to request.
+   * @param id         The ID of the entity to request.
+   * @return A future completing with whether the request was claimed.
+   * @see #claimRequest(String, String)
+   */
+  public CompletableFuture<Boolean> claimRequestAsync(String entityType, String id) {
+    return asyncCommands.set(getCacheKey(entityType, id), getClaimValue(), getClaimArgs())
+        .toCompletableFuture()
+        .thenApply(CLAIMED::equals);
+  }
+
+  /**
+   * Claim the requests for a batch of entities, the claims are pipelined so the whole batch only
+   * waits on a single round trip.
+   *
+   * @param entityType The type of the entities to request.
+   * @param ids        The IDs of the entities to request.
+   * @return The IDs of the entities which were claimed, already claimed IDs are excluded.
+   * @see #claimRequest(String, String)
+   */
+  public Set<String> claimRequests(String entityType, Collection<String> ids) {
+    Map<String, CompletableFuture<Boolean>> claims = new HashMap<>();
+
+    for (String id : ids) {
+      claims.put(id, claimRequestAsync(entityType, id));
+    }
+
+    LettuceFutures.awaitAll(commandTimeout, claims.values().toArray(new CompletableFuture[0]));
+
+    return claims.entrySet().stream()
+        .filter(claim -> claim.getValue().join())
+        .map(Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  private String getClaimValue() {
+    return Instant.now().toString();
+  }
+
+  private SetArgs getClaimArgs() {
+    return new SetArgs().nx().ex(Duration.ofMinutes(redisTtl));
+  }
+
   String getCacheKey(String entityType, String id) {
     return entityType + KEY_DELIMITER + id + KEY_DELIMITER + KEY_SUFFIX;
   }
@@ -75,14 +75,17 @@ public class SiteSyncService implements SyncService {
    * @param id the Site id
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Site.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(Site.ENTITY_NAME, id)) {
       log.info("Sending request for Site [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(Site.ENTITY_NAME, id,
-            dataRequestService.sendRequest(Site.ENTITY_NAME, Map.of("id", id)));
+        dataRequestService.sendRequest(Site.ENTITY_NAME, Map.of("id", id));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a Site", e);
+        requestCacheService.deleteItemFromCache(Site.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(Site.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested Site [{}].", id);
@@ -0,0 +1,303 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import uk.nhs.hee.tis.trainee.sync.config.SnsBatchProperties;
+
+/**
+ * A non-blocking SNS publisher, which groups events per topic in to batch publish requests. The
+ * batches for each topic are published in order, one at a time, to keep FIFO message group
+ * ordering. A batch is limited by both its number of entries and its total payload size.
+ *
+ * <p>Callers are not expected to wait for the returned futures, so the source message is
+ * acknowledged before its events have been published and an event which fails to publish, or is
+ * pending when the service stops, is not retried. This matches the direct publishing, which logs
+ * and drops failed events, in exchange for not holding the listener for the linger period. The
+ * outbox should be used instead where events must not be lost.
+ */
+@Slf4j
+@Service
+public class SnsBatchPublisher {
+
+  // the maximum number of entries allowed in a single SNS batch request
+  static final int MAX_BATCH_SIZE = 10;
+
+  // the maximum total payload, of messages and attributes, allowed in a single SNS batch request
+  static final int MAX_BATCH_BYTES = 256 * 1024;
+
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+  private final SnsAsyncClient snsClient;
+
+  private final SnsBatchProperties properties;
+
+  private final Map<String, TopicBatch> topicBatches = new HashMap<>();
+
+  private final ScheduledExecutorService flushExecutor;
+
+  SnsBatchPublisher(SnsAsyncClient snsClient, SnsBatchProperties properties) {
+    this.snsClient = snsClient;
+    this.properties = properties;
+
+    if (properties.enabled()) {
+      flushExecutor = Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().daemon().name("sns-batch-flush").factory());
+    } else {
+      flushExecutor = null;
+    }
+  }
+
+  /**
+   * Whether events should be published by this publisher.
+   *
+   * @return true if batch publishing is enabled, else false.
+   */
+  public boolean isEnabled() {
+    return properties.enabled();
+  }
+
+  /**
+   * Add a publish request to the batch for its topic, the batch is published once full or once the
+   * linger period has expired.
+   *
+   * @param request The request to publish.
+   * @return A future which completes once the request has been published, or exceptionally if it
+   *     could not be published.
+   */
+  public CompletableFuture<Void> publish(PublishRequest request) {
+    String topicArn = request.topicArn();
+    CompletableFuture<Void> published = new CompletableFuture<>();
+    int entryBytes = getPayloadSize(request);
+    boolean full;
+
+    synchronized (topicBatches) {
+      TopicBatch batch = topicBatches.computeIfAbsent(topicArn, key -> new TopicBatch());
+
+      if (!batch.pending.isEmpty() && batch.pendingBytes + entryBytes > MAX_BATCH_BYTES) {
+        // the entry would take the batch over the size limit, so it starts the next batch
+        flush(topicArn);
+      }
+
+      if (batch.pending.isEmpty() && flushExecutor != null) {
+        flushExecutor.schedule(() -> flush(topicArn), properties.linger().toMillis(),
+            TimeUnit.MILLISECONDS);
+      }
+
+      PublishBatchRequestEntry entry = PublishBatchRequestEntry.builder()
+          .id(String.valueOf(batch.pending.size()))
+          .message(request.message())
+          .messageGroupId(request.messageGroupId())
+          .messageDeduplicationId(request.messageDeduplicationId())
+          .messageAttributes(request.messageAttributes())
+          .build();
+      batch.pending.add(new PendingEntry(entry, published));
+      batch.pendingBytes += entryBytes;
+      full = batch.pending.size() >= MAX_BATCH_SIZE || batch.pendingBytes >= MAX_BATCH_BYTES
+          || flushExecutor == null;
+    }
+
+    if (full) {
+      flush(topicArn);
+    }
+
+    return published;
+  }
+
+  /**
+   * Publish any pending entries and wait for all in-flight batches to complete.
+   */
+  @PreDestroy
+  void shutdown() {
+    if (flushExecutor == null) {
+      return;
+    }
+
+    flushExecutor.shutdownNow();
+    List<CompletableFuture<Void>> tails = new ArrayList<>();
+
+    List<String> topicArns;
+    synchronized (topicBatches) {
+      topicArns = new ArrayList<>(topicBatches.keySet());
+    }
+
+    for (String topicArn : topicArns) {
+      tails.add(flush(topicArn));
+    }
+
+    try {
+      CompletableFuture.allOf(tails.toArray(CompletableFuture[]::new))
+          .get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      log.warn("Unable to confirm all SNS batches were published before shutdown.", e);
+    }
+  }
+
+  /**
+   * Publish the pending entries for a topic, once any in-flight batch for the topic completes.
+   *
+   * @param topicArn The topic to publish the pending entries of.
+   * @return The future completing once the topic's last batch has been published.
+   */
+  CompletableFuture<Void> flush(String topicArn) {
+    synchronized (topicBatches) {
+      TopicBatch batch = topicBatches.get(topicArn);
+
+      if (batch == null || batch.pending.isEmpty()) {
+        return batch == null ? CompletableFuture.completedFuture(null) : batch.tail;
+      }
+
+      List<PendingEntry> entries = batch.pending;
+      batch.pending = new ArrayList<>();
+      batch.pendingBytes = 0;
+      batch.tail = batch.tail.thenCompose(previous -> publishBatch(topicArn, entries));
+      return batch.tail;
+    }
+  }
+
+  /**
+   * Publish a batch of entries to a topic, completing each entry's future with its result.
+   *
+   * @param topicArn The topic to publish to.
+   * @param entries  The entries to publish.
+   * @return A future completing once the batch has been handled, it never completes exceptionally
+   *     so later batches are still published.
+   */
+  private CompletableFuture<Void> publishBatch(String topicArn, List<PendingEntry> entries) {
+    PublishBatchRequest request = PublishBatchRequest.builder()
+        .topicArn(topicArn)
+        .publishBatchRequestEntries(entries.stream().map(PendingEntry::entry).toList())
+        .build();
+
+    CompletableFuture<PublishBatchResponse> response;
+    try {
+      response = snsClient.publishBatch(request);
+    } catch (RuntimeException e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+
+    return response.handle((result, error) -> {
+      if (error != null) {
+        log.error("Failed to send batch of {} events to SNS topic '{}'.", entries.size(),
+            topicArn, error);
+        entries.forEach(pending -> pending.published().completeExceptionally(error));
+        return null;
+      }
+
+      Map<String, BatchResultErrorEntry> failures = new HashMap<>();
+      result.failed().forEach(failure -> failures.put(failure.id(), failure));
+
+      for (PendingEntry pending : entries) {
+        BatchResultErrorEntry failure = failures.get(pending.entry().id());
+
+        if (failure == null) {
+          pending.published().complete(null);
+        } else {
+          log.error("Failed to send event to SNS topic '{}': {} {}", topicArn, failure.code(),
+              failure.message());
+          pending.published().completeExceptionally(new IllegalStateException(
+              String.format("Failed to send to SNS topic '%s': %s", topicArn, failure.code())));
+        }
+      }
+
+      log.info("Batch of {} trainee details change events sent to SNS.",
+          entries.size() - failures.size());
+      return null;
+    });
+  }
+
+  /**
+   * Get the size of a request's payload as counted towards the batch size limit, which is the
+   * message along with the name, type and value of each message attribute.
+   *
+   * @param request The request to get the payload size of.
+   * @return The payload size in bytes.
+   */
+  static int getPayloadSize(PublishRequest request) {
+    int size = utf8Length(request.message());
+
+    for (Map.Entry<String, MessageAttributeValue> attribute
+        : request.messageAttributes().entrySet()) {
+      MessageAttributeValue value = attribute.getValue();
+      size += utf8Length(attribute.getKey()) + utf8Length(value.dataType())
+          + utf8Length(value.stringValue());
+
+      if (value.binaryValue() != null) {
+        size += value.binaryValue().asByteArrayUnsafe().length;
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Get the UTF-8 encoded length of a string.
+   *
+   * @param value The string, may be null.
+   * @return The encoded length in bytes, zero if the string is null.
+   */
+  private static int utf8Length(String value) {
+    return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  /**
+   * The pending entries for a topic, along with the future of the topic's latest batch.
+   */
+  private static class TopicBatch {
+
+    private List<PendingEntry> pending = new ArrayList<>();
+    private int pendingBytes;
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * A batch entry waiting to be published.
+   *
+   * @param entry     The batch request entry.
+   * @param published The future to complete once the entry is published.
+   */
+  private record PendingEntry(PublishBatchRequestEntry entry, CompletableFuture<Void> published) {
+
+  }
+}
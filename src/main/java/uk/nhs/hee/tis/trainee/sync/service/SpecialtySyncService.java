@@ -76,14 +76,17 @@ public class SpecialtySyncService implements SyncService {
    * @param id The id of the specialty to be retrieved.
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Specialty.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(Specialty.ENTITY_NAME, id)) {
       log.info("Sending request for Specialty [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(Specialty.ENTITY_NAME, id,
-            dataRequestService.sendRequest(Specialty.ENTITY_NAME, Map.of("id", id)));
+        dataRequestService.sendRequest(Specialty.ENTITY_NAME, Map.of("id", id));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to request a Specialty", e);
+        requestCacheService.deleteItemFromCache(Specialty.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(Specialty.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested Specialty [{}].", id);
@@ -21,6 +21,7 @@
 
 package uk.nhs.hee.tis.trainee.sync.service;
 
+import java.util.List;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
 
 /**
@@ -35,4 +36,26 @@ public interface SyncService {
    * @param recrd The record to synchronize.
    */
   void syncRecord(Record recrd);
+
+  /**
+   * Whether the given table is supported by this service. Records for unsupported tables are
+   * dropped before they are synchronized.
+   *
+   * @param table The table to check.
+   * @return true if records of the table can be synchronized, else false.
+   */
+  default boolean supports(String table) {
+    return true;
+  }
+
+  /**
+   * Synchronize a batch of records, all records in the batch will share the same schema and table.
+   * By default each record is synchronized individually, services which can handle a batch more
+   * efficiently should override this method.
+   *
+   * @param records The records to synchronize, in the order they were received.
+   */
+  default void syncRecords(List<Record> records) {
+    records.forEach(this::syncRecord);
+  }
 }
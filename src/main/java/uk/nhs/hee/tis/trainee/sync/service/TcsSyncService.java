@@ -26,7 +26,7 @@ import static uk.nhs.hee.tis.trainee.sync.model.Operation.INSERT;
 import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOAD;
 import static uk.nhs.hee.tis.trainee.sync.model.Operation.UPDATE;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -52,6 +52,7 @@ import uk.nhs.hee.tis.trainee.sync.model.ConditionsOfJoining;
 import uk.nhs.hee.tis.trainee.sync.model.Operation;
 import uk.nhs.hee.tis.trainee.sync.model.Person;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.service.MessagingMetrics.Outcome;
 
 /**
  * A service for synchronizing reference records.
@@ -106,6 +107,9 @@ public class TcsSyncService implements SyncService {
 
   private final SnsClient snsClient;
   private final ObjectMapper objectMapper;
+  private final OutboxService outboxService;
+  private final SnsBatchPublisher snsBatchPublisher;
+  private final MessagingMetrics messagingMetrics;
 
   @Value("${service.trainee.url}")
   private String serviceUrl;
@@ -115,7 +119,10 @@ public class TcsSyncService implements SyncService {
       PersonService personService,
       EventNotificationProperties eventNotificationProperties,
       SnsClient snsClient,
-      ObjectMapper objectMapper) {
+      ObjectMapper objectMapper,
+      OutboxService outboxService,
+      SnsBatchPublisher snsBatchPublisher,
+      MessagingMetrics messagingMetrics) {
     this.restTemplate = restTemplate;
     this.personService = personService;
 
@@ -135,6 +142,9 @@ public class TcsSyncService implements SyncService {
     this.eventNotificationProperties = eventNotificationProperties;
     this.snsClient = snsClient;
     this.objectMapper = objectMapper;
+    this.outboxService = outboxService;
+    this.snsBatchPublisher = snsBatchPublisher;
+    this.messagingMetrics = messagingMetrics;
   }
 
   @Override
@@ -173,13 +183,17 @@ public class TcsSyncService implements SyncService {
     }
   }
 
+  @Override
+  public boolean supports(String table) {
+    return TABLE_NAME_TO_API_PATH.containsKey(table);
+  }
+
   /**
    * Publish record change messages to SNS. A change could be an update or delete.
    *
    * @param recrd The change record.
    */
   public void publishDetailsChangeEvent(Record recrd) {
-    PublishRequest request = null;
     SnsRoute snsTopic = tableToSnsTopic(recrd.getTable(), recrd.getOperation());
 
     if (snsTopic != null) {
@@ -201,19 +215,8 @@ public class TcsSyncService implements SyncService {
       }
 
       if (treeValues != null) {
-        JsonNode eventJson = objectMapper.valueToTree(treeValues);
-        request = buildSnsRequest(eventJson, snsTopic, recrd.getSchema(), recrd.getTable(),
-            recrd.getTisId());
-      }
-    }
-
-    if (request != null) {
-      try {
-        snsClient.publish(request);
-        log.info("Trainee details change event sent to SNS.");
-      } catch (SnsException e) {
-        String message = String.format("Failed to send to SNS topic '%s'", snsTopic);
-        log.error(message, e);
+        publish(treeValues, snsTopic, recrd.getSchema(), recrd.getTable(), recrd.getOperation(),
+            recrd.getTisId(), "change event");
       }
     }
   }
@@ -224,25 +227,76 @@ public class TcsSyncService implements SyncService {
    * @param programmeMembershipEventDto The programme membership event DTO to publish.
    */
   public void publishDetailsChangeEvent(ProgrammeMembershipEventDto programmeMembershipEventDto) {
-    PublishRequest request = null;
     SnsRoute snsTopic = tableToSnsTopic(ConditionsOfJoining.ENTITY_NAME, UPDATE);
 
     if (snsTopic != null && programmeMembershipEventDto != null) {
-      JsonNode eventJson = objectMapper.valueToTree(programmeMembershipEventDto);
-      request = buildSnsRequest(eventJson, snsTopic, "tcs",
-          ConditionsOfJoining.ENTITY_NAME,
-          programmeMembershipEventDto.getProgrammeMembership().getTisId());
+      publish(programmeMembershipEventDto, snsTopic, "tcs", ConditionsOfJoining.ENTITY_NAME,
+          UPDATE, programmeMembershipEventDto.getProgrammeMembership().getTisId(),
+          "programme membership change event");
     }
+  }
 
-    if (request != null) {
-      try {
-        snsClient.publish(request);
-        log.info("Trainee details programme membership change event sent to SNS.");
-      } catch (SnsException e) {
-        String message = String.format("Failed to send programme membership to SNS topic '%s'",
-            snsTopic);
-        log.error(message, e);
-      }
+  /**
+   * Publish an event to SNS, via the outbox or batch publisher when enabled. The event is
+   * serialized directly to the message string, without building an intermediate JSON tree.
+   *
+   * @param event       The event to publish.
+   * @param snsTopic    The SNS topic to send the event to.
+   * @param schema      The source schema.
+   * @param table       The source table.
+   * @param operation   The source operation.
+   * @param tisId       The source TisId.
+   * @param description A description of the event, for logging.
+   */
+  private void publish(Object event, SnsRoute snsTopic, String schema, String table,
+      Operation operation, String tisId, String description) {
+    PublishRequest request;
+
+    try {
+      request = buildSnsRequest(objectMapper.writeValueAsString(event), snsTopic, schema, table,
+          tisId);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize trainee details {} for SNS topic '{}'.", description,
+          snsTopic, e);
+      return;
+    }
+
+    String topicArn = snsTopic.arn();
+    long start = System.nanoTime();
+
+    if (outboxService.isEnabled()) {
+      outboxService.append(outboxService.createTopicMessage(request));
+      log.info("Trainee details {} appended to outbox.", description);
+      messagingMetrics.recordSent(MessagingMetrics.CHANNEL_SNS, topicArn, table, operation,
+          Outcome.OUTBOXED, System.nanoTime() - start);
+      return;
+    }
+
+    if (snsBatchPublisher.isEnabled()) {
+      // the latency of a batched event includes the time spent waiting for its batch, the event
+      // is not waited for so failures are only logged, as when publishing directly
+      messagingMetrics.recordQueued();
+      snsBatchPublisher.publish(request).whenComplete((result, error) ->
+          messagingMetrics.recordDeferredSent(MessagingMetrics.CHANNEL_SNS, topicArn, table,
+              operation, error == null ? Outcome.SENT : Outcome.FAILED,
+              System.nanoTime() - start));
+      log.debug("Trainee details {} queued for SNS.", description);
+      return;
+    }
+
+    Outcome outcome = Outcome.FAILED;
+
+    try {
+      snsClient.publish(request);
+      outcome = Outcome.SENT;
+      log.info("Trainee details {} sent to SNS.", description);
+    } catch (SnsException e) {
+      String message = String.format("Failed to send %s to SNS topic '%s'", description,
+          snsTopic);
+      log.error(message, e);
+    } finally {
+      messagingMetrics.recordSent(MessagingMetrics.CHANNEL_SNS, topicArn, table, operation,
+          outcome, System.nanoTime() - start);
     }
   }
 
@@ -256,10 +310,10 @@ public class TcsSyncService implements SyncService {
    * @param tisId     The source TisId.
    * @return the built request.
    */
-  private PublishRequest buildSnsRequest(JsonNode eventJson, SnsRoute snsTopic, String schema,
+  private PublishRequest buildSnsRequest(String eventJson, SnsRoute snsTopic, String schema,
       String table, String tisId) {
     Builder requestBuilder = PublishRequest.builder()
-        .message(eventJson.toString())
+        .message(eventJson)
         .topicArn(snsTopic.arn());
 
     MessageAttributeValue messageAttributeValue = MessageAttributeValue.builder()
@@ -75,14 +75,17 @@ public class TrustSyncService implements SyncService {
    * @param id The id of the trust to be retrieved.
    */
   public void request(String id) {
-    if (!requestCacheService.isItemInCache(Trust.ENTITY_NAME, id)) {
+    if (requestCacheService.claimRequest(Trust.ENTITY_NAME, id)) {
       log.info("Sending request for Trust [{}]", id);
 
       try {
-        requestCacheService.addItemToCache(Trust.ENTITY_NAME, id,
-            dataRequestService.sendRequest("reference", Trust.ENTITY_NAME, Map.of("id", id)));
+        dataRequestService.sendRequest("reference", Trust.ENTITY_NAME, Map.of("id", id));
       } catch (JsonProcessingException e) {
         log.error("Error while trying to retrieve a Trust", e);
+        requestCacheService.deleteItemFromCache(Trust.ENTITY_NAME, id);
+      } catch (RuntimeException e) {
+        requestCacheService.deleteItemFromCache(Trust.ENTITY_NAME, id);
+        throw e;
       }
     } else {
       log.debug("Already requested Trust [{}].", id);
@@ -23,11 +23,18 @@ package uk.nhs.hee.tis.trainee.sync.config;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import io.awspring.cloud.autoconfigure.core.AwsClientBuilderConfigurer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.web.client.RestTemplate;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.SnsAsyncClientBuilder;
 
 class ApplicationConfigurationTest {
 
@@ -46,4 +53,15 @@ class ApplicationConfigurationTest {
 
     assertThat("Unexpected rest template.", restTemplate, notNullValue());
   }
+
+  @Test
+  void snsAsyncClient() {
+    AwsClientBuilderConfigurer configurer = mock(AwsClientBuilderConfigurer.class);
+    when(configurer.configure(any(SnsAsyncClientBuilder.class))).thenAnswer(
+        inv -> inv.<SnsAsyncClientBuilder>getArgument(0).region(Region.EU_WEST_2));
+
+    SnsAsyncClient snsAsyncClient = configuration.snsAsyncClient(configurer);
+
+    assertThat("Unexpected SNS async client.", snsAsyncClient, notNullValue());
+  }
 }
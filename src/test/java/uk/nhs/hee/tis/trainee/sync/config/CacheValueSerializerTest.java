@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheCodec;
+import uk.nhs.hee.tis.trainee.sync.model.Post;
+
+class CacheValueSerializerTest {
+
+  private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+  private Post post;
+
+  @BeforeEach
+  void setUp() {
+    post = new Post();
+    post.setTisId("post1");
+    post.setData(Map.of(
+        "employingBodyId", "trust1",
+        "trainingBodyId", "trust2",
+        "owner", "Local Office 1"));
+  }
+
+  @ParameterizedTest
+  @EnumSource(CacheCodec.class)
+  void shouldRoundTripRecords(CacheCodec codec) {
+    CacheValueSerializer serializer = new CacheValueSerializer(codec);
+
+    Object value = serializer.deserialize(serializer.serialize(post));
+
+    assertThat("Unexpected value type.", value, instanceOf(Post.class));
+    Post deserialized = (Post) value;
+    assertThat("Unexpected ID.", deserialized.getTisId(), is("post1"));
+    assertThat("Unexpected data.", deserialized.getData(), is(post.getData()));
+  }
+
+  @ParameterizedTest
+  @EnumSource(CacheCodec.class)
+  void shouldNotCacheRecordMetadata(CacheCodec codec) {
+    post.setMetadata(new HashMap<>(Map.of("timestamp", "2024-01-01T00:00:00Z")));
+    CacheValueSerializer serializer = new CacheValueSerializer(codec);
+
+    Post deserialized = (Post) serializer.deserialize(serializer.serialize(post));
+
+    assertThat("Unexpected metadata.", deserialized.getMetadata().isEmpty(), is(true));
+  }
+
+  @Test
+  void shouldWriteSmileWhenSmileCodec() {
+    CacheValueSerializer serializer = new CacheValueSerializer(CacheCodec.SMILE);
+
+    byte[] bytes = serializer.serialize(post);
+
+    byte[] header = Arrays.copyOf(bytes, SMILE_HEADER.length);
+    assertThat("Unexpected header.", header, is(SMILE_HEADER));
+  }
+
+  @Test
+  void shouldWriteJsonWhenJsonCodec() {
+    CacheValueSerializer serializer = new CacheValueSerializer(CacheCodec.JSON);
+
+    byte[] bytes = serializer.serialize(post);
+
+    assertThat("Unexpected first character.", (char) bytes[0], is('{'));
+  }
+
+  @Test
+  void shouldWriteSmallerValuesWithSmileCodec() {
+    byte[] json = new CacheValueSerializer(CacheCodec.JSON).serialize(post);
+    byte[] smile = new CacheValueSerializer(CacheCodec.SMILE).serialize(post);
+
+    assertThat("Unexpected Smile size.", smile.length, lessThan(json.length));
+  }
+
+  @Test
+  void shouldReadJsonWhenSmileCodec() {
+    byte[] json = new CacheValueSerializer(CacheCodec.JSON).serialize(post);
+
+    Object value = new CacheValueSerializer(CacheCodec.SMILE).deserialize(json);
+
+    assertThat("Unexpected value type.", value, instanceOf(Post.class));
+    assertThat("Unexpected data.", ((Post) value).getData(), is(post.getData()));
+  }
+
+  @Test
+  void shouldReadSmileWhenJsonCodec() {
+    byte[] smile = new CacheValueSerializer(CacheCodec.SMILE).serialize(post);
+
+    Object value = new CacheValueSerializer(CacheCodec.JSON).deserialize(smile);
+
+    assertThat("Unexpected value type.", value, instanceOf(Post.class));
+    assertThat("Unexpected data.", ((Post) value).getData(), is(post.getData()));
+  }
+
+  @ParameterizedTest
+  @EnumSource(CacheCodec.class)
+  void shouldReturnNullWhenBytesNull(CacheCodec codec) {
+    Object value = new CacheValueSerializer(codec).deserialize(null);
+
+    assertThat("Unexpected value.", value, nullValue());
+  }
+}
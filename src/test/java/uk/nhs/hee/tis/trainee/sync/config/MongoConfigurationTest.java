@@ -38,10 +38,12 @@ import org.mockito.ArgumentMatchers;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import uk.nhs.hee.tis.trainee.sync.model.ClaimCheck;
 import uk.nhs.hee.tis.trainee.sync.model.CurriculumMembership;
 import uk.nhs.hee.tis.trainee.sync.model.Dbc;
 import uk.nhs.hee.tis.trainee.sync.model.HeeUser;
 import uk.nhs.hee.tis.trainee.sync.model.LocalOffice;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
 import uk.nhs.hee.tis.trainee.sync.model.Placement;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSite;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSpecialty;
@@ -52,6 +54,7 @@ import uk.nhs.hee.tis.trainee.sync.model.ProgrammeMembership;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.model.UserDesignatedBody;
 import uk.nhs.hee.tis.trainee.sync.model.UserRole;
+import uk.nhs.hee.tis.trainee.sync.service.RecordVersionService;
 
 class MongoConfigurationTest {
 
@@ -66,6 +69,7 @@ class MongoConfigurationTest {
 
     IndexOperations indexOperations = mock(IndexOperations.class);
     when(template.indexOps(ArgumentMatchers.<Class<Record>>any())).thenReturn(indexOperations);
+    when(template.indexOps(ArgumentMatchers.anyString())).thenReturn(indexOperations);
   }
 
   @Test
@@ -87,6 +91,38 @@ class MongoConfigurationTest {
     assertThat("Unexpected index.", indexKeys, hasItems("data.dbc"));
   }
 
+  @Test
+  void shouldInitTimeToLiveIndexForClaimCheckCollection() {
+    IndexOperations indexOperations = mock(IndexOperations.class);
+    when(template.indexOps(ClaimCheck.class)).thenReturn(indexOperations);
+
+    configuration.initIndexes();
+
+    ArgumentCaptor<IndexDefinition> indexCaptor = ArgumentCaptor.forClass(IndexDefinition.class);
+    verify(indexOperations).createIndex(indexCaptor.capture());
+
+    IndexDefinition index = indexCaptor.getValue();
+    assertThat("Unexpected index.", index.getIndexKeys().keySet(), hasItems("created"));
+    assertThat("Unexpected time to live.", index.getIndexOptions().get("expireAfterSeconds"),
+        is(ClaimCheck.TIME_TO_LIVE.toSeconds()));
+  }
+
+  @Test
+  void shouldInitTimeToLiveIndexForRecordVersionCollection() {
+    IndexOperations indexOperations = mock(IndexOperations.class);
+    when(template.indexOps(RecordVersionService.COLLECTION_NAME)).thenReturn(indexOperations);
+
+    configuration.initIndexes();
+
+    ArgumentCaptor<IndexDefinition> indexCaptor = ArgumentCaptor.forClass(IndexDefinition.class);
+    verify(indexOperations).createIndex(indexCaptor.capture());
+
+    IndexDefinition index = indexCaptor.getValue();
+    assertThat("Unexpected index.", index.getIndexKeys().keySet(), hasItems("applied"));
+    assertThat("Unexpected time to live.", index.getIndexOptions().get("expireAfterSeconds"),
+        is(RecordVersionService.TIME_TO_LIVE.toSeconds()));
+  }
+
   @Test
   void shouldInitIndexesForCurriculumMembershipCollection() {
     IndexOperations indexOperations = mock(IndexOperations.class);
@@ -147,6 +183,28 @@ class MongoConfigurationTest {
     assertThat("Unexpected index.", indexKeys, hasItems("data.abbreviation"));
   }
 
+  @Test
+  void shouldInitIndexesForOutboxMessageCollection() {
+    IndexOperations indexOperations = mock(IndexOperations.class);
+    when(template.indexOps(OutboxMessage.class)).thenReturn(indexOperations);
+
+    configuration.initIndexes();
+
+    ArgumentCaptor<IndexDefinition> indexCaptor = ArgumentCaptor.forClass(IndexDefinition.class);
+    verify(indexOperations, atLeastOnce()).createIndex(indexCaptor.capture());
+
+    List<IndexDefinition> indexes = indexCaptor.getAllValues();
+    assertThat("Unexpected number of indexes.", indexes.size(), is(3));
+
+    List<List<String>> indexKeys = indexes.stream()
+        .map(i -> List.copyOf(i.getIndexKeys().keySet()))
+        .toList();
+    assertThat("Unexpected index.", indexKeys, hasItems(
+        List.of("nextAttempt", "created", "_id"),
+        List.of("messageGroupId", "created"),
+        List.of("claimToken")));
+  }
+
   @Test
   void shouldInitIndexesForPlacementCollection() {
     IndexOperations indexOperations = mock(IndexOperations.class);
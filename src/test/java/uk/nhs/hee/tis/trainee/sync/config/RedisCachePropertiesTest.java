@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+class RedisCachePropertiesTest {
+
+  private static final String PREFIX = "spring.data.redis";
+
+  @Test
+  void shouldBindUnitlessTimeToLiveAsMinutes() {
+    RedisCacheProperties properties = bind(Map.of(
+        PREFIX + ".time-to-live", "5"));
+
+    assertThat("Unexpected time to live.", properties.timeToLive(), is(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  void shouldBindUnitlessCacheTimeToLiveAsMinutes() {
+    RedisCacheProperties properties = bind(Map.of(
+        PREFIX + ".caches.Trust.time-to-live", "10"));
+
+    assertThat("Unexpected cache time to live.",
+        properties.caches().get("Trust").timeToLive(), is(Duration.ofMinutes(10)));
+  }
+
+  @Test
+  void shouldBindCacheTimeToLiveWithUnit() {
+    RedisCacheProperties properties = bind(Map.of(
+        PREFIX + ".caches.Trust.time-to-live", "10s"));
+
+    assertThat("Unexpected cache time to live.",
+        properties.caches().get("Trust").timeToLive(), is(Duration.ofSeconds(10)));
+  }
+
+  /**
+   * Bind the Redis cache properties from the given property values.
+   *
+   * @param values The property values, keyed by property name.
+   * @return The bound properties.
+   */
+  private RedisCacheProperties bind(Map<String, String> values) {
+    Binder binder = new Binder(new MapConfigurationPropertySource(values));
+    return binder.bind(PREFIX, RedisCacheProperties.class).get();
+  }
+}
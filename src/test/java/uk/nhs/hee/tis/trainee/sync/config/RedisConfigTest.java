@@ -0,0 +1,208 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder;
+import org.springframework.data.redis.cache.RedisCacheWriter.TtlFunction;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheCodec;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheProperties;
+
+class RedisConfigTest {
+
+  private static final byte SMILE_HEADER_START = ':';
+  private static final Duration DEFAULT_TTL = Duration.ofMinutes(2);
+  private static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+
+  private RedisConfig config;
+  private RedisCacheManagerBuilder builder;
+
+  @BeforeEach
+  void setUp() {
+    config = new RedisConfig();
+    builder = RedisCacheManager.builder(mock(RedisConnectionFactory.class));
+  }
+
+  @Test
+  void shouldNotConfigureCachesWithoutProperties() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, null, null,
+        null);
+
+    RedisCacheManagerBuilderCustomizer customizer = config.cacheManagerCustomizer(
+        RedisCacheConfiguration.defaultCacheConfig(), properties);
+    customizer.customize(builder);
+
+    assertThat("Unexpected configured caches.", builder.getConfiguredCaches().isEmpty(),
+        is(true));
+  }
+
+  @Test
+  void shouldConfigureCacheCodecWhenCodecProvided() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, DEFAULT_TTL,
+        DEFAULT_NEGATIVE_TTL,
+        Map.of("Trust", new CacheProperties(CacheCodec.SMILE, null, null, null, null)));
+
+    RedisCacheManagerBuilderCustomizer customizer = config.cacheManagerCustomizer(
+        RedisCacheConfiguration.defaultCacheConfig(), properties);
+    customizer.customize(builder);
+
+    Optional<RedisCacheConfiguration> cacheConfiguration = builder.getCacheConfigurationFor(
+        "Trust");
+    assertThat("Unexpected cache configuration presence.", cacheConfiguration.isPresent(),
+        is(true));
+
+    ByteBuffer value = cacheConfiguration.get().getValueSerializationPair().write("value");
+    assertThat("Unexpected value format.", value.get(0), is(SMILE_HEADER_START));
+  }
+
+  @Test
+  void shouldConfigureCacheTimeToLiveWhenTimeToLiveProvided() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, DEFAULT_TTL,
+        DEFAULT_NEGATIVE_TTL,
+        Map.of("Trust", new CacheProperties(null, Duration.ofHours(1), null, null, null)));
+
+    RedisCacheManagerBuilderCustomizer customizer = config.cacheManagerCustomizer(
+        RedisCacheConfiguration.defaultCacheConfig(), properties);
+    customizer.customize(builder);
+
+    RedisCacheConfiguration cacheConfiguration = builder.getCacheConfigurationFor("Trust")
+        .orElseThrow();
+    assertThat("Unexpected time to live.",
+        cacheConfiguration.getTtlFunction().getTimeToLive("key", "value"),
+        is(Duration.ofHours(1)));
+    assertThat("Unexpected null caching.", cacheConfiguration.getAllowCacheNullValues(),
+        is(true));
+  }
+
+  @Test
+  void shouldUseDefaultCacheTimeToLiveWhenTimeToLiveNotProvided() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, DEFAULT_TTL,
+        DEFAULT_NEGATIVE_TTL,
+        Map.of("Trust", new CacheProperties(CacheCodec.SMILE, null, null, null, null)));
+
+    RedisCacheManagerBuilderCustomizer customizer = config.cacheManagerCustomizer(
+        RedisCacheConfiguration.defaultCacheConfig(), properties);
+    customizer.customize(builder);
+
+    RedisCacheConfiguration cacheConfiguration = builder.getCacheConfigurationFor("Trust")
+        .orElseThrow();
+    assertThat("Unexpected time to live.",
+        cacheConfiguration.getTtlFunction().getTimeToLive("key", "value"),
+        is(DEFAULT_TTL));
+  }
+
+  @Test
+  void shouldDisableNullCachingWhenNullCachingDisabled() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, DEFAULT_TTL,
+        DEFAULT_NEGATIVE_TTL,
+        Map.of("Placement", new CacheProperties(null, null, null, false, null)));
+
+    RedisCacheManagerBuilderCustomizer customizer = config.cacheManagerCustomizer(
+        RedisCacheConfiguration.defaultCacheConfig(), properties);
+    customizer.customize(builder);
+
+    RedisCacheConfiguration cacheConfiguration = builder.getCacheConfigurationFor("Placement")
+        .orElseThrow();
+    assertThat("Unexpected null caching.", cacheConfiguration.getAllowCacheNullValues(),
+        is(false));
+  }
+
+  @Test
+  void shouldConfigureCacheNegativeTimeToLiveWhenNegativeTimeToLiveProvided() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, DEFAULT_TTL,
+        DEFAULT_NEGATIVE_TTL,
+        Map.of("Trust", new CacheProperties(null, null, Duration.ofSeconds(5), null, null)));
+
+    RedisCacheManagerBuilderCustomizer customizer = config.cacheManagerCustomizer(
+        RedisCacheConfiguration.defaultCacheConfig(), properties);
+    customizer.customize(builder);
+
+    TtlFunction ttlFunction = builder.getCacheConfigurationFor("Trust").orElseThrow()
+        .getTtlFunction();
+    assertThat("Unexpected time to live.", ttlFunction.getTimeToLive("key", "value"),
+        is(DEFAULT_TTL));
+    assertThat("Unexpected negative time to live.", ttlFunction.getTimeToLive("key", null),
+        is(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  void shouldUseDefaultCacheNegativeTimeToLiveWhenNegativeTimeToLiveNotProvided() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, DEFAULT_TTL,
+        DEFAULT_NEGATIVE_TTL,
+        Map.of("Trust", new CacheProperties(null, Duration.ofHours(1), null, null, null)));
+
+    RedisCacheManagerBuilderCustomizer customizer = config.cacheManagerCustomizer(
+        RedisCacheConfiguration.defaultCacheConfig(), properties);
+    customizer.customize(builder);
+
+    TtlFunction ttlFunction = builder.getCacheConfigurationFor("Trust").orElseThrow()
+        .getTtlFunction();
+    assertThat("Unexpected negative time to live.", ttlFunction.getTimeToLive("key", null),
+        is(DEFAULT_NEGATIVE_TTL));
+  }
+
+  @Test
+  void shouldConfigureDefaultTimeToLiveFunction() {
+    RedisCacheProperties properties = new RedisCacheProperties(CacheCodec.JSON, DEFAULT_TTL,
+        DEFAULT_NEGATIVE_TTL, null);
+
+    RedisCacheConfiguration cacheConfiguration = config.cacheConfiguration(properties);
+
+    TtlFunction ttlFunction = cacheConfiguration.getTtlFunction();
+    assertThat("Unexpected time to live.", ttlFunction.getTimeToLive("key", "value"),
+        is(DEFAULT_TTL));
+    assertThat("Unexpected negative time to live.", ttlFunction.getTimeToLive("key", null),
+        is(DEFAULT_NEGATIVE_TTL));
+    assertThat("Unexpected null caching.", cacheConfiguration.getAllowCacheNullValues(),
+        is(true));
+  }
+
+  @Test
+  void shouldUseNegativeTimeToLiveForNullValues() {
+    TtlFunction ttlFunction = RedisConfig.createTtlFunction(DEFAULT_TTL, DEFAULT_NEGATIVE_TTL);
+
+    assertThat("Unexpected time to live.", ttlFunction.getTimeToLive("key", NullValue.INSTANCE),
+        is(DEFAULT_NEGATIVE_TTL));
+  }
+
+  @Test
+  void shouldDefaultNegativeTimeToLiveToTimeToLive() {
+    RedisCacheProperties properties = new RedisCacheProperties(null, DEFAULT_TTL, null, null);
+
+    assertThat("Unexpected negative time to live.", properties.negativeTimeToLive(),
+        is(DEFAULT_TTL));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.SqsContainerOptions;
+import io.awspring.cloud.sqs.listener.interceptor.MessageInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.task.TaskExecutor;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import uk.nhs.hee.tis.trainee.sync.event.ConcurrencyLimitingInterceptor;
+
+class SqsListenerConfigurationTest {
+
+  @Test
+  void shouldConfigureListenerContainerFactoryForVirtualThreads() {
+    SqsMessageListenerContainerFactory<Object> factory = SqsMessageListenerContainerFactory
+        .builder()
+        .sqsAsyncClient(mock(SqsAsyncClient.class))
+        .build();
+
+    BeanPostProcessor postProcessor
+        = SqsListenerConfiguration.virtualThreadListenerPostProcessor(250);
+    Object processed = postProcessor.postProcessBeforeInitialization(factory, "factory");
+
+    assertThat("Unexpected bean.", processed, sameInstance(factory));
+
+    SqsContainerOptions options = factory.createContainer("queue").getContainerOptions();
+    assertThat("Unexpected max concurrent messages.", options.getMaxConcurrentMessages(),
+        is(250));
+
+    TaskExecutor taskExecutor = options.getComponentsTaskExecutor();
+    assertThat("Unexpected task executor.", taskExecutor, notNullValue());
+  }
+
+  @Test
+  void shouldNotModifyOtherBeans() {
+    Object bean = new Object();
+
+    BeanPostProcessor postProcessor
+        = SqsListenerConfiguration.virtualThreadListenerPostProcessor(250);
+    Object processed = postProcessor.postProcessBeforeInitialization(bean, "bean");
+
+    assertThat("Unexpected bean.", processed, sameInstance(bean));
+  }
+
+  @Test
+  void shouldRunTasksOnVirtualThreads() throws ExecutionException, InterruptedException {
+    TaskExecutor taskExecutor = SqsListenerConfiguration.createVirtualThreadTaskExecutor();
+
+    CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+    taskExecutor.execute(() -> isVirtual.complete(Thread.currentThread().isVirtual()));
+
+    assertThat("Unexpected thread type.", isVirtual.get(), is(true));
+  }
+
+  @Test
+  void shouldCreateConcurrencyLimitingInterceptor() {
+    AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyProperties(10, 1, 100,
+        Duration.ofSeconds(2), 0.9, Duration.ofSeconds(20));
+
+    MessageInterceptor<Object> interceptor = new SqsListenerConfiguration()
+        .concurrencyLimitingInterceptor(properties, new SimpleMeterRegistry());
+
+    assertThat("Unexpected interceptor.", interceptor,
+        instanceOf(ConcurrencyLimitingInterceptor.class));
+  }
+
+  @Test
+  void shouldConfigureListenerContainerFactoryForAdaptiveConcurrency() {
+    SqsMessageListenerContainerFactory<Object> factory = spy(SqsMessageListenerContainerFactory
+        .builder()
+        .sqsAsyncClient(mock(SqsAsyncClient.class))
+        .build());
+
+    BeanPostProcessor postProcessor = SqsListenerConfiguration
+        .adaptiveConcurrencyListenerPostProcessor(mock(ObjectProvider.class));
+    Object processed = postProcessor.postProcessBeforeInitialization(factory, "factory");
+
+    assertThat("Unexpected bean.", processed, sameInstance(factory));
+    verify(factory).setContainerComponentFactories(any());
+  }
+}
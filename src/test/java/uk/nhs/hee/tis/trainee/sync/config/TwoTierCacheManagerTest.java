@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheProperties;
+
+class TwoTierCacheManagerTest {
+
+  private static final String CACHE_NAME = "Entity";
+  private static final String CHANNEL = "invalidations";
+  private static final String KEY = "key1";
+
+  private TwoTierCacheManager cacheManager;
+  private RedisCache redisCache;
+  private StringRedisTemplate redisTemplate;
+
+  @BeforeEach
+  void setUp() {
+    redisCache = mock(RedisCache.class);
+    when(redisCache.getName()).thenReturn(CACHE_NAME);
+    when(redisCache.getCacheConfiguration())
+        .thenReturn(RedisCacheConfiguration.defaultCacheConfig());
+
+    RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+    when(redisCacheManager.getCache(CACHE_NAME)).thenReturn(redisCache);
+
+    redisTemplate = mock(StringRedisTemplate.class);
+    NearCacheProperties properties = new NearCacheProperties(true, 100, Duration.ofMinutes(1),
+        CHANNEL);
+
+    RedisCacheProperties cacheProperties = new RedisCacheProperties(null, null, null,
+        Map.of(CACHE_NAME, new CacheProperties(null, null, Duration.ZERO, null, 10L)));
+
+    cacheManager = new TwoTierCacheManager(redisCacheManager, properties, cacheProperties,
+        redisTemplate);
+    cacheManager.afterPropertiesSet();
+  }
+
+  @Test
+  void shouldDecorateRedisCaches() {
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+
+    assertThat("Unexpected cache type.", cache, instanceOf(TwoTierCache.class));
+    assertThat("Unexpected cache name.", cache.getName(), is(CACHE_NAME));
+  }
+
+  @Test
+  void shouldReturnNullWhenRedisCacheNotFound() {
+    Cache cache = cacheManager.getCache("unknown");
+
+    assertThat("Unexpected cache.", cache, nullValue());
+  }
+
+  @Test
+  void shouldReturnSameCacheForRepeatedLookups() {
+    Cache cache1 = cacheManager.getCache(CACHE_NAME);
+    Cache cache2 = cacheManager.getCache(CACHE_NAME);
+
+    assertThat("Unexpected cache instance.", cache2, sameInstance(cache1));
+  }
+
+  @Test
+  void shouldHoldValuesLocallyForTimeToLive() {
+    when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("value"));
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+
+    cache.get(KEY);
+    cache.get(KEY);
+
+    verify(redisCache, times(1)).get(KEY);
+  }
+
+  @Test
+  void shouldHoldNullValuesLocallyForCacheNegativeTimeToLive() {
+    when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper(null));
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+
+    cache.get(KEY);
+    cache.get(KEY);
+
+    verify(redisCache, times(2)).get(KEY);
+  }
+
+  @Test
+  void shouldPublishInvalidationWhenPutting() {
+    cacheManager.getCache(CACHE_NAME).put(KEY, "value");
+
+    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), messageCaptor.capture());
+
+    String message = messageCaptor.getValue();
+    assertThat("Unexpected message suffix.", message.endsWith("|Entity|key1"), is(true));
+  }
+
+  @Test
+  void shouldNotThrowExceptionWhenPublishingFails() {
+    doThrow(new RedisConnectionFailureException("error")).when(redisTemplate)
+        .convertAndSend(anyString(), any());
+
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+    cache.put(KEY, "value");
+
+    verify(redisCache).put(KEY, "value");
+  }
+
+  @Test
+  void shouldEvictLocalEntryWhenInvalidatedByAnotherNode() {
+    when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("value"));
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+    cache.get(KEY);
+
+    cacheManager.onMessage(createMessage("other|Entity|key1"), null);
+    cache.get(KEY);
+
+    verify(redisCache, times(2)).get(KEY);
+  }
+
+  @Test
+  void shouldClearLocalEntriesWhenClearedByAnotherNode() {
+    when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("value"));
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+    cache.get(KEY);
+
+    cacheManager.onMessage(createMessage("other|Entity"), null);
+    cache.get(KEY);
+
+    verify(redisCache, times(2)).get(KEY);
+  }
+
+  @Test
+  void shouldIgnoreInvalidationsSentByThisNode() {
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+    cache.put(KEY, "value");
+
+    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), messageCaptor.capture());
+
+    cacheManager.onMessage(createMessage(messageCaptor.getValue()), null);
+    cache.get(KEY);
+
+    verify(redisCache, times(0)).get(KEY);
+  }
+
+  @Test
+  void shouldIgnoreInvalidationsForUnknownCaches() {
+    when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("value"));
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+    cache.get(KEY);
+
+    cacheManager.onMessage(createMessage("other|unknown|key1"), null);
+    cache.get(KEY);
+
+    verify(redisCache, times(1)).get(KEY);
+  }
+
+  /**
+   * Create a pub/sub message with the given body.
+   *
+   * @param body The body of the message.
+   * @return The created message.
+   */
+  private DefaultMessage createMessage(String body) {
+    return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+}
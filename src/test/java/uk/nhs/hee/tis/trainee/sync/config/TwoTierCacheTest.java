@@ -0,0 +1,285 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import uk.nhs.hee.tis.trainee.sync.config.TwoTierCache.NearCacheExpiry;
+
+class TwoTierCacheTest {
+
+  private static final String CACHE_NAME = "Entity";
+  private static final String KEY = "key1";
+
+  private TwoTierCache cache;
+  private Cache remote;
+  private List<String> invalidations;
+
+  @BeforeEach
+  void setUp() {
+    remote = mock(Cache.class);
+    when(remote.getName()).thenReturn(CACHE_NAME);
+    invalidations = new ArrayList<>();
+
+    cache = new TwoTierCache(remote, Caffeine.newBuilder().build(),
+        SerializationPair.fromSerializer(RedisSerializer.java()),
+        (name, key) -> invalidations.add(name + ":" + key));
+  }
+
+  @Test
+  void shouldGetFromRemoteWhenNotHeldLocally() {
+    HashMap<String, String> value = new HashMap<>(Map.of("field", "value"));
+    when(remote.get(KEY)).thenReturn(new SimpleValueWrapper(value));
+
+    ValueWrapper wrapper = cache.get(KEY);
+
+    assertThat("Unexpected value.", wrapper.get(), is(value));
+    verify(remote).get(KEY);
+  }
+
+  @Test
+  void shouldGetCopyFromLocalWhenHeldLocally() {
+    HashMap<String, String> value = new HashMap<>(Map.of("field", "value"));
+    when(remote.get(KEY)).thenReturn(new SimpleValueWrapper(value));
+
+    cache.get(KEY);
+    ValueWrapper wrapper = cache.get(KEY);
+
+    assertThat("Unexpected value.", wrapper.get(), is(value));
+    assertThat("Unexpected value instance.", wrapper.get(), not(sameInstance(value)));
+    verify(remote, times(1)).get(KEY);
+  }
+
+  @Test
+  void shouldHoldNullValuesLocally() {
+    when(remote.get(KEY)).thenReturn(new SimpleValueWrapper(null));
+
+    cache.get(KEY);
+    ValueWrapper wrapper = cache.get(KEY);
+
+    assertThat("Unexpected wrapper.", wrapper, notNullValue());
+    assertThat("Unexpected value.", wrapper.get(), nullValue());
+    verify(remote, times(1)).get(KEY);
+  }
+
+  @Test
+  void shouldNotHoldMissesLocally() {
+    cache.get(KEY);
+    ValueWrapper wrapper = cache.get(KEY);
+
+    assertThat("Unexpected wrapper.", wrapper, nullValue());
+    verify(remote, times(2)).get(KEY);
+  }
+
+  @Test
+  void shouldNotHoldValueLocallyWhenInvalidatedDuringRemoteGet() {
+    when(remote.get(KEY)).then(inv -> {
+      cache.evictLocal(KEY);
+      return new SimpleValueWrapper("stale");
+    }).thenReturn(new SimpleValueWrapper("value"));
+
+    cache.get(KEY);
+    ValueWrapper wrapper = cache.get(KEY);
+
+    assertThat("Unexpected value.", wrapper.get(), is("value"));
+    verify(remote, times(2)).get(KEY);
+  }
+
+  @Test
+  void shouldNotHoldValueLocallyWhenClearedDuringRemoteGet() {
+    when(remote.get(KEY)).then(inv -> {
+      cache.clearLocal();
+      return new SimpleValueWrapper("stale");
+    }).thenReturn(new SimpleValueWrapper("value"));
+
+    cache.get(KEY);
+    ValueWrapper wrapper = cache.get(KEY);
+
+    assertThat("Unexpected value.", wrapper.get(), is("value"));
+    verify(remote, times(2)).get(KEY);
+  }
+
+  @Test
+  void shouldHoldPutValueLocallyWhenPutDuringRemoteGet() {
+    when(remote.get(KEY)).then(inv -> {
+      cache.put(KEY, "value");
+      return new SimpleValueWrapper("stale");
+    });
+
+    cache.get(KEY);
+
+    assertThat("Unexpected value.", cache.get(KEY, String.class), is("value"));
+    verify(remote, times(1)).get(KEY);
+  }
+
+  @Test
+  void shouldNotHoldLoadedValueLocallyWhenInvalidatedDuringLoad() {
+    when(remote.get(any(), any(Callable.class))).then(inv -> {
+      cache.evictLocal(KEY);
+      return "stale";
+    });
+
+    cache.get(KEY, () -> "stale");
+    cache.get(KEY);
+
+    // one remote read before loading and one after, as the loaded value was not held locally
+    verify(remote, times(2)).get(KEY);
+  }
+
+  @Test
+  void shouldExpireNullValuesLocallyAfterNegativeTimeToLive() {
+    AtomicLong ticker = new AtomicLong();
+    cache = new TwoTierCache(remote, Caffeine.newBuilder()
+        .ticker(ticker::get)
+        .executor(Runnable::run)
+        .expireAfter(new NearCacheExpiry(Duration.ofMinutes(1), Duration.ofSeconds(10)))
+        .build(),
+        SerializationPair.fromSerializer(RedisSerializer.java()),
+        (name, key) -> invalidations.add(name + ":" + key));
+
+    when(remote.get(KEY)).thenReturn(new SimpleValueWrapper(null));
+    when(remote.get("key2")).thenReturn(new SimpleValueWrapper("value"));
+
+    cache.get(KEY);
+    cache.get("key2");
+    ticker.addAndGet(Duration.ofSeconds(11).toNanos());
+    cache.get(KEY);
+    cache.get("key2");
+
+    verify(remote, times(2)).get(KEY);
+    verify(remote, times(1)).get("key2");
+  }
+
+  @Test
+  void shouldNotHoldNullValuesLocallyLongerThanTimeToLive() {
+    NearCacheExpiry expiry = new NearCacheExpiry(Duration.ofSeconds(10), Duration.ofMinutes(1));
+
+    assertThat("Unexpected expiry.", expiry.expireAfterCreate(KEY, new byte[0], 0),
+        is(Duration.ofSeconds(10).toNanos()));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenValueIsNotOfRequiredType() {
+    when(remote.get(KEY)).thenReturn(new SimpleValueWrapper("value"));
+
+    assertThrows(IllegalStateException.class, () -> cache.get(KEY, Integer.class));
+  }
+
+  @Test
+  void shouldLoadFromRemoteWhenNotHeldLocally() {
+    when(remote.get(any(), any(Callable.class))).thenReturn("value");
+
+    String value = cache.get(KEY, () -> "value");
+    String cachedValue = cache.get(KEY, String.class);
+
+    assertThat("Unexpected value.", value, is("value"));
+    assertThat("Unexpected cached value.", cachedValue, is("value"));
+    verify(remote, times(1)).get(KEY);
+  }
+
+  @Test
+  void shouldPutToRemoteAndLocalAndPublishInvalidation() {
+    cache.put(KEY, "value");
+
+    verify(remote).put(KEY, "value");
+    assertThat("Unexpected value.", cache.get(KEY, String.class), is("value"));
+    verify(remote, never()).get(KEY);
+    assertThat("Unexpected invalidations.", invalidations, is(List.of("Entity:key1")));
+  }
+
+  @Test
+  void shouldEvictFromRemoteAndLocalAndPublishInvalidation() {
+    cache.put(KEY, "value");
+    invalidations.clear();
+
+    cache.evict(KEY);
+
+    verify(remote).evict(KEY);
+    assertThat("Unexpected value.", cache.get(KEY), nullValue());
+    verify(remote).get(KEY);
+    assertThat("Unexpected invalidations.", invalidations, is(List.of("Entity:key1")));
+  }
+
+  @Test
+  void shouldClearRemoteAndLocalAndPublishInvalidation() {
+    cache.put(KEY, "value");
+    invalidations.clear();
+
+    cache.clear();
+
+    verify(remote).clear();
+    assertThat("Unexpected value.", cache.get(KEY), nullValue());
+    assertThat("Unexpected invalidations.", invalidations, is(List.of("Entity:null")));
+  }
+
+  @Test
+  void shouldEvictLocalOnlyWhenInvalidatedByAnotherNode() {
+    cache.put(KEY, "value");
+    invalidations.clear();
+
+    cache.evictLocal(KEY);
+
+    verify(remote, never()).evict(any());
+    assertThat("Unexpected value.", cache.get(KEY), nullValue());
+    verify(remote).get(KEY);
+    assertThat("Unexpected invalidations.", invalidations, is(List.of()));
+  }
+
+  @Test
+  void shouldClearLocalOnlyWhenInvalidatedByAnotherNode() {
+    cache.put(KEY, "value");
+    invalidations.clear();
+
+    cache.clearLocal();
+
+    verify(remote, never()).clear();
+    assertThat("Unexpected value.", cache.get(KEY), nullValue());
+    assertThat("Unexpected invalidations.", invalidations, is(List.of()));
+  }
+}
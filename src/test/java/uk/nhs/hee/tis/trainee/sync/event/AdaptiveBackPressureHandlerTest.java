@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.awspring.cloud.sqs.listener.BackPressureHandler;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBackPressureHandlerTest {
+
+  private AdaptiveBackPressureHandler handler;
+
+  private BackPressureHandler delegate;
+
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(BackPressureHandler.class);
+    limiter = new AdaptiveConcurrencyLimiter(3, 1, 10, Duration.ofSeconds(1), 0.5);
+    handler = new AdaptiveBackPressureHandler(delegate, () -> limiter, Duration.ZERO);
+  }
+
+  @Test
+  void shouldOnlyRequestPermitsAllowedByLimiter() throws InterruptedException {
+    when(delegate.request(anyInt())).thenAnswer(inv -> inv.getArgument(0));
+
+    int permits = handler.request(10);
+
+    assertThat("Unexpected permits.", permits, is(3));
+    verify(delegate).request(3);
+    assertThat("Unexpected in flight.", limiter.getInFlight(), is(3));
+  }
+
+  @Test
+  void shouldNotRequestFromDelegateWhenLimitReached() throws InterruptedException {
+    when(delegate.request(anyInt())).thenAnswer(inv -> inv.getArgument(0));
+    handler.request(3);
+
+    int permits = handler.request(10);
+
+    assertThat("Unexpected permits.", permits, is(0));
+    verify(delegate, never()).request(10);
+  }
+
+  @Test
+  void shouldReturnPermitsNotGrantedByDelegate() throws InterruptedException {
+    when(delegate.request(anyInt())).thenReturn(1);
+
+    int permits = handler.request(10);
+
+    assertThat("Unexpected permits.", permits, is(1));
+    assertThat("Unexpected in flight.", limiter.getInFlight(), is(1));
+  }
+
+  @Test
+  void shouldReleasePermitsToDelegateAndLimiter() throws InterruptedException {
+    when(delegate.request(anyInt())).thenAnswer(inv -> inv.getArgument(0));
+    handler.request(10);
+
+    handler.release(2);
+
+    verify(delegate).release(2);
+    assertThat("Unexpected in flight.", limiter.getInFlight(), is(1));
+  }
+
+  @Test
+  void shouldDrainDelegate() {
+    when(delegate.drain(Duration.ofSeconds(5))).thenReturn(true);
+
+    boolean drained = handler.drain(Duration.ofSeconds(5));
+
+    assertThat("Unexpected drain result.", drained, is(true));
+  }
+}
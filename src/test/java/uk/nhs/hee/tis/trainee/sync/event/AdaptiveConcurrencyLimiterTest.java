@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final Duration THRESHOLD = Duration.ofSeconds(1);
+  private static final long FAST = Duration.ofMillis(10).toNanos();
+  private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    limiter = new AdaptiveConcurrencyLimiter(2, 1, 4, THRESHOLD, 0.5);
+  }
+
+  @Test
+  void shouldRejectInvalidLimits() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new AdaptiveConcurrencyLimiter(1, 0, 4, THRESHOLD, 0.5));
+    assertThrows(IllegalArgumentException.class,
+        () -> new AdaptiveConcurrencyLimiter(1, 4, 2, THRESHOLD, 0.5));
+  }
+
+  @Test
+  void shouldRejectInvalidBackoffRatio() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new AdaptiveConcurrencyLimiter(1, 1, 4, THRESHOLD, 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> new AdaptiveConcurrencyLimiter(1, 1, 4, THRESHOLD, 0));
+  }
+
+  @Test
+  void shouldClampInitialLimit() {
+    limiter = new AdaptiveConcurrencyLimiter(10, 1, 4, THRESHOLD, 0.5);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(4));
+  }
+
+  @Test
+  void shouldNotAcquireBeyondLimit() throws InterruptedException {
+    assertThat("Unexpected acquire result.", limiter.tryAcquire(Duration.ZERO), is(true));
+    assertThat("Unexpected acquire result.", limiter.tryAcquire(Duration.ZERO), is(true));
+    assertThat("Unexpected acquire result.", limiter.tryAcquire(Duration.ofMillis(10)), is(false));
+    assertThat("Unexpected in flight.", limiter.getInFlight(), is(2));
+  }
+
+  @Test
+  void shouldIncreaseLimitWhenFastAndUtilised() throws InterruptedException {
+    limiter.tryAcquire(Duration.ZERO);
+    limiter.tryAcquire(Duration.ZERO);
+
+    limiter.release(FAST, false);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(3));
+    assertThat("Unexpected in flight.", limiter.getInFlight(), is(1));
+  }
+
+  @Test
+  void shouldNotIncreaseLimitWhenUnderUtilised() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+
+    limiter.release(FAST, false);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(4));
+  }
+
+  @Test
+  void shouldNotIncreaseLimitBeyondMax() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+    limiter.tryAcquire(Duration.ZERO);
+
+    limiter.release(FAST, false);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(4));
+  }
+
+  @Test
+  void shouldDecreaseLimitWhenSlow() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+
+    limiter.release(SLOW, false);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(2));
+  }
+
+  @Test
+  void shouldDecreaseLimitWhenFailed() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+
+    limiter.release(FAST, true);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(2));
+  }
+
+  @Test
+  void shouldNotDecreaseLimitBelowMin() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(1, 1, 4, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+
+    limiter.release(SLOW, true);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(1));
+  }
+
+  @Test
+  void shouldDecreaseLimitOnlyOncePerRoundTrip() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+    limiter.tryAcquire(Duration.ZERO);
+
+    limiter.release(SLOW, false);
+    limiter.release(SLOW, true);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(2));
+  }
+
+  @Test
+  void shouldDecreaseLimitAgainForWorkStartedAfterLastDecrease() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+    limiter.release(SLOW, false);
+
+    limiter.tryAcquire(Duration.ZERO);
+    limiter.release(0, true);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(1));
+  }
+
+  @Test
+  void shouldAcquireAvailableCapacityUpToRequested() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(3, 1, 4, THRESHOLD, 0.5);
+
+    assertThat("Unexpected acquired.", limiter.tryAcquire(2, Duration.ZERO), is(2));
+    assertThat("Unexpected acquired.", limiter.tryAcquire(2, Duration.ZERO), is(1));
+    assertThat("Unexpected acquired.", limiter.tryAcquire(2, Duration.ZERO), is(0));
+    assertThat("Unexpected in flight.", limiter.getInFlight(), is(3));
+  }
+
+  @Test
+  void shouldReleaseCapacityWithoutAdjustingLimit() throws InterruptedException {
+    limiter.tryAcquire(2, Duration.ZERO);
+
+    limiter.release(2);
+
+    assertThat("Unexpected limit.", limiter.getLimit(), is(2));
+    assertThat("Unexpected in flight.", limiter.getInFlight(), is(0));
+  }
+
+  @Test
+  void shouldWakeWaitingAcquireWhenReleased() throws InterruptedException {
+    limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, THRESHOLD, 0.5);
+    limiter.tryAcquire(Duration.ZERO);
+
+    Thread releaser = new Thread(() -> {
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      limiter.release(FAST, false);
+    });
+    releaser.start();
+
+    assertThat("Unexpected acquire result.", limiter.tryAcquire(Duration.ofSeconds(5)), is(true));
+    releaser.join();
+  }
+}
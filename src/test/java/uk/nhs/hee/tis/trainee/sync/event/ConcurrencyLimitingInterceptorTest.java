@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.awspring.cloud.sqs.listener.BackPressureHandler;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import uk.nhs.hee.tis.trainee.sync.config.AdaptiveConcurrencyProperties;
+
+class ConcurrencyLimitingInterceptorTest {
+
+  private static final String LIMIT_GAUGE = "sync.listener.concurrency.limit";
+  private static final String IN_FLIGHT_GAUGE = "sync.listener.concurrency.in-flight";
+
+  private ConcurrencyLimitingInterceptor interceptor;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private BackPressureHandler delegate;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyProperties(2, 1, 4,
+        Duration.ofSeconds(10), 0.5, Duration.ZERO);
+    meterRegistry = new SimpleMeterRegistry();
+    interceptor = new ConcurrencyLimitingInterceptor(properties, meterRegistry);
+
+    delegate = mock(BackPressureHandler.class);
+    when(delegate.request(anyInt())).thenAnswer(inv -> inv.getArgument(0));
+  }
+
+  private Message<Object> createMessage(String queue) {
+    return MessageBuilder.withPayload((Object) "payload")
+        .setHeader(SqsHeaders.SQS_QUEUE_NAME_HEADER, queue)
+        .build();
+  }
+
+  private double getGauge(String name, String queue) {
+    return meterRegistry.get(name).tag("queue", queue).gauge().value();
+  }
+
+  @Test
+  void shouldReturnInterceptedMessage() {
+    Message<Object> message = createMessage("queue1");
+
+    Message<Object> intercepted = interceptor.intercept(message);
+
+    assertThat("Unexpected message.", intercepted, sameInstance(message));
+  }
+
+  @Test
+  void shouldShareLimiterBetweenQueueUrlAndName() {
+    AdaptiveConcurrencyLimiter limiter = interceptor.getLimiter("https://sqs.test/123/queue1");
+
+    assertThat("Unexpected limiter.", interceptor.getLimiter("queue1"), sameInstance(limiter));
+  }
+
+  @Test
+  void shouldLimitQueuesIndependently() throws InterruptedException {
+    BackPressureHandler handler1 = interceptor.limit(() -> "queue1", delegate);
+    BackPressureHandler handler2 = interceptor.limit(() -> "queue2", delegate);
+
+    assertThat("Unexpected permits.", handler1.request(10), is(2));
+    assertThat("Unexpected permits.", handler1.request(10), is(0));
+    assertThat("Unexpected permits.", handler2.request(10), is(2));
+    assertThat("Unexpected in flight.", getGauge(IN_FLIGHT_GAUGE, "queue1"), is(2.0));
+    assertThat("Unexpected in flight.", getGauge(IN_FLIGHT_GAUGE, "queue2"), is(2.0));
+  }
+
+  @Test
+  void shouldIncreaseLimitAfterFastProcessing() throws InterruptedException {
+    BackPressureHandler handler = interceptor.limit(() -> "queue1", delegate);
+    handler.request(10);
+    Message<Object> message = createMessage("queue1");
+    interceptor.intercept(message);
+
+    interceptor.afterProcessing(message, null);
+
+    assertThat("Unexpected limit.", getGauge(LIMIT_GAUGE, "queue1"), is(3.0));
+    assertThat("Unexpected in flight.", getGauge(IN_FLIGHT_GAUGE, "queue1"), is(2.0));
+
+    handler.release(2);
+
+    assertThat("Unexpected in flight.", getGauge(IN_FLIGHT_GAUGE, "queue1"), is(0.0));
+  }
+
+  @Test
+  void shouldDecreaseLimitAfterFailedProcessing() {
+    interceptor.getLimiter("queue1");
+    Message<Object> message = createMessage("queue1");
+    interceptor.intercept(message);
+
+    interceptor.afterProcessing(message, new IllegalStateException());
+
+    assertThat("Unexpected limit.", getGauge(LIMIT_GAUGE, "queue1"), is(1.0));
+  }
+
+  @Test
+  void shouldNotAdjustLimitForMessageNotIntercepted() {
+    interceptor.getLimiter("queue1");
+
+    interceptor.afterProcessing(createMessage("queue1"), new IllegalStateException());
+    interceptor.afterProcessing(createMessage("queue1"), new IllegalStateException());
+
+    assertThat("Unexpected limit.", getGauge(LIMIT_GAUGE, "queue1"), is(2.0));
+  }
+
+  @Test
+  void shouldSampleBatchOnce() throws InterruptedException {
+    BackPressureHandler handler = interceptor.limit(() -> "queue1", delegate);
+    handler.request(10);
+    Collection<Message<Object>> messages = List.of(createMessage("queue1"),
+        createMessage("queue1"));
+
+    Collection<Message<Object>> intercepted = interceptor.intercept(messages);
+    interceptor.afterProcessing(messages, null);
+
+    assertThat("Unexpected messages.", intercepted, sameInstance(messages));
+    assertThat("Unexpected limit.", getGauge(LIMIT_GAUGE, "queue1"), is(3.0));
+  }
+}
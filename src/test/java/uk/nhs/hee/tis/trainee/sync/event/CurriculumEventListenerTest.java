@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.trainee.sync.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -110,12 +111,14 @@ class CurriculumEventListenerTest {
     AfterSaveEvent<Curriculum> event = new AfterSaveEvent<>(curriculum, null, null);
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(CURRICULUM_MEMBERSHIP_QUEUE_URL), eq(curriculumMembership1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(CURRICULUM_MEMBERSHIP_QUEUE_URL),
+        argThat(sent -> sent.contains(curriculumMembership1)), any());
     assertThat("Unexpected table operation.", curriculumMembership1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(CURRICULUM_MEMBERSHIP_QUEUE_URL), eq(curriculumMembership2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(CURRICULUM_MEMBERSHIP_QUEUE_URL),
+        argThat(sent -> sent.contains(curriculumMembership2)), any());
     assertThat("Unexpected table operation.", curriculumMembership2.getOperation(), is(LOOKUP));
   }
 }
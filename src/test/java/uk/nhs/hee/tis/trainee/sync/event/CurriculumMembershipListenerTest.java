@@ -21,13 +21,17 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.nhs.hee.tis.trainee.sync.model.CurriculumMembership;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.CurriculumMembershipSyncService;
 
 class CurriculumMembershipListenerTest {
@@ -36,10 +40,14 @@ class CurriculumMembershipListenerTest {
 
   private CurriculumMembershipSyncService service;
 
+  private ClaimCheckService claimCheckService;
+
   @BeforeEach
   void setUp() {
     service = mock(CurriculumMembershipSyncService.class);
-    listener = new CurriculumMembershipListener(service);
+    claimCheckService = mock(ClaimCheckService.class);
+    when(claimCheckService.resolve(any())).then(returnsFirstArg());
+    listener = new CurriculumMembershipListener(service, claimCheckService);
   }
 
   @Test
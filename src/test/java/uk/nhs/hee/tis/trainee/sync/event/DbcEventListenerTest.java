@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.trainee.sync.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -153,12 +154,12 @@ class DbcEventListenerTest {
     AfterSaveEvent<Dbc> event = new AfterSaveEvent<>(dbc, null, null);
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PROGRAMME_QUEUE_URL), eq(programme1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PROGRAMME_QUEUE_URL), argThat(sent -> sent.contains(programme1)), any());
     assertThat("Unexpected table operation.", programme1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PROGRAMME_QUEUE_URL), eq(programme2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PROGRAMME_QUEUE_URL), argThat(sent -> sent.contains(programme2)), any());
     assertThat("Unexpected table operation.", programme2.getOperation(), is(LOOKUP));
   }
 
@@ -216,12 +217,12 @@ class DbcEventListenerTest {
 
     listener.onAfterDelete(eventAfter);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PROGRAMME_QUEUE_URL), eq(programme1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PROGRAMME_QUEUE_URL), argThat(sent -> sent.contains(programme1)), any());
     assertThat("Unexpected table operation.", programme1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PROGRAMME_QUEUE_URL), eq(programme2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PROGRAMME_QUEUE_URL), argThat(sent -> sent.contains(programme2)), any());
     assertThat("Unexpected table operation.", programme2.getOperation(), is(LOOKUP));
   }
 
@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.trainee.sync.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -84,12 +85,12 @@ class GradeEventListenerTest {
     AfterSaveEvent<Grade> event = new AfterSaveEvent<>(grade, null, null);
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_QUEUE_URL), argThat(sent -> sent.contains(placement1)), any());
     assertThat("Unexpected table operation.", placement1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_QUEUE_URL), argThat(sent -> sent.contains(placement2)), any());
     assertThat("Unexpected table operation.", placement2.getOperation(), is(LOOKUP));
   }
 }
@@ -21,13 +21,18 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.PlacementSyncService;
 
 class PlacementListenerTest {
@@ -36,10 +41,14 @@ class PlacementListenerTest {
 
   private PlacementSyncService service;
 
+  private ClaimCheckService claimCheckService;
+
   @BeforeEach
   void setUp() {
     service = mock(PlacementSyncService.class);
-    listener = new PlacementListener(service);
+    claimCheckService = mock(ClaimCheckService.class);
+    when(claimCheckService.resolve(any())).then(returnsFirstArg());
+    listener = new PlacementListener(service, claimCheckService);
   }
 
   @Test
@@ -52,4 +61,17 @@ class PlacementListenerTest {
 
     verify(service).syncPlacement(placement);
   }
+
+  @Test
+  void shouldProcessResolvedRecordWhenClaimCheckReferenceReceived() {
+    Placement reference = new Placement();
+    reference.setMetadata(Map.of(ClaimCheckService.CLAIM_CHECK_ID, "claim-check-id"));
+    Placement resolved = new Placement();
+    resolved.setData(Map.of("postId", "post-id"));
+    when(claimCheckService.resolve(reference)).thenReturn(resolved);
+
+    listener.getPlacement(reference);
+
+    verify(service).syncPlacement(resolved);
+  }
 }
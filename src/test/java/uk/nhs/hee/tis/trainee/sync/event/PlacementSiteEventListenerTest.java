@@ -21,8 +21,6 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
-import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -31,8 +29,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
 
+import java.util.Map;
 import java.util.Optional;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
@@ -96,15 +94,14 @@ class PlacementSiteEventListenerTest {
 
     Placement placement = new Placement();
     placement.setTisId("2");
+    placement.setData(Map.of("postId", "3"));
     when(placementService.findById("2")).thenReturn(Optional.of(placement));
 
     listener.onAfterSave(event);
 
     verify(placementService, never()).request(any());
     verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement), any());
-
-    assertThat("Unexpected operation.", placement.getOperation(), is(LOOKUP));
+        eq(PLACEMENT_QUEUE_URL), eq(Placement.lookup("2")), any());
   }
 
   @Test
@@ -178,6 +175,7 @@ class PlacementSiteEventListenerTest {
 
     Placement placement = new Placement();
     placement.setTisId("2");
+    placement.setData(Map.of("postId", "3"));
     when(placementService.findById("2")).thenReturn(Optional.of(placement));
 
     Document document = new Document();
@@ -187,8 +185,6 @@ class PlacementSiteEventListenerTest {
     listener.onAfterDelete(event);
 
     verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement), any());
-
-    assertThat("Unexpected operation.", placement.getOperation(), is(LOOKUP));
+        eq(PLACEMENT_QUEUE_URL), eq(Placement.lookup("2")), any());
   }
 }
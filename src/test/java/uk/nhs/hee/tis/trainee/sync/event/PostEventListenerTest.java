@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.trainee.sync.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -62,7 +63,7 @@ class PostEventListenerTest {
     post.setTisId("pst1");
     AfterSaveEvent<Post> event = new AfterSaveEvent<>(post, null, null);
 
-    when(placementService.findByPostId("pst1")).thenReturn(Collections.emptySet());
+    when(placementService.findLookupsByPostId("pst1")).thenReturn(Collections.emptySet());
 
     listener.onAfterSave(event);
 
@@ -74,22 +75,19 @@ class PostEventListenerTest {
     Post post = new Post();
     post.setTisId("pst1");
 
-    Placement placement1 = new Placement();
-    placement1.setTisId("plmt1");
-
-    Placement placement2 = new Placement();
-    placement2.setTisId("plmt2");
-    when(placementService.findByPostId("pst1")).thenReturn(Set.of(placement1, placement2));
+    Placement placement1 = Placement.lookup("plmt1");
+    Placement placement2 = Placement.lookup("plmt2");
+    when(placementService.findLookupsByPostId("pst1")).thenReturn(Set.of(placement1, placement2));
 
     AfterSaveEvent<Post> event = new AfterSaveEvent<>(post, null, null);
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_QUEUE_URL), argThat(sent -> sent.contains(placement1)), any());
     assertThat("Unexpected table operation.", placement1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_QUEUE_URL), argThat(sent -> sent.contains(placement2)), any());
     assertThat("Unexpected table operation.", placement2.getOperation(), is(LOOKUP));
   }
 }
@@ -21,13 +21,17 @@
 
 package uk.nhs.hee.tis.trainee.sync.event;
 
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.nhs.hee.tis.trainee.sync.model.Post;
+import uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService;
 import uk.nhs.hee.tis.trainee.sync.service.PostSyncService;
 
 class PostListenerTest {
@@ -36,10 +40,14 @@ class PostListenerTest {
 
   private PostSyncService service;
 
+  private ClaimCheckService claimCheckService;
+
   @BeforeEach
   void setUp() {
     service = mock(PostSyncService.class);
-    listener = new PostListener(service);
+    claimCheckService = mock(ClaimCheckService.class);
+    when(claimCheckService.resolve(any())).then(returnsFirstArg());
+    listener = new PostListener(service, claimCheckService);
   }
 
   @Test
@@ -26,7 +26,6 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -34,8 +33,8 @@ import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -112,11 +111,14 @@ class ProgrammeEventListenerTest {
     AfterSaveEvent<Programme> event = new AfterSaveEvent<>(programme, null, null);
     listener.onAfterSave(event);
 
-    ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
-    verify(fifoMessagingService).sendMessageToFifoQueue(
+    ArgumentCaptor<Collection<Record>> recordCaptor = ArgumentCaptor.captor();
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
         eq(PROGRAMME_MEMBERSHIP_QUEUE_URL), recordCaptor.capture(), any());
 
-    Record theRecord = recordCaptor.getValue();
+    Collection<Record> records = recordCaptor.getValue();
+    assertThat("Unexpected record count.", records.size(), is(1));
+
+    Record theRecord = records.iterator().next();
     assertThat("Unexpected TIS ID.", theRecord.getTisId(),
         is(programmeMembershipUuid.toString()));
     assertThat("Unexpected table operation.", theRecord.getOperation(), is(LOOKUP));
@@ -162,11 +164,11 @@ class ProgrammeEventListenerTest {
     AfterSaveEvent<Programme> event = new AfterSaveEvent<>(programme, null, null);
     listener.onAfterSave(event);
 
-    ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
-    verify(fifoMessagingService, times(2)).sendMessageToFifoQueue(
+    ArgumentCaptor<Collection<Record>> recordCaptor = ArgumentCaptor.captor();
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
         eq(PROGRAMME_MEMBERSHIP_QUEUE_URL), recordCaptor.capture(), any());
 
-    List<Record> records = recordCaptor.getAllValues();
+    Collection<Record> records = recordCaptor.getValue();
     assertThat("Unexpected record count.", records.size(), is(2));
 
     Record theRecord = records.stream()
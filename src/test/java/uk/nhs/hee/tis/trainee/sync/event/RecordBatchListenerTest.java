@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.event;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.trainee.sync.mapper.RecordReader;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.service.RecordService;
+
+class RecordBatchListenerTest {
+
+  private RecordBatchListener listener;
+
+  private RecordService service;
+
+  private RecordReader reader;
+
+  @BeforeEach
+  void setUp() {
+    service = mock(RecordService.class);
+    reader = mock(RecordReader.class);
+    listener = new RecordBatchListener(service, reader);
+  }
+
+  @Test
+  void shouldProcessRecordsAsBatch() throws JsonProcessingException {
+    Record recrd1 = new Record();
+    when(reader.read("{1}")).thenReturn(recrd1);
+    Record recrd2 = new Record();
+    when(reader.read("{2}")).thenReturn(recrd2);
+
+    listener.getRecords(List.of("{1}", "{2}"));
+
+    verify(service).processRecords(List.of(recrd1, recrd2));
+  }
+
+  @Test
+  void shouldNotProcessBatchWhenAnyPayloadInvalid() throws JsonProcessingException {
+    when(reader.read("{1}")).thenReturn(new Record());
+    when(reader.read("{2}")).thenThrow(MismatchedInputException.class);
+
+    assertThrows(JsonProcessingException.class, () -> listener.getRecords(List.of("{1}", "{2}")));
+
+    verifyNoInteractions(service);
+  }
+}
@@ -25,13 +25,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
-import jakarta.validation.ConstraintViolationException;
-import java.util.Collections;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
-import uk.nhs.hee.tis.trainee.sync.dto.RecordDto;
+import uk.nhs.hee.tis.trainee.sync.mapper.RecordReader;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
 import uk.nhs.hee.tis.trainee.sync.service.RecordService;
 
 class RecordListenerTest {
@@ -40,52 +41,31 @@ class RecordListenerTest {
 
   private RecordService service;
 
+  private RecordReader reader;
+
   @BeforeEach
   void setUp() {
     service = mock(RecordService.class);
-    listener = new RecordListener(service);
-  }
-
-  @Disabled("Unable to get the validation working during tests.")
-  @Test
-  void shouldNotProcessRecordWhenDataNull() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setMetadata(Collections.emptyMap());
-
-    assertThrows(ConstraintViolationException.class, () -> listener.getRecord(recordDto));
-
-    verifyNoInteractions(service);
-  }
-
-  @Disabled("Unable to get the validation working during tests.")
-  @Test
-  void shouldNotProcessRecordWhenMetadataNull() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-
-    assertThrows(ConstraintViolationException.class, () -> listener.getRecord(recordDto));
-
-    verifyNoInteractions(service);
+    reader = mock(RecordReader.class);
+    listener = new RecordListener(service, reader);
   }
 
-  @Disabled("Unable to get the validation working during tests.")
   @Test
-  void shouldNotProcessRecordWhenDataAndMetadataNull() {
-    RecordDto recordDto = new RecordDto();
+  void shouldNotProcessRecordWhenPayloadInvalid() throws JsonProcessingException {
+    when(reader.read("{}")).thenThrow(MismatchedInputException.class);
 
-    assertThrows(ConstraintViolationException.class, () -> listener.getRecord(recordDto));
+    assertThrows(JsonProcessingException.class, () -> listener.getRecord("{}"));
 
     verifyNoInteractions(service);
   }
 
   @Test
-  void shouldProcessRecordWhenDataAndMetadataNotNull() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(Collections.emptyMap());
+  void shouldProcessRecordWhenPayloadValid() throws JsonProcessingException {
+    Record recrd = new Record();
+    when(reader.read("{}")).thenReturn(recrd);
 
-    listener.getRecord(recordDto);
+    listener.getRecord("{}");
 
-    verify(service).processRecord(recordDto);
+    verify(service).processRecord(recrd);
   }
 }
@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.trainee.sync.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -69,7 +70,7 @@ class SiteEventListenerTest {
   void shouldNotInteractWithPlacementQueueAfterSaveWhenNoRelatedPlacements() {
     when(placementSiteService.findOtherSitesBySiteId(Long.parseLong(SITE_ID))).thenReturn(
         Set.of());
-    when(placementService.findBySiteId(SITE_ID)).thenReturn(Set.of());
+    when(placementService.findLookupsBySiteId(SITE_ID)).thenReturn(Set.of());
 
     Site site = new Site();
     site.setTisId(SITE_ID);
@@ -85,11 +86,9 @@ class SiteEventListenerTest {
     when(placementSiteService.findOtherSitesBySiteId(Long.parseLong(SITE_ID))).thenReturn(
         Set.of());
 
-    Placement placement1 = new Placement();
-    placement1.setTisId(PLACEMENT_ID_1);
-    Placement placement2 = new Placement();
-    placement2.setTisId(PLACEMENT_ID_2);
-    when(placementService.findBySiteId(SITE_ID)).thenReturn(Set.of(placement1, placement2));
+    Placement placement1 = Placement.lookup(PLACEMENT_ID_1);
+    Placement placement2 = Placement.lookup(PLACEMENT_ID_2);
+    when(placementService.findLookupsBySiteId(SITE_ID)).thenReturn(Set.of(placement1, placement2));
 
     Site site = new Site();
     site.setTisId(SITE_ID);
@@ -97,12 +96,12 @@ class SiteEventListenerTest {
 
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_QUEUE_URL), argThat(sent -> sent.contains(placement1)), any());
     assertThat("Unexpected table operation.", placement1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_QUEUE_URL), argThat(sent -> sent.contains(placement2)), any());
     assertThat("Unexpected table operation.", placement2.getOperation(), is(LOOKUP));
   }
 
@@ -120,7 +119,7 @@ class SiteEventListenerTest {
     when(placementService.findById(PLACEMENT_ID_1)).thenReturn(Optional.of(placement1));
     when(placementService.findById(PLACEMENT_ID_2)).thenReturn(Optional.empty());
 
-    when(placementService.findBySiteId(SITE_ID)).thenReturn(Set.of());
+    when(placementService.findLookupsBySiteId(SITE_ID)).thenReturn(Set.of());
 
     Site site = new Site();
     site.setTisId(SITE_ID);
@@ -128,11 +127,10 @@ class SiteEventListenerTest {
 
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement1), any());
-    assertThat("Unexpected table operation.", placement1.getOperation(), is(LOOKUP));
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL),
+        argThat(sent -> sent.contains(Placement.lookup(PLACEMENT_ID_1))), any());
 
-    verify(placementService).request(PLACEMENT_ID_2);
+    verify(placementService).requestAll(Set.of(PLACEMENT_ID_2));
   }
 
   @Test
@@ -151,7 +149,7 @@ class SiteEventListenerTest {
     when(placementService.findById(PLACEMENT_ID_1)).thenReturn(Optional.of(placement1));
     when(placementService.findById(PLACEMENT_ID_2)).thenReturn(Optional.of(placement2));
 
-    when(placementService.findBySiteId(SITE_ID)).thenReturn(Set.of());
+    when(placementService.findLookupsBySiteId(SITE_ID)).thenReturn(Set.of());
 
     Site site = new Site();
     site.setTisId(SITE_ID);
@@ -159,13 +157,11 @@ class SiteEventListenerTest {
 
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement1), any());
-    assertThat("Unexpected table operation.", placement1.getOperation(), is(LOOKUP));
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL),
+        argThat(sent -> sent.contains(Placement.lookup(PLACEMENT_ID_1))), any());
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement2), any());
-    assertThat("Unexpected table operation.", placement2.getOperation(), is(LOOKUP));
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL),
+        argThat(sent -> sent.contains(Placement.lookup(PLACEMENT_ID_2))), any());
   }
 
   @Test
@@ -179,9 +175,8 @@ class SiteEventListenerTest {
     placement1.setTisId(PLACEMENT_ID_1);
     when(placementService.findById(PLACEMENT_ID_1)).thenReturn(Optional.of(placement1));
 
-    Placement placement2 = new Placement();
-    placement2.setTisId(PLACEMENT_ID_2);
-    when(placementService.findBySiteId(SITE_ID)).thenReturn(Set.of(placement2));
+    Placement placement2 = Placement.lookup(PLACEMENT_ID_2);
+    when(placementService.findLookupsBySiteId(SITE_ID)).thenReturn(Set.of(placement2));
 
     Site site = new Site();
     site.setTisId(SITE_ID);
@@ -189,12 +184,11 @@ class SiteEventListenerTest {
 
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement1), any());
-    assertThat("Unexpected table operation.", placement1.getOperation(), is(LOOKUP));
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL),
+        argThat(sent -> sent.contains(Placement.lookup(PLACEMENT_ID_1))), any());
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_QUEUE_URL), eq(placement2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_QUEUE_URL), argThat(sent -> sent.contains(placement2)), any());
     assertThat("Unexpected table operation.", placement2.getOperation(), is(LOOKUP));
   }
 }
@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.trainee.sync.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -95,12 +96,14 @@ class SpecialtyEventListenerTest {
     AfterSaveEvent<Specialty> event = new AfterSaveEvent<>(specialty, null, null);
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_SPECIALTY_QUEUE_URL), eq(placementSpecialty1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_SPECIALTY_QUEUE_URL),
+        argThat(sent -> sent.contains(placementSpecialty1)), any());
     assertThat("Unexpected table operation.", placementSpecialty1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_SPECIALTY_QUEUE_URL), eq(placementSpecialty2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_SPECIALTY_QUEUE_URL),
+        argThat(sent -> sent.contains(placementSpecialty2)), any());
     assertThat("Unexpected table operation.", placementSpecialty2.getOperation(), is(LOOKUP));
   }
 
@@ -137,13 +140,15 @@ class SpecialtyEventListenerTest {
         "specialty");
     listener.onAfterDelete(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_SPECIALTY_QUEUE_URL), eq(placementSpecialty1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_SPECIALTY_QUEUE_URL),
+        argThat(sent -> sent.contains(placementSpecialty1)), any());
     assertThat("Unexpected table operation.", placementSpecialty1.getOperation(),
         is(Operation.DELETE));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(PLACEMENT_SPECIALTY_QUEUE_URL), eq(placementSpecialty2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(PLACEMENT_SPECIALTY_QUEUE_URL),
+        argThat(sent -> sent.contains(placementSpecialty2)), any());
     assertThat("Unexpected table operation.", placementSpecialty2.getOperation(),
         is(Operation.DELETE));
   }
@@ -179,12 +184,12 @@ class SpecialtyEventListenerTest {
     AfterSaveEvent<Specialty> event = new AfterSaveEvent<>(specialty, null, null);
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_SPECIALTY_QUEUE_URL), eq(postSpecialty1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_SPECIALTY_QUEUE_URL), argThat(sent -> sent.contains(postSpecialty1)), any());
     assertThat("Unexpected table operation.", postSpecialty1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_SPECIALTY_QUEUE_URL), eq(postSpecialty2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_SPECIALTY_QUEUE_URL), argThat(sent -> sent.contains(postSpecialty2)), any());
     assertThat("Unexpected table operation.", postSpecialty2.getOperation(), is(LOOKUP));
   }
 
@@ -220,13 +225,13 @@ class SpecialtyEventListenerTest {
         "specialty");
     listener.onAfterDelete(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_SPECIALTY_QUEUE_URL), eq(postSpecialty1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_SPECIALTY_QUEUE_URL), argThat(sent -> sent.contains(postSpecialty1)), any());
     assertThat("Unexpected table operation.", postSpecialty1.getOperation(),
         is(Operation.DELETE));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_SPECIALTY_QUEUE_URL), eq(postSpecialty2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_SPECIALTY_QUEUE_URL), argThat(sent -> sent.contains(postSpecialty2)), any());
     assertThat("Unexpected table operation.", postSpecialty2.getOperation(),
         is(Operation.DELETE));
   }
@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.trainee.sync.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -92,16 +93,16 @@ class TrustEventListenerTest {
     AfterSaveEvent<Trust> event = new AfterSaveEvent<>(trust, null, null);
     listener.onAfterSave(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_QUEUE_URL), eq(post1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_QUEUE_URL), argThat(sent -> sent.contains(post1)), any());
     assertThat("Unexpected table operation.", post1.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_QUEUE_URL), eq(post2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_QUEUE_URL), argThat(sent -> sent.contains(post2)), any());
     assertThat("Unexpected table operation.", post2.getOperation(), is(LOOKUP));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_QUEUE_URL), eq(post3), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_QUEUE_URL), argThat(sent -> sent.contains(post3)), any());
     assertThat("Unexpected table operation.", post3.getOperation(), is(LOOKUP));
   }
 
@@ -138,16 +139,16 @@ class TrustEventListenerTest {
     AfterDeleteEvent<Trust> event = new AfterDeleteEvent<>(document, Trust.class, "trust");
     listener.onAfterDelete(event);
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_QUEUE_URL), eq(post1), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_QUEUE_URL), argThat(sent -> sent.contains(post1)), any());
     assertThat("Unexpected table operation.", post1.getOperation(), is(Operation.DELETE));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_QUEUE_URL), eq(post2), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_QUEUE_URL), argThat(sent -> sent.contains(post2)), any());
     assertThat("Unexpected table operation.", post2.getOperation(), is(Operation.DELETE));
 
-    verify(fifoMessagingService).sendMessageToFifoQueue(
-        eq(POST_QUEUE_URL), eq(post3), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(
+        eq(POST_QUEUE_URL), argThat(sent -> sent.contains(post3)), any());
     assertThat("Unexpected table operation.", post3.getOperation(), is(Operation.DELETE));
   }
 }
@@ -0,0 +1,268 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.mapper;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ListableBeanFactory;
+import uk.nhs.hee.tis.trainee.sync.mapper.util.RecordUtil;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+import uk.nhs.hee.tis.trainee.sync.service.RecordDispatchRegistry;
+import uk.nhs.hee.tis.trainee.sync.service.SyncService;
+
+class RecordReaderTest {
+
+  private static final String METADATA = """
+      {
+        "schema-name": "tcs",
+        "table-name": "Placement",
+        "operation": "update",
+        "record-type": "data",
+        "tis-trigger": "Update rejected",
+        "tis-trigger-detail": "Some details about this"
+      }""";
+
+  private static final String UNSUPPORTED_METADATA = """
+      {
+        "schema-name": "tcs",
+        "table-name": "Unsupported",
+        "operation": "update",
+        "record-type": "data"
+      }""";
+
+  private RecordReader reader;
+
+  @BeforeEach
+  void setUp() {
+    ListableBeanFactory beanFactory = mock(ListableBeanFactory.class);
+    when(beanFactory.getBeanNamesForType(Record.class, true, false))
+        .thenReturn(new String[]{Placement.ENTITY_NAME});
+    doReturn(Placement.class).when(beanFactory).getType(Placement.ENTITY_NAME);
+
+    SyncService syncService = mock(SyncService.class);
+    when(syncService.supports(any())).thenReturn(true);
+    when(syncService.supports("Unsupported")).thenReturn(false);
+
+    RecordDispatchRegistry dispatchRegistry = new RecordDispatchRegistry(
+        Map.of("tcs", syncService), beanFactory);
+    reader = new RecordReader(new ObjectMapper(), dispatchRegistry, new RecordUtil());
+  }
+
+  @Test
+  void shouldReadRecordSubTypeWhenDataBeforeMetadata() throws JsonProcessingException {
+    String payload = """
+        {"data": {"id": "40", "postId": 50, "siteCode": null}, "metadata": %s}"""
+        .formatted(METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected record class.", recrd, instanceOf(Placement.class));
+    assertThat("Unexpected tisId.", recrd.getTisId(), is("40"));
+    assertThat("Unexpected data count.", recrd.getData().size(), is(3));
+    assertThat("Unexpected data value.", recrd.getData().get("postId"), is("50"));
+    assertThat("Unexpected data value.", recrd.getData().get("siteCode"), nullValue());
+  }
+
+  @Test
+  void shouldReadRecordSubTypeWhenMetadataBeforeData() throws JsonProcessingException {
+    String payload = """
+        {"metadata": %s, "data": {"id": "40", "postId": 50}}""".formatted(METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected record class.", recrd, instanceOf(Placement.class));
+    assertThat("Unexpected tisId.", recrd.getTisId(), is("40"));
+    assertThat("Unexpected data value.", recrd.getData().get("postId"), is("50"));
+  }
+
+  @Test
+  void shouldPopulateRecordFromMetadata() throws JsonProcessingException {
+    String payload = """
+        {"data": {"id": "40"}, "metadata": %s}""".formatted(METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected schema.", recrd.getSchema(), is("tcs"));
+    assertThat("Unexpected table.", recrd.getTable(), is("Placement"));
+    assertThat("Unexpected operation.", recrd.getOperation(), is(Operation.UPDATE));
+    assertThat("Unexpected type.", recrd.getType(), is(RecordType.DATA));
+    assertThat("Unexpected tisTrigger.", recrd.getTisTrigger(), is("Update rejected"));
+    assertThat("Unexpected tisTriggerDetail.", recrd.getTisTriggerDetail(),
+        is("Some details about this"));
+    assertThat("Unexpected metadata count.", recrd.getMetadata().size(), is(6));
+  }
+
+  @Test
+  void shouldUseParentRecordTypeWhenNoSubTypeForTable() throws JsonProcessingException {
+    String payload = """
+        {"data": {"id": "40"}, "metadata": {"schema-name": "tcs", "table-name": "Other",
+        "operation": "insert", "record-type": "data"}}""";
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected record class.", recrd.getClass(), is(Record.class));
+    assertThat("Unexpected table.", recrd.getTable(), is("Other"));
+  }
+
+  @Test
+  void shouldSkipDataWhenTableUnsupportedAndMetadataBeforeData() throws JsonProcessingException {
+    String payload = """
+        {"metadata": %s, "data": {"id": "40", "nested": {"ignored": [1, 2]}}}"""
+        .formatted(UNSUPPORTED_METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected table.", recrd.getTable(), is("Unsupported"));
+    assertThat("Unexpected data count.", recrd.getData().size(), is(0));
+    assertThat("Unexpected tisId.", recrd.getTisId(), nullValue());
+  }
+
+  @Test
+  void shouldDiscardDataWhenTableUnsupportedAndDataBeforeMetadata()
+      throws JsonProcessingException {
+    String payload = """
+        {"data": {"id": "40"}, "metadata": %s}""".formatted(UNSUPPORTED_METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected table.", recrd.getTable(), is("Unsupported"));
+    assertThat("Unexpected data count.", recrd.getData().size(), is(0));
+  }
+
+  @Test
+  void shouldUseUuidAsTisIdWhenNoId() throws JsonProcessingException {
+    String payload = """
+        {"data": {"uuid": "abc-123"}, "metadata": %s}""".formatted(METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected tisId.", recrd.getTisId(), is("abc-123"));
+  }
+
+  @Test
+  void shouldPreferIdOverUuidAsTisId() throws JsonProcessingException {
+    String payload = """
+        {"data": {"uuid": "abc-123", "id": "40"}, "metadata": %s}""".formatted(METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected tisId.", recrd.getTisId(), is("40"));
+  }
+
+  @Test
+  void shouldDefaultToEmptyDataWhenDataMissing() throws JsonProcessingException {
+    String payload = """
+        {"metadata": %s}""".formatted(METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected data count.", recrd.getData().size(), is(0));
+    assertThat("Unexpected tisId.", recrd.getTisId(), nullValue());
+  }
+
+  @Test
+  void shouldIgnoreUnknownFields() throws JsonProcessingException {
+    String payload = """
+        {"other": {"nested": [1, 2]}, "data": {"id": "40"}, "metadata": %s}"""
+        .formatted(METADATA);
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected tisId.", recrd.getTisId(), is("40"));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMetadataMissing() {
+    String payload = """
+        {"data": {"id": "40"}}""";
+
+    assertThrows(MismatchedInputException.class, () -> reader.read(payload));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMetadataNull() {
+    String payload = """
+        {"data": {"id": "40"}, "metadata": null}""";
+
+    assertThrows(MismatchedInputException.class, () -> reader.read(payload));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenRecordTypeIsNull() {
+    String payload = """
+        {"data": {}, "metadata": {"schema-name": "tcs", "table-name": "Placement",
+        "operation": "update"}}""";
+
+    assertThrows(IllegalArgumentException.class, () -> reader.read(payload));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenOperationIsNull() {
+    String payload = """
+        {"data": {}, "metadata": {"schema-name": "tcs", "table-name": "Placement",
+        "record-type": "data"}}""";
+
+    assertThrows(IllegalArgumentException.class, () -> reader.read(payload));
+  }
+
+  @Test
+  void shouldReadRecordWithoutSchemaWhenSchemaMissing() throws JsonProcessingException {
+    String payload = """
+        {"data": {"id": "40"}, "metadata": {"table-name": "Placement", "operation": "update",
+        "record-type": "data"}}""";
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected schema.", recrd.getSchema(), nullValue());
+    assertThat("Unexpected table.", recrd.getTable(), is("Placement"));
+  }
+
+  @Test
+  void shouldReadRecordWithoutTableWhenTableMissing() throws JsonProcessingException {
+    String payload = """
+        {"data": {"id": "40"}, "metadata": {"schema-name": "tcs", "operation": "update",
+        "record-type": "data"}}""";
+
+    Record recrd = reader.read(payload);
+
+    assertThat("Unexpected record class.", recrd.getClass(), is(Record.class));
+    assertThat("Unexpected schema.", recrd.getSchema(), is("tcs"));
+    assertThat("Unexpected table.", recrd.getTable(), nullValue());
+  }
+}
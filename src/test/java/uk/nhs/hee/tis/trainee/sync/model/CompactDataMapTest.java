@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.model;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.junit.jupiter.api.Test;
+
+class CompactDataMapTest {
+
+  @Test
+  void shouldGetPutValues() {
+    Map<String, String> map = new CompactDataMap(PostTest.class);
+
+    assertThat("Unexpected previous value.", map.put("key1", "value1"), nullValue());
+    assertThat("Unexpected previous value.", map.put("key1", "value2"), is("value1"));
+    assertThat("Unexpected value.", map.get("key1"), is("value2"));
+    assertThat("Unexpected size.", map.size(), is(1));
+  }
+
+  @Test
+  void shouldDistinguishNullValuesFromMissingKeys() {
+    Map<String, String> map = new CompactDataMap(PostTest.class);
+    map.put("key1", null);
+
+    assertThat("Unexpected contains key.", map.containsKey("key1"), is(true));
+    assertThat("Unexpected contains key.", map.containsKey("key2"), is(false));
+    assertThat("Unexpected value.", map.get("key1"), nullValue());
+    assertThat("Unexpected size.", map.size(), is(1));
+  }
+
+  @Test
+  void shouldNotContainKeysAddedByOtherMapsSharingDictionary() {
+    Map<String, String> map1 = new CompactDataMap(PostTest.class);
+    Map<String, String> map2 = new CompactDataMap(PostTest.class);
+    map1.put("key1", "value1");
+    map1.put("key2", "value2");
+    map2.put("key2", "value3");
+
+    assertThat("Unexpected contains key.", map2.containsKey("key1"), is(false));
+    assertThat("Unexpected size.", map2.size(), is(1));
+    assertThat("Unexpected map.", map2, is(Map.of("key2", "value3")));
+  }
+
+  @Test
+  void shouldRemoveValues() {
+    Map<String, String> map = new CompactDataMap(PostTest.class, Map.of("key1", "value1"));
+
+    assertThat("Unexpected removed value.", map.remove("key1"), is("value1"));
+    assertThat("Unexpected removed value.", map.remove("key1"), nullValue());
+    assertThat("Unexpected removed value.", map.remove("unknown"), nullValue());
+    assertThat("Unexpected size.", map.size(), is(0));
+    assertThat("Unexpected contains key.", map.containsKey("key1"), is(false));
+  }
+
+  @Test
+  void shouldClearValues() {
+    Map<String, String> map = new CompactDataMap(PostTest.class,
+        Map.of("key1", "value1", "key2", "value2"));
+
+    map.clear();
+
+    assertThat("Unexpected size.", map.size(), is(0));
+    assertThat("Unexpected empty.", map.isEmpty(), is(true));
+  }
+
+  @Test
+  void shouldRejectNullKeys() {
+    Map<String, String> map = new CompactDataMap(PostTest.class);
+
+    assertThrows(NullPointerException.class, () -> map.put(null, "value"));
+    assertThat("Unexpected value.", map.get(null), nullValue());
+  }
+
+  @Test
+  void shouldBeEqualToEquivalentHashMap() {
+    Map<String, String> source = new HashMap<>();
+    source.put("key1", "value1");
+    source.put("key2", null);
+
+    Map<String, String> map = new CompactDataMap(PostTest.class, source);
+
+    assertThat("Unexpected equality.", map.equals(source), is(true));
+    assertThat("Unexpected equality.", source.equals(map), is(true));
+    assertThat("Unexpected hash code.", map.hashCode(), is(source.hashCode()));
+  }
+
+  @Test
+  void shouldWriteEntryValuesThroughToMap() {
+    Map<String, String> map = new CompactDataMap(PostTest.class, Map.of("key1", "value1"));
+
+    for (Entry<String, String> entry : map.entrySet()) {
+      entry.setValue("value2");
+    }
+
+    assertThat("Unexpected value.", map.get("key1"), is("value2"));
+  }
+
+  @Test
+  void shouldRemoveValuesUsingIterator() {
+    Map<String, String> map = new CompactDataMap(PostTest.class,
+        Map.of("key1", "value1", "key2", "value2"));
+
+    Iterator<Entry<String, String>> iterator = map.entrySet().iterator();
+    iterator.next();
+    iterator.remove();
+
+    assertThat("Unexpected size.", map.size(), is(1));
+    assertThrows(IllegalStateException.class, iterator::remove);
+  }
+
+  @Test
+  void shouldFailFastWhenModifiedDuringIteration() {
+    Map<String, String> map = new CompactDataMap(PostTest.class,
+        Map.of("key1", "value1", "key2", "value2"));
+
+    Iterator<Entry<String, String>> iterator = map.entrySet().iterator();
+    iterator.next();
+    map.put("key3", "value3");
+
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  @Test
+  void shouldStoreRecordDataCompactly() {
+    Post post = new Post();
+    post.setData(new HashMap<>(Map.of("key1", "value1")));
+
+    assertThat("Unexpected data type.", post.getData(), instanceOf(CompactDataMap.class));
+    assertThat("Unexpected data.", post.getData(), is(Map.of("key1", "value1")));
+  }
+
+  @Test
+  void shouldNotShareDictionaryBetweenTablesOfGenericRecords() {
+    Record recrd1 = new Record();
+    recrd1.setTable("CompactDataMapTestTable1");
+    recrd1.setData(Map.of("key1", "value1"));
+
+    Record recrd2 = new Record();
+    recrd2.setData(Map.of("key2", "value2"));
+    recrd2.setTable("CompactDataMapTestTable2");
+
+    CompactDataMap data1 = (CompactDataMap) recrd1.getData();
+    CompactDataMap data2 = (CompactDataMap) recrd2.getData();
+
+    assertThat("Unexpected dictionary.", data1.usesDictionaryOf("CompactDataMapTestTable1"),
+        is(true));
+    assertThat("Unexpected dictionary.", data2.usesDictionaryOf("CompactDataMapTestTable2"),
+        is(true));
+    assertThat("Unexpected dictionary.", data1.usesDictionaryOf(Record.class), is(false));
+    assertThat("Unexpected data.", data2, is(Map.of("key2", "value2")));
+  }
+
+  @Test
+  void shouldKeepRecordTypeDictionaryForRecordSubtypes() {
+    Post post = new Post();
+    post.setTable("CompactDataMapTestTable3");
+    post.setData(Map.of("key1", "value1"));
+
+    CompactDataMap data = (CompactDataMap) post.getData();
+
+    assertThat("Unexpected dictionary.", data.usesDictionaryOf(Post.class), is(true));
+    assertThat("Unexpected dictionary.", data.usesDictionaryOf("CompactDataMapTestTable3"),
+        is(false));
+  }
+
+  @Test
+  void shouldRoundTripRecordsThroughJsonWithDefaultTyping() throws JsonProcessingException {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(),
+        DefaultTyping.NON_FINAL, As.PROPERTY);
+
+    Post post = new Post();
+    post.setTisId("40");
+    post.setData(Map.of("key1", "value1", "key2", "value2"));
+
+    String json = objectMapper.writeValueAsString(List.of(post));
+    List<?> read = objectMapper.readValue(json, List.class);
+    Post readPost = (Post) read.get(0);
+
+    assertThat("Unexpected data type.", readPost.getData(), instanceOf(CompactDataMap.class));
+    assertThat("Unexpected data.", readPost.getData(), is(post.getData()));
+  }
+}
@@ -35,4 +35,15 @@ class PlacementTest {
     assertThat("Unexpected table.", placement.getTable(), is(Placement.ENTITY_NAME));
     assertThat("Unexpected schema.", placement.getSchema(), is(Placement.SCHEMA_NAME));
   }
+
+  @Test
+  void shouldCreateLookupWithIdentityOnly() {
+    Placement placement = Placement.lookup("40");
+
+    assertThat("Unexpected ID.", placement.getTisId(), is("40"));
+    assertThat("Unexpected operation.", placement.getOperation(), is(Operation.LOOKUP));
+    assertThat("Unexpected table.", placement.getTable(), is(Placement.ENTITY_NAME));
+    assertThat("Unexpected schema.", placement.getSchema(), is(Placement.SCHEMA_NAME));
+    assertThat("Unexpected data.", placement.getData().isEmpty(), is(true));
+  }
 }
@@ -0,0 +1,350 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOAD;
+import static uk.nhs.hee.tis.trainee.sync.model.Operation.LOOKUP;
+import static uk.nhs.hee.tis.trainee.sync.model.Operation.UPDATE;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.messaging.MessageDeliveryException;
+import uk.nhs.hee.tis.trainee.sync.mapper.ProgrammeMembershipMapper;
+import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.model.Post;
+import uk.nhs.hee.tis.trainee.sync.model.Programme;
+import uk.nhs.hee.tis.trainee.sync.model.ProgrammeMembership;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+import uk.nhs.hee.tis.trainee.sync.model.Site;
+
+class BulkLoadServiceTest {
+
+  private static final String PLACEMENT_QUEUE_URL = "https://queue.placement";
+  private static final String PROGRAMME_MEMBERSHIP_QUEUE_URL = "https://queue.pm";
+
+  private BulkLoadService service;
+
+  private MongoTemplate mongoTemplate;
+  private MongoCollection<Document> collection;
+  private Cache cache;
+  private RequestCacheService requestCacheService;
+  private FifoMessagingService fifoMessagingService;
+  private ProgrammeMembershipMapper programmeMembershipMapper;
+  private RedisCommands<String, String> syncCommands;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    collection = mock(MongoCollection.class);
+    MongoConverter converter = mock(MongoConverter.class);
+    when(mongoTemplate.getConverter()).thenReturn(converter);
+    when(mongoTemplate.getCollection(any())).thenReturn(collection);
+    when(mongoTemplate.getCollectionName(Placement.class)).thenReturn("placement");
+    when(mongoTemplate.getCollectionName(Post.class)).thenReturn("post");
+    doAnswer(inv -> {
+      Record recrd = inv.getArgument(0);
+      Document document = inv.getArgument(1);
+      document.put("_id", recrd.getTisId());
+      return null;
+    }).when(converter).write(any(), any());
+
+    cache = mock(Cache.class);
+    CacheManager cacheManager = mock(CacheManager.class);
+    when(cacheManager.getCache(any())).thenReturn(cache);
+
+    RedisClient redisClient = mock(RedisClient.class);
+    StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+    syncCommands = mock(RedisCommands.class);
+    when(redisClient.connect()).thenReturn(connection);
+    when(connection.sync()).thenReturn(syncCommands);
+
+    requestCacheService = mock(RequestCacheService.class);
+    fifoMessagingService = mock(FifoMessagingService.class);
+    programmeMembershipMapper = mock(ProgrammeMembershipMapper.class);
+
+    service = createService(true, cacheManager, redisClient, Duration.ZERO);
+  }
+
+  private BulkLoadService createService(boolean enabled, CacheManager cacheManager,
+      RedisClient redisClient, Duration lateRecordDelay) {
+    return new BulkLoadService(mongoTemplate, cacheManager, requestCacheService,
+        fifoMessagingService, programmeMembershipMapper, redisClient, PLACEMENT_QUEUE_URL,
+        PROGRAMME_MEMBERSHIP_QUEUE_URL, enabled, lateRecordDelay);
+  }
+
+  private Placement createPlacement(String id) {
+    Placement placement = new Placement();
+    placement.setTisId(id);
+    placement.setType(RecordType.DATA);
+    placement.setOperation(LOAD);
+    return placement;
+  }
+
+  @Test
+  void shouldBulkLoadSupportedLoadRecords() {
+    assertThat("Unexpected bulk load flag.", service.isBulkLoad(createPlacement("1")), is(true));
+  }
+
+  @Test
+  void shouldNotBulkLoadWhenDisabled() {
+    RedisClient redisClient = mock(RedisClient.class);
+    when(redisClient.connect()).thenReturn(mock(StatefulRedisConnection.class));
+    service = createService(false, mock(CacheManager.class), redisClient, Duration.ZERO);
+
+    assertThat("Unexpected bulk load flag.", service.isBulkLoad(createPlacement("1")), is(false));
+  }
+
+  @Test
+  void shouldNotBulkLoadNonLoadRecords() {
+    Placement placement = createPlacement("1");
+    placement.setOperation(UPDATE);
+
+    assertThat("Unexpected bulk load flag.", service.isBulkLoad(placement), is(false));
+  }
+
+  @Test
+  void shouldNotBulkLoadWhenSchemaDoesNotMatch() {
+    Placement placement = createPlacement("1");
+    placement.setSchema("other");
+
+    assertThat("Unexpected bulk load flag.", service.isBulkLoad(placement), is(false));
+  }
+
+  @Test
+  void shouldNotBulkLoadUnsupportedTables() {
+    Site site = new Site();
+    site.setType(RecordType.DATA);
+    site.setOperation(LOAD);
+
+    assertThat("Unexpected bulk load flag.", service.isBulkLoad(site), is(false));
+  }
+
+  @Test
+  void shouldBulkWriteLatestRecordForEachId() {
+    service.load(List.of(createPlacement("1"), createPlacement("2"), createPlacement("1")));
+
+    ArgumentCaptor<List<WriteModel<Document>>> writesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(mongoTemplate).getCollection("placement");
+    verify(collection).bulkWrite(writesCaptor.capture(), any(BulkWriteOptions.class));
+    assertThat("Unexpected write count.", writesCaptor.getValue().size(), is(2));
+  }
+
+  @Test
+  void shouldEvictCachesAndTrackIdsWhenBulkLoading() {
+    service.load(List.of(createPlacement("1"), createPlacement("2")));
+
+    verify(cache).evict("1");
+    verify(cache).evict("2");
+    verify(requestCacheService).deleteItemFromCache(Placement.ENTITY_NAME, "1");
+    verify(requestCacheService).deleteItemFromCache(Placement.ENTITY_NAME, "2");
+    verify(syncCommands).sadd("BulkLoad::Placement", "1", "2");
+  }
+
+  @Test
+  void shouldNotSendMessagesWhenNoPendingIds() {
+    when(syncCommands.exists(any())).thenReturn(0L);
+
+    service.complete(Placement.SCHEMA_NAME, Placement.ENTITY_NAME);
+
+    verify(syncCommands, never()).rename(any(), any());
+    verifyNoInteractions(fifoMessagingService);
+  }
+
+  @Test
+  void shouldNotCompleteUnsupportedTables() {
+    service.complete("tcs", "Site");
+
+    verifyNoInteractions(syncCommands, fifoMessagingService);
+  }
+
+  @Test
+  void shouldSendPlacementLookupsWhenPlacementLoadCompleted() {
+    when(syncCommands.exists("BulkLoad::Placement")).thenReturn(1L);
+    when(syncCommands.smembers("BulkLoad::Placement::processing")).thenReturn(Set.of("1", "2"));
+    when(fifoMessagingService.getLookupDeduplicationId(any(), any(), any())).thenReturn("dedup");
+
+    service.complete(Placement.SCHEMA_NAME, Placement.ENTITY_NAME);
+
+    verify(syncCommands).rename("BulkLoad::Placement", "BulkLoad::Placement::processing");
+    verify(syncCommands).del("BulkLoad::Placement::processing");
+
+    ArgumentCaptor<Collection<Placement>> placementsCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<Function<Placement, String>> deduplicationCaptor = ArgumentCaptor.captor();
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL),
+        placementsCaptor.capture(), deduplicationCaptor.capture());
+
+    List<Placement> placements = List.copyOf(placementsCaptor.getValue());
+    assertThat("Unexpected placement count.", placements.size(), is(2));
+    assertThat("Unexpected placement ids.",
+        Set.of(placements.get(0).getTisId(), placements.get(1).getTisId()), is(Set.of("1", "2")));
+    assertThat("Unexpected operation.", placements.get(0).getOperation(), is(LOOKUP));
+    assertThat("Unexpected operation.", placements.get(1).getOperation(), is(LOOKUP));
+    assertThat("Unexpected deduplication id.",
+        deduplicationCaptor.getValue().apply(placements.get(0)), is("dedup"));
+  }
+
+  @Test
+  void shouldKeepClaimedIdsWhenSendingLookupsFails() {
+    when(syncCommands.exists("BulkLoad::Placement")).thenReturn(1L);
+    when(syncCommands.smembers("BulkLoad::Placement::processing")).thenReturn(Set.of("1"));
+    doThrow(new MessageDeliveryException("error")).when(fifoMessagingService)
+        .sendMessagesToFifoQueue(any(), any(), any());
+
+    assertThrows(MessageDeliveryException.class,
+        () -> service.complete(Placement.SCHEMA_NAME, Placement.ENTITY_NAME));
+
+    verify(syncCommands, never()).del("BulkLoad::Placement::processing");
+  }
+
+  @Test
+  void shouldResumeClaimedIdsWhenCompletionRepeatedWithNoPendingIds() {
+    when(syncCommands.exists("BulkLoad::Placement")).thenReturn(0L);
+    when(syncCommands.smembers("BulkLoad::Placement::processing")).thenReturn(Set.of("1"));
+
+    service.complete(Placement.SCHEMA_NAME, Placement.ENTITY_NAME);
+
+    verify(syncCommands, never()).rename(any(), any());
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL), any(), any());
+    verify(syncCommands).del("BulkLoad::Placement::processing");
+  }
+
+  @Test
+  void shouldMergePendingIdsIntoClaimedIdsWhenCompletionRepeated() {
+    when(syncCommands.exists("BulkLoad::Placement")).thenReturn(1L);
+    when(syncCommands.exists("BulkLoad::Placement::processing")).thenReturn(1L);
+    when(syncCommands.smembers("BulkLoad::Placement::processing")).thenReturn(Set.of("1", "2"));
+
+    service.complete(Placement.SCHEMA_NAME, Placement.ENTITY_NAME);
+
+    verify(syncCommands, never()).rename(any(), any());
+    verify(syncCommands).sunionstore("BulkLoad::Placement::processing",
+        "BulkLoad::Placement::processing", "BulkLoad::Placement");
+    verify(syncCommands).del("BulkLoad::Placement");
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL), any(), any());
+    verify(syncCommands).del("BulkLoad::Placement::processing");
+  }
+
+  @Test
+  void shouldCompleteLateRecordsAfterDelay() {
+    RedisClient redisClient = mock(RedisClient.class);
+    StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+    when(redisClient.connect()).thenReturn(connection);
+    when(connection.sync()).thenReturn(syncCommands);
+    service = createService(true, mock(CacheManager.class), redisClient, Duration.ofMillis(10));
+
+    when(syncCommands.exists("BulkLoad::Placement")).thenReturn(0L, 1L);
+    when(syncCommands.smembers("BulkLoad::Placement::processing"))
+        .thenReturn(Set.of(), Set.of("3"));
+
+    service.complete(Placement.SCHEMA_NAME, Placement.ENTITY_NAME);
+
+    verify(fifoMessagingService, timeout(1000)).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL),
+        any(), any());
+    verify(syncCommands, timeout(1000)).rename("BulkLoad::Placement",
+        "BulkLoad::Placement::processing");
+    service.shutdown();
+  }
+
+  @Test
+  void shouldNotThrowExceptionWhenLateRecordCompletionFails() {
+    when(syncCommands.exists("BulkLoad::Placement")).thenThrow(new RuntimeException("error"));
+
+    service.completeLateRecords(Placement.SCHEMA_NAME, Placement.ENTITY_NAME);
+
+    verifyNoInteractions(fifoMessagingService);
+  }
+
+  @Test
+  void shouldSendDistinctPlacementLookupsWhenPostLoadCompleted() {
+    when(syncCommands.exists("BulkLoad::Post")).thenReturn(1L);
+    when(syncCommands.smembers("BulkLoad::Post::processing")).thenReturn(Set.of("10", "20"));
+    when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("placement")))
+        .thenReturn(List.of(new Document("_id", "1"), new Document("_id", "1")));
+
+    service.complete(Post.SCHEMA_NAME, Post.ENTITY_NAME);
+
+    ArgumentCaptor<Collection<Placement>> placementsCaptor = ArgumentCaptor.captor();
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL),
+        placementsCaptor.capture(), any());
+
+    Collection<Placement> placements = placementsCaptor.getValue();
+    assertThat("Unexpected placement count.", placements.size(), is(1));
+    assertThat("Unexpected placement id.", placements.iterator().next().getTisId(), is("1"));
+  }
+
+  @Test
+  void shouldSendProgrammeMembershipLookupsWhenProgrammeLoadCompleted() {
+    when(syncCommands.exists("BulkLoad::Programme")).thenReturn(1L);
+    when(syncCommands.smembers("BulkLoad::Programme::processing")).thenReturn(Set.of("10"));
+
+    ProgrammeMembership programmeMembership = new ProgrammeMembership();
+    programmeMembership.setUuid(UUID.randomUUID());
+    when(mongoTemplate.find(any(Query.class), eq(ProgrammeMembership.class)))
+        .thenReturn(List.of(programmeMembership));
+
+    Record programmeMembershipRecord = new Record();
+    programmeMembershipRecord.setTisId(programmeMembership.getUuid().toString());
+    when(programmeMembershipMapper.toRecords(Set.of(programmeMembership)))
+        .thenReturn(Set.of(programmeMembershipRecord));
+
+    service.complete(Programme.SCHEMA_NAME, Programme.ENTITY_NAME);
+
+    verify(fifoMessagingService).sendMessagesToFifoQueue(eq(PROGRAMME_MEMBERSHIP_QUEUE_URL),
+        eq(Set.of(programmeMembershipRecord)), any());
+    verify(fifoMessagingService, never()).sendMessagesToFifoQueue(eq(PLACEMENT_QUEUE_URL), any(),
+        any());
+    assertThat("Unexpected operation.", programmeMembershipRecord.getOperation(), is(LOOKUP));
+  }
+}
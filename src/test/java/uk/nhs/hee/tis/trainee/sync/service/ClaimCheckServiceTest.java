@@ -0,0 +1,216 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.sync.service.ClaimCheckService.CLAIM_CHECK_ID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.unit.DataSize;
+import uk.nhs.hee.tis.trainee.sync.config.ClaimCheckProperties;
+import uk.nhs.hee.tis.trainee.sync.model.ClaimCheck;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.PlacementSpecialty;
+import uk.nhs.hee.tis.trainee.sync.model.Post;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+
+class ClaimCheckServiceTest {
+
+  private static final String TIS_ID = "40";
+  private static final String TIMESTAMP = "2026-01-01T00:00:00Z";
+  private static final DataSize THRESHOLD = DataSize.ofBytes(100);
+
+  private ClaimCheckService service;
+  private MongoTemplate mongoTemplate;
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    objectMapper = new ObjectMapper();
+    service = new ClaimCheckService(mongoTemplate, objectMapper,
+        new ClaimCheckProperties(true, THRESHOLD));
+  }
+
+  @Test
+  void shouldNotCheckInWhenDisabled() {
+    service = new ClaimCheckService(mongoTemplate, objectMapper,
+        new ClaimCheckProperties(false, THRESHOLD));
+    Post post = createLargeRecord(new Post(), Operation.LOOKUP);
+
+    Object payload = service.checkIn(post);
+
+    assertThat("Unexpected payload.", payload, sameInstance(post));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldNotCheckInWhenPayloadNotRecord() {
+    Object payload = service.checkIn("x".repeat(200));
+
+    assertThat("Unexpected payload.", payload, is("x".repeat(200)));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldNotCheckInWhenRecordBelowThreshold() {
+    Post post = new Post();
+    post.setTisId(TIS_ID);
+    post.setData(Map.of("id", TIS_ID));
+
+    Object payload = service.checkIn(post);
+
+    assertThat("Unexpected payload.", payload, sameInstance(post));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldSendReferenceWithoutStoringWhenLargeLookupReloadedById() {
+    Post post = createLargeRecord(new Post(), Operation.LOOKUP);
+
+    Object payload = service.checkIn(post);
+
+    assertThat("Unexpected payload type.", payload, instanceOf(Post.class));
+    Post reference = (Post) payload;
+    assertThat("Unexpected TIS ID.", reference.getTisId(), is(TIS_ID));
+    assertThat("Unexpected table.", reference.getTable(), is(Post.ENTITY_NAME));
+    assertThat("Unexpected operation.", reference.getOperation(), is(Operation.LOOKUP));
+    assertThat("Unexpected data.", reference.getData().isEmpty(), is(true));
+    assertThat("Unexpected metadata.", reference.getMetadata(),
+        is(Map.of("timestamp", TIMESTAMP)));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldStoreClaimCheckWhenLargeRecordNotReloadedById() throws Exception {
+    PlacementSpecialty placementSpecialty = createLargeRecord(new PlacementSpecialty(),
+        Operation.LOOKUP);
+
+    Object payload = service.checkIn(placementSpecialty);
+
+    ArgumentCaptor<ClaimCheck> claimCheckCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).insert(claimCheckCaptor.capture());
+
+    ClaimCheck claimCheck = claimCheckCaptor.getValue();
+    assertThat("Unexpected claim check ID.", claimCheck.getId(), notNullValue());
+    assertThat("Unexpected created time.", claimCheck.getCreated(), notNullValue());
+    assertThat("Unexpected payload type.", claimCheck.getPayloadType(),
+        is(PlacementSpecialty.class.getName()));
+    PlacementSpecialty stored = objectMapper.readValue(claimCheck.getPayload(),
+        PlacementSpecialty.class);
+    assertThat("Unexpected stored data.", stored.getData(), is(placementSpecialty.getData()));
+
+    assertThat("Unexpected payload type.", payload, instanceOf(PlacementSpecialty.class));
+    PlacementSpecialty reference = (PlacementSpecialty) payload;
+    assertThat("Unexpected TIS ID.", reference.getTisId(), is(TIS_ID));
+    assertThat("Unexpected data.", reference.getData().isEmpty(), is(true));
+    assertThat("Unexpected claim check ID.", reference.getMetadata().get(CLAIM_CHECK_ID),
+        is(claimCheck.getId()));
+    assertThat("Unexpected version.", reference.getMetadata().get("timestamp"), is(TIMESTAMP));
+  }
+
+  @Test
+  void shouldStoreClaimCheckWhenLargeRecordNotLookup() {
+    Post post = createLargeRecord(new Post(), Operation.UPDATE);
+
+    Object payload = service.checkIn(post);
+
+    verify(mongoTemplate).insert(any(ClaimCheck.class));
+    Post reference = (Post) payload;
+    assertThat("Unexpected claim check ID.", reference.getMetadata().get(CLAIM_CHECK_ID),
+        notNullValue());
+  }
+
+  @Test
+  void shouldNotResolveWhenNoClaimCheckId() {
+    Post post = new Post();
+    post.setMetadata(Map.of("timestamp", TIMESTAMP));
+
+    Post resolved = service.resolve(post);
+
+    assertThat("Unexpected record.", resolved, sameInstance(post));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldResolveStoredRecordWhenClaimCheckIdPresent() throws Exception {
+    PlacementSpecialty placementSpecialty = createLargeRecord(new PlacementSpecialty(),
+        Operation.UPDATE);
+
+    ClaimCheck claimCheck = new ClaimCheck();
+    claimCheck.setId("claim-check-id");
+    claimCheck.setPayload(objectMapper.writeValueAsString(placementSpecialty));
+    when(mongoTemplate.findById("claim-check-id", ClaimCheck.class)).thenReturn(claimCheck);
+
+    PlacementSpecialty reference = new PlacementSpecialty();
+    reference.setTisId(TIS_ID);
+    reference.setMetadata(Map.of(CLAIM_CHECK_ID, "claim-check-id"));
+
+    PlacementSpecialty resolved = service.resolve(reference);
+
+    assertThat("Unexpected TIS ID.", resolved.getTisId(), is(TIS_ID));
+    assertThat("Unexpected operation.", resolved.getOperation(), is(Operation.UPDATE));
+    assertThat("Unexpected data.", resolved.getData(), is(placementSpecialty.getData()));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenClaimCheckNotFound() {
+    Post reference = new Post();
+    reference.setTisId(TIS_ID);
+    reference.setMetadata(Map.of(CLAIM_CHECK_ID, "claim-check-id"));
+
+    assertThrows(MessageConversionException.class, () -> service.resolve(reference));
+  }
+
+  /**
+   * Create a record with data above the claim-check threshold.
+   *
+   * @param recrd     The record to populate.
+   * @param operation The record operation.
+   * @param <T>       The type of the record.
+   * @return The populated record.
+   */
+  private <T extends Record> T createLargeRecord(T recrd, Operation operation) {
+    recrd.setTisId(TIS_ID);
+    recrd.setOperation(operation);
+    recrd.setData(Map.of("id", TIS_ID, "placementId", "x".repeat(200)));
+    recrd.setMetadata(new HashMap<>(Map.of("timestamp", TIMESTAMP)));
+    return recrd;
+  }
+}
@@ -31,7 +31,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -100,6 +99,7 @@ class CurriculumMembershipSyncServiceTest {
     repository = mock(CurriculumMembershipRepository.class);
     fifoMessagingService = mock(FifoMessagingService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
     eventPublisher = mock(ApplicationEventPublisher.class);
 
     service = new CurriculumMembershipSyncService(repository, dataRequestService,
@@ -157,8 +157,8 @@ class CurriculumMembershipSyncServiceTest {
 
     verify(dataRequestService).sendRequest(ENTITY_NAME, whereMapPmUuid1);
 
-    // The request is cached after it is sent, ensure it is not deleted straight away.
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(PROGRAMME_MEMBERSHIP_ID), any());
+    // The request is claimed before it is sent, ensure the claim is not released straight away.
+    verify(requestCacheService).claimRequest(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID);
     verify(requestCacheService, never()).deleteItemFromCache(any(), any());
   }
 
@@ -340,8 +340,8 @@ class CurriculumMembershipSyncServiceTest {
   @Test
   void shouldSendRequestForProgrammeMembershipWhenNotAlreadyRequested()
       throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID))
-        .thenReturn(false);
+    when(requestCacheService.claimRequest(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID))
+        .thenReturn(true);
     service.requestForProgrammeMembership(PROGRAMME_MEMBERSHIP_ID);
     verify(dataRequestService).sendRequest("CurriculumMembership", whereMapPmUuid1);
   }
@@ -349,8 +349,8 @@ class CurriculumMembershipSyncServiceTest {
   @Test
   void shouldNotSendRequestForProgrammeMembershipWhenAlreadyRequested()
       throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID))
-        .thenReturn(true);
+    when(requestCacheService.claimRequest(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID))
+        .thenReturn(false);
     service.requestForProgrammeMembership(PROGRAMME_MEMBERSHIP_ID);
     verify(dataRequestService, never()).sendRequest("CurriculumMembership", whereMapPmUuid1);
     verifyNoMoreInteractions(dataRequestService);
@@ -359,10 +359,10 @@ class CurriculumMembershipSyncServiceTest {
   @Test
   void shouldSendRequestForProgrammeMembershipWhenSyncedBetweenRequests()
       throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID))
-        .thenReturn(false);
+    when(requestCacheService.claimRequest(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID))
+        .thenReturn(true);
     service.requestForProgrammeMembership(PROGRAMME_MEMBERSHIP_ID);
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(PROGRAMME_MEMBERSHIP_ID), any());
+    verify(requestCacheService).claimRequest(ENTITY_NAME, PROGRAMME_MEMBERSHIP_ID);
 
     curriculumMembership.setOperation(DELETE);
     service.syncCurriculumMembership(curriculumMembership);
@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -79,6 +78,7 @@ class CurriculumSyncServiceTest {
     dataRequestService = mock(DataRequestService.class);
     referenceSyncService = mock(ReferenceSyncService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
 
     service = new CurriculumSyncService(repository, dataRequestService, referenceSyncService,
             requestCacheService);
@@ -142,14 +142,14 @@ class CurriculumSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Curriculum.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Curriculum.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("Curriculum", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Curriculum.ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(Curriculum.ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("Curriculum", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -157,9 +157,9 @@ class CurriculumSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Curriculum.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Curriculum.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(Curriculum.ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(Curriculum.ENTITY_NAME, ID);
 
     curriculum.setOperation(DELETE);
     service.syncRecord(curriculum);
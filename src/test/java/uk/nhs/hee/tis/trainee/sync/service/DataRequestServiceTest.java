@@ -23,21 +23,33 @@ package uk.nhs.hee.tis.trainee.sync.service;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_GROUP_ID_HEADER;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
 
 class DataRequestServiceTest {
 
@@ -47,13 +59,37 @@ class DataRequestServiceTest {
 
   private SqsTemplate queueMessagingTemplate;
 
+  private RequestCacheService requestCacheService;
+
+  private OutboxService outboxService;
+
+  private ObjectMapper objectMapper;
+
+  private SimpleMeterRegistry meterRegistry;
+
   private final String queueUrl = "mockQueueUrl";
 
   @BeforeEach
   void setUp() {
     queueMessagingTemplate = mock(SqsTemplate.class);
-    ObjectMapper objectMapper = new ObjectMapper();
-    testObj = new DataRequestService(queueMessagingTemplate, objectMapper, queueUrl);
+    requestCacheService = mock(RequestCacheService.class);
+    outboxService = mock(OutboxService.class);
+    objectMapper = new ObjectMapper();
+    meterRegistry = new SimpleMeterRegistry();
+    testObj = new DataRequestService(queueMessagingTemplate, objectMapper, queueUrl,
+        requestCacheService, Duration.ZERO, outboxService, new MessagingMetrics(meterRegistry));
+  }
+
+  /**
+   * Create a data request service which coalesces requests, the window is long enough that only
+   * explicit flushes will send the buffered requests.
+   *
+   * @return The coalescing data request service.
+   */
+  private DataRequestService createCoalescingService() {
+    return new DataRequestService(queueMessagingTemplate, objectMapper, queueUrl,
+        requestCacheService, Duration.ofHours(1), outboxService,
+        new MessagingMetrics(meterRegistry));
   }
 
   @Test
@@ -103,4 +139,148 @@ class DataRequestServiceTest {
     assertThat("Unexpected message group id value.", headers.get(MESSAGE_GROUP_ID_HEADER),
         is(expectedMessageGroupId));
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldNotSendBufferedRequestsBeforeFlushWhenCoalescing() throws JsonProcessingException {
+    DataRequestService coalescingService = createCoalescingService();
+
+    String request = coalescingService.sendRequest("Post", Map.of("id", ID));
+
+    assertThat("Unexpected request.", request, containsString("\"id\" : \"10\""));
+    verifyNoInteractions(queueMessagingTemplate);
+  }
+
+  @Test
+  void shouldSendSingleRequestForBufferedIdsWhenCoalescing() throws JsonProcessingException {
+    DataRequestService coalescingService = createCoalescingService();
+
+    coalescingService.sendRequest("Post", Map.of("id", "1"));
+    coalescingService.sendRequest("Post", Map.of("id", "2"));
+    coalescingService.sendRequest("Post", Map.of("id", "1"));
+    coalescingService.flush();
+
+    ArgumentCaptor<Message<String>> messageCaptor = ArgumentCaptor.captor();
+    verify(queueMessagingTemplate).send(eq(queueUrl), messageCaptor.capture());
+
+    Message<String> message = messageCaptor.getValue();
+
+    String payload = message.getPayload();
+    assertThat("Unexpected table.", payload, containsString("\"table\" : \"Post\""));
+    assertThat("Unexpected ids.", payload, containsString("\"id\" : [ \"1\", \"2\" ]"));
+
+    Map<String, Object> headers = message.getHeaders();
+    assertThat("Unexpected message group id value.", headers.get(MESSAGE_GROUP_ID_HEADER),
+        is("tcs_Post_1"));
+  }
+
+  @Test
+  void shouldCountBufferedIdsTowardsFanOutWhenCoalescing() throws JsonProcessingException {
+    DataRequestService coalescingService = createCoalescingService();
+    MessagingMetrics metrics = new MessagingMetrics(meterRegistry);
+
+    metrics.startFanOut();
+    coalescingService.sendRequest("Post", Map.of("id", "1"));
+    coalescingService.sendRequest("Post", Map.of("id", "2"));
+    coalescingService.sendRequest("Post", Map.of("id", "1"));
+    assertThat("Unexpected buffered fan-out.", metrics.stopFanOut(), is(2));
+
+    metrics.startFanOut();
+    coalescingService.flush();
+    assertThat("Unexpected flushed fan-out.", metrics.stopFanOut(), is(0));
+    assertThat("Unexpected sent count.", meterRegistry.get("sync.messages.sent")
+        .tags("table", "Post", "outcome", "sent").timer().count(), is(1L));
+  }
+
+  @Test
+  void shouldSendSingleIdFormatWhenOnlyOneIdBuffered() throws JsonProcessingException {
+    DataRequestService coalescingService = createCoalescingService();
+
+    coalescingService.sendRequest("Post", Map.of("id", ID));
+    coalescingService.flush();
+
+    ArgumentCaptor<Message<String>> messageCaptor = ArgumentCaptor.captor();
+    verify(queueMessagingTemplate).send(eq(queueUrl), messageCaptor.capture());
+
+    String payload = messageCaptor.getValue().getPayload();
+    assertThat("Unexpected id.", payload, containsString("\"id\" : \"10\""));
+  }
+
+  @Test
+  void shouldSendRequestPerTableWhenCoalescing() throws JsonProcessingException {
+    DataRequestService coalescingService = createCoalescingService();
+
+    coalescingService.sendRequest("Post", Map.of("id", ID));
+    coalescingService.sendRequest("Site", Map.of("id", ID));
+    coalescingService.sendRequest("reference", "Grade", Map.of("id", ID));
+    coalescingService.flush();
+
+    ArgumentCaptor<Message<String>> messageCaptor = ArgumentCaptor.captor();
+    verify(queueMessagingTemplate, times(3)).send(eq(queueUrl), messageCaptor.capture());
+
+    List<Object> groupIds = messageCaptor.getAllValues().stream()
+        .map(m -> m.getHeaders().get(MESSAGE_GROUP_ID_HEADER))
+        .toList();
+    assertThat("Unexpected message group count.", groupIds.size(), is(3));
+    assertThat("Unexpected message group ids.", groupIds.containsAll(
+        List.of("tcs_Post_10", "tcs_Site_10", "reference_Grade_10")), is(true));
+  }
+
+  @Test
+  void shouldSendImmediatelyWhenMaxCoalescedIdsReached() throws JsonProcessingException {
+    DataRequestService coalescingService = createCoalescingService();
+
+    for (int i = 0; i < DataRequestService.MAX_COALESCED_IDS; i++) {
+      coalescingService.sendRequest("Post", Map.of("id", String.valueOf(i)));
+    }
+
+    ArgumentCaptor<Message<String>> messageCaptor = ArgumentCaptor.captor();
+    verify(queueMessagingTemplate).send(eq(queueUrl), messageCaptor.capture());
+
+    String payload = messageCaptor.getValue().getPayload();
+    assertThat("Unexpected first id.", payload, containsString("\"0\""));
+    assertThat("Unexpected last id.", payload,
+        containsString("\"" + (DataRequestService.MAX_COALESCED_IDS - 1) + "\""));
+  }
+
+  @Test
+  void shouldNotBufferMultiEntryRequestsWhenCoalescing() throws JsonProcessingException {
+    DataRequestService coalescingService = createCoalescingService();
+
+    coalescingService.sendRequest("PlacementSpecialty",
+        Map.of("placementId", ID, "placementSpecialtyType", "PRIMARY"));
+
+    ArgumentCaptor<Message<String>> messageCaptor = ArgumentCaptor.captor();
+    verify(queueMessagingTemplate).send(eq(queueUrl), messageCaptor.capture());
+
+    String payload = messageCaptor.getValue().getPayload();
+    assertThat("Unexpected placement id.", payload, containsString("\"placementId\" : \"10\""));
+    assertThat("Unexpected ids array.", payload, not(containsString("[")));
+  }
+
+  @Test
+  void shouldClearRequestCacheWhenCoalescedRequestFails() throws JsonProcessingException {
+    doThrow(MessageDeliveryException.class).when(queueMessagingTemplate)
+        .send(eq(queueUrl), ArgumentMatchers.<Message<String>>any());
+    DataRequestService coalescingService = createCoalescingService();
+
+    coalescingService.sendRequest("Post", Map.of("id", "1"));
+    coalescingService.sendRequest("Post", Map.of("id", "2"));
+    coalescingService.flush();
+
+    verify(requestCacheService).deleteItemFromCache("Post", "1");
+    verify(requestCacheService).deleteItemFromCache("Post", "2");
+  }
+
+  @Test
+  void shouldAppendRequestToOutboxWhenOutboxEnabled() throws JsonProcessingException {
+    when(outboxService.isEnabled()).thenReturn(true);
+    OutboxMessage outboxMessage = new OutboxMessage();
+    when(outboxService.createQueueMessage(any(), any(), any(), any())).thenReturn(outboxMessage);
+
+    String request = testObj.sendRequest("Post", Map.of("id", ID));
+
+    verify(outboxService).createQueueMessage(queueUrl, request, "tcs_Post_10", null);
+    verify(outboxService).append(outboxMessage);
+    verifyNoInteractions(queueMessagingTemplate);
+  }
+}
@@ -32,7 +32,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -108,6 +107,7 @@ class DbcSyncServiceTest {
     dataRequestService = mock(DataRequestService.class);
     referenceSyncService = mock(ReferenceSyncService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
     userRoleSyncService = mock(UserRoleSyncService.class);
     udbSyncService = mock(UserDesignatedBodySyncService.class);
     eventPublisher = mock(ApplicationEventPublisher.class);
@@ -153,8 +153,8 @@ class DbcSyncServiceTest {
 
     verify(dataRequestService).sendRequest(Dbc.SCHEMA_NAME, ENTITY_NAME, whereMap);
 
-    // The request is cached after it is sent, ensure it is not deleted straight away.
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(DBC), any());
+    // The request is claimed before it is sent, ensure the claim is not released straight away.
+    verify(requestCacheService).claimRequest(ENTITY_NAME, DBC);
     verify(requestCacheService, never()).deleteItemFromCache(any(), any());
   }
 
@@ -265,14 +265,14 @@ class DbcSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Dbc.ENTITY_NAME, DBC)).thenReturn(false);
+    when(requestCacheService.claimRequest(Dbc.ENTITY_NAME, DBC)).thenReturn(true);
     service.requestByDbc(DBC);
     verify(dataRequestService).sendRequest(Dbc.SCHEMA_NAME, Dbc.ENTITY_NAME, whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Dbc.ENTITY_NAME, DBC)).thenReturn(true);
+    when(requestCacheService.claimRequest(Dbc.ENTITY_NAME, DBC)).thenReturn(false);
     service.requestByDbc(DBC);
     verify(dataRequestService, never()).sendRequest(Dbc.SCHEMA_NAME, Dbc.ENTITY_NAME, whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -280,9 +280,9 @@ class DbcSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Dbc.ENTITY_NAME, DBC)).thenReturn(false);
+    when(requestCacheService.claimRequest(Dbc.ENTITY_NAME, DBC)).thenReturn(true);
     service.requestByDbc(DBC);
-    verify(requestCacheService).addItemToCache(eq(Dbc.ENTITY_NAME), eq(DBC), any());
+    verify(requestCacheService).claimRequest(Dbc.ENTITY_NAME, DBC);
 
     dbc.setOperation(DELETE);
     service.syncRecord(dbc);
@@ -316,7 +316,7 @@ class DbcSyncServiceTest {
 
   @Test
   void shouldSendRequestByAbbrWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Dbc.ENTITY_NAME, ABBR)).thenReturn(false);
+    when(requestCacheService.claimRequest(Dbc.ENTITY_NAME, ABBR)).thenReturn(true);
     service.requestByAbbr(ABBR);
     Map<String, String> whereAbbrMap = Map.of("abbr", ABBR);
     verify(dataRequestService).sendRequest(Dbc.SCHEMA_NAME, Dbc.ENTITY_NAME, whereAbbrMap);
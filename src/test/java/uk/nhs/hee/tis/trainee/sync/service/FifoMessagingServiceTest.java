@@ -24,29 +24,53 @@ package uk.nhs.hee.tis.trainee.sync.service;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_DEDUPLICATION_ID_HEADER;
 import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_GROUP_ID_HEADER;
 
+import io.awspring.cloud.sqs.operations.SendResult;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.support.MessageBuilder;
+import uk.nhs.hee.tis.trainee.sync.config.CacheValueSerializer;
+import uk.nhs.hee.tis.trainee.sync.config.RedisCacheProperties.CacheCodec;
 import uk.nhs.hee.tis.trainee.sync.model.ConditionsOfJoining;
 import uk.nhs.hee.tis.trainee.sync.model.CurriculumMembership;
+import uk.nhs.hee.tis.trainee.sync.model.MessageGroup;
+import uk.nhs.hee.tis.trainee.sync.model.MessageGroupMember;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSite;
 import uk.nhs.hee.tis.trainee.sync.model.PlacementSpecialty;
 import uk.nhs.hee.tis.trainee.sync.model.Post;
 import uk.nhs.hee.tis.trainee.sync.model.PostSpecialty;
 import uk.nhs.hee.tis.trainee.sync.model.ProgrammeMembership;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
 
 class FifoMessagingServiceTest {
 
@@ -57,11 +81,41 @@ class FifoMessagingServiceTest {
 
   private FifoMessagingService service;
   private SqsTemplate messagingTemplate;
+  private OutboxService outboxService;
+  private ClaimCheckService claimCheckService;
+  private SimpleMeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
     messagingTemplate = mock(SqsTemplate.class);
-    service = new FifoMessagingService(messagingTemplate);
+    outboxService = mock(OutboxService.class);
+    claimCheckService = mock(ClaimCheckService.class);
+    when(claimCheckService.checkIn(any())).then(returnsFirstArg());
+    meterRegistry = new SimpleMeterRegistry();
+    service = new FifoMessagingService(messagingTemplate, outboxService, claimCheckService,
+        new MessagingMetrics(meterRegistry));
+  }
+
+  @Test
+  void shouldSendCheckedInPayloadWithOriginalMessageGroupId() {
+    Record theRecord = new Record();
+    theRecord.setTisId(TIS_ID);
+    theRecord.setTable(TABLE);
+    theRecord.setSchema(SCHEMA);
+
+    Record reference = new Record();
+    reference.setTisId("reference-id");
+    when(claimCheckService.checkIn(theRecord)).thenReturn(reference);
+
+    service.sendMessageToFifoQueue(QUEUE, theRecord);
+
+    ArgumentCaptor<Message<Object>> messageCaptor = ArgumentCaptor.captor();
+    verify(messagingTemplate).send(eq(QUEUE), messageCaptor.capture());
+
+    Message<Object> message = messageCaptor.getValue();
+    assertThat("Unexpected payload.", message.getPayload(), is(reference));
+    assertThat("Unexpected message group id.", message.getHeaders().get(MESSAGE_GROUP_ID_HEADER),
+        is(String.format("%s_%s_%s", SCHEMA, TABLE, TIS_ID)));
   }
 
   @Test
@@ -105,6 +159,155 @@ class FifoMessagingServiceTest {
         headers.get(MESSAGE_DEDUPLICATION_ID_HEADER), is("deduplication"));
   }
 
+  @Test
+  void shouldRecordSentMessageMetrics() {
+    Record theRecord = new Record();
+    theRecord.setTisId(TIS_ID);
+    theRecord.setTable(TABLE);
+    theRecord.setSchema(SCHEMA);
+
+    service.sendMessageToFifoQueue(QUEUE, theRecord);
+
+    Timer timer = meterRegistry.find(MessagingMetrics.SENT_TIMER_NAME)
+        .tags("channel", "sqs", "destination", QUEUE, "table", TABLE, "outcome", "sent")
+        .timer();
+    assertThat("Unexpected sent count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordFailedMessageMetricsWhenSendFails() {
+    Record theRecord = new Record();
+    theRecord.setTisId(TIS_ID);
+    theRecord.setTable(TABLE);
+    theRecord.setSchema(SCHEMA);
+    when(messagingTemplate.send(eq(QUEUE), any(Message.class)))
+        .thenThrow(new MessageDeliveryException("error"));
+
+    assertThrows(MessageDeliveryException.class,
+        () -> service.sendMessageToFifoQueue(QUEUE, theRecord));
+
+    Timer timer = meterRegistry.find(MessagingMetrics.SENT_TIMER_NAME)
+        .tags("destination", QUEUE, "outcome", "failed")
+        .timer();
+    assertThat("Unexpected failed count.", timer.count(), is(1L));
+  }
+
+  /**
+   * Create a number of records with sequential IDs.
+   *
+   * @param count The number of records to create.
+   * @return The created records.
+   */
+  private List<Record> createRecords(int count) {
+    List<Record> records = new ArrayList<>();
+
+    for (int i = 0; i < count; i++) {
+      Record theRecord = new Record();
+      theRecord.setTisId(String.valueOf(i));
+      theRecord.setTable(TABLE);
+      theRecord.setSchema(SCHEMA);
+      records.add(theRecord);
+    }
+
+    return records;
+  }
+
+  /**
+   * Create a versioned data record.
+   *
+   * @param timestamp The source change timestamp of the record.
+   * @return The created record.
+   */
+  private Record createVersionedRecord(String timestamp) {
+    Record theRecord = new Record();
+    theRecord.setTisId(TIS_ID);
+    theRecord.setTable(TABLE);
+    theRecord.setSchema(SCHEMA);
+    theRecord.setType(RecordType.DATA);
+    theRecord.setOperation(Operation.UPDATE);
+    theRecord.setMetadata(new HashMap<>(Map.of("timestamp", timestamp)));
+    return theRecord;
+  }
+
+  @Test
+  void shouldSendMessagesToQueueInBatches() {
+    when(messagingTemplate.sendMany(eq(QUEUE), any()))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of()));
+
+    service.sendMessagesToFifoQueue(QUEUE, createRecords(25), Record::getTisId);
+
+    ArgumentCaptor<Collection<Message<Object>>> batchCaptor = ArgumentCaptor.captor();
+    verify(messagingTemplate, times(3)).sendMany(eq(QUEUE), batchCaptor.capture());
+
+    List<Collection<Message<Object>>> batches = batchCaptor.getAllValues();
+    assertThat("Unexpected batch size.", batches.get(0).size(), is(10));
+    assertThat("Unexpected batch size.", batches.get(1).size(), is(10));
+    assertThat("Unexpected batch size.", batches.get(2).size(), is(5));
+  }
+
+  @Test
+  void shouldSendBatchedMessagesWithMessageGroupIdAndDeduplicationHeaders() {
+    when(messagingTemplate.sendMany(eq(QUEUE), any()))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of()));
+
+    service.sendMessagesToFifoQueue(QUEUE, createRecords(2), r -> "dedup-" + r.getTisId());
+
+    ArgumentCaptor<Collection<Message<Object>>> batchCaptor = ArgumentCaptor.captor();
+    verify(messagingTemplate).sendMany(eq(QUEUE), batchCaptor.capture());
+
+    List<Message<Object>> messages = List.copyOf(batchCaptor.getValue());
+    for (int i = 0; i < messages.size(); i++) {
+      Map<String, Object> headers = messages.get(i).getHeaders();
+      assertThat("Unexpected message group id header.", headers.get(MESSAGE_GROUP_ID_HEADER),
+          is(String.format("%s_%s_%s", SCHEMA, TABLE, i)));
+      assertThat("Unexpected message deduplication id header.",
+          headers.get(MESSAGE_DEDUPLICATION_ID_HEADER), is("dedup-" + i));
+    }
+  }
+
+  @Test
+  void shouldSendBatchedMessagesWithoutDeduplicationHeaderWhenNoDeduplicationId() {
+    when(messagingTemplate.sendMany(eq(QUEUE), any()))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of()));
+
+    service.sendMessagesToFifoQueue(QUEUE, createRecords(2));
+
+    ArgumentCaptor<Collection<Message<Object>>> batchCaptor = ArgumentCaptor.captor();
+    verify(messagingTemplate).sendMany(eq(QUEUE), batchCaptor.capture());
+
+    List<Message<Object>> messages = List.copyOf(batchCaptor.getValue());
+    assertThat("Unexpected message count.", messages.size(), is(2));
+    for (Message<Object> message : messages) {
+      Map<String, Object> headers = message.getHeaders();
+      assertThat("Unexpected message group id header presence.",
+          headers.containsKey(MESSAGE_GROUP_ID_HEADER), is(true));
+      assertThat("Unexpected message deduplication id header presence.",
+          headers.containsKey(MESSAGE_DEDUPLICATION_ID_HEADER), is(false));
+    }
+  }
+
+  @Test
+  void shouldNotSendBatchWhenNoMessages() {
+    service.sendMessagesToFifoQueue(QUEUE, List.of(), Object::toString);
+
+    verify(messagingTemplate, never()).sendMany(any(), any());
+  }
+
+  @Test
+  void shouldSendAllBatchesBeforeThrowingWhenPartialFailure() {
+    SendResult.Failed<Object> failure = new SendResult.Failed<>("error", QUEUE,
+        MessageBuilder.withPayload((Object) "payload").build(), Map.of());
+    when(messagingTemplate.sendMany(eq(QUEUE), any()))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of(failure)))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of()));
+
+    List<Record> records = createRecords(15);
+    assertThrows(MessageDeliveryException.class,
+        () -> service.sendMessagesToFifoQueue(QUEUE, records, Record::getTisId));
+
+    verify(messagingTemplate, times(2)).sendMany(eq(QUEUE), any());
+  }
+
   @Test
   void shouldUseDifferentDeduplicationIdsForSameEntity() throws InterruptedException {
     String deduplicationId1 = service.getUniqueDeduplicationId("x", "y");
@@ -114,6 +317,108 @@ class FifoMessagingServiceTest {
         not(is(deduplicationId2)));
   }
 
+  @Test
+  void shouldUseDifferentLookupDeduplicationIdsWhenNoSource() throws InterruptedException {
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y", null);
+    Thread.sleep(0, 1);
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "y", null);
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(deduplicationId2)));
+  }
+
+  @Test
+  void shouldUseDifferentLookupDeduplicationIdsWhenSourceNotVersioned()
+      throws InterruptedException {
+    Record source = createVersionedRecord("2024-01-01T00:00:00Z");
+    source.getMetadata().remove("timestamp");
+
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y", source);
+    Thread.sleep(0, 1);
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "y", source);
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(deduplicationId2)));
+  }
+
+  @Test
+  void shouldUseDifferentLookupDeduplicationIdsWhenSourceIsLookup() throws InterruptedException {
+    Record source = createVersionedRecord("2024-01-01T00:00:00Z");
+    source.setOperation(Operation.LOOKUP);
+
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y", source);
+    Thread.sleep(0, 1);
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "y", source);
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(deduplicationId2)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(CacheCodec.class)
+  void shouldUseDifferentLookupDeduplicationIdsWhenSourceIsCached(CacheCodec codec)
+      throws InterruptedException {
+    Post saved = new Post();
+    saved.setTisId(TIS_ID);
+    saved.setType(RecordType.DATA);
+    saved.setOperation(Operation.UPDATE);
+    saved.setMetadata(new HashMap<>(Map.of("timestamp", "2024-01-01T00:00:00Z")));
+
+    CacheValueSerializer serializer = new CacheValueSerializer(codec);
+    Record cached = (Record) serializer.deserialize(serializer.serialize(saved));
+
+    String savedDeduplicationId = service.getLookupDeduplicationId("x", "y", saved);
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y", cached);
+    Thread.sleep(0, 1);
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "y", cached);
+
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(savedDeduplicationId)));
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(deduplicationId2)));
+  }
+
+  @Test
+  void shouldUseSameLookupDeduplicationIdForSameSourceVersion() {
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y",
+        createVersionedRecord("2024-01-01T00:00:00Z"));
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "y",
+        createVersionedRecord("2024-01-01T00:00:00Z"));
+
+    assertThat("Unexpected deduplication id.", deduplicationId1, is(deduplicationId2));
+    assertThat("Unexpected deduplication id prefix.", deduplicationId1.startsWith("x_y_"),
+        is(true));
+  }
+
+  @Test
+  void shouldUseDifferentLookupDeduplicationIdsForDifferentSourceVersions() {
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y",
+        createVersionedRecord("2024-01-01T00:00:00Z"));
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "y",
+        createVersionedRecord("2024-01-01T00:00:00.000001Z"));
+
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(deduplicationId2)));
+  }
+
+  @Test
+  void shouldUseDifferentLookupDeduplicationIdsForDifferentSourceOperations() {
+    Record source = createVersionedRecord("2024-01-01T00:00:00Z");
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y", source);
+    source.setOperation(Operation.DELETE);
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "y", source);
+
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(deduplicationId2)));
+  }
+
+  @Test
+  void shouldUseDifferentLookupDeduplicationIdsForDifferentEntitiesWithSameSource() {
+    Record source = createVersionedRecord("2024-01-01T00:00:00Z");
+    String deduplicationId1 = service.getLookupDeduplicationId("x", "y", source);
+    String deduplicationId2 = service.getLookupDeduplicationId("x", "z", source);
+
+    assertThat("Unexpected duplicate deduplication id.", deduplicationId1,
+        not(is(deduplicationId2)));
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"ConditionsOfJoining", "CurriculumMembership"})
   void shouldUseProgrammeMembershipForCojOrCmRecordMessageGroupIds(String table) {
@@ -278,7 +583,15 @@ class FifoMessagingServiceTest {
   }
 
   @Test
-  void shouldUseDefaultIdForOtherClassesMessageGroupIds() {
+  void shouldUseMessageGroupOfMessageGroupMembers() {
+    MessageGroupMember member = () -> new MessageGroup("schema", "table", "id");
+
+    String messageGroupId = service.getMessageGroupId(member);
+    assertThat("Unexpected message group id.", messageGroupId, is("schema_table_id"));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenTypeDoesNotDefineMessageGroup() {
     class OtherClass {
 
       public Long getId() {
@@ -288,27 +601,63 @@ class FifoMessagingServiceTest {
 
     OtherClass otherClass = new OtherClass();
 
-    String messageGroupId = service.getMessageGroupId(otherClass);
-    String expectedMessageGroupId = String.format("%s_%s_%s", "tcs", "OtherClass", "1");
-    assertThat("Unexpected message group id.", messageGroupId, is(expectedMessageGroupId));
+    assertThrows(IllegalArgumentException.class, () -> service.getMessageGroupId(otherClass));
   }
 
   @Test
-  void shouldFailGracefullyOnUnexpectedInput() {
-    class UnexpectedClass {
+  void shouldNotSendMessageWhenTypeDoesNotDefineMessageGroup() {
+    Object toSend = new Object();
 
-      String anAttribute;
+    assertThrows(IllegalArgumentException.class,
+        () -> service.sendMessageToFifoQueue(QUEUE, toSend));
 
-      public void setAnAttribute(String value) {
-        this.anAttribute = value;
-      }
-    }
+    verifyNoInteractions(messagingTemplate);
+  }
 
-    UnexpectedClass unexpectedClass = new UnexpectedClass();
-    unexpectedClass.setAnAttribute("a value");
+  @Test
+  void shouldNotSendBatchWhenTypeDoesNotDefineMessageGroup() {
+    List<Object> toSend = List.of(new Object());
 
-    String messageGroupId = service.getMessageGroupId(unexpectedClass);
-    String expectedMessageGroupId = String.format("%s_%s_%s", "tcs", "UnexpectedClass", "");
-    assertThat("Unexpected message group id.", messageGroupId, is(expectedMessageGroupId));
+    assertThrows(IllegalArgumentException.class,
+        () -> service.sendMessagesToFifoQueue(QUEUE, toSend));
+
+    verifyNoInteractions(messagingTemplate);
+  }
+
+  @Test
+  void shouldAppendMessageToOutboxWhenOutboxEnabled() {
+    when(outboxService.isEnabled()).thenReturn(true);
+    OutboxMessage outboxMessage = new OutboxMessage();
+    when(outboxService.createQueueMessage(any(), any(), any(), any())).thenReturn(outboxMessage);
+
+    Record theRecord = new Record();
+    theRecord.setTisId(TIS_ID);
+    theRecord.setTable(TABLE);
+    theRecord.setSchema(SCHEMA);
+
+    service.sendMessageToFifoQueue(QUEUE, theRecord, "dedup-id");
+
+    String expectedGroupId = String.format("%s_%s_%s", SCHEMA, TABLE, TIS_ID);
+    verify(outboxService).createQueueMessage(QUEUE, theRecord, expectedGroupId, "dedup-id");
+    verify(outboxService).append(outboxMessage);
+    verifyNoInteractions(messagingTemplate);
+  }
+
+  @Test
+  void shouldAppendBatchToOutboxWhenOutboxEnabled() {
+    when(outboxService.isEnabled()).thenReturn(true);
+    OutboxMessage outboxMessage1 = new OutboxMessage();
+    outboxMessage1.setDeduplicationId("1");
+    OutboxMessage outboxMessage2 = new OutboxMessage();
+    outboxMessage2.setDeduplicationId("2");
+    when(outboxService.createQueueMessage(eq(QUEUE), any(), any(), eq("1")))
+        .thenReturn(outboxMessage1);
+    when(outboxService.createQueueMessage(eq(QUEUE), any(), any(), eq("2")))
+        .thenReturn(outboxMessage2);
+
+    service.sendMessagesToFifoQueue(QUEUE, List.of("1", "2"), item -> item);
+
+    verify(outboxService).append(List.of(outboxMessage1, outboxMessage2));
+    verifyNoInteractions(messagingTemplate);
   }
-}
\ No newline at end of file
+}
@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -77,6 +76,7 @@ class GradeSyncServiceTest {
     repository = mock(GradeRepository.class);
     dataRequestService = mock(DataRequestService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
 
     service = new GradeSyncService(repository, dataRequestService, requestCacheService);
 
@@ -139,14 +139,14 @@ class GradeSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Grade.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Grade.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("reference", "Grade", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Grade.ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(Grade.ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("reference", "Grade", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -154,9 +154,9 @@ class GradeSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Grade.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Grade.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(Grade.ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(Grade.ENTITY_NAME, ID);
 
     grade.setOperation(DELETE);
     service.syncRecord(grade);
@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -81,6 +80,7 @@ class HeeUserSyncServiceTest {
     repository = mock(HeeUserRepository.class);
     dataRequestService = mock(DataRequestService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
 
     service = new HeeUserSyncService(repository, dataRequestService, requestCacheService);
 
@@ -198,14 +198,14 @@ class HeeUserSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(HeeUser.ENTITY_NAME, NAME)).thenReturn(false);
+    when(requestCacheService.claimRequest(HeeUser.ENTITY_NAME, NAME)).thenReturn(true);
     service.request(NAME);
     verify(dataRequestService).sendRequest("HeeUser", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(HeeUser.ENTITY_NAME, NAME)).thenReturn(true);
+    when(requestCacheService.claimRequest(HeeUser.ENTITY_NAME, NAME)).thenReturn(false);
     service.request(NAME);
     verify(dataRequestService, never()).sendRequest("HeeUser", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -213,9 +213,9 @@ class HeeUserSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(HeeUser.ENTITY_NAME, NAME)).thenReturn(false);
+    when(requestCacheService.claimRequest(HeeUser.ENTITY_NAME, NAME)).thenReturn(true);
     service.request(NAME);
-    verify(requestCacheService).addItemToCache(eq(HeeUser.ENTITY_NAME), eq(NAME), any());
+    verify(requestCacheService).claimRequest(HeeUser.ENTITY_NAME, NAME);
 
     heeUser.setOperation(DELETE);
     service.syncRecord(heeUser);
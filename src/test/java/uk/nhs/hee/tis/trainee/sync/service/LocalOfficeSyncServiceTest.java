@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -82,6 +81,7 @@ class LocalOfficeSyncServiceTest {
     dataRequestService = mock(DataRequestService.class);
     referenceSyncService = mock(ReferenceSyncService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
 
     service = new LocalOfficeSyncService(repository, dataRequestService, referenceSyncService,
         requestCacheService);
@@ -191,7 +191,7 @@ class LocalOfficeSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(LocalOffice.ENTITY_NAME, ABBR)).thenReturn(false);
+    when(requestCacheService.claimRequest(LocalOffice.ENTITY_NAME, ABBR)).thenReturn(true);
     service.requestByAbbr(ABBR);
     verify(dataRequestService).sendRequest(LocalOffice.SCHEMA_NAME, LocalOffice.ENTITY_NAME,
         whereMap);
@@ -199,7 +199,7 @@ class LocalOfficeSyncServiceTest {
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(LocalOffice.ENTITY_NAME, ABBR)).thenReturn(true);
+    when(requestCacheService.claimRequest(LocalOffice.ENTITY_NAME, ABBR)).thenReturn(false);
     service.requestByAbbr(ABBR);
     verify(dataRequestService, never()).sendRequest(LocalOffice.SCHEMA_NAME,
         LocalOffice.ENTITY_NAME, whereMap);
@@ -208,9 +208,9 @@ class LocalOfficeSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(LocalOffice.ENTITY_NAME, ABBR)).thenReturn(false);
+    when(requestCacheService.claimRequest(LocalOffice.ENTITY_NAME, ABBR)).thenReturn(true);
     service.requestByAbbr(ABBR);
-    verify(requestCacheService).addItemToCache(eq(LocalOffice.ENTITY_NAME), eq(ABBR), any());
+    verify(requestCacheService).claimRequest(LocalOffice.ENTITY_NAME, ABBR);
 
     localOffice.setOperation(DELETE);
     service.syncRecord(localOffice);
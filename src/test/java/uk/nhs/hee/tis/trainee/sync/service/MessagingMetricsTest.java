@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.service.MessagingMetrics.Outcome;
+
+class MessagingMetricsTest {
+
+  private static final String QUEUE_URL = "https://sqs.eu-west-2.amazonaws.com/123/placement.fifo";
+  private static final String TOPIC_ARN = "arn:aws:sns:eu-west-2:123:update-placement.fifo";
+
+  private MessagingMetrics metrics;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    metrics = new MessagingMetrics(meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    metrics.stopFanOut();
+  }
+
+  @Test
+  void shouldRecordSentRecordTaggedByQueueNameTableAndOperation() {
+    Placement placement = Placement.lookup("40");
+
+    metrics.recordSent(MessagingMetrics.CHANNEL_SQS, QUEUE_URL, placement, Outcome.SENT, 1000);
+
+    Timer timer = meterRegistry.find(MessagingMetrics.SENT_TIMER_NAME)
+        .tags("channel", "sqs", "destination", "placement.fifo", "table", "Placement",
+            "operation", "lookup", "outcome", "sent")
+        .timer();
+    assertThat("Unexpected timer.", timer, notNullValue());
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+    assertThat("Unexpected timer total.", timer.totalTime(TimeUnit.NANOSECONDS), is(1000.0));
+  }
+
+  @Test
+  void shouldRecordSentPayloadTaggedByTypeWhenNotRecord() {
+    metrics.recordSent(MessagingMetrics.CHANNEL_SQS, QUEUE_URL, "payload", Outcome.FAILED, 0);
+
+    Timer timer = meterRegistry.find(MessagingMetrics.SENT_TIMER_NAME)
+        .tags("table", "String", "operation", "none", "outcome", "failed")
+        .timer();
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordSentEventTaggedByTopicName() {
+    metrics.recordSent(MessagingMetrics.CHANNEL_SNS, TOPIC_ARN, "Placement", Operation.UPDATE,
+        Outcome.OUTBOXED, 0);
+
+    Timer timer = meterRegistry.find(MessagingMetrics.SENT_TIMER_NAME)
+        .tags("channel", "sns", "destination", "update-placement.fifo", "outcome", "outboxed")
+        .timer();
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldCountFanOutOnlyWithinScope() {
+    metrics.recordSent(MessagingMetrics.CHANNEL_SQS, QUEUE_URL, "Placement", null, Outcome.SENT,
+        0);
+
+    metrics.startFanOut();
+    metrics.recordSent(MessagingMetrics.CHANNEL_SQS, QUEUE_URL, "Placement", null, Outcome.SENT,
+        0);
+    metrics.recordSent(MessagingMetrics.CHANNEL_SQS, QUEUE_URL, "Placement", null,
+        Outcome.FAILED, 0);
+
+    assertThat("Unexpected fan-out.", metrics.stopFanOut(), is(2));
+    assertThat("Unexpected fan-out.", metrics.stopFanOut(), is(0));
+  }
+
+  @Test
+  void shouldCountQueuedMessagesTowardsFanOut() {
+    metrics.startFanOut();
+    metrics.recordQueued();
+    metrics.recordQueued();
+
+    assertThat("Unexpected fan-out.", metrics.stopFanOut(), is(2));
+  }
+
+  @Test
+  void shouldNotCountDeferredSentMessagesTowardsFanOut() {
+    metrics.startFanOut();
+    metrics.recordDeferredSent(MessagingMetrics.CHANNEL_SNS, TOPIC_ARN, "Placement",
+        Operation.UPDATE, Outcome.SENT, 0);
+
+    assertThat("Unexpected fan-out.", metrics.stopFanOut(), is(0));
+    Timer timer = meterRegistry.find(MessagingMetrics.SENT_TIMER_NAME)
+        .tags("channel", "sns", "table", "Placement", "operation", "update")
+        .timer();
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordFanOutTaggedByIncomingRecord() {
+    Placement placement = new Placement();
+    placement.setOperation(Operation.UPDATE);
+
+    metrics.recordFanOut(placement, 3);
+
+    DistributionSummary summary = meterRegistry.find(MessagingMetrics.FAN_OUT_SUMMARY_NAME)
+        .tags("schema", "tcs", "table", "Placement", "operation", "update")
+        .summary();
+    assertThat("Unexpected summary count.", summary.count(), is(1L));
+    assertThat("Unexpected summary total.", summary.totalAmount(), is(3.0));
+  }
+}
@@ -0,0 +1,414 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_DEDUPLICATION_ID_HEADER;
+import static uk.nhs.hee.tis.trainee.sync.service.FifoMessagingService.MESSAGE_GROUP_ID_HEADER;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.messaging.Message;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.SnsException;
+import uk.nhs.hee.tis.trainee.sync.config.OutboxProperties;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage.Channel;
+import uk.nhs.hee.tis.trainee.sync.model.Post;
+
+class OutboxDispatcherTest {
+
+  private static final String QUEUE_URL = "queue-url";
+  private static final String TOPIC_ARN = "topic-arn";
+
+  private OutboxDispatcher dispatcher;
+  private MongoTemplate mongoTemplate;
+  private SqsTemplate sqsTemplate;
+  private SnsClient snsClient;
+  private SimpleMeterRegistry meterRegistry;
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    sqsTemplate = mock(SqsTemplate.class);
+    snsClient = mock(SnsClient.class);
+    meterRegistry = new SimpleMeterRegistry();
+    objectMapper = new ObjectMapper();
+    OutboxProperties properties = new OutboxProperties(true, Duration.ofSeconds(1), 10,
+        Duration.ofMinutes(1), Duration.ofMinutes(5), 3);
+    dispatcher = new OutboxDispatcher(mongoTemplate, sqsTemplate, snsClient, objectMapper,
+        meterRegistry, properties);
+  }
+
+  /**
+   * Create an outbox message.
+   *
+   * @param id             The outbox message ID.
+   * @param channel        The channel to dispatch through.
+   * @param payload        The message payload.
+   * @param messageGroupId The message group ID.
+   * @return The created outbox message.
+   */
+  private OutboxMessage createMessage(String id, Channel channel, String payload,
+      String messageGroupId) {
+    OutboxMessage message = new OutboxMessage();
+    message.setId(id);
+    message.setChannel(channel);
+    message.setDestination(channel == Channel.SNS ? TOPIC_ARN : QUEUE_URL);
+    message.setPayload(payload);
+    message.setMessageGroupId(messageGroupId);
+    message.setCreated(Instant.now());
+    return message;
+  }
+
+  /**
+   * Set the messages available to be claimed from the outbox.
+   *
+   * @param messages The available messages.
+   */
+  private void setAvailableMessages(List<OutboxMessage> messages) {
+    when(mongoTemplate.find(any(Query.class), eq(OutboxMessage.class)))
+        .thenReturn(messages, messages);
+  }
+
+  @Test
+  void shouldNotDispatchWhenNoMessagesAvailable() {
+    setAvailableMessages(List.of());
+
+    int claimed = dispatcher.drain();
+
+    assertThat("Unexpected claimed count.", claimed, is(0));
+    verify(mongoTemplate, never()).updateMulti(any(), any(), eq(OutboxMessage.class));
+    verifyNoInteractions(sqsTemplate, snsClient);
+  }
+
+  @Test
+  void shouldClaimAvailableMessagesBeforeDispatch() {
+    OutboxMessage message = createMessage("1", Channel.SNS, "{}", null);
+    setAvailableMessages(List.of(message));
+
+    dispatcher.drain();
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).updateMulti(any(), updateCaptor.capture(), eq(OutboxMessage.class));
+    Update update = updateCaptor.getValue();
+    assertThat("Unexpected claim update.", update.modifies("claimToken"), is(true));
+    assertThat("Unexpected claim update.", update.modifies("nextAttempt"), is(true));
+  }
+
+  @Test
+  void shouldSendQueueMessagesInBatchWithRestoredPayload() throws Exception {
+    Post post = new Post();
+    post.setTisId("40");
+    OutboxMessage message1 = createMessage("1", Channel.SQS,
+        objectMapper.writeValueAsString(post), "tcs_Post_40");
+    message1.setPayloadType(Post.class.getName());
+    message1.setDeduplicationId("dedup");
+    OutboxMessage message2 = createMessage("2", Channel.SQS, "{\"table\":\"Post\"}", null);
+    setAvailableMessages(List.of(message1, message2));
+
+    when(sqsTemplate.sendMany(eq(QUEUE_URL), any()))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of()));
+
+    int claimed = dispatcher.drain();
+
+    assertThat("Unexpected claimed count.", claimed, is(2));
+
+    ArgumentCaptor<Collection<Message<Object>>> messagesCaptor = ArgumentCaptor.captor();
+    verify(sqsTemplate).sendMany(eq(QUEUE_URL), messagesCaptor.capture());
+    List<Message<Object>> messages = new ArrayList<>(messagesCaptor.getValue());
+    assertThat("Unexpected message count.", messages.size(), is(2));
+
+    Message<Object> sentMessage1 = messages.get(0);
+    assertThat("Unexpected payload type.", sentMessage1.getPayload() instanceof Post, is(true));
+    assertThat("Unexpected payload id.", ((Post) sentMessage1.getPayload()).getTisId(),
+        is("40"));
+    assertThat("Unexpected message group ID.",
+        sentMessage1.getHeaders().get(MESSAGE_GROUP_ID_HEADER), is("tcs_Post_40"));
+    assertThat("Unexpected deduplication ID.",
+        sentMessage1.getHeaders().get(MESSAGE_DEDUPLICATION_ID_HEADER), is("dedup"));
+
+    Message<Object> sentMessage2 = messages.get(1);
+    assertThat("Unexpected payload.", sentMessage2.getPayload(), is("{\"table\":\"Post\"}"));
+    assertThat("Unexpected message group ID.",
+        sentMessage2.getHeaders().containsKey(MESSAGE_GROUP_ID_HEADER), is(false));
+
+    verify(mongoTemplate).remove(any(Query.class), eq(OutboxMessage.class));
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(OutboxMessage.class));
+    assertThat("Unexpected sent count.", meterRegistry.get("sync.outbox.dispatched")
+        .tags("channel", "sqs", "outcome", "sent").counter().count(), is(2.0));
+  }
+
+  @Test
+  void shouldRescheduleFailedQueueMessagesAndLaterMessagesInGroup() {
+    OutboxMessage message1 = createMessage("1", Channel.SQS, "1", "group-a");
+    OutboxMessage message2 = createMessage("2", Channel.SQS, "2", "group-b");
+    List<OutboxMessage> available = new ArrayList<>(List.of(message1, message2));
+
+    for (int i = 3; i <= 12; i++) {
+      available.add(createMessage(String.valueOf(i), Channel.SQS, String.valueOf(i),
+          i == 12 ? "group-a" : "group-c"));
+    }
+    setAvailableMessages(available);
+
+    when(sqsTemplate.sendMany(eq(QUEUE_URL), any())).thenAnswer(inv -> {
+      Collection<Message<Object>> messages = inv.getArgument(1);
+      List<SendResult.Failed<Object>> failed = messages.stream()
+          .filter(m -> "1".equals(m.getPayload()))
+          .map(m -> new SendResult.Failed<>("error", QUEUE_URL, m, Map.<String, Object>of()))
+          .toList();
+      return new SendResult.Batch<>(List.of(), failed);
+    });
+
+    dispatcher.drain();
+
+    ArgumentCaptor<Collection<Message<Object>>> messagesCaptor = ArgumentCaptor.captor();
+    verify(sqsTemplate, times(2)).sendMany(eq(QUEUE_URL), messagesCaptor.capture());
+    assertThat("Unexpected first batch size.", messagesCaptor.getAllValues().get(0).size(),
+        is(10));
+    assertThat("Unexpected second batch size.", messagesCaptor.getAllValues().get(1).size(),
+        is(1));
+
+    verify(mongoTemplate, times(2)).updateFirst(any(), any(), eq(OutboxMessage.class));
+    assertThat("Unexpected failed count.", meterRegistry.get("sync.outbox.dispatched")
+        .tags("channel", "sqs", "outcome", "failed").counter().count(), is(2.0));
+    assertThat("Unexpected sent count.", meterRegistry.get("sync.outbox.dispatched")
+        .tags("channel", "sqs", "outcome", "sent").counter().count(), is(10.0));
+  }
+
+  @Test
+  void shouldRetryFailedMessageBeforeMaximumAttempts() {
+    OutboxMessage message = createMessage("1", Channel.SNS, "1", "group");
+    message.setAttempts(1);
+    setAvailableMessages(List.of(message));
+
+    when(snsClient.publish(any(PublishRequest.class)))
+        .thenThrow(SnsException.builder().message("error").build());
+
+    dispatcher.drain();
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).updateFirst(any(), updateCaptor.capture(), eq(OutboxMessage.class));
+    Update update = updateCaptor.getValue();
+    assertThat("Unexpected retry update.", update.modifies("nextAttempt"), is(true));
+    assertThat("Unexpected retry update.", update.modifies("parked"), is(false));
+    assertThat("Unexpected parked count.", meterRegistry.find("sync.outbox.parked").counter(),
+        nullValue());
+  }
+
+  @Test
+  void shouldParkFailedMessageAtMaximumAttempts() {
+    OutboxMessage message = createMessage("1", Channel.SNS, "1", "group");
+    message.setAttempts(2);
+    setAvailableMessages(List.of(message));
+
+    when(snsClient.publish(any(PublishRequest.class)))
+        .thenThrow(SnsException.builder().message("error").build());
+
+    dispatcher.drain();
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).updateFirst(any(), updateCaptor.capture(), eq(OutboxMessage.class));
+    Document update = updateCaptor.getValue().getUpdateObject();
+    assertThat("Unexpected parked time.", update.get("$set", Map.class).get("parked"),
+        notNullValue());
+    assertThat("Unexpected attempts.", update.get("$set", Map.class).get("attempts"), is(3));
+    assertThat("Unexpected unset fields.", update.get("$unset", Document.class).keySet(),
+        hasItems("nextAttempt", "claimToken"));
+    assertThat("Unexpected parked count.", meterRegistry.get("sync.outbox.parked")
+        .tags("channel", "sns").counter().count(), is(1.0));
+    verify(mongoTemplate, never()).remove(any(Query.class), eq(OutboxMessage.class));
+  }
+
+  @Test
+  void shouldNotDeferClaimedMessagesForParkedMessagesInGroup() {
+    OutboxMessage message = createMessage("1", Channel.SNS, "1", "group-a");
+    setAvailableMessages(List.of(message));
+
+    dispatcher.drain();
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate, times(3)).find(queryCaptor.capture(), eq(OutboxMessage.class));
+    Document earlierQuery = queryCaptor.getAllValues().get(2).getQueryObject();
+    assertThat("Unexpected parked criteria.", earlierQuery.get("parked"),
+        is(new Document("$exists", false)));
+  }
+
+  @Test
+  void shouldPublishTopicMessages() {
+    OutboxMessage message = createMessage("1", Channel.SNS, "{\"tisId\":\"40\"}", "group");
+    message.setAttributes(Map.of("event_type", "COJ_RECEIVED"));
+    setAvailableMessages(List.of(message));
+
+    dispatcher.drain();
+
+    ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(snsClient).publish(requestCaptor.capture());
+    PublishRequest request = requestCaptor.getValue();
+    assertThat("Unexpected topic ARN.", request.topicArn(), is(TOPIC_ARN));
+    assertThat("Unexpected message.", request.message(), is("{\"tisId\":\"40\"}"));
+    assertThat("Unexpected message group ID.", request.messageGroupId(), is("group"));
+    assertThat("Unexpected event type.",
+        request.messageAttributes().get("event_type").stringValue(), is("COJ_RECEIVED"));
+
+    verify(mongoTemplate).remove(any(Query.class), eq(OutboxMessage.class));
+  }
+
+  @Test
+  void shouldNotPublishLaterTopicMessagesInFailedGroup() {
+    OutboxMessage message1 = createMessage("1", Channel.SNS, "1", "group-a");
+    OutboxMessage message2 = createMessage("2", Channel.SNS, "2", "group-a");
+    OutboxMessage message3 = createMessage("3", Channel.SNS, "3", "group-b");
+    setAvailableMessages(List.of(message1, message2, message3));
+
+    when(snsClient.publish(any(PublishRequest.class))).thenAnswer(inv -> {
+      PublishRequest request = inv.getArgument(0);
+      if (request.message().equals("1")) {
+        throw SnsException.builder().message("error").build();
+      }
+      return null;
+    });
+
+    dispatcher.drain();
+
+    ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(snsClient, times(2)).publish(requestCaptor.capture());
+    List<String> published = requestCaptor.getAllValues().stream()
+        .map(PublishRequest::message)
+        .toList();
+    assertThat("Unexpected published messages.", published, is(List.of("1", "3")));
+
+    verify(mongoTemplate, times(2)).updateFirst(any(), any(), eq(OutboxMessage.class));
+    verify(mongoTemplate).remove(any(Query.class), eq(OutboxMessage.class));
+  }
+
+  @Test
+  void shouldNotDispatchClaimedMessagesWhenEarlierMessageInGroupClaimedElsewhere() {
+    OutboxMessage earlier = createMessage("1", Channel.SQS, "1", "group-a");
+    earlier.setCreated(Instant.now().minusSeconds(1));
+    earlier.setClaimToken("other-dispatcher");
+    earlier.setNextAttempt(Instant.now().plus(Duration.ofMinutes(1)));
+    OutboxMessage message2 = createMessage("2", Channel.SQS, "2", "group-a");
+    OutboxMessage message3 = createMessage("3", Channel.SQS, "3", "group-b");
+    List<OutboxMessage> claimed = List.of(message2, message3);
+    when(mongoTemplate.find(any(Query.class), eq(OutboxMessage.class)))
+        .thenReturn(claimed, claimed, List.of(earlier));
+
+    when(sqsTemplate.sendMany(eq(QUEUE_URL), any()))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of()));
+
+    int claimedCount = dispatcher.drain();
+
+    assertThat("Unexpected claimed count.", claimedCount, is(2));
+
+    ArgumentCaptor<Collection<Message<Object>>> messagesCaptor = ArgumentCaptor.captor();
+    verify(sqsTemplate).sendMany(eq(QUEUE_URL), messagesCaptor.capture());
+    List<Object> sent = messagesCaptor.getValue().stream().map(Message::getPayload).toList();
+    assertThat("Unexpected sent messages.", sent, is(List.of("3")));
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).updateFirst(any(), updateCaptor.capture(), eq(OutboxMessage.class));
+    Update update = updateCaptor.getValue();
+    assertThat("Unexpected release update.", update.modifies("claimToken"), is(true));
+    assertThat("Unexpected release update.", update.modifies("attempts"), is(false));
+    Instant nextAttempt = (Instant) update.getUpdateObject().get("$set", Map.class)
+        .get("nextAttempt");
+    assertThat("Unexpected next attempt.", nextAttempt.isBefore(earlier.getNextAttempt()),
+        is(true));
+  }
+
+  @Test
+  void shouldDeferClaimedMessagesUntilEarlierMessageInGroupRetried() {
+    OutboxMessage earlier = createMessage("1", Channel.SNS, "1", "group-a");
+    earlier.setCreated(Instant.now().minusSeconds(1));
+    earlier.setNextAttempt(Instant.now().plus(Duration.ofMinutes(2)));
+    OutboxMessage message2 = createMessage("2", Channel.SNS, "2", "group-a");
+    List<OutboxMessage> claimed = List.of(message2);
+    when(mongoTemplate.find(any(Query.class), eq(OutboxMessage.class)))
+        .thenReturn(claimed, claimed, List.of(earlier));
+
+    dispatcher.drain();
+
+    verifyNoInteractions(snsClient);
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).updateFirst(any(), updateCaptor.capture(), eq(OutboxMessage.class));
+    Instant nextAttempt = (Instant) updateCaptor.getValue().getUpdateObject()
+        .get("$set", Map.class).get("nextAttempt");
+    assertThat("Unexpected next attempt.", nextAttempt, is(earlier.getNextAttempt()));
+  }
+
+  @Test
+  void shouldNotDeferClaimedMessagesForEarlierMessageInGroupOfOtherDestination() {
+    OutboxMessage earlier = createMessage("1", Channel.SQS, "1", "group-a");
+    earlier.setCreated(Instant.now().minusSeconds(1));
+    earlier.setDestination("other-queue-url");
+    OutboxMessage message2 = createMessage("2", Channel.SQS, "2", "group-a");
+    List<OutboxMessage> claimed = List.of(message2);
+    when(mongoTemplate.find(any(Query.class), eq(OutboxMessage.class)))
+        .thenReturn(claimed, claimed, List.of(earlier));
+
+    when(sqsTemplate.sendMany(eq(QUEUE_URL), any()))
+        .thenReturn(new SendResult.Batch<>(List.of(), List.of()));
+
+    dispatcher.drain();
+
+    verify(sqsTemplate).sendMany(eq(QUEUE_URL), any());
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(OutboxMessage.class));
+  }
+
+  @Test
+  void shouldDoubleBackoffUpToMaximum() {
+    assertThat("Unexpected backoff.", dispatcher.getBackoff(1), is(Duration.ofSeconds(2)));
+    assertThat("Unexpected backoff.", dispatcher.getBackoff(2), is(Duration.ofSeconds(4)));
+    assertThat("Unexpected backoff.", dispatcher.getBackoff(30), is(Duration.ofMinutes(5)));
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import uk.nhs.hee.tis.trainee.sync.config.OutboxProperties;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage.Channel;
+import uk.nhs.hee.tis.trainee.sync.model.Post;
+
+class OutboxServiceTest {
+
+  private static final String QUEUE_URL = "queue-url";
+  private static final String TOPIC_ARN = "topic-arn";
+
+  private OutboxService service;
+  private MongoTemplate mongoTemplate;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    OutboxProperties properties = new OutboxProperties(true, Duration.ofSeconds(1), 10,
+        Duration.ofMinutes(1), Duration.ofMinutes(5), 3);
+    service = new OutboxService(mongoTemplate, new ObjectMapper(), properties);
+  }
+
+  @Test
+  void shouldBeEnabledWhenPropertyEnabled() {
+    assertThat("Unexpected enabled flag.", service.isEnabled(), is(true));
+  }
+
+  @Test
+  void shouldCreateQueueMessageWithSerializedPayloadAndType() {
+    Post post = new Post();
+    post.setTisId("40");
+    post.setData(Map.of("id", "40"));
+
+    OutboxMessage message = service.createQueueMessage(QUEUE_URL, post, "group", "dedup");
+
+    assertThat("Unexpected channel.", message.getChannel(), is(Channel.SQS));
+    assertThat("Unexpected destination.", message.getDestination(), is(QUEUE_URL));
+    assertThat("Unexpected payload type.", message.getPayloadType(), is(Post.class.getName()));
+    assertThat("Unexpected message group ID.", message.getMessageGroupId(), is("group"));
+    assertThat("Unexpected deduplication ID.", message.getDeduplicationId(), is("dedup"));
+    assertThat("Unexpected created time.", message.getCreated(), notNullValue());
+    assertThat("Unexpected next attempt.", message.getNextAttempt(), is(message.getCreated()));
+    assertThat("Unexpected attempts.", message.getAttempts(), is(0));
+    assertThat("Unexpected payload.", message.getPayload().contains("\"tisId\":\"40\""),
+        is(true));
+  }
+
+  @Test
+  void shouldCreateQueueMessageWithRawStringPayload() {
+    OutboxMessage message = service.createQueueMessage(QUEUE_URL, "{\"id\":\"40\"}", "group",
+        null);
+
+    assertThat("Unexpected payload.", message.getPayload(), is("{\"id\":\"40\"}"));
+    assertThat("Unexpected payload type.", message.getPayloadType(), nullValue());
+    assertThat("Unexpected deduplication ID.", message.getDeduplicationId(), nullValue());
+  }
+
+  @Test
+  void shouldCreateTopicMessageFromPublishRequest() {
+    PublishRequest request = PublishRequest.builder()
+        .topicArn(TOPIC_ARN)
+        .message("{\"tisId\":\"40\"}")
+        .messageGroupId("group")
+        .messageAttributes(Map.of("event_type", MessageAttributeValue.builder()
+            .dataType("String")
+            .stringValue("COJ_RECEIVED")
+            .build()))
+        .build();
+
+    OutboxMessage message = service.createTopicMessage(request);
+
+    assertThat("Unexpected channel.", message.getChannel(), is(Channel.SNS));
+    assertThat("Unexpected destination.", message.getDestination(), is(TOPIC_ARN));
+    assertThat("Unexpected payload.", message.getPayload(), is("{\"tisId\":\"40\"}"));
+    assertThat("Unexpected message group ID.", message.getMessageGroupId(), is("group"));
+    assertThat("Unexpected attributes.", message.getAttributes(),
+        is(Map.of("event_type", "COJ_RECEIVED")));
+  }
+
+  @Test
+  void shouldInsertAppendedMessages() {
+    OutboxMessage message1 = new OutboxMessage();
+    OutboxMessage message2 = new OutboxMessage();
+
+    service.append(List.of(message1, message2));
+
+    verify(mongoTemplate).insertAll(List.of(message1, message2));
+  }
+
+  @Test
+  void shouldNotInsertWhenNoMessagesAppended() {
+    service.append(List.of());
+
+    verifyNoInteractions(mongoTemplate);
+  }
+}
@@ -32,7 +32,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -109,6 +108,7 @@ class PlacementSpecialtySyncServiceTest {
     repository = mock(PlacementSpecialtyRepository.class);
     fifoMessagingService = mock(FifoMessagingService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
     eventPublisher = mock(ApplicationEventPublisher.class);
 
     service = new PlacementSpecialtySyncService(repository, dataRequestService,
@@ -274,8 +274,8 @@ class PlacementSpecialtySyncServiceTest {
 
     verify(dataRequestService).sendRequest(ENTITY_NAME, whereMap);
 
-    // The request is cached after it is sent, ensure it is not deleted straight away.
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(PLACEMENT_ID_1), any());
+    // The request is claimed before it is sent, ensure the claim is not released straight away.
+    verify(requestCacheService).claimRequest(ENTITY_NAME, PLACEMENT_ID_1);
     verify(requestCacheService, never()).deleteItemFromCache(any(), any());
   }
 
@@ -444,16 +444,16 @@ class PlacementSpecialtySyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, PLACEMENT_ID_1))
-        .thenReturn(false);
+    when(requestCacheService.claimRequest(ENTITY_NAME, PLACEMENT_ID_1))
+        .thenReturn(true);
     service.request(PLACEMENT_ID_1);
     verify(dataRequestService).sendRequest("PlacementSpecialty", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, PLACEMENT_ID_1))
-        .thenReturn(true);
+    when(requestCacheService.claimRequest(ENTITY_NAME, PLACEMENT_ID_1))
+        .thenReturn(false);
     service.request(PLACEMENT_ID_1);
     verify(dataRequestService, never()).sendRequest("PlacementSpecialty", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -461,11 +461,10 @@ class PlacementSpecialtySyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, PLACEMENT_ID_1))
-        .thenReturn(false);
+    when(requestCacheService.claimRequest(ENTITY_NAME, PLACEMENT_ID_1))
+        .thenReturn(true);
     service.request(PLACEMENT_ID_1);
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME),
-        eq(PLACEMENT_ID_1), any());
+    verify(requestCacheService).claimRequest(ENTITY_NAME, PLACEMENT_ID_1);
 
     placementSpecialty.setOperation(DELETE);
     service.syncPlacementSpecialty(placementSpecialty);
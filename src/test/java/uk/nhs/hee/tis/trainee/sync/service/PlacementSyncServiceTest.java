@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -46,6 +45,7 @@ import static uk.nhs.hee.tis.trainee.sync.model.Placement.ENTITY_NAME;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -88,6 +88,7 @@ class PlacementSyncServiceTest {
     repository = mock(PlacementRepository.class);
     fifoMessagingService = mock(FifoMessagingService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
     placementEnricher = mock(PlacementEnricherFacade.class);
 
     service = new PlacementSyncService(repository, dataRequestService, fifoMessagingService,
@@ -116,6 +117,24 @@ class PlacementSyncServiceTest {
     verifyNoInteractions(repository);
   }
 
+  @Test
+  void shouldSendBatchedRecordsToQueue() {
+    service.syncRecords(List.of(placement));
+
+    verify(fifoMessagingService).sendMessagesToFifoQueue("http://queue.placement",
+        List.of(placement));
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldThrowExceptionIfBatchedRecordNotPlacement() {
+    Record recrd = new Record();
+    List<Record> records = List.of(placement, recrd);
+
+    assertThrows(IllegalArgumentException.class, () -> service.syncRecords(records));
+    verifyNoInteractions(fifoMessagingService);
+  }
+
   @ParameterizedTest(name = "Should store placements when operation is {0}.")
   @EnumSource(value = Operation.class, names = {"LOAD", "INSERT", "UPDATE"})
   void shouldStorePlacements(Operation operation) {
@@ -151,8 +170,8 @@ class PlacementSyncServiceTest {
 
     verify(dataRequestService).sendRequest(ENTITY_NAME, whereMap);
 
-    // The request is cached after it is sent, ensure it is not deleted straight away.
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(ID), any());
+    // The request is claimed before it is sent, ensure the claim is not released straight away.
+    verify(requestCacheService).claimRequest(ENTITY_NAME, ID);
     verify(requestCacheService, never()).deleteItemFromCache(any(), any());
   }
 
@@ -268,6 +287,36 @@ class PlacementSyncServiceTest {
     verifyNoMoreInteractions(repository);
   }
 
+  @Test
+  void shouldFindLookupsByPostId() {
+    when(repository.findIdentitiesByPostId(ID)).thenReturn(Set.of(placement));
+
+    Set<Placement> foundRecords = service.findLookupsByPostId(ID);
+    assertThat("Unexpected record count.", foundRecords.size(), is(1));
+
+    Placement foundRecord = foundRecords.iterator().next();
+    assertThat("Unexpected record.", foundRecord, sameInstance(placement));
+    assertThat("Unexpected operation.", foundRecord.getOperation(), is(LOOKUP));
+
+    verify(repository).findIdentitiesByPostId(ID);
+    verifyNoMoreInteractions(repository);
+  }
+
+  @Test
+  void shouldFindLookupsBySiteId() {
+    when(repository.findIdentitiesBySiteId(ID)).thenReturn(Set.of(placement));
+
+    Set<Placement> foundRecords = service.findLookupsBySiteId(ID);
+    assertThat("Unexpected record count.", foundRecords.size(), is(1));
+
+    Placement foundRecord = foundRecords.iterator().next();
+    assertThat("Unexpected record.", foundRecord, sameInstance(placement));
+    assertThat("Unexpected operation.", foundRecord.getOperation(), is(LOOKUP));
+
+    verify(repository).findIdentitiesBySiteId(ID);
+    verifyNoMoreInteractions(repository);
+  }
+
   @Test
   void shouldFindRecordByGradeIdWhenExists() {
     when(repository.findByGradeId(ID)).thenReturn(Collections.singleton(placement));
@@ -295,14 +344,14 @@ class PlacementSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("Placement", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("Placement", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -310,9 +359,9 @@ class PlacementSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(ENTITY_NAME, ID);
 
     placement.setOperation(DELETE);
     service.syncPlacement(placement);
@@ -341,6 +390,46 @@ class PlacementSyncServiceTest {
     verify(dataRequestService, times(2)).sendRequest("Placement", whereMap);
   }
 
+  @Test
+  void shouldReleaseClaimWhenRequestFails() throws JsonProcessingException {
+    doThrow(JsonProcessingException.class).when(dataRequestService)
+        .sendRequest(anyString(), anyMap());
+
+    service.request(ID);
+
+    verify(requestCacheService).deleteItemFromCache(ENTITY_NAME, ID);
+  }
+
+  @Test
+  void shouldReleaseClaimAndThrowWhenRequestFailsUnexpectedly() throws JsonProcessingException {
+    doThrow(IllegalStateException.class).when(dataRequestService)
+        .sendRequest(anyString(), anyMap());
+
+    assertThrows(IllegalStateException.class, () -> service.request(ID));
+
+    verify(requestCacheService).deleteItemFromCache(ENTITY_NAME, ID);
+  }
+
+  @Test
+  void shouldSendRequestsForClaimedPlacementsOnlyWhenRequestingAll()
+      throws JsonProcessingException {
+    when(requestCacheService.claimRequests(ENTITY_NAME, Set.of(ID, "2"))).thenReturn(Set.of(ID));
+
+    service.requestAll(Set.of(ID, "2"));
+
+    verify(dataRequestService).sendRequest("Placement", whereMap);
+    verify(dataRequestService, never()).sendRequest("Placement", Map.of("id", "2"));
+    verify(requestCacheService, never()).claimRequest(any(), any());
+  }
+
+  @Test
+  void shouldNotClaimRequestsWhenRequestingNoPlacements() {
+    service.requestAll(Set.of());
+
+    verify(requestCacheService, never()).claimRequests(any(), any());
+    verifyNoInteractions(dataRequestService);
+  }
+
   @Test
   void shouldCatchJsonProcessingExceptionIfThrown() throws JsonProcessingException {
     doThrow(JsonProcessingException.class).when(dataRequestService)
@@ -31,7 +31,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -47,6 +46,7 @@ import static uk.nhs.hee.tis.trainee.sync.model.Post.ENTITY_NAME;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -92,6 +92,7 @@ class PostSyncServiceTest {
     repository = mock(PostRepository.class);
     fifoMessagingService = mock(FifoMessagingService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
     eventPublisher = mock(ApplicationEventPublisher.class);
 
     service = new PostSyncService(repository, dataRequestService, fifoMessagingService,
@@ -120,6 +121,24 @@ class PostSyncServiceTest {
     verifyNoInteractions(repository);
   }
 
+  @Test
+  void shouldSendBatchedRecordsToQueue() {
+    service.syncRecords(List.of(post));
+
+    verify(fifoMessagingService).sendMessagesToFifoQueue("http://queue.post",
+        List.of(post));
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldThrowExceptionIfBatchedRecordNotPost() {
+    Record recrd = new Record();
+    List<Record> records = List.of(post, recrd);
+
+    assertThrows(IllegalArgumentException.class, () -> service.syncRecords(records));
+    verifyNoInteractions(fifoMessagingService);
+  }
+
   @ParameterizedTest(name = "Should store posts when operation is {0}.")
   @EnumSource(value = Operation.class, names = {"LOAD", "INSERT", "UPDATE"})
   void shouldStorePosts(Operation operation) {
@@ -144,8 +163,8 @@ class PostSyncServiceTest {
 
     verify(dataRequestService).sendRequest(ENTITY_NAME, whereMap);
 
-    // The request is cached after it is sent, ensure it is not deleted straight away.
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(ID), any());
+    // The request is claimed before it is sent, ensure the claim is not released straight away.
+    verify(requestCacheService).claimRequest(ENTITY_NAME, ID);
     verify(requestCacheService, never()).deleteItemFromCache(any(), any());
   }
 
@@ -260,14 +279,14 @@ class PostSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Post.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Post.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("Post", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Post.ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(Post.ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("Post", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -276,9 +295,9 @@ class PostSyncServiceTest {
   @Test
   @DirtiesContext
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Post.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Post.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(Post.ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(Post.ENTITY_NAME, ID);
 
     post.setOperation(DELETE);
     service.syncPost(post);
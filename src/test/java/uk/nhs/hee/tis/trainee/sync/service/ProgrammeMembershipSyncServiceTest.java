@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -103,6 +102,7 @@ class ProgrammeMembershipSyncServiceTest {
     repository = mock(ProgrammeMembershipRepository.class);
     fifoMessagingService = mock(FifoMessagingService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
     eventPublisher = mock(ApplicationEventPublisher.class);
     tcsService = mock(TcsSyncService.class);
 
@@ -140,6 +140,27 @@ class ProgrammeMembershipSyncServiceTest {
     verifyNoInteractions(repository);
   }
 
+  @Test
+  void shouldSendBatchedRecordsToQueue() {
+    programmeMembershipRecord.setTable(ProgrammeMembership.ENTITY_NAME);
+
+    service.syncRecords(List.of(programmeMembershipRecord));
+
+    verify(fifoMessagingService).sendMessagesToFifoQueue("http://queue.programme-membership",
+        List.of(programmeMembershipRecord));
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldThrowExceptionIfBatchedRecordNotProgrammeMembership() {
+    Record recrd = new Record();
+    recrd.setTable("not-pm");
+    List<Record> records = List.of(programmeMembershipRecord, recrd);
+
+    assertThrows(IllegalArgumentException.class, () -> service.syncRecords(records));
+    verifyNoInteractions(fifoMessagingService);
+  }
+
   @ParameterizedTest(name = "Should store records when operation is {0}.")
   @EnumSource(value = Operation.class, names = {"LOAD", "INSERT", "UPDATE"})
   void shouldStoreRecords(Operation operation) {
@@ -178,9 +199,8 @@ class ProgrammeMembershipSyncServiceTest {
 
     verify(dataRequestService).sendRequest("ProgrammeMembership", whereMap);
 
-    // The request is cached after it is sent, ensure it is not deleted straight away.
-    verify(requestCacheService).addItemToCache(eq(ProgrammeMembership.ENTITY_NAME),
-        eq(ID.toString()), any());
+    // The request is claimed before it is sent, ensure the claim is not released straight away.
+    verify(requestCacheService).claimRequest(ProgrammeMembership.ENTITY_NAME, ID.toString());
     verify(requestCacheService, never()).deleteItemFromCache(any(), any());
   }
 
@@ -301,16 +321,16 @@ class ProgrammeMembershipSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ProgrammeMembership.ENTITY_NAME, ID.toString()))
-        .thenReturn(false);
+    when(requestCacheService.claimRequest(ProgrammeMembership.ENTITY_NAME, ID.toString()))
+        .thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("ProgrammeMembership", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ProgrammeMembership.ENTITY_NAME, ID.toString()))
-        .thenReturn(true);
+    when(requestCacheService.claimRequest(ProgrammeMembership.ENTITY_NAME, ID.toString()))
+        .thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("ProgrammeMembership", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -318,11 +338,10 @@ class ProgrammeMembershipSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(ProgrammeMembership.ENTITY_NAME, ID.toString()))
-        .thenReturn(false);
+    when(requestCacheService.claimRequest(ProgrammeMembership.ENTITY_NAME, ID.toString()))
+        .thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(ProgrammeMembership.ENTITY_NAME),
-        eq(ID.toString()), any());
+    verify(requestCacheService).claimRequest(ProgrammeMembership.ENTITY_NAME, ID.toString());
 
     programmeMembershipRecord.setOperation(DELETE);
     service.syncProgrammeMembership(programmeMembershipRecord);
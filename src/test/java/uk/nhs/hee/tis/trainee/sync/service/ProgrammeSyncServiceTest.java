@@ -31,7 +31,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -87,6 +86,7 @@ class ProgrammeSyncServiceTest {
     repository = mock(ProgrammeRepository.class);
     dataRequestService = mock(DataRequestService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
     eventPublisher = mock(ApplicationEventPublisher.class);
 
     service = new ProgrammeSyncService(repository, dataRequestService, requestCacheService,
@@ -129,8 +129,8 @@ class ProgrammeSyncServiceTest {
 
     verify(dataRequestService).sendRequest(ENTITY_NAME, whereMap);
 
-    // The request is cached after it is sent, ensure it is not deleted straight away.
-    verify(requestCacheService).addItemToCache(eq(ENTITY_NAME), eq(ID), any());
+    // The request is claimed before it is sent, ensure the claim is not released straight away.
+    verify(requestCacheService).claimRequest(ENTITY_NAME, ID);
     verify(requestCacheService, never()).deleteItemFromCache(any(), any());
   }
 
@@ -221,14 +221,14 @@ class ProgrammeSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Programme.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Programme.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("Programme", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Programme.ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(Programme.ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("Programme", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -236,9 +236,9 @@ class ProgrammeSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Programme.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Programme.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(Programme.ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(Programme.ENTITY_NAME, ID);
 
     programme.setOperation(DELETE);
     service.syncRecord(programme);
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ListableBeanFactory;
+import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.service.RecordDispatchRegistry.Dispatch;
+
+class RecordDispatchRegistryTest {
+
+  private ListableBeanFactory beanFactory;
+
+  @BeforeEach
+  void setUp() {
+    beanFactory = mock(ListableBeanFactory.class);
+    when(beanFactory.getBeanNamesForType(Record.class, true, false))
+        .thenReturn(new String[]{"testTable"});
+    doReturn(Placement.class).when(beanFactory).getType("testTable");
+  }
+
+  @Test
+  void shouldPreferTableServiceOverSchemaService() {
+    SyncService tableService = mock(SyncService.class);
+    SyncService schemaService = mock(SyncService.class);
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(
+        Map.of("testSchema-testTable", tableService, "testSchema", schemaService), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "testTable");
+
+    assertThat("Unexpected sync service.", dispatch.syncService(), sameInstance(tableService));
+  }
+
+  @Test
+  void shouldFallBackToSchemaServiceWhenNoTableService() {
+    SyncService schemaService = mock(SyncService.class);
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(
+        Map.of("testSchema", schemaService), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "otherTable");
+
+    assertThat("Unexpected sync service.", dispatch.syncService(), sameInstance(schemaService));
+  }
+
+  @Test
+  void shouldHaveNoServiceWhenNoTableOrSchemaService() {
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(Map.of(), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "testTable");
+
+    assertThat("Unexpected sync service.", dispatch.syncService(), nullValue());
+  }
+
+  @Test
+  void shouldHandleMissingSchemaAndTable() {
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(Map.of(), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch(null, null);
+
+    assertThat("Unexpected sync service.", dispatch.syncService(), nullValue());
+    assertThat("Unexpected record factory.", dispatch.recordFactory(), nullValue());
+  }
+
+  @Test
+  void shouldCreateNewRecordSubTypeInstancesForTable() {
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(Map.of(), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "testTable");
+
+    assertThat("Unexpected record factory.", dispatch.recordFactory(), notNullValue());
+    Record record1 = dispatch.recordFactory().get();
+    Record record2 = dispatch.recordFactory().get();
+    assertThat("Unexpected record class.", record1, instanceOf(Placement.class));
+    assertThat("Unexpected record instance.", record1, not(sameInstance(record2)));
+  }
+
+  @Test
+  void shouldHaveNoRecordFactoryWhenNoSubTypeForTable() {
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(Map.of(), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "otherTable");
+
+    assertThat("Unexpected record factory.", dispatch.recordFactory(), nullValue());
+  }
+
+  @Test
+  void shouldReuseResolvedDispatch() {
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(Map.of(), beanFactory);
+
+    Dispatch dispatch1 = registry.getDispatch("testSchema", "testTable");
+    Dispatch dispatch2 = registry.getDispatch("testSchema", "testTable");
+
+    assertThat("Unexpected dispatch instance.", dispatch1, sameInstance(dispatch2));
+  }
+
+  @Test
+  void shouldBeSupportedWhenServiceSupportsTable() {
+    SyncService schemaService = mock(SyncService.class);
+    when(schemaService.supports("testTable")).thenReturn(true);
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(
+        Map.of("testSchema", schemaService), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "testTable");
+
+    assertThat("Unexpected supported flag.", dispatch.supported(), is(true));
+  }
+
+  @Test
+  void shouldNotBeSupportedWhenServiceDoesNotSupportTable() {
+    SyncService schemaService = mock(SyncService.class);
+    when(schemaService.supports("testTable")).thenReturn(false);
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(
+        Map.of("testSchema", schemaService), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "testTable");
+
+    assertThat("Unexpected supported flag.", dispatch.supported(), is(false));
+  }
+
+  @Test
+  void shouldNotBeSupportedWhenNoService() {
+    RecordDispatchRegistry registry = new RecordDispatchRegistry(Map.of(), beanFactory);
+
+    Dispatch dispatch = registry.getDispatch("testSchema", "testTable");
+
+    assertThat("Unexpected supported flag.", dispatch.supported(), is(false));
+  }
+}
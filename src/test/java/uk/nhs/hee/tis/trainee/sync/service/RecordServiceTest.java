@@ -21,194 +21,535 @@
 
 package uk.nhs.hee.tis.trainee.sync.service;
 
-import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.lang.reflect.Field;
-import java.util.Collections;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
-import org.springframework.context.ApplicationContext;
-import org.springframework.util.ReflectionUtils;
-import uk.nhs.hee.tis.trainee.sync.dto.RecordDto;
-import uk.nhs.hee.tis.trainee.sync.mapper.RecordMapperImpl;
-import uk.nhs.hee.tis.trainee.sync.mapper.util.RecordUtil;
-import uk.nhs.hee.tis.trainee.sync.model.Placement;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ListableBeanFactory;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
 
 class RecordServiceTest {
 
   private RecordService service;
-  private ApplicationContext context;
+  private ListableBeanFactory beanFactory;
+  private Map<String, SyncService> syncServices;
+  private BulkLoadService bulkLoadService;
+  private RecordVersionService recordVersionService;
+  private SimpleMeterRegistry meterRegistry;
+
+  private MessagingMetrics messagingMetrics;
 
   @BeforeEach
   void setUp() {
-    context = mock(ApplicationContext.class);
+    beanFactory = mock(ListableBeanFactory.class);
+    when(beanFactory.getBeanNamesForType(Record.class, true, false)).thenReturn(new String[0]);
 
-    RecordMapperImpl mapper = new RecordMapperImpl();
-    Field field = ReflectionUtils.findField(RecordMapperImpl.class, "recordUtil");
-    field.setAccessible(true);
-    ReflectionUtils.setField(field, mapper, new RecordUtil());
+    syncServices = new HashMap<>();
+    bulkLoadService = mock(BulkLoadService.class);
+    recordVersionService = mock(RecordVersionService.class);
+    meterRegistry = new SimpleMeterRegistry();
+    messagingMetrics = new MessagingMetrics(meterRegistry);
 
-    service = new RecordService(context, mapper);
+    service = createService();
   }
 
-  @Test
-  void shouldThrowExceptionWhenRecordTypeIsNull() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(
-        Map.of("schema-name", "testSchema", "table-name", "testTable", "operation", "update"));
+  /**
+   * Create the service using the currently configured sync services.
+   *
+   * @return The created record service.
+   */
+  private RecordService createService() {
+    RecordDispatchRegistry dispatchRegistry = new RecordDispatchRegistry(syncServices,
+        beanFactory);
+    return new RecordService(dispatchRegistry, bulkLoadService, recordVersionService,
+        meterRegistry, messagingMetrics);
+  }
 
-    assertThrows(IllegalArgumentException.class, () -> service.processRecord(recordDto));
+  /**
+   * Create a record with the given details.
+   *
+   * @param table     The table of the record, the schema is always "testSchema".
+   * @param id        The ID of the record.
+   * @param operation The operation of the record.
+   * @param type      The type of the record.
+   * @return The created record.
+   */
+  private Record createRecord(String table, String id, Operation operation, RecordType type) {
+    Record recrd = new Record();
+    recrd.setTisId(id);
+    recrd.setSchema("testSchema");
+    recrd.setTable(table);
+    recrd.setOperation(operation);
+    recrd.setType(type);
+    return recrd;
   }
 
-  @Test
-  void shouldThrowExceptionWhenOperationIsNull() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(
-        Map.of("schema-name", "testSchema", "table-name", "testTable", "record-type", "data"));
+  /**
+   * Create a mock sync service which supports all tables.
+   *
+   * @return The mock sync service.
+   */
+  private SyncService mockSyncService() {
+    SyncService syncService = mock(SyncService.class);
+    when(syncService.supports(any())).thenReturn(true);
+    return syncService;
+  }
 
-    assertThrows(IllegalArgumentException.class, () -> service.processRecord(recordDto));
+  /**
+   * Get the record timer for the given tags.
+   *
+   * @param table     The table tag.
+   * @param operation The operation tag.
+   * @param outcome   The outcome tag.
+   * @return The found timer, or null if not found.
+   */
+  private Timer getTimer(String table, String operation, String outcome) {
+    return meterRegistry.find(RecordService.RECORD_TIMER_NAME)
+        .tags("schema", "testSchema", "table", table, "operation", operation, "outcome", outcome)
+        .timer();
   }
 
   @Test
   void shouldSkipRecordWhenRecordTypeIsControl() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(Map.of("schema-name", "testSchema", "table-name",
-        "testTable", "operation", "update", "record-type", "control"));
+    Record recrd = createRecord("testTable", null, Operation.UPDATE, RecordType.CONTROL);
 
-    when(context.getBean("testTable", Record.class)).thenReturn(new Record());
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
 
-    service.processRecord(recordDto);
+    service.processRecord(recrd);
 
-    verify(context).getBean("testTable", Record.class);
-    verifyNoMoreInteractions(context);
+    verifyNoInteractions(syncService);
   }
 
   @Test
   void shouldUseTableServiceWhenTableServiceFound() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(Map.of("schema-name", "testSchema", "table-name",
-        "testTable", "operation", "update", "record-type", "data"));
-
-    when(context.getBean("testTable", Record.class)).thenReturn(new Record());
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
 
     PlacementSyncService syncService = mock(PlacementSyncService.class);
-    when(context.getBean("testSchema-testTable", SyncService.class)).thenReturn(syncService);
+    syncServices.put("testSchema-testTable", syncService);
+    TcsSyncService schemaSyncService = mock(TcsSyncService.class);
+    syncServices.put("testSchema", schemaSyncService);
+    service = createService();
 
-    service.processRecord(recordDto);
+    service.processRecord(recrd);
 
-    ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
-    verify(syncService).syncRecord(recordCaptor.capture());
-
-    Record recrd = recordCaptor.getValue();
-    assertThat("Unexpected schema.", recrd.getSchema(), is("testSchema"));
-    assertThat("Unexpected table.", recrd.getTable(), is("testTable"));
+    verify(syncService).syncRecord(recrd);
+    verifyNoInteractions(schemaSyncService);
   }
 
   @Test
   void shouldUseSchemaServiceWhenTableServiceNotFoundAndSchemaServiceFound() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(
-        Map.of("schema-name", "testSchema", "table-name", "testTable", "operation", "load",
-            "record-type", "data"));
-
-    when(context.getBean("testTable", Record.class)).thenReturn(new Record());
+    Record recrd = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
 
-    when(context.getBean("testSchema-testTable", SyncService.class))
-        .thenThrow(NoSuchBeanDefinitionException.class);
     TcsSyncService syncService = mock(TcsSyncService.class);
-    when(context.getBean("testSchema", SyncService.class)).thenReturn(syncService);
+    syncServices.put("testSchema", syncService);
+    service = createService();
 
-    service.processRecord(recordDto);
+    service.processRecord(recrd);
 
-    ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
-    verify(syncService).syncRecord(recordCaptor.capture());
-
-    Record recrd = recordCaptor.getValue();
-    assertThat("Unexpected schema.", recrd.getSchema(), is("testSchema"));
-    assertThat("Unexpected table.", recrd.getTable(), is("testTable"));
+    verify(syncService).syncRecord(recrd);
   }
 
   @Test
   void shouldNotThrowExceptionWhenTableServiceNotFoundAndSchemaServiceNotFound() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(Map.of("schema-name", "testSchema", "table-name",
-        "testTable", "operation", "load", "record-type", "data"));
+    Record recrd = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+
+    assertDoesNotThrow(() -> service.processRecord(recrd));
+  }
+
+  @Test
+  void shouldGroupBatchedRecordsBySchemaAndTable() {
+    Record recrd1 = createRecord("testTable1", "1", Operation.LOAD, RecordType.DATA);
+    Record recrd2 = createRecord("testTable2", "2", Operation.LOAD, RecordType.DATA);
+    Record recrd3 = createRecord("testTable1", "3", Operation.LOAD, RecordType.DATA);
+
+    SyncService syncService1 = mockSyncService();
+    syncServices.put("testSchema-testTable1", syncService1);
+    SyncService syncService2 = mockSyncService();
+    syncServices.put("testSchema-testTable2", syncService2);
+    service = createService();
+
+    service.processRecords(List.of(recrd1, recrd2, recrd3));
+
+    ArgumentCaptor<List<Record>> recordsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(syncService1).syncRecords(recordsCaptor.capture());
 
-    when(context.getBean("testTable", Record.class)).thenReturn(new Record());
+    List<Record> records1 = recordsCaptor.getValue();
+    assertThat("Unexpected record count.", records1.size(), is(2));
+    assertThat("Unexpected record.", records1.get(0), sameInstance(recrd1));
+    assertThat("Unexpected record.", records1.get(1), sameInstance(recrd3));
 
-    when(context.getBean("testSchema-testTable", SyncService.class))
-        .thenThrow(NoSuchBeanDefinitionException.class);
-    when(context.getBean("testSchema", SyncService.class))
-        .thenThrow(NoSuchBeanDefinitionException.class);
+    verify(syncService2).syncRecords(recordsCaptor.capture());
 
-    assertDoesNotThrow(() -> service.processRecord(recordDto));
+    List<Record> records2 = recordsCaptor.getValue();
+    assertThat("Unexpected record count.", records2.size(), is(1));
+    assertThat("Unexpected record.", records2.get(0), sameInstance(recrd2));
   }
 
   @Test
-  void shouldUseRecordSubTypeWithBeanMatchingTable() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(Map.of("schema-name", "testSchema", "table-name",
-        "testTable", "operation", "delete", "record-type", "data"));
+  void shouldSkipBatchedRecordWhenRecordTypeIsControl() {
+    Record recrd = createRecord("testTable", null, Operation.UPDATE, RecordType.CONTROL);
 
-    Placement placement = new Placement();
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
 
-    when(context.getBean("testTable", Record.class)).thenReturn(placement);
+    service.processRecords(List.of(recrd));
 
-    ReferenceSyncService syncService = mock(ReferenceSyncService.class);
-    when(context.getBean("testSchema-testTable", SyncService.class)).thenReturn(syncService);
+    verifyNoInteractions(syncService);
+  }
+
+  @Test
+  void shouldNotThrowExceptionWhenNoServiceFoundForBatch() {
+    Record recrd = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+
+    assertDoesNotThrow(() -> service.processRecords(List.of(recrd)));
+  }
+
+  @Test
+  void shouldCompleteBulkLoadWhenRecordTypeIsControl() {
+    Record recrd = createRecord("testTable", null, Operation.UPDATE, RecordType.CONTROL);
+
+    service.processRecord(recrd);
 
-    service.processRecord(recordDto);
+    verify(bulkLoadService).complete("testSchema", "testTable");
+  }
+
+  @Test
+  void shouldLoadBatchedRecordsPrecedingControlRecordBeforeCompletingBulkLoad() {
+    Record recrd1 = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+    Record recrd2 = createRecord("testTable", "2", Operation.LOAD, RecordType.DATA);
+    Record control = createRecord("testTable", null, Operation.UPDATE, RecordType.CONTROL);
+    Record recrd3 = createRecord("testTable", "3", Operation.LOAD, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
 
-    ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
-    verify(syncService).syncRecord(recordCaptor.capture());
+    when(bulkLoadService.isBulkLoad(any()))
+        .thenAnswer(inv -> inv.<Record>getArgument(0).getOperation() == Operation.LOAD);
 
-    Record recrd = recordCaptor.getValue();
-    assertThat("Unexpected record class.", recrd, instanceOf(Placement.class));
-    assertThat("Unexpected record instance.", recrd, sameInstance(placement));
-    assertThat("Unexpected schema.", placement.getSchema(), is("testSchema"));
-    assertThat("Unexpected table.", placement.getTable(), is("testTable"));
+    service.processRecords(List.of(recrd1, recrd2, control, recrd3));
+
+    InOrder inOrder = inOrder(bulkLoadService);
+    inOrder.verify(bulkLoadService).load(List.of(recrd1, recrd2));
+    inOrder.verify(bulkLoadService).complete("testSchema", "testTable");
+    inOrder.verify(bulkLoadService).load(List.of(recrd3));
   }
 
   @Test
-  void shouldUseParentRecordTypeWhenNoSubTypeForTable() {
-    RecordDto recordDto = new RecordDto();
-    recordDto.setData(Collections.emptyMap());
-    recordDto.setMetadata(Map.of("schema-name", "testSchema", "table-name",
-        "testTable", "operation", "insert", "record-type", "data"));
+  void shouldBulkLoadRecordWhenSupported() {
+    Record recrd = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
 
-    when(context.getBean("testTable", Record.class))
-        .thenThrow(NoSuchBeanDefinitionException.class);
+    when(bulkLoadService.isBulkLoad(any())).thenReturn(true);
 
-    ReferenceSyncService syncService = mock(ReferenceSyncService.class);
-    when(context.getBean("testSchema-testTable", SyncService.class)).thenReturn(syncService);
+    service.processRecord(recrd);
+
+    verify(bulkLoadService).load(List.of(recrd));
+    verifyNoInteractions(syncService);
+  }
+
+  @Test
+  void shouldSplitBatchedRecordsBetweenBulkLoadAndSyncServiceInOrder() {
+    Record recrd1 = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+    Record recrd2 = createRecord("testTable", "2", Operation.UPDATE, RecordType.DATA);
+    Record recrd3 = createRecord("testTable", "3", Operation.LOAD, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
+
+    when(bulkLoadService.isBulkLoad(any()))
+        .thenAnswer(inv -> inv.<Record>getArgument(0).getOperation() == Operation.LOAD);
+
+    service.processRecords(List.of(recrd1, recrd2, recrd3));
+
+    InOrder inOrder = inOrder(bulkLoadService, syncService);
+    inOrder.verify(bulkLoadService).load(List.of(recrd1));
+    inOrder.verify(syncService).syncRecords(List.of(recrd2));
+    inOrder.verify(bulkLoadService).load(List.of(recrd3));
+  }
+
+  @Test
+  void shouldRecordSyncedMetricWhenRecordSynced() {
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+
+    syncServices.put("testSchema-testTable", mockSyncService());
+    service = createService();
+
+    service.processRecord(recrd);
+
+    Timer timer = getTimer("testTable", "update", "synced");
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordSkippedControlMetricWhenRecordTypeIsControl() {
+    Record recrd = createRecord("testTable", null, Operation.DROP_TABLE, RecordType.CONTROL);
+
+    service.processRecord(recrd);
+
+    Timer timer = getTimer("testTable", "drop_table", "skipped-control");
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordUnhandledSchemaMetricWhenNoServiceFound() {
+    Record recrd = createRecord("testTable", "1", Operation.INSERT, RecordType.DATA);
+
+    service.processRecord(recrd);
+
+    Timer timer = getTimer("testTable", "insert", "unhandled-schema");
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordErrorMetricWhenSyncFails() {
+    Record recrd = createRecord("testTable", "1", Operation.DELETE, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    doThrow(IllegalArgumentException.class).when(syncService).syncRecord(recrd);
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
+
+    assertThrows(IllegalArgumentException.class, () -> service.processRecord(recrd));
+
+    Timer timer = getTimer("testTable", "delete", "error");
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordMetricPerRecordWhenBatchSynced() {
+    Record recrd1 = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+    Record recrd2 = createRecord("testTable", "2", Operation.LOAD, RecordType.DATA);
+    Record recrd3 = createRecord("testTable", "3", Operation.UPDATE, RecordType.DATA);
 
-    service.processRecord(recordDto);
+    syncServices.put("testSchema-testTable", mockSyncService());
+    service = createService();
 
-    ArgumentCaptor<Record> recordCaptor = ArgumentCaptor.forClass(Record.class);
-    verify(syncService).syncRecord(recordCaptor.capture());
+    service.processRecords(List.of(recrd1, recrd2, recrd3));
 
-    Record recrd = recordCaptor.getValue();
-    assertThat("Unexpected schema.", recrd.getSchema(), is("testSchema"));
-    assertThat("Unexpected table.", recrd.getTable(), is("testTable"));
+    Timer loadTimer = getTimer("testTable", "load", "synced");
+    assertThat("Unexpected timer count.", loadTimer.count(), is(2L));
+    Timer updateTimer = getTimer("testTable", "update", "synced");
+    assertThat("Unexpected timer count.", updateTimer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordBulkLoadedMetricWhenBulkLoaded() {
+    Record recrd = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+    when(bulkLoadService.isBulkLoad(any())).thenReturn(true);
+
+    service.processRecord(recrd);
+
+    Timer timer = getTimer("testTable", "load", "bulk-loaded");
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldSkipRecordWhenStale() {
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+    when(recordVersionService.isStale(recrd)).thenReturn(true);
+
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
+
+    service.processRecord(recrd);
+
+    verifyNoInteractions(syncService);
+    verify(recordVersionService, never()).recordApplied(any(Record.class));
+
+    Timer timer = getTimer("testTable", "update", "stale");
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordAppliedVersionWhenRecordSynced() {
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
+
+    service.processRecord(recrd);
+
+    InOrder inOrder = inOrder(syncService, recordVersionService);
+    inOrder.verify(syncService).syncRecord(recrd);
+    inOrder.verify(recordVersionService).recordApplied(recrd);
+  }
+
+  @Test
+  void shouldNotRecordAppliedVersionWhenSyncFails() {
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    doThrow(IllegalArgumentException.class).when(syncService).syncRecord(recrd);
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
+
+    assertThrows(IllegalArgumentException.class, () -> service.processRecord(recrd));
+
+    verify(recordVersionService, never()).recordApplied(any(Record.class));
+  }
+
+  @Test
+  void shouldNotCheckVersionWhenBulkLoaded() {
+    Record recrd = createRecord("testTable", "1", Operation.LOAD, RecordType.DATA);
+    when(bulkLoadService.isBulkLoad(any())).thenReturn(true);
+
+    service.processRecords(List.of(recrd));
+
+    verifyNoInteractions(recordVersionService);
+  }
+
+  @Test
+  void shouldSkipStaleBatchedRecords() {
+    Record recrd1 = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+    Record recrd2 = createRecord("testTable", "2", Operation.UPDATE, RecordType.DATA);
+    List<Record> records = List.of(recrd1, recrd2);
+    when(recordVersionService.findStale(records)).thenReturn(Set.of(recrd1));
+
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
+
+    service.processRecords(records);
+
+    verify(syncService).syncRecords(List.of(recrd2));
+    verify(recordVersionService).recordApplied(List.of(recrd2));
+
+    Timer staleTimer = getTimer("testTable", "update", "stale");
+    assertThat("Unexpected timer count.", staleTimer.count(), is(1L));
+    Timer syncedTimer = getTimer("testTable", "update", "synced");
+    assertThat("Unexpected timer count.", syncedTimer.count(), is(1L));
+  }
+
+  @Test
+  void shouldNotSyncBatchWhenAllRecordsStale() {
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+    List<Record> records = List.of(recrd);
+    when(recordVersionService.findStale(records)).thenReturn(Set.of(recrd));
+
+    SyncService syncService = mockSyncService();
+    syncServices.put("testSchema-testTable", syncService);
+    service = createService();
+
+    service.processRecords(records);
+
+    verifyNoInteractions(syncService);
+  }
+
+  @Test
+  void shouldDropRecordWhenTableUnsupported() {
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+
+    SyncService syncService = mock(SyncService.class);
+    when(syncService.supports("testTable")).thenReturn(false);
+    syncServices.put("testSchema", syncService);
+    service = createService();
+
+    service.processRecord(recrd);
+
+    verify(syncService, never()).syncRecord(any());
+    verifyNoInteractions(recordVersionService);
+
+    Timer timer = getTimer("testTable", "update", "unsupported");
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldDropBatchedRecordsWhenTableUnsupported() {
+    Record recrd1 = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+    Record recrd2 = createRecord("testTable", "2", Operation.UPDATE, RecordType.DATA);
+
+    SyncService syncService = mock(SyncService.class);
+    when(syncService.supports("testTable")).thenReturn(false);
+    syncServices.put("testSchema", syncService);
+    service = createService();
+
+    service.processRecords(List.of(recrd1, recrd2));
+
+    verify(syncService, never()).syncRecords(any());
+    verifyNoInteractions(recordVersionService);
+
+    Timer timer = getTimer("testTable", "update", "unsupported");
+    assertThat("Unexpected timer count.", timer.count(), is(2L));
+  }
+
+  @Test
+  void shouldRecordFanOutOfMessagesSentWhileProcessingRecord() {
+    Record recrd = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    doAnswer(inv -> {
+      messagingMetrics.recordSent("sqs", "queue", "Placement", Operation.LOOKUP,
+          MessagingMetrics.Outcome.SENT, 0);
+      messagingMetrics.recordSent("sqs", "queue", "Placement", Operation.LOOKUP,
+          MessagingMetrics.Outcome.SENT, 0);
+      return null;
+    }).when(syncService).syncRecord(recrd);
+    syncServices.put("testSchema", syncService);
+    service = createService();
+
+    service.processRecord(recrd);
+
+    DistributionSummary summary = meterRegistry.find(MessagingMetrics.FAN_OUT_SUMMARY_NAME)
+        .tags("schema", "testSchema", "table", "testTable", "operation", "update")
+        .summary();
+    assertThat("Unexpected fan-out count.", summary.count(), is(1L));
+    assertThat("Unexpected fan-out total.", summary.totalAmount(), is(2.0));
+  }
+
+  @Test
+  void shouldApportionFanOutAcrossBatchedRecords() {
+    Record recrd1 = createRecord("testTable", "1", Operation.UPDATE, RecordType.DATA);
+    Record recrd2 = createRecord("testTable", "2", Operation.UPDATE, RecordType.DATA);
+
+    SyncService syncService = mockSyncService();
+    doAnswer(inv -> {
+      messagingMetrics.recordSent("sqs", "queue", "Placement", Operation.LOOKUP,
+          MessagingMetrics.Outcome.SENT, 0);
+      return null;
+    }).when(syncService).syncRecords(any());
+    syncServices.put("testSchema", syncService);
+    service = createService();
+
+    service.processRecords(List.of(recrd1, recrd2));
+
+    DistributionSummary summary = meterRegistry.find(MessagingMetrics.FAN_OUT_SUMMARY_NAME)
+        .tags("schema", "testSchema", "table", "testTable", "operation", "update")
+        .summary();
+    assertThat("Unexpected fan-out count.", summary.count(), is(2L));
+    assertThat("Unexpected fan-out total.", summary.totalAmount(), is(1.0));
   }
 }
@@ -0,0 +1,295 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.Record;
+import uk.nhs.hee.tis.trainee.sync.model.RecordType;
+
+class RecordVersionServiceTest {
+
+  private static final String OLDER_TIMESTAMP = "2022-06-23T13:00:43.879686Z";
+  private static final long OLDER_VERSION = 1655989243879686L;
+  private static final String NEWER_TIMESTAMP = "2022-06-23T13:00:43.879687Z";
+  private static final long NEWER_VERSION = 1655989243879687L;
+
+  private RecordVersionService service;
+  private MongoTemplate mongoTemplate;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    service = new RecordVersionService(mongoTemplate);
+  }
+
+  /**
+   * Create a data record with the given source timestamp.
+   *
+   * @param id        The record ID.
+   * @param timestamp The source change timestamp.
+   * @return The created record.
+   */
+  private Record createRecord(String id, String timestamp) {
+    Record recrd = new Record();
+    recrd.setTisId(id);
+    recrd.setSchema("tcs");
+    recrd.setTable("Post");
+    recrd.setOperation(Operation.UPDATE);
+    recrd.setType(RecordType.DATA);
+
+    Map<String, String> metadata = new HashMap<>();
+    metadata.put("timestamp", timestamp);
+    recrd.setMetadata(metadata);
+    return recrd;
+  }
+
+  /**
+   * Create a version document as stored in the version collection.
+   *
+   * @param key     The entity version key.
+   * @param version The applied version.
+   * @return The created document.
+   */
+  private Document createVersion(String key, long version) {
+    Document document = new Document();
+    document.put("_id", key);
+    document.put(RecordVersionService.TIMESTAMP_FIELD, version);
+    return document;
+  }
+
+  @Test
+  void shouldGetKeyFromSchemaTableAndId() {
+    Record recrd = createRecord("1", OLDER_TIMESTAMP);
+
+    assertThat("Unexpected key.", service.getKey(recrd), is("tcs::Post::1"));
+  }
+
+  @Test
+  void shouldNotBeStaleWhenNoTimestamp() {
+    Record recrd = createRecord("1", null);
+
+    assertThat("Unexpected stale flag.", service.isStale(recrd), is(false));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldNotBeStaleWhenTimestampInvalid() {
+    Record recrd = createRecord("1", "not a timestamp");
+
+    assertThat("Unexpected stale flag.", service.isStale(recrd), is(false));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldNotBeStaleWhenNotDataRecord() {
+    Record recrd = createRecord("1", OLDER_TIMESTAMP);
+    recrd.setType(RecordType.CONTROL);
+
+    assertThat("Unexpected stale flag.", service.isStale(recrd), is(false));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldBeStaleWhenNewerVersionApplied() {
+    Record recrd = createRecord("1", OLDER_TIMESTAMP);
+    when(mongoTemplate.exists(any(Query.class), eq(RecordVersionService.COLLECTION_NAME)))
+        .thenReturn(true);
+
+    assertThat("Unexpected stale flag.", service.isStale(recrd), is(true));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).exists(queryCaptor.capture(), eq(RecordVersionService.COLLECTION_NAME));
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected key.", queryObject.get("_id"), is("tcs::Post::1"));
+    Document timestampQuery = (Document) queryObject.get(RecordVersionService.TIMESTAMP_FIELD);
+    assertThat("Unexpected version.", timestampQuery.get("$gt"), is(OLDER_VERSION));
+  }
+
+  @Test
+  void shouldNotBeStaleWhenNoNewerVersionApplied() {
+    Record recrd = createRecord("1", NEWER_TIMESTAMP);
+    when(mongoTemplate.exists(any(Query.class), eq(RecordVersionService.COLLECTION_NAME)))
+        .thenReturn(false);
+
+    assertThat("Unexpected stale flag.", service.isStale(recrd), is(false));
+  }
+
+  @Test
+  void shouldFindStaleRecordsAgainstAppliedVersions() {
+    Record recrd1 = createRecord("1", OLDER_TIMESTAMP);
+    Record recrd2 = createRecord("2", OLDER_TIMESTAMP);
+    when(mongoTemplate.find(any(Query.class), eq(Document.class),
+        eq(RecordVersionService.COLLECTION_NAME)))
+        .thenReturn(List.of(createVersion("tcs::Post::1", NEWER_VERSION)));
+
+    Set<Record> staleRecords = service.findStale(List.of(recrd1, recrd2));
+
+    assertThat("Unexpected stale count.", staleRecords.size(), is(1));
+    assertThat("Unexpected stale record.", staleRecords, hasItem(recrd1));
+  }
+
+  @Test
+  void shouldFindStaleRecordsSupersededWithinBatch() {
+    Record recrd1 = createRecord("1", NEWER_TIMESTAMP);
+    Record recrd2 = createRecord("1", OLDER_TIMESTAMP);
+
+    Set<Record> staleRecords = service.findStale(List.of(recrd1, recrd2));
+
+    assertThat("Unexpected stale count.", staleRecords.size(), is(1));
+    assertThat("Unexpected stale record.", staleRecords.iterator().next() == recrd2, is(true));
+  }
+
+  @Test
+  void shouldNotQueryVersionsWhenNoRecordsVersioned() {
+    Record recrd = createRecord("1", null);
+
+    Set<Record> staleRecords = service.findStale(List.of(recrd));
+
+    assertThat("Unexpected stale count.", staleRecords.size(), is(0));
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void shouldUpsertVersionWhenRecordApplied() {
+    Record recrd = createRecord("1", OLDER_TIMESTAMP);
+
+    service.recordApplied(recrd);
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate).upsert(queryCaptor.capture(), updateCaptor.capture(),
+        eq(RecordVersionService.COLLECTION_NAME));
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected key.", queryObject.get("_id"), is("tcs::Post::1"));
+    Document timestampQuery = (Document) queryObject.get(RecordVersionService.TIMESTAMP_FIELD);
+    assertThat("Unexpected version.", timestampQuery.get("$lt"), is(OLDER_VERSION));
+
+    Document setObject = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+    assertThat("Unexpected version.", setObject.get(RecordVersionService.TIMESTAMP_FIELD),
+        is(OLDER_VERSION));
+    assertThat("Unexpected applied time.", setObject.get(RecordVersionService.APPLIED_FIELD),
+        instanceOf(Instant.class));
+  }
+
+  @Test
+  void shouldIgnoreDuplicateKeyWhenNewerVersionApplied() {
+    Record recrd = createRecord("1", OLDER_TIMESTAMP);
+    when(mongoTemplate.upsert(any(Query.class), any(Update.class),
+        eq(RecordVersionService.COLLECTION_NAME)))
+        .thenThrow(new DuplicateKeyException("duplicate"));
+
+    assertDoesNotThrow(() -> service.recordApplied(recrd));
+  }
+
+  @Test
+  void shouldBulkUpsertLatestVersionsWhenRecordsApplied() {
+    Record recrd1 = createRecord("1", OLDER_TIMESTAMP);
+    Record recrd2 = createRecord("1", NEWER_TIMESTAMP);
+    Record recrd3 = createRecord("2", OLDER_TIMESTAMP);
+
+    MongoCollection<Document> collection = mock(MongoCollection.class);
+    when(mongoTemplate.getCollection(RecordVersionService.COLLECTION_NAME))
+        .thenReturn(collection);
+
+    service.recordApplied(List.of(recrd1, recrd2, recrd3));
+
+    ArgumentCaptor<List<WriteModel<Document>>> writesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(collection).bulkWrite(writesCaptor.capture(), any(BulkWriteOptions.class));
+    assertThat("Unexpected write count.", writesCaptor.getValue().size(), is(2));
+  }
+
+  @Test
+  void shouldIgnoreDuplicateKeysWhenBulkUpsertingVersions() {
+    Record recrd = createRecord("1", OLDER_TIMESTAMP);
+
+    MongoCollection<Document> collection = mock(MongoCollection.class);
+    when(mongoTemplate.getCollection(RecordVersionService.COLLECTION_NAME))
+        .thenReturn(collection);
+    when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenThrow(
+        createBulkWriteException(11000));
+
+    assertDoesNotThrow(() -> service.recordApplied(List.of(recrd)));
+  }
+
+  @Test
+  void shouldThrowOtherErrorsWhenBulkUpsertingVersions() {
+    Record recrd = createRecord("1", OLDER_TIMESTAMP);
+    List<Record> records = List.of(recrd);
+
+    MongoCollection<Document> collection = mock(MongoCollection.class);
+    when(mongoTemplate.getCollection(RecordVersionService.COLLECTION_NAME))
+        .thenReturn(collection);
+    when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenThrow(
+        createBulkWriteException(2));
+
+    assertThrows(MongoBulkWriteException.class, () -> service.recordApplied(records));
+  }
+
+  /**
+   * Create a bulk write exception with a single error.
+   *
+   * @param code The error code.
+   * @return The created exception.
+   */
+  private MongoBulkWriteException createBulkWriteException(int code) {
+    BulkWriteError error = new BulkWriteError(code, "error", new BsonDocument(), 0);
+    return new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(error), null,
+        new ServerAddress(), Set.of());
+  }
+}
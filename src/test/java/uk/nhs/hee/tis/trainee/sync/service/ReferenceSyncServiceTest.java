@@ -21,6 +21,8 @@
 
 package uk.nhs.hee.tis.trainee.sync.service;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.web.client.HttpClientErrorException;
@@ -82,6 +85,18 @@ class ReferenceSyncServiceTest {
     verifyNoInteractions(restTemplate);
   }
 
+  @Test
+  void shouldNotSupportUnknownTable() {
+    assertThat("Unexpected supported flag.", service.supports("unsupportedTable"), is(false));
+  }
+
+  @ParameterizedTest(name = "Should support table {0}")
+  @ValueSource(strings = {"College", "Curriculum", "DBC", "Gender", "Grade", "PermitToWork",
+      "LocalOffice", "LocalOfficeContact", "LocalOfficeContactType", "ProgrammeMembershipType"})
+  void shouldSupportReferenceTables(String table) {
+    assertThat("Unexpected supported flag.", service.supports(table), is(true));
+  }
+
   @ParameterizedTest(name = "Should insert record when operation is LOAD and table is {0}")
   @CsvSource({"College,college", "Curriculum,curriculum", "DBC,dbc", "Gender,gender", "Grade,grade",
       "PermitToWork,immigration-status", "LocalOffice,local-office",
@@ -30,8 +30,15 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -41,14 +48,19 @@ class RequestCacheServiceTest {
 
   private static RedisCommands<String, String> syncCommands;
 
+  private static RedisAsyncCommands<String, String> asyncCommands;
+
   @BeforeAll
   static void setupService() {
     RedisClient redisClient = mock(RedisClient.class);
     StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
     syncCommands = mock(RedisCommands.class);
+    asyncCommands = mock(RedisAsyncCommands.class);
 
     when(redisClient.connect()).thenReturn(connection);
     when(connection.sync()).thenReturn(syncCommands);
+    when(connection.async()).thenReturn(asyncCommands);
+    when(connection.getTimeout()).thenReturn(Duration.ofSeconds(1));
 
     requestCacheService = new RequestCacheService(redisClient);
     requestCacheService.setRedisTtl(1L);
@@ -82,4 +94,52 @@ class RequestCacheServiceTest {
     assertThat(requestCacheService.addItemToCache(eq("SomeEntity"), eq("ID"), any()))
         .isEqualTo("OK");
   }
+
+  @Test
+  void shouldClaimRequestWhenNotAlreadyClaimed() {
+    when(syncCommands.set(eq("SomeEntity::claim1::request"), any(), any(SetArgs.class)))
+        .thenReturn("OK");
+
+    assertTrue(requestCacheService.claimRequest("SomeEntity", "claim1"));
+  }
+
+  @Test
+  void shouldNotClaimRequestWhenAlreadyClaimed() {
+    when(syncCommands.set(eq("SomeEntity::claim2::request"), any(), any(SetArgs.class)))
+        .thenReturn(null);
+
+    assertFalse(requestCacheService.claimRequest("SomeEntity", "claim2"));
+  }
+
+  @Test
+  void shouldClaimRequestAsync() {
+    mockAsyncClaim("claim3", "OK");
+
+    assertThat(requestCacheService.claimRequestAsync("SomeEntity", "claim3").join()).isTrue();
+  }
+
+  @Test
+  void shouldClaimOnlyUnclaimedRequestsInBatch() {
+    mockAsyncClaim("claim4", "OK");
+    mockAsyncClaim("claim5", null);
+    mockAsyncClaim("claim6", "OK");
+
+    Set<String> claimedIds = requestCacheService.claimRequests("SomeEntity",
+        List.of("claim4", "claim5", "claim6"));
+
+    assertThat(claimedIds).containsExactlyInAnyOrder("claim4", "claim6");
+  }
+
+  /**
+   * Mock the reply to an async claim of the given ID.
+   *
+   * @param id    The ID being claimed.
+   * @param reply The reply to the SET command.
+   */
+  private void mockAsyncClaim(String id, String reply) {
+    RedisFuture<String> future = mock(RedisFuture.class);
+    when(future.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(reply));
+    when(asyncCommands.set(eq("SomeEntity::" + id + "::request"), any(), any(SetArgs.class)))
+        .thenReturn(future);
+  }}
 }
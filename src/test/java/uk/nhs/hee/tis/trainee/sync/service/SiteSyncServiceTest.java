@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -77,6 +76,7 @@ class SiteSyncServiceTest {
     repository = mock(SiteRepository.class);
     dataRequestService = mock(DataRequestService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
 
     service = new SiteSyncService(repository, dataRequestService, requestCacheService);
 
@@ -139,14 +139,14 @@ class SiteSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Site.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Site.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("Site", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Site.ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(Site.ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("Site", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -154,9 +154,9 @@ class SiteSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Site.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Site.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(Site.ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(Site.ENTITY_NAME, ID);
 
     site.setOperation(DELETE);
     service.syncRecord(site);
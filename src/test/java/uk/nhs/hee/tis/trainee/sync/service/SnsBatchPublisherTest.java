@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.trainee.sync.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.SnsException;
+import uk.nhs.hee.tis.trainee.sync.config.SnsBatchProperties;
+
+class SnsBatchPublisherTest {
+
+  private static final String TOPIC_1 = "topic-1.fifo";
+  private static final String TOPIC_2 = "topic-2";
+
+  private SnsBatchPublisher publisher;
+  private SnsAsyncClient snsClient;
+
+  @BeforeEach
+  void setUp() {
+    snsClient = mock(SnsAsyncClient.class);
+    when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(
+        CompletableFuture.completedFuture(PublishBatchResponse.builder().build()));
+
+    // The linger is long enough that only explicit or full batch flushes publish.
+    publisher = new SnsBatchPublisher(snsClient,
+        new SnsBatchProperties(true, Duration.ofHours(1)));
+  }
+
+  /**
+   * Create a publish request for the given topic.
+   *
+   * @param topicArn The topic ARN.
+   * @param message  The message contents.
+   * @return The created publish request.
+   */
+  private PublishRequest createRequest(String topicArn, String message) {
+    return PublishRequest.builder()
+        .topicArn(topicArn)
+        .message(message)
+        .messageGroupId("group-" + message)
+        .messageAttributes(Map.of("event_type", MessageAttributeValue.builder()
+            .dataType("String")
+            .stringValue("UNKNOWN")
+            .build()))
+        .build();
+  }
+
+  @Test
+  void shouldBeEnabledWhenPropertyEnabled() {
+    assertThat("Unexpected enabled flag.", publisher.isEnabled(), is(true));
+  }
+
+  @Test
+  void shouldNotPublishBeforeFlush() {
+    publisher.publish(createRequest(TOPIC_1, "1"));
+
+    verifyNoInteractions(snsClient);
+  }
+
+  @Test
+  void shouldPublishBatchPerTopicWhenFlushed() {
+    publisher.publish(createRequest(TOPIC_1, "1"));
+    publisher.publish(createRequest(TOPIC_2, "2"));
+    publisher.publish(createRequest(TOPIC_1, "3"));
+
+    publisher.flush(TOPIC_1).join();
+    publisher.flush(TOPIC_2).join();
+
+    ArgumentCaptor<PublishBatchRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(snsClient, times(2)).publishBatch(requestCaptor.capture());
+
+    PublishBatchRequest request1 = requestCaptor.getAllValues().get(0);
+    assertThat("Unexpected topic.", request1.topicArn(), is(TOPIC_1));
+    List<PublishBatchRequestEntry> entries1 = request1.publishBatchRequestEntries();
+    assertThat("Unexpected entry count.", entries1.size(), is(2));
+    assertThat("Unexpected message.", entries1.get(0).message(), is("1"));
+    assertThat("Unexpected message group.", entries1.get(0).messageGroupId(), is("group-1"));
+    assertThat("Unexpected event type.",
+        entries1.get(0).messageAttributes().get("event_type").stringValue(), is("UNKNOWN"));
+    assertThat("Unexpected message.", entries1.get(1).message(), is("3"));
+
+    PublishBatchRequest request2 = requestCaptor.getAllValues().get(1);
+    assertThat("Unexpected topic.", request2.topicArn(), is(TOPIC_2));
+    assertThat("Unexpected entry count.", request2.publishBatchRequestEntries().size(), is(1));
+  }
+
+  @Test
+  void shouldPublishImmediatelyWhenBatchFull() {
+    List<CompletableFuture<Void>> published = new ArrayList<>();
+
+    for (int i = 0; i < SnsBatchPublisher.MAX_BATCH_SIZE; i++) {
+      published.add(publisher.publish(createRequest(TOPIC_1, String.valueOf(i))));
+    }
+
+    ArgumentCaptor<PublishBatchRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(snsClient).publishBatch(requestCaptor.capture());
+    assertThat("Unexpected entry count.",
+        requestCaptor.getValue().publishBatchRequestEntries().size(),
+        is(SnsBatchPublisher.MAX_BATCH_SIZE));
+
+    boolean allPublished = published.stream().allMatch(CompletableFuture::isDone);
+    assertThat("Unexpected published state.", allPublished, is(true));
+  }
+
+  @Test
+  void shouldStartNewBatchWhenEntryWouldExceedBatchPayloadSize() {
+    String largeMessage = "x".repeat(100 * 1024);
+    publisher.publish(createRequest(TOPIC_1, largeMessage));
+    publisher.publish(createRequest(TOPIC_1, largeMessage));
+
+    verifyNoInteractions(snsClient);
+
+    publisher.publish(createRequest(TOPIC_1, largeMessage));
+
+    ArgumentCaptor<PublishBatchRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(snsClient).publishBatch(requestCaptor.capture());
+    assertThat("Unexpected entry count.",
+        requestCaptor.getValue().publishBatchRequestEntries().size(), is(2));
+
+    publisher.flush(TOPIC_1).join();
+
+    verify(snsClient, times(2)).publishBatch(requestCaptor.capture());
+    assertThat("Unexpected entry count.",
+        requestCaptor.getValue().publishBatchRequestEntries().size(), is(1));
+  }
+
+  @Test
+  void shouldPublishImmediatelyWhenBatchPayloadSizeReached() {
+    publisher.publish(createRequest(TOPIC_1, "x".repeat(SnsBatchPublisher.MAX_BATCH_BYTES)));
+
+    verify(snsClient).publishBatch(any(PublishBatchRequest.class));
+  }
+
+  @Test
+  void shouldIncludeAttributesInPayloadSize() {
+    PublishRequest request = createRequest(TOPIC_1, "message");
+
+    int size = SnsBatchPublisher.getPayloadSize(request);
+
+    int expectedSize = "message".length() + "event_type".length() + "String".length()
+        + "UNKNOWN".length();
+    assertThat("Unexpected payload size.", size, is(expectedSize));
+  }
+
+  @Test
+  void shouldCompleteFailedEntriesExceptionally() {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(
+        CompletableFuture.completedFuture(PublishBatchResponse.builder()
+            .failed(BatchResultErrorEntry.builder().id("1").code("error").build())
+            .build()));
+
+    CompletableFuture<Void> published1 = publisher.publish(createRequest(TOPIC_1, "1"));
+    CompletableFuture<Void> published2 = publisher.publish(createRequest(TOPIC_1, "2"));
+    publisher.flush(TOPIC_1).join();
+
+    assertThat("Unexpected success state.", published1.isCompletedExceptionally(), is(false));
+    assertThat("Unexpected failure state.", published2.isCompletedExceptionally(), is(true));
+  }
+
+  @Test
+  void shouldPublishLaterBatchesWhenEarlierBatchFails() {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(SnsException.builder().build()))
+        .thenReturn(CompletableFuture.completedFuture(PublishBatchResponse.builder().build()));
+
+    CompletableFuture<Void> published1 = publisher.publish(createRequest(TOPIC_1, "1"));
+    publisher.flush(TOPIC_1).join();
+    CompletableFuture<Void> published2 = publisher.publish(createRequest(TOPIC_1, "2"));
+    publisher.flush(TOPIC_1).join();
+
+    verify(snsClient, times(2)).publishBatch(any(PublishBatchRequest.class));
+    assertThat("Unexpected failure state.", published1.isCompletedExceptionally(), is(true));
+    assertThat("Unexpected success state.", published2.isDone(), is(true));
+    assertThat("Unexpected success state.", published2.isCompletedExceptionally(), is(false));
+  }
+
+  @Test
+  void shouldPublishPendingEntriesOnShutdown() {
+    publisher.publish(createRequest(TOPIC_1, "1"));
+
+    publisher.shutdown();
+
+    verify(snsClient).publishBatch(any(PublishBatchRequest.class));
+  }
+}
@@ -30,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -77,6 +76,7 @@ class SpecialtySyncServiceTest {
     repository = mock(SpecialtyRepository.class);
     dataRequestService = mock(DataRequestService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
 
     service = new SpecialtySyncService(repository, dataRequestService, requestCacheService);
 
@@ -139,14 +139,14 @@ class SpecialtySyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Specialty.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Specialty.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("Specialty", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Specialty.ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(Specialty.ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("Specialty", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -154,9 +154,9 @@ class SpecialtySyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Specialty.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Specialty.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(Specialty.ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(Specialty.ENTITY_NAME, ID);
 
     specialty.setOperation(DELETE);
     service.syncRecord(specialty);
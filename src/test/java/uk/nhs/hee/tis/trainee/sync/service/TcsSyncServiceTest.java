@@ -47,6 +47,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -58,6 +59,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 import org.assertj.core.util.Strings;
 import org.junit.jupiter.api.BeforeEach;
@@ -91,6 +93,7 @@ import uk.nhs.hee.tis.trainee.sync.mapper.TraineeDetailsMapperImpl;
 import uk.nhs.hee.tis.trainee.sync.mapper.util.TraineeDetailsUtil;
 import uk.nhs.hee.tis.trainee.sync.model.ConditionsOfJoining;
 import uk.nhs.hee.tis.trainee.sync.model.Operation;
+import uk.nhs.hee.tis.trainee.sync.model.OutboxMessage;
 import uk.nhs.hee.tis.trainee.sync.model.Person;
 import uk.nhs.hee.tis.trainee.sync.model.Record;
 
@@ -161,6 +164,11 @@ class TcsSyncServiceTest {
 
   private SnsClient snsClient;
 
+  private OutboxService outboxService;
+
+  private SnsBatchPublisher snsBatchPublisher;
+  private SimpleMeterRegistry meterRegistry;
+
   private TraineeDetailsMapper mapper;
 
   private ObjectMapper objectMapper;
@@ -183,6 +191,9 @@ class TcsSyncServiceTest {
     restTemplate = mock(RestTemplate.class);
     personService = mock(PersonService.class);
     snsClient = mock(SnsClient.class);
+    outboxService = mock(OutboxService.class);
+    snsBatchPublisher = mock(SnsBatchPublisher.class);
+    meterRegistry = new SimpleMeterRegistry();
     ObjectMapper objectMapper = new ObjectMapper();
     EventNotificationProperties eventNotificationProperties
         = new EventNotificationProperties(DELETE_PLACEMENT_EVENT_ARN,
@@ -192,7 +203,8 @@ class TcsSyncServiceTest {
         UPDATE_PERSON_OWNER_EVENT_ARN, UPDATE_PERSONAL_INFO_EVENT_ARN, UPDATE_PLACEMENT_EVENT_ARN,
         UPDATE_PROGRAMME_MEMBERSHIP_EVENT_ARN);
     service = new TcsSyncService(restTemplate, mapper, personService, eventNotificationProperties,
-        snsClient, objectMapper);
+        snsClient, objectMapper, outboxService, snsBatchPublisher,
+        new MessagingMetrics(meterRegistry));
 
     data = new HashMap<>();
     data.put("id", "idValue");
@@ -226,6 +238,18 @@ class TcsSyncServiceTest {
     verifyNoInteractions(restTemplate);
   }
 
+  @Test
+  void shouldNotSupportUnknownTable() {
+    assertThat("Unexpected supported flag.", service.supports("unsupportedTable"), is(false));
+  }
+
+  @ParameterizedTest(name = "Should support table {0}")
+  @ValueSource(strings = {"ContactDetails", "GdcDetails", "GmcDetails", "Person", "PersonOwner",
+      "PersonalDetails", "Qualification", "Placement", "ProgrammeMembership", "Curriculum"})
+  void shouldSupportTcsTables(String table) {
+    assertThat("Unexpected supported flag.", service.supports(table), is(true));
+  }
+
   @Test
   void shouldSaveRecordIntoPersonRepositoryIfRecordIsPersonAndNotInPersonRepository() {
     Person person = new Person();
@@ -966,7 +990,8 @@ class TcsSyncServiceTest {
         new SnsRoute("update-placement-arn" + FIFO, null),
         new SnsRoute("update-programme-arn" + FIFO, null));
     TcsSyncService service = new TcsSyncService(restTemplate, mapper, personService,
-        eventNotificationProperties, snsClient, new ObjectMapper());
+        eventNotificationProperties, snsClient, new ObjectMapper(), outboxService,
+        snsBatchPublisher, new MessagingMetrics(new SimpleMeterRegistry()));
 
     service.syncRecord(recrd);
 
@@ -1022,7 +1047,8 @@ class TcsSyncServiceTest {
         new SnsRoute("update-placement-arn" + FIFO, null),
         new SnsRoute("update-programme-arn" + FIFO, null));
     TcsSyncService service = new TcsSyncService(restTemplate, mapper, personService,
-        eventNotificationProperties, snsClient, new ObjectMapper());
+        eventNotificationProperties, snsClient, new ObjectMapper(), outboxService,
+        snsBatchPublisher, new MessagingMetrics(new SimpleMeterRegistry()));
 
     ProgrammeMembershipEventDto programmeMembershipEventDto = new ProgrammeMembershipEventDto();
     AggregateProgrammeMembershipDto aggregatePmDto = new AggregateProgrammeMembershipDto();
@@ -1132,6 +1158,79 @@ class TcsSyncServiceTest {
     verifyNoMoreInteractions(snsClient);
   }
 
+  @Test
+  void shouldAppendEventToOutboxWhenOutboxEnabled() {
+    Map<String, String> data = Map.of("traineeId", "traineeIdValue");
+
+    recrd.setTable(TABLE_PLACEMENT);
+    recrd.setOperation(DELETE);
+    recrd.setData(data);
+
+    Optional<Person> person = Optional.of(new Person());
+    when(personService.findById(any())).thenReturn(person);
+    when(outboxService.isEnabled()).thenReturn(true);
+    OutboxMessage outboxMessage = new OutboxMessage();
+    when(outboxService.createTopicMessage(any())).thenReturn(outboxMessage);
+
+    service.syncRecord(recrd);
+
+    ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+    verify(outboxService).createTopicMessage(requestCaptor.capture());
+    PublishRequest request = requestCaptor.getValue();
+    assertThat("Unexpected request topic ARN.", request.topicArn(),
+        is(TABLE_NAME_TO_DELETE_EVENT_ARN.get(TABLE_PLACEMENT).arn()));
+
+    verify(outboxService).append(outboxMessage);
+    verifyNoInteractions(snsClient);
+  }
+
+  @Test
+  void shouldAppendProgrammeMembershipCojEventToOutboxWhenOutboxEnabled() {
+    ProgrammeMembershipEventDto programmeMembershipEventDto = new ProgrammeMembershipEventDto();
+    AggregateProgrammeMembershipDto aggregatePmDto = new AggregateProgrammeMembershipDto();
+    aggregatePmDto.setTisId("idValue");
+    programmeMembershipEventDto.setProgrammeMembership(aggregatePmDto);
+
+    when(outboxService.isEnabled()).thenReturn(true);
+    OutboxMessage outboxMessage = new OutboxMessage();
+    when(outboxService.createTopicMessage(any())).thenReturn(outboxMessage);
+
+    service.publishDetailsChangeEvent(programmeMembershipEventDto);
+
+    verify(outboxService).append(outboxMessage);
+    verifyNoInteractions(snsClient);
+  }
+
+  @Test
+  void shouldQueueEventWithBatchPublisherWhenBatchEnabled() throws JsonProcessingException {
+    Map<String, String> data = Map.of("traineeId", "traineeIdValue");
+
+    recrd.setTisId("40");
+    recrd.setTable(TABLE_PLACEMENT);
+    recrd.setOperation(DELETE);
+    recrd.setData(data);
+
+    Optional<Person> person = Optional.of(new Person());
+    when(personService.findById(any())).thenReturn(person);
+    when(snsBatchPublisher.isEnabled()).thenReturn(true);
+    when(snsBatchPublisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    service.syncRecord(recrd);
+
+    ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+    verify(snsBatchPublisher).publish(requestCaptor.capture());
+    PublishRequest request = requestCaptor.getValue();
+    assertThat("Unexpected request topic ARN.", request.topicArn(),
+        is(TABLE_NAME_TO_DELETE_EVENT_ARN.get(TABLE_PLACEMENT).arn()));
+
+    Map<String, Object> message = objectMapper.readValue(request.message(),
+        new TypeReference<>() {
+        });
+    assertThat("Unexpected event id.", message.get("tisId"), is("40"));
+
+    verifyNoInteractions(snsClient);
+  }
+
   @Test
   void shouldNotThrowSnsExceptionsWhenIssuingProgrammeMembershipCojEvent() {
     ProgrammeMembershipEventDto programmeMembershipEventDto = new ProgrammeMembershipEventDto();
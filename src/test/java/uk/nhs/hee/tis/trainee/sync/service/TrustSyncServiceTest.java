@@ -29,7 +29,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
@@ -76,6 +75,7 @@ class TrustSyncServiceTest {
     repository = mock(TrustRepository.class);
     dataRequestService = mock(DataRequestService.class);
     requestCacheService = mock(RequestCacheService.class);
+    when(requestCacheService.claimRequest(any(), any())).thenReturn(true);
 
     service = new TrustSyncService(repository, dataRequestService, requestCacheService);
 
@@ -138,14 +138,14 @@ class TrustSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenNotAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Trust.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Trust.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
     verify(dataRequestService).sendRequest("reference", "Trust", whereMap);
   }
 
   @Test
   void shouldNotSendRequestWhenAlreadyRequested() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Trust.ENTITY_NAME, ID)).thenReturn(true);
+    when(requestCacheService.claimRequest(Trust.ENTITY_NAME, ID)).thenReturn(false);
     service.request(ID);
     verify(dataRequestService, never()).sendRequest("Trust", whereMap);
     verifyNoMoreInteractions(dataRequestService);
@@ -153,9 +153,9 @@ class TrustSyncServiceTest {
 
   @Test
   void shouldSendRequestWhenSyncedBetweenRequests() throws JsonProcessingException {
-    when(requestCacheService.isItemInCache(Trust.ENTITY_NAME, ID)).thenReturn(false);
+    when(requestCacheService.claimRequest(Trust.ENTITY_NAME, ID)).thenReturn(true);
     service.request(ID);
-    verify(requestCacheService).addItemToCache(eq(Trust.ENTITY_NAME), eq(ID), any());
+    verify(requestCacheService).claimRequest(Trust.ENTITY_NAME, ID);
 
     trust.setOperation(DELETE);
     service.syncRecord(trust);